@@ -0,0 +1,75 @@
+-- ============================================
+-- 027: reservation 압축 컬럼 인코딩 마이그레이션 (MySQL 8)
+-- ============================================
+-- VARCHAR enum / DATETIME → TINYINT 코드 / epoch-minute INT
+--
+-- * compact 인코딩 애플리케이션 시작 "전"에 실행해야 한다.
+--   (이전 스키마에서 먼저 배포할 때는 legacy-encoding 프로파일로 실행 → 이 스크립트 → 프로파일 제거 후 재시작)
+--   (ddl-auto=update는 기존 컬럼 타입을 바꾸지 않는다)
+-- * 코드 값은 Location.code / ReservationStatus.code 와 반드시 일치해야 한다.
+-- * 대용량 테이블은 3단계 UPDATE를 id 범위로 나눠 실행할 것 (예: 50,000건 단위)
+-- * 실행 전 백업 필수 - 되돌리기 스크립트는 제공하지 않음
+
+-- 1. 새 컬럼 추가
+ALTER TABLE reservation
+    ADD COLUMN from_location_code TINYINT NULL,
+    ADD COLUMN to_location_code   TINYINT NULL,
+    ADD COLUMN status_code        TINYINT NULL,
+    ADD COLUMN start_minute       INT     NULL,
+    ADD COLUMN end_minute         INT     NULL;
+
+-- 2. 기존 값 변환 (DATETIME은 벽시계 값 그대로 epoch-minute으로 환산, 타임존 변환 없음)
+UPDATE reservation
+SET from_location_code = CASE from_location
+        WHEN 'AIRPORT' THEN 1 WHEN 'VENUE_ONE' THEN 2 WHEN 'VENUE_TWO' THEN 3
+        WHEN 'VENUE_THREE' THEN 4 WHEN 'HOTEL' THEN 5 WHEN 'ETC' THEN 6 END,
+    to_location_code = CASE to_location
+        WHEN 'AIRPORT' THEN 1 WHEN 'VENUE_ONE' THEN 2 WHEN 'VENUE_TWO' THEN 3
+        WHEN 'VENUE_THREE' THEN 4 WHEN 'HOTEL' THEN 5 WHEN 'ETC' THEN 6 END,
+    status_code = CASE status
+        WHEN 'CREATED' THEN 1 WHEN 'IN_PROGRESS' THEN 2 WHEN 'DONE' THEN 3 END,
+    start_minute = TIMESTAMPDIFF(MINUTE, '1970-01-01 00:00:00', start_time),
+    end_minute   = TIMESTAMPDIFF(MINUTE, '1970-01-01 00:00:00', end_time);
+
+-- 3. 변환 누락 확인 (0이어야 함)
+SELECT COUNT(*) AS unmapped
+FROM reservation
+WHERE from_location_code IS NULL OR to_location_code IS NULL OR status_code IS NULL
+   OR start_minute IS NULL OR end_minute IS NULL;
+
+-- 4. 기존 컬럼을 참조하는 인덱스 제거 후 컬럼 교체
+ALTER TABLE reservation
+    DROP INDEX idx_reservation_vehicle_status,
+    DROP INDEX idx_reservation_from_to,
+    DROP INDEX idx_reservation_vehicle_time,
+    DROP INDEX idx_reservation_dispatcher_time,
+    DROP INDEX idx_reservation_vehicle_end,
+    DROP INDEX idx_reservation_dispatcher_end;
+
+ALTER TABLE reservation
+    DROP COLUMN from_location,
+    DROP COLUMN to_location,
+    DROP COLUMN status,
+    DROP COLUMN start_time,
+    DROP COLUMN end_time;
+
+ALTER TABLE reservation
+    CHANGE COLUMN from_location_code from_location TINYINT NOT NULL,
+    CHANGE COLUMN to_location_code   to_location   TINYINT NOT NULL,
+    CHANGE COLUMN status_code        status        TINYINT NOT NULL,
+    CHANGE COLUMN start_minute       start_time    INT     NOT NULL,
+    CHANGE COLUMN end_minute         end_time      INT     NOT NULL;
+
+-- 5. 인덱스 재생성 (엔티티 @Index 정의와 동일)
+ALTER TABLE reservation
+    ADD INDEX idx_reservation_vehicle_status (vehicle_id, status),
+    ADD INDEX idx_reservation_from_to (from_location, to_location),
+    ADD INDEX idx_reservation_vehicle_time (vehicle_id, status, start_time, end_time),
+    ADD INDEX idx_reservation_dispatcher_time (dispatcher_id, status, start_time, end_time),
+    ADD INDEX idx_reservation_vehicle_end (vehicle_id, end_time),
+    ADD INDEX idx_reservation_dispatcher_end (dispatcher_id, end_time);
+
+-- 6. schedule tail은 파생 데이터 - 삭제 후 애플리케이션 시작 시 backfill로 재생성
+--    (transportation.schedule-tail.backfill-on-startup=true, 한 트랜잭션으로 실행)
+--    재시작 후 확인: (vehicle 수 + users 수) = resource_schedule_tail 수
+DROP TABLE IF EXISTS resource_schedule_tail;
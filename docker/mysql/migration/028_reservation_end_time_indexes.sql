@@ -0,0 +1,26 @@
+-- ============================================
+-- 028: reservation 종료 시각 인덱스 (identity 레이아웃, MySQL 8)
+-- ============================================
+-- 마지막 위치 조회 / 스케줄 스캔 기준점용 (resource, end_time) 인덱스.
+-- 새 설치는 엔티티 @Index(ddl-auto=update)로 만들어지고, 이 스크립트는 ddl-auto 없이 운영하는 기존 DB용이다.
+--
+-- * identity 레이아웃에서 실행한다. clustered-by-resource는 db/layout 스크립트가 같은 이름의 커버링 인덱스로 교체한다.
+-- * 이미 있으면 건너뛴다 (027 마이그레이션을 거친 DB에는 이미 있다).
+
+SET @ddl = IF((SELECT COUNT(*) FROM information_schema.statistics
+               WHERE table_schema = DATABASE() AND table_name = 'reservation'
+                 AND index_name = 'idx_reservation_vehicle_end') = 0,
+              'ALTER TABLE reservation ADD INDEX idx_reservation_vehicle_end (vehicle_id, end_time)',
+              'SELECT 1');
+PREPARE stmt FROM @ddl;
+EXECUTE stmt;
+DEALLOCATE PREPARE stmt;
+
+SET @ddl = IF((SELECT COUNT(*) FROM information_schema.statistics
+               WHERE table_schema = DATABASE() AND table_name = 'reservation'
+                 AND index_name = 'idx_reservation_dispatcher_end') = 0,
+              'ALTER TABLE reservation ADD INDEX idx_reservation_dispatcher_end (dispatcher_id, end_time)',
+              'SELECT 1');
+PREPARE stmt FROM @ddl;
+EXECUTE stmt;
+DEALLOCATE PREPARE stmt;
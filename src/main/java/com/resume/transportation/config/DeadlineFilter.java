@@ -0,0 +1,104 @@
+package com.resume.transportation.config;
+
+import com.resume.transportation.service.deadline.Deadline;
+import com.resume.transportation.service.deadline.DeadlineContext;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import java.io.IOException;
+import java.time.Duration;
+
+/**
+ * 예약 API 요청의 처리 마감 시각 지정 (DeadlineContext)
+ *
+ * 1. X-Request-Deadline : 절대 마감 시각 (epoch ms) - 앞단(LB / 게이트웨이)이 받은 시각 기준이라 accept 큐 대기까지 포함된다
+ * 2. X-Request-Timeout  : 남은 처리 시간 (ms) - 이 서버가 요청을 읽은 시각부터
+ * 3. 둘 다 없으면 transportation.deadline.default-timeout (0 = 마감 없음)
+ *
+ * 헤더 값이 숫자가 아니면 무시하고 기본값을 쓴다.
+ * 마감 확인은 각 단계(DeadlineGuard)가 하고, 여기서는 요청 전체를 감싸기만 한다.
+ */
+@Component
+public class DeadlineFilter extends OncePerRequestFilter {
+
+    private static final String DEADLINE_HEADER = "X-Request-Deadline";
+    private static final String TIMEOUT_HEADER = "X-Request-Timeout";
+    private static final String RESERVATION_API = "/api/reservations";
+
+    @Value("${transportation.deadline.default-timeout:5s}")
+    private Duration defaultTimeout = Duration.ofSeconds(5);
+
+    @Override
+    protected boolean shouldNotFilter(HttpServletRequest request) {
+        return !request.getRequestURI().startsWith(RESERVATION_API);
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain chain)
+            throws ServletException, IOException {
+        Duration budget = budgetOf(request);
+        if (budget == null) {
+            chain.doFilter(request, response);
+            return;
+        }
+
+        try {
+            DeadlineContext.call(Deadline.after(budget), () -> {
+                try {
+                    chain.doFilter(request, response);
+                    return null;
+                } catch (IOException | ServletException e) {
+                    throw new FilterFailure(e);
+                }
+            });
+        } catch (FilterFailure e) {
+            if (e.getCause() instanceof IOException io) {
+                throw io;
+            }
+            throw (ServletException) e.getCause();
+        }
+    }
+
+    /**
+     * @return 남은 처리 시간 (마감 없음이면 null)
+     */
+    private Duration budgetOf(HttpServletRequest request) {
+        Long deadlineMillis = parse(request.getHeader(DEADLINE_HEADER));
+        if (deadlineMillis != null) {
+            return Duration.ofMillis(deadlineMillis - System.currentTimeMillis());
+        }
+
+        Long timeoutMillis = parse(request.getHeader(TIMEOUT_HEADER));
+        if (timeoutMillis != null) {
+            return Duration.ofMillis(timeoutMillis);
+        }
+
+        return defaultTimeout.isZero() ? null : defaultTimeout;
+    }
+
+    private static Long parse(String value) {
+        if (value == null || value.isBlank()) {
+            return null;
+        }
+        try {
+            return Long.parseLong(value.trim());
+        } catch (NumberFormatException e) {
+            return null;
+        }
+    }
+
+    /**
+     * Supplier 안에서 checked 예외를 밖으로 전달하기 위한 래퍼
+     */
+    private static final class FilterFailure extends RuntimeException {
+
+        private FilterFailure(Exception cause) {
+            super(cause);
+        }
+    }
+}
@@ -0,0 +1,25 @@
+package com.resume.transportation.config;
+
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadFactory;
+
+/**
+ * 비동기 실행기 설정
+ */
+@Configuration
+public class ExecutorConfig {
+
+    /**
+     * 예약 검증 단계 병렬 실행용 (가상 스레드, 작업당 1개)
+     * 동시 실행 수는 커넥션 풀(VALIDATION)이 제한한다.
+     */
+    @Bean(destroyMethod = "close")
+    public ExecutorService validationExecutor() {
+        ThreadFactory factory = Thread.ofVirtual().name("validation-", 0).factory();
+        return Executors.newThreadPerTaskExecutor(factory);
+    }
+}
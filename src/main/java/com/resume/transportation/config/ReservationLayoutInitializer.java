@@ -0,0 +1,85 @@
+package com.resume.transportation.config;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.init.ResourceDatabasePopulator;
+import org.springframework.stereotype.Component;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.util.List;
+
+/**
+ * reservation 물리 레이아웃 옵션
+ *
+ * transportation.storage.layout=clustered-by-resource 설정 시
+ * 클러스터링 키가 (vehicle_id, start_time, id)인지 시작 시점에 확인한다.
+ * - 테이블 재구성은 마이그레이션으로 수동 실행하는 것이 기본 (db/layout/reservation_clustered_by_resource.sql)
+ *   미적용이면 경고만 남긴다
+ * - transportation.storage.layout-apply-on-startup=true 일 때만 시작 시점에 스크립트를 직접 적용 (개발 / 벤치마크용)
+ * - MySQL(InnoDB)에서만 동작, 이미 적용된 경우 스킵
+ * - 기본값(identity)은 아무 것도 하지 않음
+ */
+@Component
+@ConditionalOnProperty(name = "transportation.storage.layout", havingValue = "clustered-by-resource")
+public class ReservationLayoutInitializer {
+
+    private static final String LAYOUT_SCRIPT = "db/layout/reservation_clustered_by_resource.sql";
+
+    private final DataSource dataSource;
+    private final JdbcTemplate jdbcTemplate;
+
+    @Value("${transportation.storage.layout-apply-on-startup:false}")
+    private boolean applyOnStartup;
+
+    public ReservationLayoutInitializer(DataSource dataSource, JdbcTemplate jdbcTemplate) {
+        this.dataSource = dataSource;
+        this.jdbcTemplate = jdbcTemplate;
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void applyLayout() {
+        if (!isMySql()) {
+            System.out.println("[ReservationLayout] MySQL이 아니므로 클러스터링 레이아웃 스킵");
+            return;
+        }
+
+        List<String> primaryKey = jdbcTemplate.queryForList("""
+                select column_name
+                from information_schema.key_column_usage
+                where table_schema = database()
+                  and table_name = 'reservation'
+                  and constraint_name = 'PRIMARY'
+                order by ordinal_position
+                """, String.class);
+
+        if (!primaryKey.isEmpty() && primaryKey.get(0).equalsIgnoreCase("vehicle_id")) {
+            System.out.println("[ReservationLayout] 이미 (vehicle_id, start_time, id) 클러스터링 적용됨");
+            return;
+        }
+
+        if (!applyOnStartup) {
+            System.err.printf("⚠️ [ReservationLayout] clustered-by-resource 미적용 - %s를 마이그레이션으로 실행하세요 "
+                    + "(또는 transportation.storage.layout-apply-on-startup=true)%n", LAYOUT_SCRIPT);
+            return;
+        }
+
+        long started = System.currentTimeMillis();
+        new ResourceDatabasePopulator(new ClassPathResource(LAYOUT_SCRIPT)).execute(dataSource);
+        System.out.printf("[ReservationLayout] 클러스터링 레이아웃 적용 완료 (%dms)%n",
+                System.currentTimeMillis() - started);
+    }
+
+    private boolean isMySql() {
+        try (Connection connection = dataSource.getConnection()) {
+            return connection.getMetaData().getDatabaseProductName().toLowerCase().contains("mysql");
+        } catch (SQLException e) {
+            throw new IllegalStateException("DB 종류 확인 실패", e);
+        }
+    }
+}
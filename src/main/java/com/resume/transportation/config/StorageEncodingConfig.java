@@ -0,0 +1,51 @@
+package com.resume.transportation.config;
+
+import com.resume.transportation.service.store.StorageEncoding;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.properties.bind.Bindable;
+import org.springframework.boot.context.properties.bind.Binder;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.env.Environment;
+
+import java.util.List;
+
+/**
+ * reservation 컬럼 인코딩 선택 (transportation.storage.encoding = compact | legacy)
+ *
+ * JPA 매핑(orm-legacy-encoding.xml)과 JDBC 경로가 같은 인코딩을 쓰도록 시작 시점에 맞춰 본다.
+ * - legacy는 application-legacy-encoding.yml 프로파일로 켠다 (매핑 파일 + 인코딩을 함께 설정)
+ * - 샤드 스키마(db/shard)는 compact만 있으므로 store=sharded와 함께 쓸 수 없다
+ */
+@Configuration
+public class StorageEncodingConfig {
+
+    static final String LEGACY_MAPPING = "META-INF/orm-legacy-encoding.xml";
+
+    @Bean
+    public StorageEncoding storageEncoding(
+            @Value("${transportation.storage.encoding:compact}") String encoding,
+            @Value("${transportation.reservation.store:jpa}") String store,
+            Environment environment
+    ) {
+        StorageEncoding storageEncoding = StorageEncoding.of(encoding);
+        List<String> mappingResources = Binder.get(environment)
+                .bind("spring.jpa.mapping-resources", Bindable.listOf(String.class))
+                .orElse(List.of());
+        boolean legacyMapped = mappingResources.contains(LEGACY_MAPPING);
+
+        if (storageEncoding == StorageEncoding.LEGACY && !legacyMapped) {
+            throw new IllegalStateException(
+                    "legacy 인코딩은 spring.jpa.mapping-resources에 " + LEGACY_MAPPING + "가 필요합니다 (legacy-encoding 프로파일)");
+        }
+        if (storageEncoding == StorageEncoding.COMPACT && legacyMapped) {
+            throw new IllegalStateException(LEGACY_MAPPING + "는 legacy 인코딩에서만 사용합니다");
+        }
+        if (storageEncoding == StorageEncoding.LEGACY && "sharded".equals(store)) {
+            throw new IllegalStateException("sharded 저장소는 compact 인코딩만 지원합니다");
+        }
+
+        System.out.printf("[StorageEncoding] reservation 컬럼 인코딩 - %s%n", storageEncoding);
+        return storageEncoding;
+    }
+}
@@ -0,0 +1,41 @@
+package com.resume.transportation.config;
+
+import com.resume.transportation.service.travel.ConfigTravelTimeSource;
+import com.resume.transportation.service.travel.FileTravelTimeSource;
+import com.resume.transportation.service.travel.JdbcTravelTimeSource;
+import com.resume.transportation.service.travel.TravelTimeSource;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.env.Environment;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.nio.file.Path;
+
+/**
+ * 이동 시간 데이터 출처 선택 (transportation.travel-time.source = config | file | db)
+ */
+@Configuration
+public class TravelTimeConfig {
+
+    @Bean
+    public TravelTimeSource travelTimeSource(
+            @Value("${transportation.travel-time.source:config}") String source,
+            @Value("${transportation.travel-time.file:}") String file,
+            Environment environment,
+            ObjectProvider<JdbcTemplate> jdbcTemplate
+    ) {
+        return switch (source) {
+            case "config" -> new ConfigTravelTimeSource(environment);
+            case "file" -> {
+                if (file.isBlank()) {
+                    throw new IllegalStateException("transportation.travel-time.file 설정이 없습니다.");
+                }
+                yield new FileTravelTimeSource(Path.of(file));
+            }
+            case "db" -> new JdbcTravelTimeSource(jdbcTemplate.getObject());
+            default -> throw new IllegalStateException("알 수 없는 travel-time source: " + source);
+        };
+    }
+}
@@ -0,0 +1,108 @@
+package com.resume.transportation.config.datasource;
+
+import com.zaxxer.hikari.HikariDataSource;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.properties.bind.Binder;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+import org.springframework.core.env.Environment;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+import org.springframework.scheduling.annotation.EnableScheduling;
+
+import javax.sql.DataSource;
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * DataSource 설정 (Workload별 풀 격리 + Replica)
+ *
+ * - primaryDataSource: spring.datasource.* (+ spring.datasource.hikari.*) - WRITE 풀
+ * - validationDataSource / reportingDataSource: transportation.datasource.bulkhead.{validation,reporting}.*
+ *   (bulkhead.enabled=true 일 때만) 같은 DB를 바라보는 별도 풀, 크기/타임아웃만 분리
+ * - replicaDataSource: transportation.datasource.replica.* (enabled=true 일 때만)
+ *   url 외 접속 정보와 hikari 설정은 primary 값을 기본으로 쓰고 {prefix}.hikari.*로 덮어쓴다.
+ * - dataSource (@Primary): LazyConnectionDataSourceProxy(RoutingDataSource)
+ *   JPA, JdbcTemplate 모두 이 빈을 사용한다.
+ *   라우팅 대상 풀은 DeadlineBoundDataSource로 감싼다 (요청 마감 → 커넥션 대기 / statement timeout)
+ *
+ * 추가 풀이 꺼져 있으면 해당 Workload는 primary로 라우팅된다.
+ */
+@Configuration
+@EnableScheduling
+public class DataSourceConfig {
+
+    private static final String REPLICA_PREFIX = "transportation.datasource.replica";
+    private static final String BULKHEAD_PREFIX = "transportation.datasource.bulkhead";
+
+    @Bean
+    public PoolWaitMetrics poolWaitMetrics(MeterRegistry registry) {
+        return new PoolWaitMetrics(registry);
+    }
+
+    @Bean(destroyMethod = "close")
+    public HikariDataSource primaryDataSource(Environment environment, PoolWaitMetrics poolWaitMetrics) {
+        return HikariPools.primary(Binder.get(environment), poolWaitMetrics);
+    }
+
+    @Bean(destroyMethod = "close")
+    @ConditionalOnProperty(name = BULKHEAD_PREFIX + ".enabled", havingValue = "true")
+    public HikariDataSource validationDataSource(Environment environment, PoolWaitMetrics poolWaitMetrics) {
+        return HikariPools.derived(Binder.get(environment), BULKHEAD_PREFIX + ".validation", "Validation",
+                poolWaitMetrics);
+    }
+
+    @Bean(destroyMethod = "close")
+    @ConditionalOnProperty(name = BULKHEAD_PREFIX + ".enabled", havingValue = "true")
+    public HikariDataSource reportingDataSource(Environment environment, PoolWaitMetrics poolWaitMetrics) {
+        return HikariPools.derived(Binder.get(environment), BULKHEAD_PREFIX + ".reporting", "Reporting",
+                poolWaitMetrics);
+    }
+
+    @Bean(destroyMethod = "close")
+    @ConditionalOnProperty(name = REPLICA_PREFIX + ".enabled", havingValue = "true")
+    public HikariDataSource replicaDataSource(Environment environment, PoolWaitMetrics poolWaitMetrics) {
+        return HikariPools.derived(Binder.get(environment), REPLICA_PREFIX, "Replica", poolWaitMetrics);
+    }
+
+    @Bean
+    @ConditionalOnProperty(name = REPLICA_PREFIX + ".enabled", havingValue = "true")
+    public ReplicaLagMonitor replicaLagMonitor(@Qualifier("primaryDataSource") DataSource primaryDataSource,
+                                               @Qualifier("replicaDataSource") DataSource replicaDataSource,
+                                               MeterRegistry registry) {
+        return new ReplicaLagMonitor(primaryDataSource, replicaDataSource, registry);
+    }
+
+    @Bean
+    @Primary
+    public DataSource dataSource(@Qualifier("primaryDataSource") HikariDataSource primaryDataSource,
+                                 @Qualifier("validationDataSource") ObjectProvider<HikariDataSource> validationDataSource,
+                                 @Qualifier("reportingDataSource") ObjectProvider<HikariDataSource> reportingDataSource,
+                                 @Qualifier("replicaDataSource") ObjectProvider<HikariDataSource> replicaDataSource,
+                                 ObjectProvider<ReplicaLagMonitor> replicaLagMonitor,
+                                 @Value("${" + REPLICA_PREFIX + ".max-lag:3s}") Duration maxLag) {
+        DataSource primary = new DeadlineBoundDataSource(primaryDataSource);
+        Map<Object, Object> targets = new HashMap<>();
+        targets.put(DataSourceRoute.PRIMARY, primary);
+        validationDataSource.ifAvailable(pool -> targets.put(DataSourceRoute.VALIDATION, new DeadlineBoundDataSource(pool)));
+        reportingDataSource.ifAvailable(pool -> targets.put(DataSourceRoute.REPORTING, new DeadlineBoundDataSource(pool)));
+
+        HikariDataSource replica = replicaDataSource.getIfAvailable();
+        ReplicaLagMonitor lagMonitor = null;
+        if (replica != null) {
+            targets.put(DataSourceRoute.REPLICA, new DeadlineBoundDataSource(replica));
+            lagMonitor = replicaLagMonitor.getObject();
+        }
+
+        RoutingDataSource routing = new RoutingDataSource(lagMonitor, maxLag);
+        routing.setTargetDataSources(targets);
+        routing.setDefaultTargetDataSource(primary);
+        routing.afterPropertiesSet();
+        return new LazyConnectionDataSourceProxy(routing);
+    }
+}
@@ -0,0 +1,110 @@
+package com.resume.transportation.config.datasource;
+
+import com.zaxxer.hikari.HikariConfigMXBean;
+import com.zaxxer.hikari.HikariDataSource;
+import com.zaxxer.hikari.HikariPoolMXBean;
+import org.springframework.boot.actuate.endpoint.InvalidEndpointRequestException;
+import org.springframework.boot.actuate.endpoint.annotation.Endpoint;
+import org.springframework.boot.actuate.endpoint.annotation.OptionalParameter;
+import org.springframework.boot.actuate.endpoint.annotation.ReadOperation;
+import org.springframework.boot.actuate.endpoint.annotation.Selector;
+import org.springframework.boot.actuate.endpoint.annotation.WriteOperation;
+import org.springframework.stereotype.Component;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.TreeMap;
+
+/**
+ * 커넥션 풀 상태 조회 / 런타임 크기 조정 (actuator)
+ *
+ * GET  /actuator/pools
+ * GET  /actuator/pools/{bean}
+ * POST /actuator/pools/{bean}  {"maximumPoolSize": 30, "minimumIdle": 5, "connectionTimeout": 2000}
+ *
+ * {bean}은 DataSource 빈 이름 (primaryDataSource, validationDataSource, reportingDataSource, replicaDataSource).
+ * 변경은 HikariConfigMXBean으로 즉시 반영되며 재시작하면 설정 파일 값으로 돌아간다.
+ */
+@Component
+@Endpoint(id = "pools")
+public class DataSourcePoolsEndpoint {
+
+    private final Map<String, HikariDataSource> pools;
+
+    public DataSourcePoolsEndpoint(Map<String, HikariDataSource> pools) {
+        this.pools = new TreeMap<>(pools);
+    }
+
+    @ReadOperation
+    public Map<String, Object> pools() {
+        Map<String, Object> result = new LinkedHashMap<>();
+        pools.forEach((name, pool) -> result.put(name, describe(pool)));
+        return result;
+    }
+
+    @ReadOperation
+    public Map<String, Object> pool(@Selector String name) {
+        HikariDataSource pool = pools.get(name);
+        return pool != null ? describe(pool) : null;
+    }
+
+    @WriteOperation
+    public Map<String, Object> resize(
+            @Selector String name,
+            @OptionalParameter Integer maximumPoolSize,
+            @OptionalParameter Integer minimumIdle,
+            @OptionalParameter Long connectionTimeout
+    ) {
+        HikariDataSource pool = pools.get(name);
+        if (pool == null) {
+            throw new InvalidEndpointRequestException("존재하지 않는 풀: " + name, "Unknown pool " + name);
+        }
+
+        HikariConfigMXBean config = pool.getHikariConfigMXBean();
+        int newMax = maximumPoolSize != null ? maximumPoolSize : config.getMaximumPoolSize();
+        int newMinIdle = minimumIdle != null ? minimumIdle : Math.min(config.getMinimumIdle(), newMax);
+        if (newMax < 1 || newMinIdle < 0 || newMinIdle > newMax) {
+            throw new InvalidEndpointRequestException(
+                    "잘못된 크기: maximumPoolSize=" + newMax + ", minimumIdle=" + newMinIdle,
+                    "Invalid pool size");
+        }
+        if (connectionTimeout != null && connectionTimeout < 250) {
+            throw new InvalidEndpointRequestException(
+                    "connectionTimeout은 250ms 이상이어야 합니다.", "Invalid connection timeout");
+        }
+
+        // 줄일 때는 minIdle 먼저, 늘릴 때는 max 먼저 (min <= max 유지)
+        if (newMax >= config.getMaximumPoolSize()) {
+            config.setMaximumPoolSize(newMax);
+            config.setMinimumIdle(newMinIdle);
+        } else {
+            config.setMinimumIdle(newMinIdle);
+            config.setMaximumPoolSize(newMax);
+        }
+        if (connectionTimeout != null) {
+            config.setConnectionTimeout(connectionTimeout);
+        }
+
+        System.out.printf("🔧 [Pool] %s 크기 변경 - max=%d, minIdle=%d, timeout=%dms%n",
+                name, newMax, newMinIdle, config.getConnectionTimeout());
+        return describe(pool);
+    }
+
+    private Map<String, Object> describe(HikariDataSource pool) {
+        HikariConfigMXBean config = pool.getHikariConfigMXBean();
+        Map<String, Object> info = new LinkedHashMap<>();
+        info.put("poolName", pool.getPoolName());
+        info.put("maximumPoolSize", config.getMaximumPoolSize());
+        info.put("minimumIdle", config.getMinimumIdle());
+        info.put("connectionTimeout", config.getConnectionTimeout());
+
+        HikariPoolMXBean stats = pool.getHikariPoolMXBean();
+        if (stats != null) {
+            info.put("active", stats.getActiveConnections());
+            info.put("idle", stats.getIdleConnections());
+            info.put("total", stats.getTotalConnections());
+            info.put("pending", stats.getThreadsAwaitingConnection());
+        }
+        return info;
+    }
+}
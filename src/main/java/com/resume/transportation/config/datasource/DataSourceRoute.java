@@ -0,0 +1,13 @@
+package com.resume.transportation.config.datasource;
+
+/**
+ * 라우팅 DataSource lookup key
+ *
+ * PRIMARY는 WRITE 풀이자 기본 대상이다.
+ */
+public enum DataSourceRoute {
+    PRIMARY,
+    VALIDATION,
+    REPORTING,
+    REPLICA
+}
@@ -0,0 +1,92 @@
+package com.resume.transportation.config.datasource;
+
+import com.resume.transportation.service.deadline.Deadline;
+import com.resume.transportation.service.deadline.DeadlineContext;
+import com.zaxxer.hikari.HikariDataSource;
+import com.zaxxer.hikari.pool.HikariPool;
+import org.springframework.jdbc.datasource.DelegatingDataSource;
+
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Proxy;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.sql.SQLTimeoutException;
+import java.sql.SQLTransientConnectionException;
+import java.sql.Statement;
+import java.util.Set;
+
+/**
+ * 요청 마감(DeadlineContext)을 DB 작업까지 전달하는 풀 래퍼
+ *
+ * - 커넥션 대기: 남은 시간이 풀의 connectionTimeout보다 짧으면 남은 시간까지만 기다린다
+ *   (Hikari 풀 타임아웃은 풀 단위 설정이므로 HikariPool.getConnection(hardTimeout)으로 호출마다 줄인다)
+ * - statement: 생성 시점의 남은 시간을 초 단위로 올림해 queryTimeout으로 건다 (JDBC 최소 단위 1초)
+ *   마감이 이미 지났으면 실행하지 않고 SQLTimeoutException
+ *   마감이 없으면 0(무제한)으로 되돌린다 - 드라이버가 캐시한 statement에 이전 요청의 타임아웃이 남지 않도록
+ *
+ * 마감으로 끊긴 작업은 DeadlineGuard.translate()가 DEADLINE_EXCEEDED로 바꾼다.
+ * 커밋 이후 단계(선점 후 검증 / 보상 삭제)는 호출자가 DeadlineContext.clear()로 마감을 내려놓는다.
+ */
+public class DeadlineBoundDataSource extends DelegatingDataSource {
+
+    private static final Set<String> STATEMENT_FACTORIES = Set.of("createStatement", "prepareStatement", "prepareCall");
+
+    private final HikariDataSource pool;
+
+    public DeadlineBoundDataSource(HikariDataSource pool) {
+        super(pool);
+        this.pool = pool;
+    }
+
+    @Override
+    public Connection getConnection() throws SQLException {
+        return bound(acquire());
+    }
+
+    private Connection acquire() throws SQLException {
+        Deadline deadline = DeadlineContext.current();
+        if (deadline == null) {
+            return pool.getConnection();
+        }
+
+        long remainingMillis = deadline.remaining().toMillis();
+        if (remainingMillis <= 0) {
+            throw new SQLTransientConnectionException(pool.getPoolName() + " - 요청 마감이 지나 커넥션을 요청하지 않음");
+        }
+        if (remainingMillis < pool.getConnectionTimeout() && pool.getHikariPoolMXBean() instanceof HikariPool hikariPool) {
+            return hikariPool.getConnection(remainingMillis);
+        }
+        return pool.getConnection();
+    }
+
+    private static Connection bound(Connection target) {
+        return (Connection) Proxy.newProxyInstance(Connection.class.getClassLoader(), new Class<?>[]{Connection.class},
+                (proxy, method, args) -> {
+                    Object result;
+                    try {
+                        result = method.invoke(target, args);
+                    } catch (InvocationTargetException e) {
+                        throw e.getTargetException();
+                    }
+                    if (result instanceof Statement statement && STATEMENT_FACTORIES.contains(method.getName())) {
+                        applyTimeout(statement);
+                    }
+                    return result;
+                });
+    }
+
+    private static void applyTimeout(Statement statement) throws SQLException {
+        Deadline deadline = DeadlineContext.current();
+        if (deadline == null) {
+            statement.setQueryTimeout(0);
+            return;
+        }
+
+        long remainingMillis = deadline.remaining().toMillis();
+        if (remainingMillis <= 0) {
+            statement.close();
+            throw new SQLTimeoutException("요청 마감이 지나 statement를 실행하지 않음");
+        }
+        statement.setQueryTimeout((int) Math.min(Integer.MAX_VALUE, (remainingMillis + 999) / 1000));
+    }
+}
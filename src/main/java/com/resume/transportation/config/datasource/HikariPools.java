@@ -0,0 +1,57 @@
+package com.resume.transportation.config.datasource;
+
+import com.zaxxer.hikari.HikariConfig;
+import com.zaxxer.hikari.HikariDataSource;
+import com.zaxxer.hikari.metrics.IMetricsTrackerFactory;
+import org.springframework.boot.context.properties.bind.Bindable;
+import org.springframework.boot.context.properties.bind.Binder;
+
+/**
+ * Hikari 커넥션 풀 생성 헬퍼
+ *
+ * 추가 풀(replica, shard)은 primary(spring.datasource.*) 설정을 기본값으로 쓰고
+ * {prefix}.url/username/password/driver-class-name, {prefix}.hikari.* 로 덮어쓴다.
+ * 모든 풀은 같은 PoolWaitMetrics로 풀 이름별 메트릭을 남긴다.
+ */
+final class HikariPools {
+
+    static final String PRIMARY_PREFIX = "spring.datasource";
+
+    private HikariPools() {
+    }
+
+    static HikariDataSource primary(Binder binder, IMetricsTrackerFactory metrics) {
+        HikariConfig config = new HikariConfig();
+        config.setMetricsTrackerFactory(metrics);
+        bindConnection(binder, PRIMARY_PREFIX, config);
+        binder.bind(PRIMARY_PREFIX + ".hikari", Bindable.ofInstance(config));
+        return new HikariDataSource(config);
+    }
+
+    /**
+     * primary 설정 기반 파생 풀 (pool-name 미지정 시 primary 이름 + suffix)
+     */
+    static HikariDataSource derived(Binder binder, String prefix, String poolNameSuffix,
+                                    IMetricsTrackerFactory metrics) {
+        HikariConfig config = new HikariConfig();
+        config.setMetricsTrackerFactory(metrics);
+        bindConnection(binder, PRIMARY_PREFIX, config);
+        binder.bind(PRIMARY_PREFIX + ".hikari", Bindable.ofInstance(config));
+
+        String primaryPoolName = config.getPoolName();
+        config.setPoolName(null);
+        bindConnection(binder, prefix, config);
+        binder.bind(prefix + ".hikari", Bindable.ofInstance(config));
+        if (config.getPoolName() == null) {
+            config.setPoolName((primaryPoolName != null ? primaryPoolName : "HikariPool") + "-" + poolNameSuffix);
+        }
+        return new HikariDataSource(config);
+    }
+
+    private static void bindConnection(Binder binder, String prefix, HikariConfig config) {
+        binder.bind(prefix + ".url", String.class).ifBound(config::setJdbcUrl);
+        binder.bind(prefix + ".driver-class-name", String.class).ifBound(config::setDriverClassName);
+        binder.bind(prefix + ".username", String.class).ifBound(config::setUsername);
+        binder.bind(prefix + ".password", String.class).ifBound(config::setPassword);
+    }
+}
@@ -0,0 +1,80 @@
+package com.resume.transportation.config.datasource;
+
+import com.zaxxer.hikari.metrics.IMetricsTracker;
+import com.zaxxer.hikari.metrics.IMetricsTrackerFactory;
+import com.zaxxer.hikari.metrics.PoolStats;
+import com.zaxxer.hikari.metrics.micrometer.MicrometerMetricsTrackerFactory;
+import io.micrometer.core.instrument.Clock;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.distribution.TimeWindowMax;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 풀별 커넥션 대기 시간 메트릭
+ *
+ * Hikari 기본 Micrometer 메트릭(hikaricp.connections.*)에 더해
+ * 최근 1분 최대 대기 시간을 게이지로 노출한다.
+ * - datasource.pool.wait.max{pool}  : 커넥션 획득 대기 최대값 (ms, 1분 윈도우)
+ * - datasource.pool.pending{pool}   : 커넥션 대기 중인 스레드 수
+ */
+public class PoolWaitMetrics implements IMetricsTrackerFactory {
+
+    private static final long ROTATE_MILLIS = 20_000L;
+    private static final int BUFFER_LENGTH = 3;
+
+    private final MeterRegistry registry;
+    private final MicrometerMetricsTrackerFactory delegate;
+
+    public PoolWaitMetrics(MeterRegistry registry) {
+        this.registry = registry;
+        this.delegate = new MicrometerMetricsTrackerFactory(registry);
+    }
+
+    @Override
+    public IMetricsTracker create(String poolName, PoolStats poolStats) {
+        IMetricsTracker tracker = delegate.create(poolName, poolStats);
+        TimeWindowMax waitMax = new TimeWindowMax(Clock.SYSTEM, ROTATE_MILLIS, BUFFER_LENGTH);
+
+        Gauge waitGauge = Gauge.builder("datasource.pool.wait.max", waitMax, max -> max.poll(TimeUnit.MILLISECONDS))
+                .description("Max connection acquire wait over the last minute")
+                .baseUnit("milliseconds")
+                .tag("pool", poolName)
+                .register(registry);
+        Gauge pendingGauge = Gauge.builder("datasource.pool.pending", poolStats, PoolStats::getPendingThreads)
+                .description("Threads waiting for a connection")
+                .tag("pool", poolName)
+                .register(registry);
+
+        return new IMetricsTracker() {
+            @Override
+            public void recordConnectionCreatedMillis(long connectionCreatedMillis) {
+                tracker.recordConnectionCreatedMillis(connectionCreatedMillis);
+            }
+
+            @Override
+            public void recordConnectionAcquiredNanos(long elapsedAcquiredNanos) {
+                tracker.recordConnectionAcquiredNanos(elapsedAcquiredNanos);
+                waitMax.record((double) elapsedAcquiredNanos, TimeUnit.NANOSECONDS);
+            }
+
+            @Override
+            public void recordConnectionUsageMillis(long elapsedBorrowedMillis) {
+                tracker.recordConnectionUsageMillis(elapsedBorrowedMillis);
+            }
+
+            @Override
+            public void recordConnectionTimeout() {
+                tracker.recordConnectionTimeout();
+            }
+
+            @Override
+            public void close() {
+                tracker.close();
+                registry.remove(waitGauge);
+                registry.remove(pendingGauge);
+            }
+        };
+    }
+}
@@ -0,0 +1,58 @@
+package com.resume.transportation.config.datasource;
+
+import java.time.Duration;
+import java.util.function.Supplier;
+
+/**
+ * 읽기 일관성 요구 컨텍스트 (스레드 로컬)
+ *
+ * readOnly 트랜잭션은 기본적으로 replica로 라우팅되며, 허용 지연은
+ * transportation.datasource.replica.max-lag 설정을 따른다.
+ * 방금 쓴 데이터를 읽어야 하는 등 더 신선한 읽기가 필요하면 이 컨텍스트로 감싼다.
+ *
+ * <pre>
+ * ReadConsistency.primary(() -> reservationRepository.count());
+ * ReadConsistency.maxStaleness(Duration.ofMillis(200), () -> ...);
+ * </pre>
+ *
+ * 트랜잭션의 커넥션은 첫 쿼리 시점에 결정되므로 트랜잭션 시작 전에 감싸야 한다.
+ */
+public final class ReadConsistency {
+
+    private static final ThreadLocal<Duration> MAX_STALENESS = new ThreadLocal<>();
+
+    private ReadConsistency() {
+    }
+
+    /**
+     * 항상 primary에서 읽기
+     * (Duration.ZERO는 RoutingDataSource에서 "replica 사용 안 함"으로 해석 - 측정 지연이 0이어도 primary)
+     */
+    public static <T> T primary(Supplier<T> query) {
+        return maxStaleness(Duration.ZERO, query);
+    }
+
+    /**
+     * replica 지연이 maxStaleness 이하일 때만 replica 사용, 아니면 primary fallback
+     */
+    public static <T> T maxStaleness(Duration maxStaleness, Supplier<T> query) {
+        Duration previous = MAX_STALENESS.get();
+        MAX_STALENESS.set(maxStaleness);
+        try {
+            return query.get();
+        } finally {
+            if (previous == null) {
+                MAX_STALENESS.remove();
+            } else {
+                MAX_STALENESS.set(previous);
+            }
+        }
+    }
+
+    /**
+     * 현재 스레드의 허용 지연 (지정하지 않았으면 null)
+     */
+    static Duration currentMaxStaleness() {
+        return MAX_STALENESS.get();
+    }
+}
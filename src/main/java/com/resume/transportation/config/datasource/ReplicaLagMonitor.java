@@ -0,0 +1,109 @@
+package com.resume.transportation.config.datasource;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import org.springframework.dao.DataAccessException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.ResultSetExtractor;
+import org.springframework.scheduling.annotation.Scheduled;
+
+import javax.sql.DataSource;
+import java.time.Duration;
+
+/**
+ * Replica 복제 지연 측정
+ *
+ * primary의 heartbeat 행을 주기적으로 갱신하고, replica에 복제된 값과 비교해 지연을 계산한다.
+ * 지연 = (이 인스턴스가 마지막으로 쓴 시각) - (replica가 보고 있는 시각)
+ *
+ * replica 조회 실패, heartbeat 행 없음 등 측정 불가 상태는 "사용 불가"로 취급해
+ * 모든 읽기가 primary로 fallback 된다.
+ */
+public class ReplicaLagMonitor {
+
+    private static final String CREATE_HEARTBEAT = """
+            create table if not exists replica_heartbeat (
+                id int not null primary key,
+                beat_at bigint not null
+            )""";
+    private static final String UPDATE_HEARTBEAT = "update replica_heartbeat set beat_at = ? where id = 1";
+    private static final String INSERT_HEARTBEAT = "insert into replica_heartbeat (id, beat_at) values (1, ?)";
+    private static final String SELECT_HEARTBEAT = "select beat_at from replica_heartbeat where id = 1";
+
+    private static final long UNKNOWN = -1L;
+
+    private final JdbcTemplate primary;
+    private final JdbcTemplate replica;
+
+    private volatile long lastBeatMillis;
+    private volatile long lagMillis = UNKNOWN;
+
+    public ReplicaLagMonitor(DataSource primaryDataSource, DataSource replicaDataSource, MeterRegistry registry) {
+        this.primary = new JdbcTemplate(primaryDataSource);
+        this.replica = new JdbcTemplate(replicaDataSource);
+
+        Gauge.builder("datasource.replica.lag", this, ReplicaLagMonitor::getLagMillis)
+                .description("Replica replication lag in milliseconds (-1 = unknown)")
+                .baseUnit("milliseconds")
+                .register(registry);
+    }
+
+    @PostConstruct
+    public void init() {
+        try {
+            primary.execute(CREATE_HEARTBEAT);
+        } catch (DataAccessException e) {
+            System.out.printf("⚠️ [Replica] heartbeat 테이블 생성 실패 - %s%n", e.getMessage());
+        }
+        beat();
+        refresh();
+    }
+
+    /**
+     * primary heartbeat 갱신
+     */
+    @Scheduled(fixedDelayString = "${transportation.datasource.replica.heartbeat-interval:1000}")
+    public void beat() {
+        long now = System.currentTimeMillis();
+        try {
+            if (primary.update(UPDATE_HEARTBEAT, now) == 0) {
+                primary.update(INSERT_HEARTBEAT, now);
+            }
+            lastBeatMillis = now;
+        } catch (DataAccessException e) {
+            System.out.printf("⚠️ [Replica] heartbeat 기록 실패 - %s%n", e.getMessage());
+        }
+    }
+
+    /**
+     * replica heartbeat 조회 → 지연 갱신
+     */
+    @Scheduled(fixedDelayString = "${transportation.datasource.replica.heartbeat-interval:1000}")
+    public void refresh() {
+        try {
+            Long replicated = replica.query(SELECT_HEARTBEAT,
+                    (ResultSetExtractor<Long>) rs -> rs.next() ? rs.getLong(1) : null);
+            if (replicated == null) {
+                lagMillis = UNKNOWN;
+                return;
+            }
+            long reference = lastBeatMillis > 0 ? lastBeatMillis : System.currentTimeMillis();
+            lagMillis = Math.max(0L, reference - replicated);
+        } catch (DataAccessException e) {
+            lagMillis = UNKNOWN;
+        }
+    }
+
+    /**
+     * 현재 지연이 maxLag 이내인지 (측정 불가면 false)
+     */
+    public boolean isWithin(Duration maxLag) {
+        long lag = lagMillis;
+        return lag != UNKNOWN && lag <= maxLag.toMillis();
+    }
+
+    public long getLagMillis() {
+        return lagMillis;
+    }
+}
@@ -0,0 +1,48 @@
+package com.resume.transportation.config.datasource;
+
+import org.springframework.jdbc.datasource.lookup.AbstractRoutingDataSource;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Duration;
+
+/**
+ * Workload / readOnly 기준 라우팅 DataSource
+ *
+ * 1. readOnly 트랜잭션 + replica 지연이 허용 범위 이내 → REPLICA
+ * 2. 그 외 현재 Workload의 전용 풀 (VALIDATION, REPORTING)
+ * 3. 전용 풀이 없거나 WRITE → PRIMARY
+ *
+ * 트랜잭션 시작 시점이 아니라 첫 쿼리 시점에 readOnly 플래그를 봐야 하므로
+ * 반드시 LazyConnectionDataSourceProxy로 감싸서 사용한다.
+ * 등록되지 않은 key는 lenientFallback에 의해 PRIMARY로 떨어진다.
+ */
+public class RoutingDataSource extends AbstractRoutingDataSource {
+
+    private final ReplicaLagMonitor lagMonitor;
+    private final Duration defaultMaxLag;
+
+    public RoutingDataSource(ReplicaLagMonitor lagMonitor, Duration defaultMaxLag) {
+        this.lagMonitor = lagMonitor;
+        this.defaultMaxLag = defaultMaxLag;
+    }
+
+    @Override
+    protected Object determineCurrentLookupKey() {
+        if (lagMonitor != null && TransactionSynchronizationManager.isCurrentTransactionReadOnly()) {
+            Duration maxLag = ReadConsistency.currentMaxStaleness();
+            if (maxLag == null) {
+                maxLag = defaultMaxLag;
+            }
+            // ZERO = ReadConsistency.primary() → 지연 0으로 측정되더라도 replica 사용 안 함
+            if (!maxLag.isZero() && lagMonitor.isWithin(maxLag)) {
+                return DataSourceRoute.REPLICA;
+            }
+        }
+
+        return switch (WorkloadContext.current()) {
+            case WRITE -> DataSourceRoute.PRIMARY;
+            case VALIDATION -> DataSourceRoute.VALIDATION;
+            case REPORTING -> DataSourceRoute.REPORTING;
+        };
+    }
+}
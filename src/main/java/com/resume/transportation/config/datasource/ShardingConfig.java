@@ -0,0 +1,42 @@
+package com.resume.transportation.config.datasource;
+
+import com.resume.transportation.service.store.shard.ShardCluster;
+import com.zaxxer.hikari.HikariDataSource;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.properties.bind.Binder;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.env.Environment;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 예약 샤드 DataSource 설정 (transportation.reservation.store=sharded)
+ *
+ * transportation.sharding.shards[i].url / username / password / hikari.*
+ * 접속 정보와 hikari 설정은 primary 값을 기본으로 사용한다.
+ * 샤드 번호(i)는 디렉터리(shard_bucket)에 저장되므로 목록 순서를 바꾸면 안 되고, 뒤에 추가만 한다.
+ */
+@Configuration
+@ConditionalOnProperty(name = "transportation.reservation.store", havingValue = "sharded")
+public class ShardingConfig {
+
+    private static final String SHARDS_PREFIX = "transportation.sharding.shards";
+
+    @Bean(destroyMethod = "close")
+    public ShardCluster shardCluster(Environment environment, PoolWaitMetrics poolWaitMetrics) {
+        Binder binder = Binder.get(environment);
+        List<HikariDataSource> pools = new ArrayList<>();
+        for (int i = 0; binder.bind(SHARDS_PREFIX + "[" + i + "].url", String.class).isBound(); i++) {
+            pools.add(HikariPools.derived(binder, SHARDS_PREFIX + "[" + i + "]", "Shard" + i, poolWaitMetrics));
+        }
+        if (pools.isEmpty()) {
+            throw new IllegalStateException(SHARDS_PREFIX + " 설정이 없습니다.");
+        }
+
+        ShardCluster cluster = new ShardCluster(pools);
+        cluster.initializeSchema();
+        return cluster;
+    }
+}
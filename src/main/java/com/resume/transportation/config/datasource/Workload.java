@@ -0,0 +1,14 @@
+package com.resume.transportation.config.datasource;
+
+/**
+ * 커넥션 풀 격리(bulkhead) 단위
+ *
+ * - WRITE      : 예약 INSERT / 보상 DELETE (기본값)
+ * - VALIDATION : 위치 조회, overlap 검증
+ * - REPORTING  : 통계, 전체 count / deleteAll 등 무거운 조회/관리 작업
+ */
+public enum Workload {
+    WRITE,
+    VALIDATION,
+    REPORTING
+}
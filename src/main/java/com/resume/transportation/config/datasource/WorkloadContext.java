@@ -0,0 +1,47 @@
+package com.resume.transportation.config.datasource;
+
+import java.util.function.Supplier;
+
+/**
+ * 현재 스레드의 Workload (스레드 로컬)
+ *
+ * 지정하지 않으면 WRITE. 커넥션은 첫 쿼리 시점에 결정되므로
+ * 트랜잭션을 여는 호출 전체를 감싸야 한다.
+ *
+ * <pre>
+ * WorkloadContext.call(Workload.REPORTING, () -> reservationRepository.count());
+ * </pre>
+ */
+public final class WorkloadContext {
+
+    private static final ThreadLocal<Workload> CURRENT = new ThreadLocal<>();
+
+    private WorkloadContext() {
+    }
+
+    public static <T> T call(Workload workload, Supplier<T> task) {
+        Workload previous = CURRENT.get();
+        CURRENT.set(workload);
+        try {
+            return task.get();
+        } finally {
+            if (previous == null) {
+                CURRENT.remove();
+            } else {
+                CURRENT.set(previous);
+            }
+        }
+    }
+
+    public static void run(Workload workload, Runnable task) {
+        call(workload, () -> {
+            task.run();
+            return null;
+        });
+    }
+
+    public static Workload current() {
+        Workload workload = CURRENT.get();
+        return workload != null ? workload : Workload.WRITE;
+    }
+}
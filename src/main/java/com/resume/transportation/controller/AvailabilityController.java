@@ -0,0 +1,67 @@
+package com.resume.transportation.controller;
+
+import com.resume.transportation.enums.Location;
+import com.resume.transportation.service.availability.AvailabilityResult;
+import com.resume.transportation.service.availability.ScheduleIndex;
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+import java.time.LocalDateTime;
+import java.util.Map;
+
+/**
+ * 가용 리소스 조회 API
+ *
+ * 예약 가능 여부를 POST로 하나씩 시도하지 않고, 인메모리 인덱스에서 후보를 먼저 찾는다.
+ * 결과는 참고용이며 최종 판단은 예약 생성 시 검증으로 한다.
+ */
+@RestController
+@RequestMapping("/api/availability")
+@RequiredArgsConstructor
+public class AvailabilityController {
+
+    private final ScheduleIndex scheduleIndex;
+
+    @Value("${transportation.availability.max-results:100}")
+    private int maxResults = 100;
+
+    /**
+     * from에 있고 [start, end) 동안 비어 있는 차량 / 디스패처
+     * GET /api/availability?from=AIRPORT&start=2024-01-01T09:00&end=2024-01-01T11:00
+     */
+    @GetMapping
+    public ResponseEntity<Map<String, Object>> findAvailable(
+            @RequestParam Location from,
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime start,
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime end,
+            @RequestParam(required = false) Integer limit
+    ) {
+        if (!start.isBefore(end)) {
+            return ResponseEntity.badRequest().body(Map.of(
+                    "status", "failed",
+                    "error", "시작 시각은 종료 시각보다 앞서야 합니다."
+            ));
+        }
+
+        int effectiveLimit = limit == null ? maxResults : Math.max(1, Math.min(limit, maxResults));
+        AvailabilityResult result = scheduleIndex.findAvailable(from, start, end, effectiveLimit);
+        return ResponseEntity.ok(Map.of(
+                "status", "success",
+                "vehicleIds", result.vehicleIds(),
+                "dispatcherIds", result.dispatcherIds(),
+                "indexBuiltAt", result.builtAt().toString()
+        ));
+    }
+
+    /**
+     * 인덱스 즉시 재구성 (기본은 rebuild-interval 주기)
+     */
+    @PostMapping("/rebuild")
+    public ResponseEntity<Map<String, Object>> rebuild() {
+        scheduleIndex.rebuild();
+        return ResponseEntity.ok(Map.of("status", "success"));
+    }
+}
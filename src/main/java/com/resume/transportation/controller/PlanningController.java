@@ -0,0 +1,39 @@
+package com.resume.transportation.controller;
+
+import com.resume.transportation.service.planning.BulkPlanCommand;
+import com.resume.transportation.service.planning.BulkPlanResult;
+import com.resume.transportation.service.planning.BulkPlanner;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+import java.util.Map;
+
+/**
+ * 배치 배정 API (대회 전날 등 하루치 운행 일괄 배정)
+ *
+ * commit=false 로 먼저 계획을 확인한 뒤 commit=true 로 다시 호출한다.
+ * 커밋 중 같은 구간의 온라인 예약은 가능하지만, 겹친 운행은 삭제되어 unassigned로 돌아온다.
+ */
+@RestController
+@RequestMapping("/api/planning")
+@RequiredArgsConstructor
+public class PlanningController {
+
+    private final BulkPlanner bulkPlanner;
+
+    @PostMapping("/bulk")
+    public ResponseEntity<Map<String, Object>> planBulk(@RequestBody BulkPlanCommand command) {
+        BulkPlanResult result = bulkPlanner.plan(command);
+        return ResponseEntity.ok(Map.of(
+                "status", "success",
+                "committed", result.committed(),
+                "assignedCount", result.assigned().size(),
+                "unassignedCount", result.unassigned().size(),
+                "planMillis", result.planMillis(),
+                "commitMillis", result.commitMillis(),
+                "assigned", result.assigned(),
+                "unassigned", result.unassigned()
+        ));
+    }
+}
@@ -0,0 +1,42 @@
+package com.resume.transportation.controller;
+
+import com.resume.transportation.entity.RecurringSchedule;
+import com.resume.transportation.service.command.CreateRecurringScheduleCommand;
+import com.resume.transportation.service.recurring.RecurringScheduleService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+import java.util.Map;
+
+/**
+ * 반복 일정 API (셔틀 등 일정 간격 운행)
+ */
+@RestController
+@RequestMapping("/api/recurring-schedules")
+@RequiredArgsConstructor
+public class RecurringScheduleController {
+
+    private final RecurringScheduleService recurringScheduleService;
+
+    @PostMapping
+    public ResponseEntity<?> create(@RequestBody CreateRecurringScheduleCommand command) {
+        RecurringSchedule schedule = recurringScheduleService.create(command);
+        return ResponseEntity.ok(Map.of(
+                "status", "success",
+                "scheduleId", schedule.getId(),
+                "occurrences", schedule.getOccurrences(),
+                "lastEnd", schedule.getLastEnd(),
+                "message", "반복 일정 생성 성공"
+        ));
+    }
+
+    /**
+     * 회차 행 생성 즉시 실행 (운영용, 평소에는 주기 실행)
+     */
+    @PostMapping("/materialize")
+    public ResponseEntity<String> materialize() {
+        recurringScheduleService.materialize();
+        return ResponseEntity.ok("반복 일정 회차 생성 완료");
+    }
+}
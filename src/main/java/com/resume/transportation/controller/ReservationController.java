@@ -1,17 +1,36 @@
 package com.resume.transportation.controller;
 
-import com.resume.transportation.entity.Reservation;
+import com.resume.transportation.service.AssignmentService;
 import com.resume.transportation.service.ReservationService;
+import com.resume.transportation.service.command.AssignReservationCommand;
+import com.resume.transportation.service.command.CreateClaimReservationCommand;
+import com.resume.transportation.service.command.CreateItineraryCommand;
 import com.resume.transportation.service.command.CreateReservationCommand;
+import com.resume.transportation.service.command.RescheduleReservationCommand;
+import com.resume.transportation.service.hold.Hold;
+import com.resume.transportation.service.hold.HoldService;
+import com.resume.transportation.service.idempotency.IdempotencyService;
+import com.resume.transportation.service.idempotency.IdempotentResult;
 import com.resume.transportation.service.ratelimit.CircuitBreaker;
 import com.resume.transportation.service.ratelimit.DistributedRateLimiter;
 import com.resume.transportation.service.ratelimit.ResourceRateLimiter;
+import com.resume.transportation.service.result.ReservationResult;
+import com.resume.transportation.service.submission.Submission;
+import com.resume.transportation.service.submission.SubmissionService;
 import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
 
+import java.io.IOException;
+import java.time.Duration;
 import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
+import java.util.Optional;
 
 @RestController
 @RequestMapping("/api/reservations")
@@ -19,32 +38,238 @@ import java.util.Map;
 public class ReservationController {
     
     private final ReservationService reservationService;
+    private final AssignmentService assignmentService;
+    private final HoldService holdService;
+    private final IdempotencyService idempotencyService;
+    private final SubmissionService submissionService;
     private final ResourceRateLimiter localRateLimiter;
     private final DistributedRateLimiter distributedRateLimiter;
     
+    @Value("${transportation.submission.stream-timeout:30s}")
+    private Duration streamTimeout = Duration.ofSeconds(30);
+    
     /**
      * 예약 생성
+     * 실패 응답(400 / 409 / 429 + Retry-After / 500)은 ReservationExceptionHandler 참고
+     *
+     * Idempotency-Key 헤더가 있으면 같은 키의 재시도에 처음 결과를 그대로 돌려준다 (Idempotent-Replayed: true).
+     *
+     * 본문의 priority(VIP / ATHLETE / STANDARD, 생략 시 운영자 기준)로 수용 등급을 정한다 - 비동기 접수 /
+     * 부가 리소스 / 자동 배정 / 다구간 일정 예약도 같은 필드를 받는다 (PriorityAdmission).
      */
     @PostMapping
-    public ResponseEntity<?> createReservation(@RequestBody CreateReservationCommand command) {
-        try {
-            Reservation reservation = reservationService.createReservation(command);
+    public ResponseEntity<?> createReservation(
+            @RequestBody CreateReservationCommand command,
+            @RequestHeader(value = "Idempotency-Key", required = false) String idempotencyKey
+    ) {
+        if (idempotencyKey == null) {
+            ReservationResult result = reservationService.createReservation(command);
             return ResponseEntity.ok(Map.of(
                     "status", "success",
-                    "reservationId", reservation.getId(),
+                    "reservationId", result.reservationId(),
                     "message", "예약 생성 성공"
             ));
-        } catch (IllegalStateException e) {
-            return ResponseEntity.badRequest().body(Map.of(
-                    "status", "failed",
-                    "error", e.getMessage()
-            ));
-        } catch (Exception e) {
-            return ResponseEntity.internalServerError().body(Map.of(
-                    "status", "error",
-                    "error", "예약 생성 실패: " + e.getMessage()
-            ));
         }
+
+        IdempotentResult result = idempotencyService.execute(idempotencyKey, command.toString(),
+                () -> reservationService.createReservation(command).reservationId());
+        return ResponseEntity.ok()
+                .header("Idempotent-Replayed", String.valueOf(result.replayed()))
+                .body(Map.of(
+                        "status", "success",
+                        "reservationId", result.reservationId(),
+                        "message", "예약 생성 성공"
+                ));
+    }
+    
+    /**
+     * 비동기 예약 접수 (202 Accepted + ticketId, 처리 결과는 폴링 / 스트리밍으로 확인)
+     * 대기열이 밀려 있으면 429 SUBMISSION_QUEUE_FULL + Retry-After
+     */
+    @PostMapping("/async")
+    public ResponseEntity<?> submitReservation(@RequestBody CreateReservationCommand command) {
+        Submission submission = submissionService.submit(command);
+        String location = "/api/reservations/submissions/" + submission.ticketId();
+        return ResponseEntity.accepted()
+                .header("Location", location)
+                .body(Map.of(
+                        "status", "accepted",
+                        "ticketId", submission.ticketId(),
+                        "location", location,
+                        "message", "예약 접수 완료"
+                ));
+    }
+    
+    /**
+     * 비동기 접수 결과 조회 (폴링)
+     */
+    @GetMapping("/submissions/{ticketId}")
+    public ResponseEntity<?> getSubmission(@PathVariable String ticketId) {
+        return submissionService.find(ticketId)
+                .<ResponseEntity<?>>map(submission -> ResponseEntity.ok(submissionBody(submission)))
+                .orElseGet(ReservationController::submissionNotFound);
+    }
+    
+    /**
+     * 비동기 접수 결과 스트리밍 (SSE)
+     * 현재 상태를 "submission" 이벤트로 보내고, 처리가 끝나면 결과를 한 번 더 보낸 뒤 닫는다.
+     */
+    @GetMapping(value = "/submissions/{ticketId}/events", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    public ResponseEntity<?> streamSubmission(@PathVariable String ticketId) {
+        SseEmitter emitter = new SseEmitter(streamTimeout.toMillis());
+        Optional<Submission> current = submissionService.subscribe(ticketId, done -> {
+            try {
+                emitter.send(SseEmitter.event().name("submission").data(submissionBody(done)));
+                emitter.complete();
+            } catch (IOException | IllegalStateException e) {
+                emitter.completeWithError(e);
+            }
+        });
+        if (current.isEmpty()) {
+            return submissionNotFound();
+        }
+        
+        if (!current.get().isDone()) {
+            try {
+                emitter.send(SseEmitter.event().name("submission").data(submissionBody(current.get())));
+            } catch (IOException | IllegalStateException e) {
+                emitter.completeWithError(e);
+            }
+        }
+        return ResponseEntity.ok(emitter);
+    }
+    
+    /**
+     * 부가 리소스(에스코트 / 통역사 / 주차 구역)를 함께 점유하는 예약 생성
+     */
+    @PostMapping("/claims")
+    public ResponseEntity<?> createClaimReservation(@RequestBody CreateClaimReservationCommand command) {
+        ReservationResult result = reservationService.createReservation(command);
+        return ResponseEntity.ok(Map.of(
+                "status", "success",
+                "reservationId", result.reservationId(),
+                "message", "예약 생성 성공"
+        ));
+    }
+    
+    /**
+     * 자동 배정 예약 생성 (구간 / 시간만 지정, 차량과 디스패처는 서버가 선택)
+     */
+    @PostMapping("/assign")
+    public ResponseEntity<?> assignReservation(@RequestBody AssignReservationCommand command) {
+        ReservationResult result = assignmentService.assign(command);
+        return ResponseEntity.ok(Map.of(
+                "status", "success",
+                "reservationId", result.reservationId(),
+                "vehicleId", result.vehicleId(),
+                "dispatcherId", result.dispatcherId(),
+                "message", "예약 생성 성공"
+        ));
+    }
+    
+    /**
+     * 다구간 일정 예약 (같은 차량 / 디스패처, 전 구간 성공 또는 전 구간 실패)
+     */
+    @PostMapping("/itinerary")
+    public ResponseEntity<?> createItinerary(@RequestBody CreateItineraryCommand command) {
+        List<ReservationResult> results = reservationService.createItinerary(command);
+        return ResponseEntity.ok(Map.of(
+                "status", "success",
+                "reservationIds", results.stream().map(ReservationResult::reservationId).toList(),
+                "message", "예약 생성 성공"
+        ));
+    }
+    
+    /**
+     * 예약 시간 변경 (같은 차량 / 디스패처 / 구간, 제자리 이동)
+     */
+    @PatchMapping("/{reservationId}")
+    public ResponseEntity<?> reschedule(@PathVariable Long reservationId,
+                                        @RequestBody RescheduleReservationCommand command) {
+        ReservationResult result = reservationService.reschedule(reservationId, command);
+        return ResponseEntity.ok(Map.of(
+                "status", "success",
+                "reservationId", result.reservationId(),
+                "startTime", result.startTime().toString(),
+                "endTime", result.endTime().toString(),
+                "message", "예약 변경 성공"
+        ));
+    }
+    
+    /**
+     * 예약 취소
+     */
+    @DeleteMapping("/{reservationId}")
+    public ResponseEntity<?> cancel(@PathVariable Long reservationId) {
+        reservationService.cancel(reservationId);
+        return ResponseEntity.ok(Map.of("status", "success", "message", "예약 취소 완료"));
+    }
+    
+    /**
+     * 홀드 (TTL 동안 구간 선점, DB 행 없음)
+     */
+    @PostMapping("/holds")
+    public ResponseEntity<?> hold(@RequestBody CreateReservationCommand command) {
+        Hold hold = holdService.hold(command);
+        return ResponseEntity.ok(Map.of(
+                "status", "success",
+                "holdId", hold.holdId(),
+                "expiresAt", hold.expiresAt().toString(),
+                "message", "홀드 성공"
+        ));
+    }
+    
+    /**
+     * 홀드 확정 → 예약 생성
+     */
+    @PostMapping("/holds/{holdId}/confirm")
+    public ResponseEntity<?> confirmHold(@PathVariable String holdId) {
+        ReservationResult result = holdService.confirm(holdId);
+        return ResponseEntity.ok(Map.of(
+                "status", "success",
+                "reservationId", result.reservationId(),
+                "message", "예약 생성 성공"
+        ));
+    }
+    
+    /**
+     * 홀드 취소
+     */
+    @DeleteMapping("/holds/{holdId}")
+    public ResponseEntity<?> releaseHold(@PathVariable String holdId) {
+        holdService.release(holdId);
+        return ResponseEntity.ok(Map.of("status", "success", "message", "홀드 취소 완료"));
+    }
+    
+    private static Map<String, Object> submissionBody(Submission submission) {
+        Map<String, Object> body = new HashMap<>();
+        body.put("ticketId", submission.ticketId());
+        body.put("state", submission.state().name());
+        body.put("acceptedAt", submission.acceptedAt().toString());
+        switch (submission.state()) {
+            case QUEUED -> body.put("status", "queued");
+            case SUCCEEDED -> {
+                body.put("status", "success");
+                body.put("reservationId", submission.reservationId());
+                body.put("message", "예약 생성 성공");
+            }
+            case REJECTED, FAILED -> {
+                body.put("status", "failed");
+                body.put("reason", submission.reason());
+                body.put("error", submission.message());
+            }
+        }
+        if (submission.completedAt() != null) {
+            body.put("completedAt", submission.completedAt().toString());
+        }
+        return body;
+    }
+    
+    private static ResponseEntity<?> submissionNotFound() {
+        return ResponseEntity.status(HttpStatus.NOT_FOUND).body(Map.of(
+                "status", "failed",
+                "message", "접수 내역이 없거나 보관 기간이 지났습니다."
+        ));
     }
     
     /**
@@ -0,0 +1,113 @@
+package com.resume.transportation.controller;
+
+import com.resume.transportation.service.availability.Alternatives;
+import com.resume.transportation.service.exception.RejectReason;
+import com.resume.transportation.service.exception.ReservationRejectedException;
+import com.resume.transportation.service.ratelimit.RateLimitExceededException;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.ExceptionHandler;
+import org.springframework.web.bind.annotation.RestControllerAdvice;
+
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * 예약 / 배치 배정 / 반복 일정 API 예외 → HTTP 상태 매핑
+ *
+ * - 400 Bad Request : 요청 자체가 성립하지 않음 (INVALID) - 재시도 무의미
+ * - 409 Conflict    : 스케줄 충돌 (CONFLICT) - 시간/리소스를 바꿔서 요청
+ * - 429 Too Many    : 락 경합 / 일시적 거절 (BUSY) - Retry-After 후 같은 요청 재시도
+ * - 500             : 그 외 예상치 못한 오류
+ *
+ * 409 / 429에 대안이 첨부되어 있으면 alternatives로 함께 내려준다 (같은 슬롯 재시도 대신 옮겨 갈 후보).
+ */
+@RestControllerAdvice(assignableTypes = {
+        ReservationController.class,
+        PlanningController.class,
+        RecurringScheduleController.class
+})
+public class ReservationExceptionHandler {
+
+    private static final String RATE_LIMITED = "RATE_LIMITED";
+
+    @Value("${transportation.reservation.retry-after-seconds:1}")
+    private long retryAfterSeconds;
+
+    @ExceptionHandler(ReservationRejectedException.class)
+    public ResponseEntity<Map<String, Object>> handleRejected(ReservationRejectedException e) {
+        RejectReason reason = e.getReason();
+        return switch (reason.getCategory()) {
+            case INVALID -> failed(HttpStatus.BAD_REQUEST, reason.name(), e.getMessage());
+            case CONFLICT -> failed(HttpStatus.CONFLICT, reason.name(), e.getMessage(), e.getAlternatives());
+            case BUSY -> tooManyRequests(reason.name(), e.getMessage(), e.getAlternatives());
+        };
+    }
+
+    @ExceptionHandler(RateLimitExceededException.class)
+    public ResponseEntity<Map<String, Object>> handleRateLimited(RateLimitExceededException e) {
+        return tooManyRequests(RATE_LIMITED, e.getMessage(), e.getAlternatives());
+    }
+
+    @ExceptionHandler(IllegalStateException.class)
+    public ResponseEntity<Map<String, Object>> handleIllegalState(IllegalStateException e) {
+        return ResponseEntity.badRequest().body(Map.of(
+                "status", "failed",
+                "error", e.getMessage()
+        ));
+    }
+
+    @ExceptionHandler(Exception.class)
+    public ResponseEntity<Map<String, Object>> handleUnexpected(Exception e) {
+        return ResponseEntity.internalServerError().body(Map.of(
+                "status", "error",
+                "error", "예약 생성 실패: " + e.getMessage()
+        ));
+    }
+
+    private ResponseEntity<Map<String, Object>> tooManyRequests(String reason, String message, Alternatives alternatives) {
+        return ResponseEntity.status(HttpStatus.TOO_MANY_REQUESTS)
+                .header(HttpHeaders.RETRY_AFTER, String.valueOf(retryAfterSeconds))
+                .body(body(reason, message, alternatives));
+    }
+
+    private ResponseEntity<Map<String, Object>> failed(HttpStatus status, String reason, String message) {
+        return ResponseEntity.status(status).body(body(reason, message));
+    }
+
+    private ResponseEntity<Map<String, Object>> failed(HttpStatus status, String reason, String message,
+                                                       Alternatives alternatives) {
+        return ResponseEntity.status(status).body(body(reason, message, alternatives));
+    }
+
+    private Map<String, Object> body(String reason, String message) {
+        return Map.of(
+                "status", "failed",
+                "reason", reason,
+                "error", message
+        );
+    }
+
+    private Map<String, Object> body(String reason, String message, Alternatives alternatives) {
+        if (alternatives == null || alternatives.isEmpty()) {
+            return body(reason, message);
+        }
+
+        Map<String, Object> suggested = new HashMap<>();
+        if (alternatives.nextStartTime() != null) {
+            suggested.put("nextStartTime", alternatives.nextStartTime().toString());
+            suggested.put("nextEndTime", alternatives.nextEndTime().toString());
+        }
+        suggested.put("vehicleIds", alternatives.vehicleIds());
+        suggested.put("indexBuiltAt", alternatives.builtAt().toString());
+
+        return Map.of(
+                "status", "failed",
+                "reason", reason,
+                "error", message,
+                "alternatives", suggested
+        );
+    }
+}
@@ -0,0 +1,93 @@
+package com.resume.transportation.controller;
+
+import com.resume.transportation.service.store.shard.ShardDirectory;
+import com.resume.transportation.service.store.shard.ShardRebalancer;
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 샤드 운영 API (transportation.reservation.store=sharded 일 때만)
+ *
+ * DB 노드 추가 절차
+ * 1. transportation.sharding.shards 목록 끝에 새 샤드 추가 후 재시작
+ * 2. GET  /api/admin/shards/plan 으로 이동 계획 확인
+ * 3. POST /api/admin/shards/rebalance 실행
+ */
+@RestController
+@RequestMapping("/api/admin/shards")
+@RequiredArgsConstructor
+@ConditionalOnProperty(name = "transportation.reservation.store", havingValue = "sharded")
+public class ShardAdminController {
+
+    private final ShardDirectory shardDirectory;
+    private final ShardRebalancer shardRebalancer;
+
+    /**
+     * 샤드별 bucket 분포
+     */
+    @GetMapping
+    public ResponseEntity<Map<String, Object>> getShards() {
+        return ResponseEntity.ok(Map.of(
+                "buckets", shardDirectory.getBucketCount(),
+                "shards", shardDirectory.getShardCount(),
+                "bucketsByShard", shardDirectory.bucketCountsByShard(),
+                "movingBuckets", shardDirectory.movingBuckets()
+        ));
+    }
+
+    /**
+     * 리밸런싱 계획 (실행하지 않음)
+     */
+    @GetMapping("/plan")
+    public ResponseEntity<List<ShardRebalancer.BucketMove>> getPlan() {
+        return ResponseEntity.ok(shardRebalancer.plan());
+    }
+
+    /**
+     * 계획대로 전체 리밸런싱
+     */
+    @PostMapping("/rebalance")
+    public ResponseEntity<Map<String, Object>> rebalance() {
+        try {
+            List<ShardRebalancer.BucketMove> moves = shardRebalancer.rebalance();
+            return ResponseEntity.ok(Map.of(
+                    "status", "success",
+                    "moves", moves,
+                    "bucketsByShard", shardDirectory.bucketCountsByShard()
+            ));
+        } catch (IllegalStateException e) {
+            return ResponseEntity.badRequest().body(Map.of(
+                    "status", "failed",
+                    "error", e.getMessage()
+            ));
+        }
+    }
+
+    /**
+     * bucket 하나 이동
+     * POST /api/admin/shards/buckets/3/move?targetShard=2
+     */
+    @PostMapping("/buckets/{bucket}/move")
+    public ResponseEntity<Map<String, Object>> moveBucket(
+            @PathVariable int bucket,
+            @RequestParam int targetShard
+    ) {
+        try {
+            ShardRebalancer.BucketMove move = shardRebalancer.moveBucket(bucket, targetShard);
+            return ResponseEntity.ok(Map.of(
+                    "status", "success",
+                    "move", move
+            ));
+        } catch (IllegalArgumentException | IllegalStateException e) {
+            return ResponseEntity.badRequest().body(Map.of(
+                    "status", "failed",
+                    "error", e.getMessage()
+            ));
+        }
+    }
+}
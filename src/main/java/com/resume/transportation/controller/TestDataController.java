@@ -1,13 +1,19 @@
 package com.resume.transportation.controller;
 
+import com.resume.transportation.config.datasource.ReadConsistency;
+import com.resume.transportation.config.datasource.Workload;
+import com.resume.transportation.config.datasource.WorkloadContext;
 import com.resume.transportation.entity.User;
 import com.resume.transportation.entity.Vehicle;
 import com.resume.transportation.enums.Location;
 import com.resume.transportation.enums.UserRole;
 import com.resume.transportation.enums.VehicleStatus;
+import com.resume.transportation.repository.RecurringScheduleRepository;
 import com.resume.transportation.repository.ReservationRepository;
 import com.resume.transportation.repository.UserRepository;
 import com.resume.transportation.repository.VehicleRepository;
+import com.resume.transportation.service.ScheduleTailService;
+import com.resume.transportation.service.availability.ScheduleIndex;
 import lombok.RequiredArgsConstructor;
 import org.springframework.context.annotation.Profile;
 import org.springframework.http.ResponseEntity;
@@ -29,6 +35,9 @@ public class TestDataController {
     private final VehicleRepository vehicleRepository;
     private final UserRepository userRepository;
     private final ReservationRepository reservationRepository;
+    private final RecurringScheduleRepository recurringScheduleRepository;
+    private final ScheduleTailService scheduleTailService;
+    private final ScheduleIndex scheduleIndex;
 
     /**
      * 테스트 데이터 초기화
@@ -39,10 +48,13 @@ public class TestDataController {
             @RequestParam(defaultValue = "10") int vehicles,
             @RequestParam(defaultValue = "20") int dispatchers
     ) {
-        // 기존 데이터 삭제
-        reservationRepository.deleteAll();
-        vehicleRepository.deleteAll();
-        userRepository.deleteAll();
+        // 기존 데이터 삭제 (전체 테이블 작업 → REPORTING 풀)
+        WorkloadContext.run(Workload.REPORTING, () -> {
+            reservationRepository.deleteAll();
+            recurringScheduleRepository.deleteAll();
+            vehicleRepository.deleteAll();
+            userRepository.deleteAll();
+        });
 
         // Operator 생성
         User operator = userRepository.save(new User(UserRole.OPERATOR, "TestOperator"));
@@ -65,6 +77,10 @@ public class TestDataController {
             dispatcherIds.add(dispatcher.getId());
         }
 
+        // 새 리소스의 schedule tail 생성 (이력 없음)
+        scheduleTailService.backfill();
+        scheduleIndex.rebuild();
+
         return ResponseEntity.ok(Map.of(
                 "status", "success",
                 "operatorId", operator.getId(),
@@ -79,8 +95,14 @@ public class TestDataController {
      */
     @DeleteMapping("/reservations")
     public ResponseEntity<Map<String, Object>> clearReservations() {
-        long count = reservationRepository.count();
-        reservationRepository.deleteAll();
+        long count = WorkloadContext.call(Workload.REPORTING, () -> {
+            long deleted = ReadConsistency.primary(reservationRepository::count);
+            reservationRepository.deleteAll();
+            recurringScheduleRepository.deleteAll();
+            scheduleTailService.resetAll();
+            return deleted;
+        });
+        scheduleIndex.rebuild();
         return ResponseEntity.ok(Map.of(
                 "status", "success",
                 "deletedCount", count,
@@ -89,14 +111,14 @@ public class TestDataController {
     }
 
     /**
-     * 현재 데이터 통계
+     * 현재 데이터 통계 (count는 readOnly → replica, replica가 없으면 REPORTING 풀)
      */
     @GetMapping("/stats")
     public ResponseEntity<Map<String, Object>> getStats() {
-        return ResponseEntity.ok(Map.of(
+        return ResponseEntity.ok(WorkloadContext.call(Workload.REPORTING, () -> Map.of(
                 "vehicles", vehicleRepository.count(),
                 "users", userRepository.count(),
                 "reservations", reservationRepository.count()
-        ));
+        )));
     }
 }
@@ -0,0 +1,58 @@
+package com.resume.transportation.controller;
+
+import com.resume.transportation.service.TravelTimeService;
+import com.resume.transportation.service.travel.TravelTimeMatrix;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+import java.util.Map;
+
+/**
+ * 이동 시간 행렬 운영 API
+ *
+ * 파일 / DB를 수정한 뒤 refresh 주기를 기다리지 않고 즉시 반영하려면 POST /reload
+ */
+@RestController
+@RequestMapping("/api/admin/travel-times")
+@RequiredArgsConstructor
+public class TravelTimeAdminController {
+
+    private final TravelTimeService travelTimeService;
+
+    /**
+     * 현재 적용 중인 시간대별 최소 이동 시간 (경유 포함, 도달 가능한 구간만)
+     */
+    @GetMapping
+    public ResponseEntity<Map<String, Object>> getMatrix() {
+        TravelTimeMatrix matrix = travelTimeService.snapshot();
+        return ResponseEntity.ok(Map.of(
+                "source", travelTimeService.getSourceDescription(),
+                "version", matrix.getVersion(),
+                "routes", matrix.getRouteCount(),
+                "minutes", matrix.toMap()
+        ));
+    }
+
+    /**
+     * source 재로드 후 원자적 교체
+     */
+    @PostMapping("/reload")
+    public ResponseEntity<Map<String, Object>> reload() {
+        try {
+            boolean replaced = travelTimeService.reload();
+            TravelTimeMatrix matrix = travelTimeService.snapshot();
+            return ResponseEntity.ok(Map.of(
+                    "status", "success",
+                    "replaced", replaced,
+                    "version", matrix.getVersion(),
+                    "routes", matrix.getRouteCount()
+            ));
+        } catch (RuntimeException e) {
+            return ResponseEntity.badRequest().body(Map.of(
+                    "status", "failed",
+                    "error", e.getMessage()
+            ));
+        }
+    }
+}
@@ -0,0 +1,107 @@
+package com.resume.transportation.entity;
+
+import com.resume.transportation.entity.converter.EpochMinuteConverter;
+import com.resume.transportation.entity.converter.LocationCodeConverter;
+import com.resume.transportation.enums.Location;
+import com.resume.transportation.service.recurring.Recurrence;
+import jakarta.persistence.*;
+import lombok.Getter;
+
+import java.time.LocalDateTime;
+
+/**
+ * 반복 일정 규칙 (셔틀: 같은 구간을 period 간격으로 반복)
+ *
+ * 회차는 행으로 펼치지 않고 Recurrence 산술로 겹침 / 위치를 계산한다.
+ * 실행이 가까운 회차만 reservation 행으로 생성한다 (materializedUntil 이전에 시작하는 회차는 생성 완료).
+ *
+ * lastEnd: 마지막 회차 종료 시각 (범위 조회 인덱스용, 규칙에서 계산된 값)
+ */
+@Getter
+@Entity
+@Table(name = "recurring_schedule",
+        indexes = {
+                @Index(name = "idx_recurring_vehicle",
+                        columnList = "vehicleId, active, firstStart"),
+                @Index(name = "idx_recurring_dispatcher",
+                        columnList = "dispatcherId, active, firstStart")
+        })
+public class RecurringSchedule {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(nullable = false)
+    private Long operatorId;
+
+    @Column(nullable = false)
+    private Long vehicleId;
+
+    @Column(nullable = false)
+    private Long dispatcherId;
+
+    @Convert(converter = LocationCodeConverter.class)
+    @Column(nullable = false)
+    private Location fromLocation;
+
+    @Convert(converter = LocationCodeConverter.class)
+    @Column(nullable = false)
+    private Location toLocation;
+
+    @Convert(converter = EpochMinuteConverter.class)
+    @Column(nullable = false)
+    private LocalDateTime firstStart;
+
+    @Convert(converter = EpochMinuteConverter.class)
+    @Column(nullable = false)
+    private LocalDateTime lastEnd;
+
+    @Column(nullable = false)
+    private int periodMinutes;
+
+    @Column(nullable = false)
+    private int durationMinutes;
+
+    @Column(nullable = false)
+    private int occurrences;
+
+    @Convert(converter = EpochMinuteConverter.class)
+    @Column(nullable = false)
+    private LocalDateTime materializedUntil;
+
+    @Column(nullable = false)
+    private boolean active;
+
+    protected RecurringSchedule() {
+    }
+
+    public static RecurringSchedule create(
+            Long operatorId,
+            Long vehicleId,
+            Long dispatcherId,
+            Location fromLocation,
+            Location toLocation,
+            Recurrence recurrence
+    ) {
+        RecurringSchedule schedule = new RecurringSchedule();
+        schedule.operatorId = operatorId;
+        schedule.vehicleId = vehicleId;
+        schedule.dispatcherId = dispatcherId;
+        schedule.fromLocation = fromLocation;
+        schedule.toLocation = toLocation;
+        schedule.firstStart = EpochMinuteConverter.fromEpochMinute(recurrence.firstStart());
+        schedule.lastEnd = EpochMinuteConverter.fromEpochMinute(recurrence.lastEnd());
+        schedule.periodMinutes = recurrence.periodMinutes();
+        schedule.durationMinutes = recurrence.durationMinutes();
+        schedule.occurrences = recurrence.count();
+        schedule.materializedUntil = schedule.firstStart;
+        schedule.active = true;
+        return schedule;
+    }
+
+    public Recurrence toRecurrence() {
+        return new Recurrence(EpochMinuteConverter.toEpochMinute(firstStart),
+                periodMinutes, durationMinutes, occurrences);
+    }
+}
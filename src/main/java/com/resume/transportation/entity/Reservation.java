@@ -1,11 +1,16 @@
 package com.resume.transportation.entity;
 
+import com.resume.transportation.entity.converter.EpochMinuteConverter;
+import com.resume.transportation.entity.converter.LocationCodeConverter;
+import com.resume.transportation.entity.converter.ReservationStatusCodeConverter;
 import com.resume.transportation.enums.Location;
 import com.resume.transportation.enums.ReservationStatus;
 import jakarta.persistence.*;
+import lombok.Getter;
 
 import java.time.LocalDateTime;
 
+@Getter
 @Entity
 @Table(name = "reservation",
         indexes = {
@@ -18,7 +23,12 @@ import java.time.LocalDateTime;
                 @Index(name = "idx_reservation_vehicle_time",
                         columnList = "vehicle_id, status, startTime, endTime"),
                 @Index(name = "idx_reservation_dispatcher_time",
-                        columnList = "dispatcher_id, status, startTime, endTime")
+                        columnList = "dispatcher_id, status, startTime, endTime"),
+                // 마지막 위치 조회 기준점 - clustered-by-resource 레이아웃은 같은 이름의 커버링 인덱스로 교체한다
+                @Index(name = "idx_reservation_vehicle_end",
+                        columnList = "vehicle_id, endTime"),
+                @Index(name = "idx_reservation_dispatcher_end",
+                        columnList = "dispatcher_id, endTime")
         }
 //        uniqueConstraints = {
 //                @UniqueConstraint(
@@ -33,10 +43,6 @@ public class Reservation {
     @GeneratedValue(strategy = GenerationType.IDENTITY)
     private Long id;
 
-    public Long getId() {
-        return id;
-    }
-
     @ManyToOne(fetch = FetchType.LAZY, optional = false)
     @JoinColumn(name = "operator_id", nullable = false)
     private User operator;
@@ -49,21 +55,27 @@ public class Reservation {
     @JoinColumn(name = "vehicle_id", nullable = false)
     private Vehicle vehicle;
 
-    @Enumerated(EnumType.STRING)
-    @Column(nullable = false, length = 30)
+    /*
+     * 압축 인코딩: 장소/상태는 TINYINT 코드, 시작/종료는 epoch-minute INT
+     * → 복합 인덱스(idx_reservation_*_time) 엔트리 크기 축소
+     */
+    @Convert(converter = LocationCodeConverter.class)
+    @Column(nullable = false)
     private Location fromLocation;
 
-    @Enumerated(EnumType.STRING)
-    @Column(nullable = false, length = 30)
+    @Convert(converter = LocationCodeConverter.class)
+    @Column(nullable = false)
     private Location toLocation;
 
-    @Enumerated(EnumType.STRING)
-    @Column(nullable = false, length = 20)
+    @Convert(converter = ReservationStatusCodeConverter.class)
+    @Column(nullable = false)
     private ReservationStatus status;
 
+    @Convert(converter = EpochMinuteConverter.class)
     @Column(nullable = false)
     private LocalDateTime startTime;
 
+    @Convert(converter = EpochMinuteConverter.class)
     @Column(nullable = false)
     private LocalDateTime endTime;
 
@@ -116,6 +128,15 @@ public class Reservation {
         this.updatedAt = LocalDateTime.now();
     }
 
+    /**
+     * 시간만 변경 (차량 / 디스패처 / 구간은 그대로) - flush 시 @Version 조건으로 UPDATE
+     */
+    public void reschedule(LocalDateTime startTime, LocalDateTime endTime) {
+        this.startTime = startTime;
+        this.endTime = endTime;
+        this.updatedAt = LocalDateTime.now();
+    }
+
     public void changeStatus(ReservationStatus status) {
         this.status = status;
         this.updatedAt = LocalDateTime.now();
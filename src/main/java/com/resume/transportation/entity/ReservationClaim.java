@@ -0,0 +1,85 @@
+package com.resume.transportation.entity;
+
+import com.resume.transportation.entity.converter.ClaimTypeCodeConverter;
+import com.resume.transportation.entity.converter.EpochMinuteConverter;
+import com.resume.transportation.enums.ClaimType;
+import jakarta.persistence.*;
+import lombok.Getter;
+
+import java.io.Serializable;
+import java.time.LocalDateTime;
+import java.util.Objects;
+
+/**
+ * 예약별 부가 리소스 점유 구간 (에스코트 / 통역사 / 주차 구역 ...)
+ *
+ * 리소스 종류가 늘어도 테이블 / 인덱스 / overlap 쿼리는 그대로다 (종류는 resource_type 코드 값).
+ * 읽기 / 쓰기는 ClaimStore(JdbcTemplate)가 담당하고, 이 엔티티는 스키마 정의용이다.
+ * 취소는 행 삭제이므로 상태 컬럼은 두지 않는다 (시간 값은 reservation과 같은 epoch-minute).
+ */
+@Getter
+@Entity
+@Table(name = "reservation_claim",
+        indexes = {
+                @Index(name = "idx_claim_resource_time",
+                        columnList = "resource_type, resource_id, startTime, endTime")
+        })
+@IdClass(ReservationClaim.Key.class)
+public class ReservationClaim {
+
+    @Id
+    @Column(name = "reservation_id")
+    private Long reservationId;
+
+    @Id
+    @Convert(converter = ClaimTypeCodeConverter.class)
+    @Column(name = "resource_type")
+    private ClaimType resourceType;
+
+    @Id
+    @Column(name = "resource_id")
+    private Long resourceId;
+
+    @Convert(converter = EpochMinuteConverter.class)
+    @Column(nullable = false)
+    private LocalDateTime startTime;
+
+    @Convert(converter = EpochMinuteConverter.class)
+    @Column(nullable = false)
+    private LocalDateTime endTime;
+
+    protected ReservationClaim() {
+    }
+
+    /**
+     * 복합 PK (reservationId, resourceType, resourceId)
+     */
+    public static class Key implements Serializable {
+        private Long reservationId;
+        private ClaimType resourceType;
+        private Long resourceId;
+
+        protected Key() {
+        }
+
+        public Key(Long reservationId, ClaimType resourceType, Long resourceId) {
+            this.reservationId = reservationId;
+            this.resourceType = resourceType;
+            this.resourceId = resourceId;
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (this == o) return true;
+            if (!(o instanceof Key key)) return false;
+            return Objects.equals(reservationId, key.reservationId)
+                    && resourceType == key.resourceType
+                    && Objects.equals(resourceId, key.resourceId);
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hash(reservationId, resourceType, resourceId);
+        }
+    }
+}
@@ -0,0 +1,101 @@
+package com.resume.transportation.entity;
+
+import com.resume.transportation.entity.converter.EpochMinuteConverter;
+import com.resume.transportation.entity.converter.LocationCodeConverter;
+import com.resume.transportation.enums.Location;
+import com.resume.transportation.enums.ResourceType;
+import jakarta.persistence.*;
+import lombok.Getter;
+
+import java.io.Serializable;
+import java.time.LocalDateTime;
+import java.util.Objects;
+
+/**
+ * 리소스(차량/디스패처)별 스케줄 끝(tail) 프로젝션
+ *
+ * 가장 늦게 끝나는 예약의 도착 위치/종료 시간만 보관한다.
+ * 예약 INSERT/DELETE와 같은 트랜잭션에서 갱신되며,
+ * 스케줄 끝에 붙는 예약은 PK 조회 1회로 출발 위치를 검증할 수 있다.
+ *
+ * lastEndTime == null: 추적 중이지만 예약 이력이 없음 (기준 위치 사용)
+ */
+@Getter
+@Entity
+@Table(name = "resource_schedule_tail")
+@IdClass(ScheduleTail.Key.class)
+public class ScheduleTail {
+
+    @Id
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false, length = 20)
+    private ResourceType resourceType;
+
+    @Id
+    private Long resourceId;
+
+    /*
+     * reservation과 같은 압축 인코딩 (backfill이 컬럼 값을 그대로 복사)
+     */
+    @Convert(converter = LocationCodeConverter.class)
+    private Location lastLocation;
+
+    @Convert(converter = EpochMinuteConverter.class)
+    private LocalDateTime lastEndTime;
+
+    private Long reservationId;
+
+    protected ScheduleTail() {
+    }
+
+    /**
+     * startTime 이전(포함)에 스케줄이 끝나는지 여부
+     * true면 tail의 위치가 곧 startTime 시점의 위치
+     */
+    public boolean endsAtOrBefore(LocalDateTime time) {
+        return lastEndTime == null || !lastEndTime.isAfter(time);
+    }
+
+    /**
+     * 삭제 등으로 tail이 바뀐 경우 재계산 결과 반영
+     */
+    public void moveTo(Reservation latest) {
+        if (latest == null) {
+            this.lastLocation = null;
+            this.lastEndTime = null;
+            this.reservationId = null;
+            return;
+        }
+        this.lastLocation = latest.getToLocation();
+        this.lastEndTime = latest.getEndTime();
+        this.reservationId = latest.getId();
+    }
+
+    /**
+     * 복합 PK (resourceType, resourceId)
+     */
+    public static class Key implements Serializable {
+        private ResourceType resourceType;
+        private Long resourceId;
+
+        protected Key() {
+        }
+
+        public Key(ResourceType resourceType, Long resourceId) {
+            this.resourceType = resourceType;
+            this.resourceId = resourceId;
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (this == o) return true;
+            if (!(o instanceof Key key)) return false;
+            return resourceType == key.resourceType && Objects.equals(resourceId, key.resourceId);
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hash(resourceType, resourceId);
+        }
+    }
+}
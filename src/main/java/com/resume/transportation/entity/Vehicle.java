@@ -26,6 +26,12 @@ public class Vehicle {
     @Column(nullable = false, length = 20)
     private VehicleStatus status; // IDLE, MOVING
 
+    /**
+     * 동시 탑승 가능한 예약 수 (1 = 전용 차량, 2 이상 = 합승 셔틀)
+     */
+    @Column(nullable = false, columnDefinition = "int default 1")
+    private int capacity = 1;
+
     protected Vehicle() {
     }
 
@@ -34,6 +40,11 @@ public class Vehicle {
         this.status = status;
     }
 
+    public Vehicle(Location baseLocation, VehicleStatus status, int capacity) {
+        this(baseLocation, status);
+        this.capacity = capacity;
+    }
+
     public void moveTo(Location location) {
         this.baseLocation = location;
         this.status = VehicleStatus.MOVING;
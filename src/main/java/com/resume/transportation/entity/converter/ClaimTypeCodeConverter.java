@@ -0,0 +1,22 @@
+package com.resume.transportation.entity.converter;
+
+import com.resume.transportation.enums.ClaimType;
+import jakarta.persistence.AttributeConverter;
+import jakarta.persistence.Converter;
+
+/**
+ * ClaimType ↔ TINYINT 코드 변환
+ */
+@Converter
+public class ClaimTypeCodeConverter implements AttributeConverter<ClaimType, Byte> {
+
+    @Override
+    public Byte convertToDatabaseColumn(ClaimType type) {
+        return type == null ? null : type.getCode();
+    }
+
+    @Override
+    public ClaimType convertToEntityAttribute(Byte code) {
+        return code == null ? null : ClaimType.fromCode(code);
+    }
+}
@@ -0,0 +1,37 @@
+package com.resume.transportation.entity.converter;
+
+import jakarta.persistence.AttributeConverter;
+import jakarta.persistence.Converter;
+
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+
+/**
+ * LocalDateTime ↔ epoch-minute(INT) 변환
+ *
+ * - 타임존 없는 LocalDateTime을 UTC 기준 벽시계 값으로 그대로 환산 (타임존 변환 없음)
+ * - 예약 시각은 명령 생성 시점에 분 단위로 맞춰져 들어오므로(시작 내림 / 종료 올림) 저장 값에서 잘리는 것은 없다
+ *   분 미만 절삭(내림)은 조회 경계값(now 등)에만 적용된다
+ * - INT 범위로 서기 6000년대까지 표현 가능
+ */
+@Converter
+public class EpochMinuteConverter implements AttributeConverter<LocalDateTime, Integer> {
+
+    @Override
+    public Integer convertToDatabaseColumn(LocalDateTime time) {
+        return time == null ? null : toEpochMinute(time);
+    }
+
+    @Override
+    public LocalDateTime convertToEntityAttribute(Integer epochMinute) {
+        return epochMinute == null ? null : fromEpochMinute(epochMinute);
+    }
+
+    public static int toEpochMinute(LocalDateTime time) {
+        return Math.toIntExact(Math.floorDiv(time.toEpochSecond(ZoneOffset.UTC), 60));
+    }
+
+    public static LocalDateTime fromEpochMinute(int epochMinute) {
+        return LocalDateTime.ofEpochSecond(epochMinute * 60L, 0, ZoneOffset.UTC);
+    }
+}
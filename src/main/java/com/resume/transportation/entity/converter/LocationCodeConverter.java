@@ -0,0 +1,22 @@
+package com.resume.transportation.entity.converter;
+
+import com.resume.transportation.enums.Location;
+import jakarta.persistence.AttributeConverter;
+import jakarta.persistence.Converter;
+
+/**
+ * Location ↔ TINYINT 코드 변환
+ */
+@Converter
+public class LocationCodeConverter implements AttributeConverter<Location, Byte> {
+
+    @Override
+    public Byte convertToDatabaseColumn(Location location) {
+        return location == null ? null : location.getCode();
+    }
+
+    @Override
+    public Location convertToEntityAttribute(Byte code) {
+        return code == null ? null : Location.fromCode(code);
+    }
+}
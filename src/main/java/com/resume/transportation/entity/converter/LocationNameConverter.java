@@ -0,0 +1,22 @@
+package com.resume.transportation.entity.converter;
+
+import com.resume.transportation.enums.Location;
+import jakarta.persistence.AttributeConverter;
+import jakarta.persistence.Converter;
+
+/**
+ * Location ↔ VARCHAR 이름 변환 (legacy 인코딩, META-INF/orm-legacy-encoding.xml)
+ */
+@Converter
+public class LocationNameConverter implements AttributeConverter<Location, String> {
+
+    @Override
+    public String convertToDatabaseColumn(Location location) {
+        return location == null ? null : location.name();
+    }
+
+    @Override
+    public Location convertToEntityAttribute(String name) {
+        return name == null ? null : Location.valueOf(name);
+    }
+}
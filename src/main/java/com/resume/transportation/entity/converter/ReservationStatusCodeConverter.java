@@ -0,0 +1,22 @@
+package com.resume.transportation.entity.converter;
+
+import com.resume.transportation.enums.ReservationStatus;
+import jakarta.persistence.AttributeConverter;
+import jakarta.persistence.Converter;
+
+/**
+ * ReservationStatus ↔ TINYINT 코드 변환
+ */
+@Converter
+public class ReservationStatusCodeConverter implements AttributeConverter<ReservationStatus, Byte> {
+
+    @Override
+    public Byte convertToDatabaseColumn(ReservationStatus status) {
+        return status == null ? null : status.getCode();
+    }
+
+    @Override
+    public ReservationStatus convertToEntityAttribute(Byte code) {
+        return code == null ? null : ReservationStatus.fromCode(code);
+    }
+}
@@ -0,0 +1,22 @@
+package com.resume.transportation.entity.converter;
+
+import com.resume.transportation.enums.ReservationStatus;
+import jakarta.persistence.AttributeConverter;
+import jakarta.persistence.Converter;
+
+/**
+ * ReservationStatus ↔ VARCHAR 이름 변환 (legacy 인코딩, META-INF/orm-legacy-encoding.xml)
+ */
+@Converter
+public class ReservationStatusNameConverter implements AttributeConverter<ReservationStatus, String> {
+
+    @Override
+    public String convertToDatabaseColumn(ReservationStatus status) {
+        return status == null ? null : status.name();
+    }
+
+    @Override
+    public ReservationStatus convertToEntityAttribute(String name) {
+        return name == null ? null : ReservationStatus.valueOf(name);
+    }
+}
@@ -0,0 +1,30 @@
+package com.resume.transportation.enums;
+
+/**
+ * 예약에 함께 묶는 부가 리소스 종류 (차량 / 디스패처 외)
+ * code: reservation_claim.resource_type(TINYINT) 고정 코드 - 절대 변경 금지
+ */
+public enum ClaimType {
+    ESCORT(1),
+    INTERPRETER(2),
+    PARKING_BAY(3);
+
+    private final byte code;
+
+    ClaimType(int code) {
+        this.code = (byte) code;
+    }
+
+    public byte getCode() {
+        return code;
+    }
+
+    public static ClaimType fromCode(byte code) {
+        for (ClaimType type : values()) {
+            if (type.code == code) {
+                return type;
+            }
+        }
+        throw new IllegalArgumentException("알 수 없는 ClaimType 코드: " + code);
+    }
+}
@@ -1,10 +1,39 @@
 package com.resume.transportation.enums;
 
+/**
+ * 장소
+ * code: 압축 컬럼 인코딩(TINYINT)용 고정 코드 - ordinal과 무관하게 절대 변경 금지
+ */
 public enum Location {
-    AIRPORT,
-    VENUE_ONE,
-    VENUE_TWO,
-    VENUE_THREE,
-    HOTEL,
-    ETC
+    AIRPORT(1),
+    VENUE_ONE(2),
+    VENUE_TWO(3),
+    VENUE_THREE(4),
+    HOTEL(5),
+    ETC(6);
+
+    private static final Location[] BY_CODE = new Location[7];
+
+    static {
+        for (Location location : values()) {
+            BY_CODE[location.code] = location;
+        }
+    }
+
+    private final byte code;
+
+    Location(int code) {
+        this.code = (byte) code;
+    }
+
+    public byte getCode() {
+        return code;
+    }
+
+    public static Location fromCode(byte code) {
+        if (code <= 0 || code >= BY_CODE.length || BY_CODE[code] == null) {
+            throw new IllegalArgumentException("알 수 없는 Location 코드: " + code);
+        }
+        return BY_CODE[code];
+    }
 }
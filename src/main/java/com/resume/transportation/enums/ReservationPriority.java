@@ -0,0 +1,19 @@
+package com.resume.transportation.enums;
+
+/**
+ * 예약 수용 우선순위 (선언 순서 = 높은 등급 먼저)
+ *
+ * 과부하 시 낮은 등급부터 대기 / 거절되고, 높은 등급은 남겨 둔 여유분으로 진입한다.
+ */
+public enum ReservationPriority {
+    VIP,
+    ATHLETE,
+    STANDARD;
+
+    /**
+     * 메트릭 태그 값
+     */
+    public String tag() {
+        return name().toLowerCase();
+    }
+}
@@ -1,7 +1,40 @@
 package com.resume.transportation.enums;
 
+import java.util.Collections;
+import java.util.EnumSet;
+import java.util.Set;
+
+/**
+ * 예약 상태
+ * code: 압축 컬럼 인코딩(TINYINT)용 고정 코드 - 절대 변경 금지
+ */
 public enum ReservationStatus {
-    CREATED,
-    IN_PROGRESS,
-    DONE
+    CREATED(1),
+    IN_PROGRESS(2),
+    DONE(3);
+
+    /**
+     * 시간 겹침 검증 대상 상태
+     */
+    public static final Set<ReservationStatus> ACTIVE =
+            Collections.unmodifiableSet(EnumSet.of(CREATED, IN_PROGRESS));
+
+    private final byte code;
+
+    ReservationStatus(int code) {
+        this.code = (byte) code;
+    }
+
+    public byte getCode() {
+        return code;
+    }
+
+    public static ReservationStatus fromCode(byte code) {
+        for (ReservationStatus status : values()) {
+            if (status.code == code) {
+                return status;
+            }
+        }
+        throw new IllegalArgumentException("알 수 없는 ReservationStatus 코드: " + code);
+    }
 }
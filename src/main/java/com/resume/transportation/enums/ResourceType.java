@@ -0,0 +1,6 @@
+package com.resume.transportation.enums;
+
+public enum ResourceType {
+    VEHICLE,
+    DISPATCHER
+}
@@ -0,0 +1,44 @@
+package com.resume.transportation.repository;
+
+import com.resume.transportation.entity.RecurringSchedule;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+public interface RecurringScheduleRepository extends JpaRepository<RecurringSchedule, Long> {
+
+    /**
+     * horizon 이전에 시작하는 회차 중 아직 행으로 생성되지 않은 것이 있는 규칙
+     */
+    @Query("""
+                select s from RecurringSchedule s
+                 where s.active = true
+                   and s.materializedUntil < s.lastEnd
+                   and s.materializedUntil < :horizon
+            """)
+    List<RecurringSchedule> findMaterializable(@Param("horizon") LocalDateTime horizon);
+
+    /**
+     * 생성 구간 선점 (materializedUntil CAS) - 여러 서버가 같은 회차를 중복 생성하지 않도록
+     *
+     * @return 1이면 선점 성공
+     */
+    @Transactional
+    @Modifying
+    @Query("""
+                update RecurringSchedule s
+                   set s.materializedUntil = :next
+                 where s.id = :id
+                   and s.materializedUntil = :current
+            """)
+    int moveMaterializedUntil(
+            @Param("id") Long id,
+            @Param("current") LocalDateTime current,
+            @Param("next") LocalDateTime next
+    );
+}
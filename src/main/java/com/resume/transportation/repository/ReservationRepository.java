@@ -2,43 +2,68 @@ package com.resume.transportation.repository;
 
 import com.resume.transportation.entity.Reservation;
 import com.resume.transportation.enums.Location;
+import com.resume.transportation.enums.ReservationStatus;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 
 import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 
+/**
+ * 예약 조회/검증 쿼리
+ * status는 TINYINT 코드로 저장되므로 문자열 리터럴 대신 파라미터로 바인딩한다.
+ * (컨버터가 적용되도록 default 메서드에서 ReservationStatus.ACTIVE 전달)
+ */
 public interface ReservationRepository extends JpaRepository<Reservation, Long> {
     @Query("""
                 select count(r) > 0
                 from Reservation r
                 where r.vehicle.id = :vehicleId
-                  and r.status in ('CREATED','IN_PROGRESS')
+                  and r.status in :activeStatuses
                   and r.startTime < :endTime
                   and r.endTime > :startTime
             """)
     boolean existsVehicleOverlap(
             @Param("vehicleId") Long vehicleId,
             @Param("startTime") LocalDateTime startTime,
-            @Param("endTime") LocalDateTime endTime
+            @Param("endTime") LocalDateTime endTime,
+            @Param("activeStatuses") Collection<ReservationStatus> activeStatuses
     );
 
+    default boolean existsVehicleOverlap(
+            Long vehicleId,
+            LocalDateTime startTime,
+            LocalDateTime endTime
+    ) {
+        return existsVehicleOverlap(vehicleId, startTime, endTime, ReservationStatus.ACTIVE);
+    }
+
     @Query("""
                 select count(r) > 0
                 from Reservation r
                 where r.dispatcher.id = :dispatcherId
-                  and r.status in ('CREATED','IN_PROGRESS')
+                  and r.status in :activeStatuses
                   and r.startTime < :endTime
                   and r.endTime > :startTime
             """)
     boolean existsDispatcherOverlap(
             @Param("dispatcherId") Long dispatcherId,
             @Param("startTime") LocalDateTime startTime,
-            @Param("endTime") LocalDateTime endTime
+            @Param("endTime") LocalDateTime endTime,
+            @Param("activeStatuses") Collection<ReservationStatus> activeStatuses
     );
 
+    default boolean existsDispatcherOverlap(
+            Long dispatcherId,
+            LocalDateTime startTime,
+            LocalDateTime endTime
+    ) {
+        return existsDispatcherOverlap(dispatcherId, startTime, endTime, ReservationStatus.ACTIVE);
+    }
+
     /* ===============================
        특정 시점 기준 마지막 위치 조회
        =============================== */
@@ -69,6 +94,32 @@ public interface ReservationRepository extends JpaRepository<Reservation, Long>
             Pageable pageable
     );
 
+    /* ===============================
+       schedule tail 재계산용: 종료 시간 기준 가장 마지막 예약
+       =============================== */
+
+    @Query("""
+                select r
+                from Reservation r
+                where r.vehicle.id = :vehicleId
+                order by r.endTime desc, r.id desc
+            """)
+    List<Reservation> findVehicleLatest(
+            @Param("vehicleId") Long vehicleId,
+            Pageable pageable
+    );
+
+    @Query("""
+                select r
+                from Reservation r
+                where r.dispatcher.id = :dispatcherId
+                order by r.endTime desc, r.id desc
+            """)
+    List<Reservation> findDispatcherLatest(
+            @Param("dispatcherId") Long dispatcherId,
+            Pageable pageable
+    );
+
     /* ===============================
        선점 후 검증용: 자기보다 먼저 생성된 예약 중 overlap 체크
        - id < excludeId 조건으로 먼저 INSERT된 예약만 확인
@@ -80,7 +131,7 @@ public interface ReservationRepository extends JpaRepository<Reservation, Long>
                 from Reservation r
                 where r.vehicle.id = :vehicleId
                   and r.id < :excludeId
-                  and r.status in ('CREATED','IN_PROGRESS')
+                  and r.status in :activeStatuses
                   and r.startTime < :endTime
                   and r.endTime > :startTime
             """)
@@ -88,15 +139,25 @@ public interface ReservationRepository extends JpaRepository<Reservation, Long>
             @Param("vehicleId") Long vehicleId,
             @Param("excludeId") Long excludeId,
             @Param("startTime") LocalDateTime startTime,
-            @Param("endTime") LocalDateTime endTime
+            @Param("endTime") LocalDateTime endTime,
+            @Param("activeStatuses") Collection<ReservationStatus> activeStatuses
     );
 
+    default boolean existsVehicleOverlapExcluding(
+            Long vehicleId,
+            Long excludeId,
+            LocalDateTime startTime,
+            LocalDateTime endTime
+    ) {
+        return existsVehicleOverlapExcluding(vehicleId, excludeId, startTime, endTime, ReservationStatus.ACTIVE);
+    }
+
     @Query("""
                 select count(r) > 0
                 from Reservation r
                 where r.dispatcher.id = :dispatcherId
                   and r.id < :excludeId
-                  and r.status in ('CREATED','IN_PROGRESS')
+                  and r.status in :activeStatuses
                   and r.startTime < :endTime
                   and r.endTime > :startTime
             """)
@@ -104,6 +165,72 @@ public interface ReservationRepository extends JpaRepository<Reservation, Long>
             @Param("dispatcherId") Long dispatcherId,
             @Param("excludeId") Long excludeId,
             @Param("startTime") LocalDateTime startTime,
-            @Param("endTime") LocalDateTime endTime
+            @Param("endTime") LocalDateTime endTime,
+            @Param("activeStatuses") Collection<ReservationStatus> activeStatuses
+    );
+
+    default boolean existsDispatcherOverlapExcluding(
+            Long dispatcherId,
+            Long excludeId,
+            LocalDateTime startTime,
+            LocalDateTime endTime
+    ) {
+        return existsDispatcherOverlapExcluding(dispatcherId, excludeId, startTime, endTime, ReservationStatus.ACTIVE);
+    }
+
+    /* ===============================
+       제자리 이동 검증용: 자기 자신을 제외한 모든 활성 예약과의 overlap 체크
+       =============================== */
+
+    @Query("""
+                select count(r) > 0
+                from Reservation r
+                where r.vehicle.id = :vehicleId
+                  and r.id <> :reservationId
+                  and r.status in :activeStatuses
+                  and r.startTime < :endTime
+                  and r.endTime > :startTime
+            """)
+    boolean existsVehicleOverlapOther(
+            @Param("vehicleId") Long vehicleId,
+            @Param("reservationId") Long reservationId,
+            @Param("startTime") LocalDateTime startTime,
+            @Param("endTime") LocalDateTime endTime,
+            @Param("activeStatuses") Collection<ReservationStatus> activeStatuses
     );
+
+    default boolean existsVehicleOverlapOther(
+            Long vehicleId,
+            Long reservationId,
+            LocalDateTime startTime,
+            LocalDateTime endTime
+    ) {
+        return existsVehicleOverlapOther(vehicleId, reservationId, startTime, endTime, ReservationStatus.ACTIVE);
+    }
+
+    @Query("""
+                select count(r) > 0
+                from Reservation r
+                where r.dispatcher.id = :dispatcherId
+                  and r.id <> :reservationId
+                  and r.status in :activeStatuses
+                  and r.startTime < :endTime
+                  and r.endTime > :startTime
+            """)
+    boolean existsDispatcherOverlapOther(
+            @Param("dispatcherId") Long dispatcherId,
+            @Param("reservationId") Long reservationId,
+            @Param("startTime") LocalDateTime startTime,
+            @Param("endTime") LocalDateTime endTime,
+            @Param("activeStatuses") Collection<ReservationStatus> activeStatuses
+    );
+
+    default boolean existsDispatcherOverlapOther(
+            Long dispatcherId,
+            Long reservationId,
+            LocalDateTime startTime,
+            LocalDateTime endTime
+    ) {
+        return existsDispatcherOverlapOther(dispatcherId, reservationId, startTime, endTime, ReservationStatus.ACTIVE);
+    }
 }
@@ -0,0 +1,9 @@
+package com.resume.transportation.repository;
+
+import com.resume.transportation.enums.Location;
+
+/**
+ * 리소스 id + 기준 위치 프로젝션 (baseLocation은 null일 수 있음)
+ */
+public record ResourceBaseLocation(Long id, Location baseLocation) {
+}
@@ -0,0 +1,98 @@
+package com.resume.transportation.repository;
+
+import com.resume.transportation.entity.ScheduleTail;
+import com.resume.transportation.enums.Location;
+import com.resume.transportation.enums.ResourceType;
+import jakarta.persistence.LockModeType;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.time.LocalDateTime;
+import java.util.Optional;
+
+public interface ScheduleTailRepository extends JpaRepository<ScheduleTail, ScheduleTail.Key> {
+
+    /**
+     * 새 예약이 기존 tail보다 늦게 끝나면 tail 전진
+     * UPDATE 자체가 tail 행 락을 잡으므로 동시 INSERT 간에도 최댓값이 유지된다.
+     *
+     * @return 갱신된 행 수 (0이면 미추적 리소스이거나 중간 삽입)
+     */
+    @Modifying
+    @Query("""
+                update ScheduleTail t
+                   set t.lastLocation = :location,
+                       t.lastEndTime = :endTime,
+                       t.reservationId = :reservationId
+                 where t.resourceType = :resourceType
+                   and t.resourceId = :resourceId
+                   and (t.lastEndTime is null or t.lastEndTime <= :endTime)
+            """)
+    int advance(
+            @Param("resourceType") ResourceType resourceType,
+            @Param("resourceId") Long resourceId,
+            @Param("location") Location location,
+            @Param("endTime") LocalDateTime endTime,
+            @Param("reservationId") Long reservationId
+    );
+
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    Optional<ScheduleTail> findWithLockByResourceTypeAndResourceId(ResourceType resourceType, Long resourceId);
+
+    /**
+     * 전체 tail을 "이력 없음"으로 초기화 (예약 일괄 삭제 시)
+     */
+    @Modifying
+    @Query("""
+                update ScheduleTail t
+                   set t.lastLocation = null,
+                       t.lastEndTime = null,
+                       t.reservationId = null
+            """)
+    int resetAll();
+
+    /* ===============================
+       미추적 리소스 tail 일괄 생성 (INSERT ... SELECT 단일 구문)
+       =============================== */
+
+    @Modifying
+    @Query(nativeQuery = true, value = """
+                insert into resource_schedule_tail
+                    (resource_type, resource_id, last_location, last_end_time, reservation_id)
+                select 'VEHICLE', v.id, r.to_location, r.end_time, r.id
+                from vehicle v
+                left join reservation r on r.id = (
+                    select r2.id from reservation r2
+                    where r2.vehicle_id = v.id
+                    order by r2.end_time desc, r2.id desc
+                    limit 1
+                )
+                where not exists (
+                    select 1 from resource_schedule_tail t
+                    where t.resource_type = 'VEHICLE' and t.resource_id = v.id
+                )
+            """)
+    int backfillVehicles();
+
+    @Modifying
+    @Query(nativeQuery = true, value = """
+                insert into resource_schedule_tail
+                    (resource_type, resource_id, last_location, last_end_time, reservation_id)
+                select 'DISPATCHER', u.id, r.to_location, r.end_time, r.id
+                from users u
+                left join reservation r on r.id = (
+                    select r2.id from reservation r2
+                    where r2.dispatcher_id = u.id
+                    order by r2.end_time desc, r2.id desc
+                    limit 1
+                )
+                where not exists (
+                    select 1 from resource_schedule_tail t
+                    where t.resource_type = 'DISPATCHER' and t.resource_id = u.id
+                )
+            """)
+    int backfillDispatchers();
+}
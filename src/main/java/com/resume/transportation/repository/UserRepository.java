@@ -2,19 +2,35 @@ package com.resume.transportation.repository;
 
 import com.resume.transportation.entity.User;
 import com.resume.transportation.enums.Location;
+import com.resume.transportation.enums.UserRole;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.List;
 
 public interface UserRepository extends JpaRepository<User, Long> {
     /**
      * User의 기준 위치 조회
-     * (첫 예약 이전 위치 판단용)
+     * (첫 예약 이전 위치 판단용, readOnly → replica 라우팅)
      */
+    @Transactional(readOnly = true)
     @Query("""
         select u.baseLocation
         from User u
         where u.id = :userId
     """)
     Location findBaseLocation(@Param("userId") Long userId);
+
+    /**
+     * 역할별 전체 User 기준 위치 (가용성 인덱스 재구성용, readOnly → replica 라우팅)
+     */
+    @Transactional(readOnly = true)
+    @Query("""
+                select new com.resume.transportation.repository.ResourceBaseLocation(u.id, u.baseLocation)
+                from User u
+                where u.role = :role
+            """)
+    List<ResourceBaseLocation> findAllBaseLocations(@Param("role") UserRole role);
 }
@@ -0,0 +1,7 @@
+package com.resume.transportation.repository;
+
+/**
+ * 차량 id + 정원 프로젝션
+ */
+public record VehicleCapacity(Long id, int capacity) {
+}
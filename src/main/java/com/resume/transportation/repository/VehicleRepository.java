@@ -5,13 +5,51 @@ import com.resume.transportation.enums.Location;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.List;
 
 public interface VehicleRepository extends JpaRepository<Vehicle, Long> {
 
+    /**
+     * 차량 기준 위치 조회 (readOnly → replica 라우팅)
+     */
+    @Transactional(readOnly = true)
     @Query("""
                 select v.baseLocation
                 from Vehicle v
                 where v.id = :vehicleId
             """)
     Location findBaseLocation(@Param("vehicleId") Long vehicleId);
+
+    /**
+     * 전체 차량 기준 위치 (가용성 인덱스 재구성용, readOnly → replica 라우팅)
+     */
+    @Transactional(readOnly = true)
+    @Query("""
+                select new com.resume.transportation.repository.ResourceBaseLocation(v.id, v.baseLocation)
+                from Vehicle v
+            """)
+    List<ResourceBaseLocation> findAllBaseLocations();
+
+    /**
+     * 공유 차량(정원 > 1) 정원 스냅샷용 (readOnly → replica 라우팅)
+     */
+    @Transactional(readOnly = true)
+    @Query("""
+                select new com.resume.transportation.repository.VehicleCapacity(v.id, v.capacity)
+                from Vehicle v
+                where v.capacity > 1
+            """)
+    List<VehicleCapacity> findSharedCapacities();
+
+    /**
+     * 검증 시점 정원 (트랜잭션 밖 호출 → 현재 Workload 풀, replica 지연 없음)
+     */
+    @Query("""
+                select v.capacity
+                from Vehicle v
+                where v.id = :vehicleId
+            """)
+    Integer findCapacity(@Param("vehicleId") Long vehicleId);
 }
@@ -0,0 +1,126 @@
+package com.resume.transportation.service;
+
+import com.resume.transportation.enums.ResourceType;
+import com.resume.transportation.service.availability.Candidate;
+import com.resume.transportation.service.availability.ScheduleIndex;
+import com.resume.transportation.service.command.AssignReservationCommand;
+import com.resume.transportation.service.exception.RejectReason;
+import com.resume.transportation.service.exception.ReservationRejectedException;
+import com.resume.transportation.service.ratelimit.RateLimitExceededException;
+import com.resume.transportation.service.result.ReservationResult;
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.Deque;
+import java.util.List;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * 자동 배정: 구간 / 시간만 받아 차량과 디스패처를 골라 예약
+ *
+ * 1. 구간 / 시간 사전 검증 (ReservationService와 동일 규칙)
+ * 2. ScheduleIndex에서 출발지에 있고 비어 있는 후보 조회 (DB 접근 없음)
+ * 3. 점수 = min(대기 시간, idle-cap) + load-weight × 활성 예약 수 (낮을수록 우선)
+ *    - 직전 예약 도착지에서 바로 이어지는 리소스 우선 (위치 연속성 + 최소 대기)
+ *    - 예약이 적은 리소스 우선 (부하 분산)
+ * 4. 상위 top-k를 무작위로 섞어 시도 → 동시 요청이 같은 "1등" 후보에 몰리지 않음
+ * 5. ReservationService.createReservationWithoutAlternatives로 차량+디스패처를 한 번에 예약 (기존 락 / 검증 그대로)
+ *    충돌한 쪽만 다음 후보로 (합승 차량 정원 초과는 차량 쪽), 락 경합이면 두 후보 모두 뒤로 보내고 max-attempts까지 재시도
+ *    후보와 무관한 거절(요청 마감 / 우선순위 수용 한도)은 다른 후보로 바꿔도 같으므로 바로 전달
+ */
+@Service
+@RequiredArgsConstructor
+public class AssignmentService {
+
+    private final ScheduleIndex scheduleIndex;
+    private final ReservationService reservationService;
+
+    @Value("${transportation.assignment.top-k:5}")
+    private int topK = 5;
+
+    @Value("${transportation.assignment.max-attempts:3}")
+    private int maxAttempts = 3;
+
+    @Value("${transportation.assignment.idle-cap-minutes:240}")
+    private int idleCapMinutes = 240;
+
+    @Value("${transportation.assignment.load-weight:30}")
+    private int loadWeight = 30;
+
+    public ReservationResult assign(AssignReservationCommand cmd) {
+        if (cmd.operatorId() == null) {
+            throw new ReservationRejectedException(RejectReason.INVALID_REQUEST);
+        }
+        reservationService.validateTrip(cmd.fromLocation(), cmd.toLocation(), cmd.startTime(), cmd.endTime());
+
+        Deque<Long> vehicles = rank(ResourceType.VEHICLE, cmd);
+        Deque<Long> dispatchers = rank(ResourceType.DISPATCHER, cmd);
+
+        boolean contended = false;
+        for (int attempt = 0; attempt < maxAttempts && !vehicles.isEmpty() && !dispatchers.isEmpty(); attempt++) {
+            Long vehicleId = vehicles.peekFirst();
+            Long dispatcherId = dispatchers.peekFirst();
+            try {
+                // 후보 순위는 직접 관리하므로 거절 대안은 계산하지 않는 경로로 예약
+                return reservationService.createReservationWithoutAlternatives(cmd.withResources(vehicleId, dispatcherId));
+            } catch (ReservationRejectedException e) {
+                switch (e.getReason()) {
+                    case VEHICLE_LOCATION_MISMATCH, VEHICLE_OVERLAP, VEHICLE_FULL -> vehicles.pollFirst();
+                    case DISPATCHER_LOCATION_MISMATCH, DISPATCHER_OVERLAP -> dispatchers.pollFirst();
+                    case DEADLINE_EXCEEDED, PRIORITY_SHED -> throw e;
+                    default -> {
+                        if (e.getReason().getCategory() == RejectReason.Category.INVALID) {
+                            throw e;
+                        }
+                        contended = true;
+                        vehicles.addLast(vehicles.pollFirst());
+                        dispatchers.addLast(dispatchers.pollFirst());
+                    }
+                }
+            } catch (RateLimitExceededException e) {
+                // 어느 쪽 락인지 알 수 없으므로 둘 다 뒤로 (다른 요청이 곧 끝낼 수 있음)
+                contended = true;
+                vehicles.addLast(vehicles.pollFirst());
+                dispatchers.addLast(dispatchers.pollFirst());
+            }
+        }
+
+        throw new ReservationRejectedException(contended
+                ? RejectReason.ASSIGNMENT_CONTENDED
+                : RejectReason.NO_AVAILABLE_RESOURCE);
+    }
+
+    /**
+     * 점수순 정렬 후 상위 top-k만 섞는다 (나머지는 점수순으로 뒤에 붙음)
+     */
+    private Deque<Long> rank(ResourceType resourceType, AssignReservationCommand cmd) {
+        List<Candidate> candidates = new ArrayList<>(scheduleIndex.findCandidates(
+                resourceType, cmd.fromLocation(), cmd.startTime(), cmd.endTime()));
+        candidates.sort(Comparator.comparingLong(this::score).thenComparingLong(Candidate::resourceId));
+
+        int k = Math.min(topK, candidates.size());
+        List<Long> head = new ArrayList<>(k);
+        for (int i = 0; i < k; i++) {
+            head.add(candidates.get(i).resourceId());
+        }
+        Collections.shuffle(head, ThreadLocalRandom.current());
+
+        Deque<Long> ordered = new ArrayDeque<>(head);
+        for (int i = k; i < candidates.size(); i++) {
+            ordered.addLast(candidates.get(i).resourceId());
+        }
+        return ordered;
+    }
+
+    private long score(Candidate candidate) {
+        int idle = candidate.idleMinutes() == null
+                ? idleCapMinutes
+                : Math.min(candidate.idleMinutes(), idleCapMinutes);
+        return idle + (long) loadWeight * candidate.load();
+    }
+}
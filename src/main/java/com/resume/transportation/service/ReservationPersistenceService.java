@@ -12,9 +12,13 @@ import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.time.LocalDateTime;
+import java.util.Optional;
+
 /**
  * 예약 저장/삭제를 별도 트랜잭션으로 처리하는 서비스
  * REQUIRES_NEW를 사용하여 즉시 커밋되도록 함
+ * schedule tail 프로젝션도 같은 트랜잭션에서 갱신
  */
 @Service
 @RequiredArgsConstructor
@@ -23,6 +27,7 @@ public class ReservationPersistenceService {
     private final ReservationRepository reservationRepository;
     private final VehicleRepository vehicleRepository;
     private final UserRepository userRepository;
+    private final ScheduleTailService scheduleTailService;
 
     /**
      * 별도 트랜잭션으로 예약 INSERT (즉시 커밋되어 다른 트랜잭션에서 볼 수 있음)
@@ -43,14 +48,38 @@ public class ReservationPersistenceService {
                 cmd.endTime()
         );
 
-        return reservationRepository.saveAndFlush(reservation);
+        Reservation saved = reservationRepository.saveAndFlush(reservation);
+        scheduleTailService.onInserted(saved);
+        return saved;
+    }
+
+    /**
+     * 별도 트랜잭션으로 예약 시간 이동 (@Version 낙관적 락, schedule tail도 같은 트랜잭션에서 갱신)
+     *
+     * @return 행이 없거나 version이 다르면 false
+     */
+    @Transactional(propagation = Propagation.REQUIRES_NEW)
+    public boolean moveReservation(Long reservationId, long version, LocalDateTime startTime, LocalDateTime endTime) {
+        Optional<Reservation> found = reservationRepository.findById(reservationId);
+        if (found.isEmpty() || found.get().getVersion() != version) {
+            return false;
+        }
+
+        Reservation reservation = found.get();
+        reservation.reschedule(startTime, endTime);
+        reservationRepository.saveAndFlush(reservation);
+        scheduleTailService.onMoved(reservation);
+        return true;
     }
 
     /**
-     * 별도 트랜잭션으로 예약 삭제
+     * 별도 트랜잭션으로 예약 삭제 (schedule tail도 같은 트랜잭션에서 재계산)
      */
     @Transactional(propagation = Propagation.REQUIRES_NEW)
     public void deleteReservation(Long reservationId) {
-        reservationRepository.deleteById(reservationId);
+        reservationRepository.findById(reservationId).ifPresent(reservation -> {
+            reservationRepository.delete(reservation);
+            scheduleTailService.onDeleted(reservation);
+        });
     }
 }
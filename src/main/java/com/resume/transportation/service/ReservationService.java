@@ -1,30 +1,89 @@
 package com.resume.transportation.service;
 
-import com.resume.transportation.entity.Reservation;
+import com.resume.transportation.config.datasource.ReadConsistency;
+import com.resume.transportation.config.datasource.Workload;
+import com.resume.transportation.config.datasource.WorkloadContext;
+import com.resume.transportation.entity.converter.EpochMinuteConverter;
 import com.resume.transportation.enums.Location;
-import com.resume.transportation.repository.ReservationRepository;
+import com.resume.transportation.enums.ReservationPriority;
+import com.resume.transportation.enums.ReservationStatus;
+import com.resume.transportation.enums.ResourceType;
 import com.resume.transportation.repository.UserRepository;
 import com.resume.transportation.repository.VehicleRepository;
+import com.resume.transportation.service.availability.Alternatives;
+import com.resume.transportation.service.availability.ScheduleIndex;
+import com.resume.transportation.service.capacity.VehicleCapacities;
+import com.resume.transportation.service.claim.ClaimStore;
+import com.resume.transportation.service.command.CreateClaimReservationCommand;
+import com.resume.transportation.service.command.CreateItineraryCommand;
 import com.resume.transportation.service.command.CreateReservationCommand;
+import com.resume.transportation.service.command.RescheduleReservationCommand;
+import com.resume.transportation.service.command.ResourceClaim;
+import com.resume.transportation.service.deadline.Deadline;
+import com.resume.transportation.service.deadline.DeadlineContext;
+import com.resume.transportation.service.deadline.DeadlineGuard;
+import com.resume.transportation.service.deadline.DeadlineStage;
+import com.resume.transportation.service.exception.RejectReason;
+import com.resume.transportation.service.exception.ReservationRejectedException;
+import com.resume.transportation.service.hold.HeldSlot;
+import com.resume.transportation.service.hold.HoldStore;
 import com.resume.transportation.service.ratelimit.CompositeRateLimiter;
+import com.resume.transportation.service.ratelimit.PriorityAdmission;
+import com.resume.transportation.service.ratelimit.RateLimitExceededException;
+import com.resume.transportation.service.recurring.RecurringScheduleCalendar;
+import com.resume.transportation.service.result.ReservationResult;
+import com.resume.transportation.service.store.ReservationSnapshot;
+import com.resume.transportation.service.store.ReservationStore;
+import com.resume.transportation.service.store.RunLoad;
 import io.micrometer.core.instrument.Counter;
 import io.micrometer.core.instrument.Timer;
 import lombok.RequiredArgsConstructor;
-import org.springframework.data.domain.PageRequest;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
 
 import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.EnumSet;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutorService;
+import java.util.function.Supplier;
 
 @Service
 @RequiredArgsConstructor
 public class ReservationService {
-    private final ReservationRepository reservationRepository;
+
+    /**
+     * 시간 / 리소스를 바꾸면 성립할 수 있는 거절 (대안을 함께 돌려준다)
+     */
+    private static final Set<RejectReason> SLOT_CONFLICTS = EnumSet.of(
+            RejectReason.VEHICLE_LOCATION_MISMATCH,
+            RejectReason.DISPATCHER_LOCATION_MISMATCH,
+            RejectReason.VEHICLE_OVERLAP,
+            RejectReason.DISPATCHER_OVERLAP,
+            RejectReason.VEHICLE_FULL,
+            RejectReason.CLAIM_OVERLAP
+    );
+
+    private final ReservationStore reservationStore;
     private final VehicleRepository vehicleRepository;
     private final UserRepository userRepository;
     private final TravelTimeService travelTimeService;
-    private final ReservationPersistenceService persistenceService;
     private final CompositeRateLimiter rateLimiter;
+    private final ScheduleIndex scheduleIndex;
+    private final RecurringScheduleCalendar recurringCalendar;
+    private final HoldStore holdStore;
+    private final VehicleCapacities vehicleCapacities;
+    private final ClaimStore claimStore;
+    private final DeadlineGuard deadlineGuard;
+    private final PriorityAdmission priorityAdmission;
     
     // ============================================
     // Metrics
@@ -34,118 +93,797 @@ public class ReservationService {
     private final Timer lockAcquireTimer;
     private final Timer dbOverlapCheckTimer;
 
+    private final ExecutorService validationExecutor;
+
+    @Value("${transportation.reservation.validation-mode:sequential}")
+    private ValidationMode validationMode = ValidationMode.SEQUENTIAL;
+
+    @Value("${transportation.itinerary.max-legs:10}")
+    private int maxItineraryLegs = 10;
+
+    @Value("${transportation.claim.max-claims:8}")
+    private int maxClaims = 8;
+
+    @Value("${transportation.alternatives.horizon-minutes:720}")
+    private int alternativesHorizonMinutes = 720;
+
+    @Value("${transportation.alternatives.max-vehicles:3}")
+    private int alternativesMaxVehicles = 3;
+
     /**
      * 선점 후 검증 방식의 예약 생성
      *
+     * 사전 검증 (락/DB 접근 전) - 필수 값, 시간 범위, 경로 가능 여부, 이동 시간
      * 0. Rate Limiting (레이어드 방어)
      *    - Layer 1: Local Semaphore (서버별 필터링)
      *    - Layer 2: Redis 분산 락 (전역 조율)
-     * 1. 기본 유효성 검증 (위치, 이동시간)
+     *    - 합승 셔틀 차량(정원 > 1)은 두 레이어 모두 슬롯당 정원만큼 동시 진입 (디스패처는 항상 전용)
+     * 1. 위치 검증 (차량, 디스패처) - 반복 일정 회차 도착지 포함
      * 2. INSERT 및 커밋 (선점) - 새로운 트랜잭션으로 즉시 커밋
-     * 3. overlap 검증 - 실패 시 삭제
+     * 3. overlap 검증 (예약 행 + 반복 일정 회차 산술 + 홀드) - 실패 시 삭제
+     *    합승 셔틀은 겹침 존재 여부 대신 같은 운행에 먼저 탄 예약 수를 정원과 비교
+     *    부가 리소스는 종류 / 개수와 무관하게 쿼리 1회 (ClaimStore)
+     *
+     * 규칙 위반은 ReservationRejectedException(사유 코드), 락 경합은 RateLimitExceededException.
+     * 요청 마감(DeadlineContext)이 지났으면 선점 INSERT 전 단계마다 DEADLINE_EXCEEDED로 버린다.
+     * 그 사이 DB 작업도 남은 시간 안에서만 커넥션을 기다리고 실행된다 (DeadlineBoundDataSource).
+     * 선점 INSERT가 커밋되면 마감을 내려놓고 검증 / 보상 삭제를 끝까지 진행한다.
+     * 사전 검증을 통과하면 우선순위별 수용(PriorityAdmission)을 거쳐 락 단계로 간다 - 포화 시 낮은 등급부터 PRIORITY_SHED.
+     * 슬롯 충돌 / 락 경합이면 인메모리 인덱스에서 계산한 대안(가장 가까운 빈 시간, 다른 차량)을 예외에 첨부한다.
+     *
+     * DB 접근은 ReservationStore(jpa/jdbc)를 통해 수행된다.
+     * 검증 단계 실행 방식은 ValidationMode 참고.
      */
-    public Reservation createReservation(CreateReservationCommand cmd) {
+    public ReservationResult createReservation(CreateReservationCommand cmd) {
+        return create(cmd, List.of(), null, true);
+    }
+
+    /**
+     * 홀드 확정용 예약 생성 (확정 중인 자기 홀드는 겹침 검증에서 제외)
+     *
+     * 대안은 계산하지 않는다 (홀드 확정은 호출자가 다음 행동을 정함).
+     *
+     * @param confirmingHoldId 확정 중인 홀드
+     */
+    public ReservationResult createReservation(CreateReservationCommand cmd, String confirmingHoldId) {
+        return create(cmd, List.of(), confirmingHoldId, false);
+    }
+
+    /**
+     * 대안 없이 예약 생성 (자동 배정 - 후보 순위를 호출자가 직접 관리)
+     */
+    public ReservationResult createReservationWithoutAlternatives(CreateReservationCommand cmd) {
+        return create(cmd, List.of(), null, false);
+    }
+
+    /**
+     * 부가 리소스(에스코트 / 통역사 / 주차 구역 ...)를 함께 점유하는 예약 생성
+     *
+     * 차량 / 디스패처와 같은 락 라운드(전역 순서, 레이어당 1회)에서 모든 리소스를 잡고,
+     * 선점 INSERT 직후 부가 리소스 점유 행을 배치로 기록한 뒤 overlap 쿼리 1회로 검증한다.
+     */
+    public ReservationResult createReservation(CreateClaimReservationCommand cmd) {
+        List<ResourceClaim> claims = cmd.claims() == null ? List.of() : cmd.claims();
+        return create(cmd.toReservationCommand(), claims, null, true);
+    }
+
+    private ReservationResult create(CreateReservationCommand cmd, List<ResourceClaim> claims,
+                                     String confirmingHoldId, boolean suggestAlternatives) {
+        ReservationPriority priority = priorityAdmission.classify(cmd);
+        long startNanos = System.nanoTime();
+        try {
+            return DeadlineContext.scope(() -> create(cmd, claims, confirmingHoldId, suggestAlternatives, priority));
+        } catch (RuntimeException e) {
+            RuntimeException failure = deadlineGuard.translate(e);
+            priorityAdmission.recordRejected(priority, failure);
+            throw failure;
+        } finally {
+            priorityAdmission.recordLatency(priority, startNanos);
+        }
+    }
 
-        // 0️⃣ Rate Limiting: 레이어드 방어 (Local Semaphore + Redis 분산 락)
+    private ReservationResult create(CreateReservationCommand cmd, List<ResourceClaim> claims,
+                                     String confirmingHoldId, boolean suggestAlternatives,
+                                     ReservationPriority priority) {
+
+        // 사전 검증: 상태와 무관한 거절은 락 슬롯 / Redis 왕복 / DB 커넥션을 쓰지 않는다
+        try {
+            preValidate(cmd);
+            preValidate(claims);
+            deadlineGuard.check(DeadlineStage.ADMISSION);
+
+            // 우선순위별 수용: 등급 몫이 찼으면 대기, 끝내 자리가 없으면 거절 (락 / DB 앞)
+            priorityAdmission.admit(priority);
+        } catch (ReservationRejectedException e) {
+            reservationFailedCounter.increment();
+            throw e;
+        }
+
+        // admit 이후 어떤 예외로 끝나도 수용 자리를 반환한다 (투기 조회 시작 실패 포함)
+        LocationCheck speculative = null;
         CompositeRateLimiter.CompositeContext lockContext = null;
         try {
+            // 투기 모드: 락 획득과 동시에 위치 조회 시작
+            if (validationMode == ValidationMode.SPECULATIVE) {
+                speculative = startLocationCheck(cmd);
+            }
+
+            // 0️⃣ Rate Limiting: 레이어드 방어 (Local Semaphore + Redis 분산 락)
             // 락 획득 시간 측정
             lockContext = lockAcquireTimer.record(() -> 
                 rateLimiter.acquire(
                     cmd.vehicleId(),
                     cmd.dispatcherId(),
+                    claims,
                     cmd.startTime(),
                     cmd.endTime()
                 )
             );
 
             // 이제 DB 작업 진행
-            Reservation reservation = doCreateReservation(cmd);
+            ReservationResult result = validationMode == ValidationMode.SEQUENTIAL
+                    ? doCreateReservation(cmd, claims, confirmingHoldId)
+                    : doCreateReservationConcurrently(cmd, claims, speculative, confirmingHoldId);
             reservationCreateCounter.increment();
-            return reservation;
+            scheduleIndex.onReserved(result.reservationId(), cmd);
+            return result;
 
         } catch (Exception e) {
+            // 락 획득 실패 등 → 투기 조회 결과 폐기
+            if (speculative != null) {
+                speculative.cancel();
+            }
             reservationFailedCounter.increment();
+            if (suggestAlternatives) {
+                attachAlternatives(e, cmd);
+            }
             throw e;
         } finally {
             // 항상 락 해제 (성공/실패 무관)
             rateLimiter.release(lockContext);
+            priorityAdmission.release();
+        }
+    }
+
+    /**
+     * 다구간 일정 예약 (같은 차량 / 디스패처, 전 구간 성공 또는 전 구간 실패)
+     *
+     * 사전 검증 - 구간별 이동 시간 + 구간 연속성(도착지 = 다음 출발지, 종료 <= 다음 시작)을 메모리에서 검증
+     * 0. 락: 첫 구간 시작 ~ 마지막 구간 종료 1회
+     *    구간 사이 공백도 포함한다 (공백에 다른 예약이 끼면 다음 구간 출발 위치가 깨짐)
+     * 1. 위치 검증: 첫 구간 출발지만 조회 (이후 구간은 직전 구간 도착지로 확정)
+     * 2. 전 구간 INSERT 1회 (jpa / jdbc 저장소는 한 트랜잭션)
+     * 3. overlap 검증: 전체 범위에 대해 차량 / 디스패처 1회씩 - 실패 시 전 구간 삭제
+     *    마지막으로 INSERT된 구간보다 앞선(id < 최대 구간 id) 예약 중 자기 구간을 뺀 나머지를 본다
+     *    (구간 id 사이에 끼어든 단건 예약은 앞 구간만 보고 통과하므로 일정 쪽에서 잡아야 한다)
+     *
+     * 사전 검증 뒤 단건 예약과 같은 우선순위별 수용(PriorityAdmission)을 일정 전체에 1회 거친다.
+     *
+     * @return 구간 순서대로 생성된 예약
+     */
+    public List<ReservationResult> createItinerary(CreateItineraryCommand cmd) {
+        ReservationPriority priority = priorityAdmission.classify(cmd.operatorId(), cmd.priority());
+        long startNanos = System.nanoTime();
+        try {
+            return DeadlineContext.scope(() -> createItinerary(cmd, priority));
+        } catch (RuntimeException e) {
+            RuntimeException failure = deadlineGuard.translate(e);
+            priorityAdmission.recordRejected(priority, failure);
+            throw failure;
+        } finally {
+            priorityAdmission.recordLatency(priority, startNanos);
+        }
+    }
+
+    private List<ReservationResult> createItinerary(CreateItineraryCommand cmd, ReservationPriority priority) {
+
+        List<CreateReservationCommand> legs;
+        CreateReservationCommand span;
+        try {
+            legs = preValidate(cmd);
+            deadlineGuard.check(DeadlineStage.ADMISSION);
+
+            CreateReservationCommand first = legs.getFirst();
+            CreateReservationCommand last = legs.getLast();
+            span = new CreateReservationCommand(
+                    cmd.operatorId(), cmd.vehicleId(), cmd.dispatcherId(),
+                    first.fromLocation(), last.toLocation(), first.startTime(), last.endTime(), priority);
+
+            // 우선순위별 수용 (단건 예약과 같은 한도, 락 / DB 앞) - 바로 아래 try의 finally에서 반환
+            priorityAdmission.admit(priority);
+        } catch (ReservationRejectedException e) {
+            reservationFailedCounter.increment();
+            throw e;
+        }
+
+        CompositeRateLimiter.CompositeContext lockContext = null;
+        try {
+            lockContext = lockAcquireTimer.record(() ->
+                    rateLimiter.acquire(span.vehicleId(), span.dispatcherId(), span.startTime(), span.endTime()));
+
+            List<Long> reservationIds = doCreateItinerary(span, legs);
+
+            List<ReservationResult> results = new ArrayList<>(legs.size());
+            for (int i = 0; i < legs.size(); i++) {
+                results.add(ReservationResult.of(reservationIds.get(i), legs.get(i)));
+                scheduleIndex.onReserved(reservationIds.get(i), legs.get(i));
+            }
+            reservationCreateCounter.increment(legs.size());
+            return results;
+
+        } catch (Exception e) {
+            reservationFailedCounter.increment();
+            throw e;
+        } finally {
+            rateLimiter.release(lockContext);
+            priorityAdmission.release();
+        }
+    }
+
+    private List<Long> doCreateItinerary(CreateReservationCommand span, List<CreateReservationCommand> legs) {
+
+        // 1️⃣ 2️⃣ 첫 구간 출발 위치 검증 (차량/디스패처 병렬)
+        deadlineGuard.check(DeadlineStage.LOCATION_CHECK);
+        startLocationCheck(span).verify(span);
+
+        // 3️⃣ 전 구간 선점 INSERT
+        deadlineGuard.check(DeadlineStage.INSERT);
+        List<Long> reservationIds = reservationStore.insertAll(legs);
+        // 선점 커밋 이후는 마감 없이 (insertWithClaims와 같은 이유)
+        DeadlineContext.clear();
+
+        // 4️⃣ 전체 범위 overlap 검증 - 마지막 구간보다 먼저 INSERT된 예약 중 자기 구간을 제외한 것
+        Long lastId = Collections.max(reservationIds);
+        Set<Long> ownIds = Set.copyOf(reservationIds);
+        try {
+            WorkloadContext.run(Workload.VALIDATION, () -> dbOverlapCheckTimer.record(() -> {
+                if (existsEarlierOverlap(ResourceType.VEHICLE, span.vehicleId(), lastId, ownIds, span)) {
+                    throw new ReservationRejectedException(RejectReason.VEHICLE_OVERLAP);
+                }
+
+                if (existsEarlierOverlap(ResourceType.DISPATCHER, span.dispatcherId(), lastId, ownIds, span)) {
+                    throw new ReservationRejectedException(RejectReason.DISPATCHER_OVERLAP);
+                }
+
+                verifyNoRecurringConflict(span);
+                verifyNoHeldConflict(span, null);
+            }));
+        } catch (IllegalStateException e) {
+            // overlap 발견 → 전 구간 삭제 (WRITE 풀)
+            reservationIds.forEach(reservationStore::delete);
+            throw e;
+        }
+
+        return reservationIds;
+    }
+
+    /**
+     * 다구간 일정 검증: lastId보다 먼저 INSERT된 활성 예약 중 자기 구간(ownIds)이 아닌 것과 겹치는지
+     */
+    private boolean existsEarlierOverlap(ResourceType resourceType, Long resourceId, Long lastId,
+                                         Set<Long> ownIds, CreateReservationCommand span) {
+        return reservationStore.findOverlapping(resourceType, resourceId, span.startTime(), span.endTime())
+                .stream()
+                .map(ReservationSnapshot::reservationId)
+                .anyMatch(id -> id < lastId && !ownIds.contains(id));
+    }
+
+    /**
+     * 예약 시간 변경 (같은 차량 / 디스패처 / 구간, 행을 제자리에서 UPDATE)
+     *
+     * 삭제 후 재생성하면 그 사이 기존 슬롯이 비어 다른 요청에 뺏길 수 있으므로 행을 옮긴다.
+     * 0. 락: 기존 ∪ 변경 시간 범위 1회 (이동 ~ 검증 ~ 원복 동안 양쪽 슬롯 모두 보호)
+     * 1. version 조건부 UPDATE (Reservation @Version) - 다른 요청이 먼저 바꿨으면 RESERVATION_MODIFIED
+     * 2. 합친 범위 검증: 다른 예약(id 순서 무관) / 반복 일정 회차 / 홀드가 없어야 함
+     *    같은 빈 구간 안에서만 움직이므로 직전 도착지(출발 위치)와 다음 예약의 출발 위치가 그대로 유지된다.
+     * 3. 검증 실패 시 원래 시간으로 되돌림 (이동으로 올라간 version 기준)
+     *
+     * 요청 마감은 이동 UPDATE까지만 적용한다 (이동이 커밋된 뒤 검증 / 원복을 끊으면 검증 안 된 시간이 남는다).
+     */
+    public ReservationResult reschedule(Long reservationId, RescheduleReservationCommand cmd) {
+        try {
+            return DeadlineContext.scope(() -> doReschedule(reservationId, cmd));
+        } catch (RuntimeException e) {
+            throw deadlineGuard.translate(e);
+        }
+    }
+
+    private ReservationResult doReschedule(Long reservationId, RescheduleReservationCommand cmd) {
+        ReservationSnapshot current = findModifiable(reservationId);
+        List<ResourceClaim> claims = claimStore.findClaims(reservationId);
+        CreateReservationCommand moved = current.movedTo(cmd.startTime(), cmd.endTime());
+        validateTrip(moved.fromLocation(), moved.toLocation(), moved.startTime(), moved.endTime());
+
+        CreateReservationCommand union = current.movedTo(
+                earlier(current.startTime(), moved.startTime()),
+                later(current.endTime(), moved.endTime()));
+
+        CompositeRateLimiter.CompositeContext lockContext = null;
+        try {
+            lockContext = lockAcquireTimer.record(() ->
+                    rateLimiter.acquire(union.vehicleId(), union.dispatcherId(), claims,
+                            union.startTime(), union.endTime()));
+
+            // 1️⃣ 제자리 이동 (즉시 커밋) - 부가 리소스 점유도 같은 시간으로
+            if (!reservationStore.move(reservationId, current.version(), moved.startTime(), moved.endTime())) {
+                throw new ReservationRejectedException(RejectReason.RESERVATION_MODIFIED);
+            }
+            DeadlineContext.clear();
+            if (!claims.isEmpty()) {
+                claimStore.move(reservationId, moved.startTime(), moved.endTime());
+            }
+
+            // 2️⃣ 합친 범위 검증 - 실패 시 원래 시간으로 복구
+            try {
+                WorkloadContext.run(Workload.VALIDATION, () -> dbOverlapCheckTimer.record(() -> {
+                    if (reservationStore.existsOverlapOther(ResourceType.VEHICLE,
+                            union.vehicleId(), reservationId, union.startTime(), union.endTime())) {
+                        throw new ReservationRejectedException(RejectReason.VEHICLE_OVERLAP);
+                    }
+
+                    if (reservationStore.existsOverlapOther(ResourceType.DISPATCHER,
+                            union.dispatcherId(), reservationId, union.startTime(), union.endTime())) {
+                        throw new ReservationRejectedException(RejectReason.DISPATCHER_OVERLAP);
+                    }
+
+                    if (claimStore.findConflictOther(claims, reservationId, union.startTime(), union.endTime()).isPresent()) {
+                        throw new ReservationRejectedException(RejectReason.CLAIM_OVERLAP);
+                    }
+
+                    verifyNoRecurringConflict(union);
+                    verifyNoHeldConflict(union, null);
+                }));
+            } catch (IllegalStateException e) {
+                reservationStore.move(reservationId, current.version() + 1, current.startTime(), current.endTime());
+                if (!claims.isEmpty()) {
+                    claimStore.move(reservationId, current.startTime(), current.endTime());
+                }
+                throw e;
+            }
+
+            scheduleIndex.onMoved(reservationId, moved);
+            return ReservationResult.of(reservationId, moved);
+
+        } finally {
+            rateLimiter.release(lockContext);
+        }
+    }
+
+    /**
+     * 예약 취소
+     *
+     * 예약 시간 범위 락 안에서 삭제하고 인덱스까지 반영한 뒤 락을 푼다.
+     * 락 뒤에서 대기하던 같은 슬롯 요청은 락을 얻는 즉시 빈 슬롯을 보게 된다 (DB 행 / schedule tail / 가용성 인덱스 모두).
+     */
+    public void cancel(Long reservationId) {
+        ReservationSnapshot current = findModifiable(reservationId);
+        List<ResourceClaim> claims = claimStore.findClaims(reservationId);
+
+        CompositeRateLimiter.CompositeContext lockContext = null;
+        try {
+            lockContext = lockAcquireTimer.record(() -> rateLimiter.acquire(
+                    current.vehicleId(), current.dispatcherId(), claims, current.startTime(), current.endTime()));
+
+            deleteWithClaims(reservationId, claims);
+            scheduleIndex.onCancelled(reservationId, current.vehicleId(), current.dispatcherId());
+
+        } finally {
+            rateLimiter.release(lockContext);
+        }
+    }
+
+    /**
+     * 슬롯 충돌 / 락 경합 거절에 대안 첨부 (인메모리 인덱스, DB / Redis 접근 없음)
+     */
+    private void attachAlternatives(Exception e, CreateReservationCommand cmd) {
+        if (e instanceof ReservationRejectedException rejected && SLOT_CONFLICTS.contains(rejected.getReason())) {
+            rejected.withAlternatives(findAlternatives(cmd));
+        } else if (e instanceof RateLimitExceededException busy) {
+            busy.withAlternatives(findAlternatives(cmd));
+        }
+    }
+
+    private Alternatives findAlternatives(CreateReservationCommand cmd) {
+        return scheduleIndex.findAlternatives(cmd, alternativesHorizonMinutes, alternativesMaxVehicles);
+    }
+
+    /**
+     * 변경 / 취소 대상 예약 (출발 전 예약만)
+     */
+    private ReservationSnapshot findModifiable(Long reservationId) {
+        ReservationSnapshot current = reservationStore.find(reservationId)
+                .orElseThrow(() -> new ReservationRejectedException(RejectReason.RESERVATION_NOT_FOUND));
+        if (current.status() != ReservationStatus.CREATED) {
+            throw new ReservationRejectedException(RejectReason.RESERVATION_NOT_MODIFIABLE);
         }
+        return current;
     }
 
     /**
      * 실제 예약 생성 로직 (Rate Limit 통과 후 실행)
      */
-    private Reservation doCreateReservation(CreateReservationCommand cmd) {
+    private ReservationResult doCreateReservation(CreateReservationCommand cmd, List<ResourceClaim> claims,
+                                                  String confirmingHoldId) {
 
-        // 1️⃣ 해당 시간 기준 위치 검증 (Vehicle)
-        Location vehicleLocationAtStart =
-                findLastLocation(
-                        reservationRepository.findVehicleLastLocation(
-                                cmd.vehicleId(), cmd.startTime(),
-                                PageRequest.of(0, 1)
-                        ),
-                        vehicleRepository.findBaseLocation(cmd.vehicleId())
-                );
+        // 1️⃣ 해당 시간 기준 위치 검증 (Vehicle) - schedule tail 우선, 없으면 이력 조회
+        // 검증용 조회는 VALIDATION 풀 사용 (INSERT 커넥션과 격리)
+        deadlineGuard.check(DeadlineStage.LOCATION_CHECK);
+        Location vehicleLocationAtStart = WorkloadContext.call(Workload.VALIDATION, () -> vehicleLocationAtStart(cmd));
 
         if (vehicleLocationAtStart != cmd.fromLocation()) {
-            throw new IllegalStateException("차량 위치가 출발지와 다릅니다.");
+            throw new ReservationRejectedException(RejectReason.VEHICLE_LOCATION_MISMATCH);
         }
 
         // 2️⃣ 해당 시간 기준 위치 검증 (Dispatcher)
-        Location dispatcherLocationAtStart =
-                findLastLocation(
-                        reservationRepository.findDispatcherLastLocation(
-                                cmd.dispatcherId(), cmd.startTime(),
-                                PageRequest.of(0, 1)
-                        ),
-                        userRepository.findBaseLocation(cmd.dispatcherId())
-                );
+        Location dispatcherLocationAtStart = WorkloadContext.call(Workload.VALIDATION, () -> dispatcherLocationAtStart(cmd));
 
         if (dispatcherLocationAtStart != cmd.fromLocation()) {
-            throw new IllegalStateException("디스패처 위치가 출발지와 다릅니다.");
+            throw new ReservationRejectedException(RejectReason.DISPATCHER_LOCATION_MISMATCH);
         }
 
-        // 3️⃣ 이동 시간 최소 조건 검증
-        int requiredMinutes =
-                travelTimeService.getRequiredMinutes(
-                        cmd.fromLocation(), cmd.toLocation()
-                );
+        // 3️⃣ 예약 생성 및 저장 (선점) - 별도 트랜잭션으로 즉시 커밋
+        Long reservationId = insertWithClaims(cmd, claims);
 
-        long actualMinutes =
-                Duration.between(cmd.startTime(), cmd.endTime()).toMinutes();
+        // 4️⃣ 선점 성공 후 overlap 검증 (시간 측정)
+        // 자기 자신을 제외하고 시간이 겹치는 예약이 있는지 확인 (합승 셔틀은 같은 운행 탑승 수 집계)
+        try {
+            WorkloadContext.run(Workload.VALIDATION, () -> dbOverlapCheckTimer.record(() -> {
+                if (vehicleCapacities.isShared(cmd.vehicleId())) {
+                    RejectReason sharedRunConflict = findSharedRunConflict(cmd, reservationId);
+                    if (sharedRunConflict != null) {
+                        throw new ReservationRejectedException(sharedRunConflict);
+                    }
+                } else {
+                    if (reservationStore.existsOverlapExcluding(ResourceType.VEHICLE,
+                            cmd.vehicleId(), reservationId, cmd.startTime(), cmd.endTime())) {
+                        throw new ReservationRejectedException(RejectReason.VEHICLE_OVERLAP);
+                    }
 
-        if (actualMinutes < requiredMinutes) {
-            throw new IllegalStateException("이동 시간 부족");
+                    if (reservationStore.existsOverlapExcluding(ResourceType.DISPATCHER,
+                            cmd.dispatcherId(), reservationId, cmd.startTime(), cmd.endTime())) {
+                        throw new ReservationRejectedException(RejectReason.DISPATCHER_OVERLAP);
+                    }
+                }
+
+                if (claimStore.findConflictExcluding(claims, reservationId, cmd.startTime(), cmd.endTime()).isPresent()) {
+                    throw new ReservationRejectedException(RejectReason.CLAIM_OVERLAP);
+                }
+
+                verifyNoRecurringConflict(cmd);
+                verifyNoHeldConflict(cmd, confirmingHoldId);
+            }));
+        } catch (IllegalStateException e) {
+            // overlap 발견 → 선점했던 예약 삭제 (WRITE 풀)
+            deleteWithClaims(reservationId, claims);
+            throw e;
         }
 
-        // 4️⃣ 예약 생성 및 저장 (선점) - 별도 트랜잭션으로 즉시 커밋
-        Reservation reservation = persistenceService.insertReservation(cmd);
+        return ReservationResult.of(reservationId, cmd);
+    }
+
+    /**
+     * PARALLEL / SPECULATIVE 모드 예약 생성
+     *
+     * 독립적인 조회를 동시에 실행하므로 각 단계의 지연은 가장 느린 조회 하나로 줄어든다.
+     * 실패 메시지 우선순위(차량 → 디스패처)는 순차 모드와 같다.
+     *
+     * @param speculative 락 획득 전에 시작한 위치 조회 (PARALLEL 모드는 null)
+     */
+    private ReservationResult doCreateReservationConcurrently(CreateReservationCommand cmd,
+                                                              List<ResourceClaim> claims,
+                                                              LocationCheck speculative,
+                                                              String confirmingHoldId) {
+
+        // 1️⃣ 2️⃣ 위치 검증 (차량/디스패처 병렬)
+        deadlineGuard.check(DeadlineStage.LOCATION_CHECK);
+        LocationCheck locations = speculative != null ? speculative : startLocationCheck(cmd);
+        locations.verify(cmd);
 
-        // 5️⃣ 선점 성공 후 overlap 검증 (시간 측정)
-        // 자기 자신을 제외하고 시간이 겹치는 예약이 있는지 확인
+        // 3️⃣ 예약 생성 및 저장 (선점)
+        Long reservationId = insertWithClaims(cmd, claims);
+
+        // 4️⃣ overlap 검증 (차량/디스패처 병렬)
+        // 투기 조회는 락 획득 전 값이므로, 그 사이 커밋된 예약을 반영하기 위해 위치를 함께 재확인
         try {
             dbOverlapCheckTimer.record(() -> {
-                if (reservationRepository.existsVehicleOverlapExcluding(
-                        cmd.vehicleId(), reservation.getId(), cmd.startTime(), cmd.endTime())) {
-                    throw new IllegalStateException("차량이 해당 시간에 이미 예약되어 있습니다.");
-                }
+                boolean shared = vehicleCapacities.isShared(cmd.vehicleId());
+                CompletableFuture<RejectReason> sharedRunConflict = shared
+                        ? validateAsync(() -> findSharedRunConflict(cmd, reservationId))
+                        : CompletableFuture.completedFuture(null);
+                CompletableFuture<Boolean> vehicleOverlap = shared
+                        ? CompletableFuture.completedFuture(false)
+                        : validateAsync(() -> reservationStore.existsOverlapExcluding(
+                                ResourceType.VEHICLE, cmd.vehicleId(), reservationId, cmd.startTime(), cmd.endTime()));
+                CompletableFuture<Boolean> dispatcherOverlap = shared
+                        ? CompletableFuture.completedFuture(false)
+                        : validateAsync(() -> reservationStore.existsOverlapExcluding(
+                                ResourceType.DISPATCHER, cmd.dispatcherId(), reservationId, cmd.startTime(), cmd.endTime()));
+                CompletableFuture<Boolean> claimOverlap = claims.isEmpty()
+                        ? CompletableFuture.completedFuture(false)
+                        : validateAsync(() -> claimStore.findConflictExcluding(
+                                claims, reservationId, cmd.startTime(), cmd.endTime()).isPresent());
+                CompletableFuture<RejectReason> recurringConflict = validateAsync(() -> recurringCalendar.findConflict(
+                        cmd.vehicleId(), cmd.dispatcherId(), cmd.startTime(), cmd.endTime()));
+                LocationCheck recheck = speculative != null ? startLocationCheck(cmd) : null;
 
-                if (reservationRepository.existsDispatcherOverlapExcluding(
-                        cmd.dispatcherId(), reservation.getId(), cmd.startTime(), cmd.endTime())) {
-                    throw new IllegalStateException("디스패처가 해당 시간에 이미 배정되어 있습니다.");
+                RejectReason sharedRun = join(sharedRunConflict);
+                if (sharedRun != null) {
+                    throw new ReservationRejectedException(sharedRun);
+                }
+                if (join(vehicleOverlap)) {
+                    throw new ReservationRejectedException(RejectReason.VEHICLE_OVERLAP);
+                }
+                if (join(dispatcherOverlap)) {
+                    throw new ReservationRejectedException(RejectReason.DISPATCHER_OVERLAP);
+                }
+                if (join(claimOverlap)) {
+                    throw new ReservationRejectedException(RejectReason.CLAIM_OVERLAP);
+                }
+                RejectReason recurring = join(recurringConflict);
+                if (recurring != null) {
+                    throw new ReservationRejectedException(recurring);
+                }
+                verifyNoHeldConflict(cmd, confirmingHoldId);
+                if (recheck != null) {
+                    recheck.verify(cmd);
                 }
             });
         } catch (IllegalStateException e) {
-            // overlap 발견 → 선점했던 예약 삭제
-            persistenceService.deleteReservation(reservation.getId());
+            // overlap 발견 → 선점했던 예약 삭제 (WRITE 풀)
+            deleteWithClaims(reservationId, claims);
             throw e;
         }
 
-        return reservation;
+        return ReservationResult.of(reservationId, cmd);
+    }
+
+    /**
+     * 상태 없는 사전 검증 (락, Redis, DB 접근 없음)
+     */
+    private void preValidate(CreateReservationCommand cmd) {
+        if (cmd.operatorId() == null || cmd.vehicleId() == null || cmd.dispatcherId() == null) {
+            throw new ReservationRejectedException(RejectReason.INVALID_REQUEST);
+        }
+        validateTrip(cmd.fromLocation(), cmd.toLocation(), cmd.startTime(), cmd.endTime());
+    }
+
+    /**
+     * 부가 리소스 사전 검증 - 종류 / ID 필수, 같은 리소스 중복 불가, 개수 상한 (overlap 쿼리 크기 제한)
+     */
+    private void preValidate(List<ResourceClaim> claims) {
+        if (claims.size() > maxClaims) {
+            throw new ReservationRejectedException(RejectReason.INVALID_REQUEST);
+        }
+        HashSet<ResourceClaim> distinct = new HashSet<>();
+        for (ResourceClaim claim : claims) {
+            if (claim == null || claim.type() == null || claim.resourceId() == null || !distinct.add(claim)) {
+                throw new ReservationRejectedException(RejectReason.INVALID_REQUEST);
+            }
+        }
+    }
+
+    /**
+     * 선점 INSERT + 부가 리소스 점유 INSERT (점유 기록 실패 시 예약 삭제)
+     */
+    private Long insertWithClaims(CreateReservationCommand cmd, List<ResourceClaim> claims) {
+        deadlineGuard.check(DeadlineStage.INSERT);
+        Long reservationId = reservationStore.insert(cmd);
+        // 선점이 커밋되면 이후 검증 / 보상 삭제는 마감과 무관하게 끝낸다 (중간에 끊기면 검증 안 된 행이 남는다)
+        DeadlineContext.clear();
+        if (!claims.isEmpty()) {
+            try {
+                claimStore.insertAll(reservationId, claims, cmd.startTime(), cmd.endTime());
+            } catch (RuntimeException e) {
+                reservationStore.delete(reservationId);
+                throw e;
+            }
+        }
+        return reservationId;
+    }
+
+    /**
+     * 예약 → 부가 리소스 점유 순서로 삭제 (중간 실패 시 남는 것은 점유뿐 = 리소스가 잠시 바쁜 것으로 보일 뿐)
+     */
+    private void deleteWithClaims(Long reservationId, List<ResourceClaim> claims) {
+        reservationStore.delete(reservationId);
+        if (!claims.isEmpty()) {
+            claimStore.delete(reservationId);
+        }
+    }
+
+    /**
+     * 다구간 일정 사전 검증 (락, Redis, DB 접근 없음)
+     *
+     * @return 구간별 단건 예약 명령
+     */
+    private List<CreateReservationCommand> preValidate(CreateItineraryCommand cmd) {
+        if (cmd.operatorId() == null || cmd.vehicleId() == null || cmd.dispatcherId() == null
+                || cmd.legs() == null || cmd.legs().isEmpty() || cmd.legs().size() > maxItineraryLegs) {
+            throw new ReservationRejectedException(RejectReason.INVALID_REQUEST);
+        }
+
+        List<CreateReservationCommand> legs = cmd.toReservationCommands();
+        CreateReservationCommand previous = null;
+        for (CreateReservationCommand leg : legs) {
+            validateTrip(leg.fromLocation(), leg.toLocation(), leg.startTime(), leg.endTime());
+            if (previous != null && (previous.toLocation() != leg.fromLocation()
+                    || previous.endTime().isAfter(leg.startTime()))) {
+                throw new ReservationRejectedException(RejectReason.ITINERARY_NOT_CONTINUOUS);
+            }
+            previous = leg;
+        }
+        return legs;
+    }
+
+    /**
+     * 리소스와 무관한 구간 / 시간 검증 (자동 배정에서 후보 탐색 전에도 사용)
+     */
+    public void validateTrip(Location from, Location to, LocalDateTime startTime, LocalDateTime endTime) {
+        if (from == null || to == null || startTime == null || endTime == null
+                || !startTime.isBefore(endTime)) {
+            throw new ReservationRejectedException(RejectReason.INVALID_REQUEST);
+        }
+
+        int requiredMinutes = travelTimeService.getRequiredMinutes(from, to, startTime);
+
+        if (requiredMinutes == Integer.MAX_VALUE) {
+            throw new ReservationRejectedException(RejectReason.ROUTE_NOT_AVAILABLE);
+        }
+
+        long actualMinutes =
+                Duration.between(startTime, endTime).toMinutes();
+
+        if (actualMinutes < requiredMinutes) {
+            throw new ReservationRejectedException(RejectReason.TRAVEL_TIME_TOO_SHORT);
+        }
+    }
+
+    /**
+     * 합승 셔틀 탑승 검증 (선점 INSERT 이후 호출, 먼저 INSERT된 예약만 센다)
+     * - 같은 차량에 시간이 겹치는 다른 운행(다른 디스패처 / 도착지 / 시각)이 있으면 VEHICLE_OVERLAP
+     * - 같은 운행에 먼저 탄 예약 수가 정원(primary 재조회) 이상이면 VEHICLE_FULL
+     * - 디스패처는 이 운행 외에 겹치는 배정이 있으면 DISPATCHER_OVERLAP
+     *
+     * @return 거절 사유, 탑승 가능하면 null
+     */
+    private RejectReason findSharedRunConflict(CreateReservationCommand cmd, Long reservationId) {
+        RunLoad vehicleLoad = reservationStore.countRunLoadExcluding(ResourceType.VEHICLE, reservationId, cmd);
+        if (vehicleLoad.otherRuns() > 0) {
+            return RejectReason.VEHICLE_OVERLAP;
+        }
+
+        Integer capacity = vehicleRepository.findCapacity(cmd.vehicleId());
+        if (capacity == null || vehicleLoad.sameRun() >= capacity) {
+            return RejectReason.VEHICLE_FULL;
+        }
+
+        RunLoad dispatcherLoad = reservationStore.countRunLoadExcluding(ResourceType.DISPATCHER, reservationId, cmd);
+        return dispatcherLoad.otherRuns() > 0 ? RejectReason.DISPATCHER_OVERLAP : null;
+    }
+
+    /**
+     * 반복 일정 회차와의 겹침 (산술 판정, 선점 INSERT 이후 호출)
+     */
+    private void verifyNoRecurringConflict(CreateReservationCommand cmd) {
+        RejectReason conflict = recurringCalendar.findConflict(
+                cmd.vehicleId(), cmd.dispatcherId(), cmd.startTime(), cmd.endTime());
+        if (conflict != null) {
+            throw new ReservationRejectedException(conflict);
+        }
+    }
+
+    /**
+     * 다른 요청의 홀드와의 겹침 (홀드는 확정 예약과 똑같이 막는다)
+     */
+    private void verifyNoHeldConflict(CreateReservationCommand cmd, String confirmingHoldId) {
+        RejectReason conflict = holdStore.findConflict(
+                cmd.vehicleId(), cmd.dispatcherId(), cmd.startTime(), cmd.endTime(), confirmingHoldId);
+        if (conflict != null) {
+            throw new ReservationRejectedException(conflict);
+        }
+    }
+
+    /**
+     * time 시점 리소스 위치 (홀드 도착 → 반복 일정 회차 → 예약 이력 → 기준 위치 순)
+     * 홀드 도착 이후 time 전에 끝난 예약 / 회차가 있으면 그쪽이 더 최근 위치
+     */
+    public Location locationAt(ResourceType resourceType, Long resourceId, LocalDateTime time) {
+        Optional<HeldSlot> held = holdStore.lastArrival(resourceType, resourceId, time);
+        if (held.isPresent()) {
+            LocalDateTime heldEnd = EpochMinuteConverter.fromEpochMinute(held.get().endMinute());
+            if (!heldEnd.isBefore(time)
+                    || (!reservationStore.existsOverlapExcluding(resourceType, resourceId, Long.MAX_VALUE, heldEnd, time)
+                    && !recurringCalendar.hasOccurrence(resourceType, resourceId, heldEnd, time))) {
+                return held.get().toLocation();
+            }
+        }
+
+        return recurringCalendar.locationAt(resourceType, resourceId, time, () ->
+                reservationStore.findLastLocation(resourceType, resourceId, time)
+                        .orElseGet(() -> resourceType == ResourceType.VEHICLE
+                                ? vehicleBaseLocation(resourceId)
+                                : dispatcherBaseLocation(resourceId)));
+    }
+
+    private Location vehicleLocationAtStart(CreateReservationCommand cmd) {
+        return locationAt(ResourceType.VEHICLE, cmd.vehicleId(), cmd.startTime());
+    }
+
+    private Location dispatcherLocationAtStart(CreateReservationCommand cmd) {
+        return locationAt(ResourceType.DISPATCHER, cmd.dispatcherId(), cmd.startTime());
+    }
+
+    private LocationCheck startLocationCheck(CreateReservationCommand cmd) {
+        return new LocationCheck(
+                validateAsync(() -> vehicleLocationAtStart(cmd)),
+                validateAsync(() -> dispatcherLocationAtStart(cmd))
+        );
+    }
+
+    /**
+     * 검증 조회를 가상 스레드에서 실행 (VALIDATION 풀)
+     * Workload / 마감은 스레드 로컬이므로 작업 스레드에서 다시 지정한다.
+     */
+    private <T> CompletableFuture<T> validateAsync(Supplier<T> query) {
+        Deadline deadline = DeadlineContext.current();
+        return CompletableFuture.supplyAsync(
+                () -> DeadlineContext.call(deadline, () -> WorkloadContext.call(Workload.VALIDATION, query)),
+                validationExecutor);
+    }
+
+    /**
+     * 작업에서 던진 예외를 그대로 전파 (IllegalStateException 메시지 유지)
+     */
+    private static <T> T join(CompletableFuture<T> future) {
+        try {
+            return future.join();
+        } catch (CompletionException | CancellationException e) {
+            Throwable cause = e.getCause() != null ? e.getCause() : e;
+            if (cause instanceof RuntimeException runtimeException) {
+                throw runtimeException;
+            }
+            throw new IllegalStateException(cause);
+        }
+    }
+
+    /**
+     * 차량/디스패처 위치 조회 결과 (진행 중일 수 있음)
+     */
+    private record LocationCheck(CompletableFuture<Location> vehicle, CompletableFuture<Location> dispatcher) {
+
+        void verify(CreateReservationCommand cmd) {
+            if (join(vehicle) != cmd.fromLocation()) {
+                throw new ReservationRejectedException(RejectReason.VEHICLE_LOCATION_MISMATCH);
+            }
+            if (join(dispatcher) != cmd.fromLocation()) {
+                throw new ReservationRejectedException(RejectReason.DISPATCHER_LOCATION_MISMATCH);
+            }
+        }
+
+        void cancel() {
+            vehicle.cancel(false);
+            dispatcher.cancel(false);
+        }
+    }
+
+    private static LocalDateTime earlier(LocalDateTime a, LocalDateTime b) {
+        return a.isBefore(b) ? a : b;
+    }
+
+    private static LocalDateTime later(LocalDateTime a, LocalDateTime b) {
+        return a.isAfter(b) ? a : b;
+    }
+
+    /**
+     * 기준 위치 조회 (replica) - 아직 복제되지 않은 신규 리소스면 primary 재조회
+     */
+    private Location vehicleBaseLocation(Long vehicleId) {
+        Location base = vehicleRepository.findBaseLocation(vehicleId);
+        return base != null ? base : ReadConsistency.primary(() -> vehicleRepository.findBaseLocation(vehicleId));
     }
 
-    private Location findLastLocation(List<Location> history, Location base) {
-        return history.isEmpty() ? base : history.get(0);
+    private Location dispatcherBaseLocation(Long dispatcherId) {
+        Location base = userRepository.findBaseLocation(dispatcherId);
+        return base != null ? base : ReadConsistency.primary(() -> userRepository.findBaseLocation(dispatcherId));
     }
 }
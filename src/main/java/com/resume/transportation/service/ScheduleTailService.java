@@ -0,0 +1,167 @@
+package com.resume.transportation.service;
+
+import com.resume.transportation.config.datasource.ReadConsistency;
+import com.resume.transportation.entity.Reservation;
+import com.resume.transportation.entity.ScheduleTail;
+import com.resume.transportation.enums.Location;
+import com.resume.transportation.enums.ResourceType;
+import com.resume.transportation.repository.ReservationRepository;
+import com.resume.transportation.repository.ScheduleTailRepository;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * 리소스별 schedule tail 유지/조회 서비스
+ *
+ * - 조회: tail이 startTime 이전에 끝나면 PK 조회 1회로 위치 결정
+ *         (중간 삽입이거나 tail이 없는 리소스는 기존 이력 쿼리로 fallback)
+ * - 갱신: 예약 INSERT/DELETE 트랜잭션 안에서 함께 갱신 (MANDATORY)
+ *
+ * 예약 상태(status)는 위치 이력 쿼리의 조건이 아니므로 tail에 영향을 주지 않는다.
+ * repository로 직접 일괄 삭제하는 경우 resetAll()로 tail도 함께 초기화해야 한다.
+ */
+@Service
+public class ScheduleTailService {
+
+    private final ScheduleTailRepository tailRepository;
+    private final ReservationRepository reservationRepository;
+    private final TransactionTemplate transactionTemplate;
+
+    @Value("${transportation.schedule-tail.backfill-on-startup:true}")
+    private boolean backfillOnStartup;
+
+    public ScheduleTailService(ScheduleTailRepository tailRepository,
+                               ReservationRepository reservationRepository,
+                               PlatformTransactionManager transactionManager) {
+        this.tailRepository = tailRepository;
+        this.reservationRepository = reservationRepository;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+    }
+
+    /**
+     * time 시점 기준 마지막 도착 위치
+     *
+     * @return 예약 이력이 없으면 empty (기준 위치 사용)
+     */
+    public Optional<Location> findLastLocation(ResourceType resourceType, Long resourceId, LocalDateTime time) {
+        // findById는 readOnly 트랜잭션 → 방금 커밋된 tail을 봐야 하므로 primary 고정
+        Optional<ScheduleTail> tail = ReadConsistency.primary(
+                () -> tailRepository.findById(new ScheduleTail.Key(resourceType, resourceId)));
+        if (tail.isPresent() && tail.get().endsAtOrBefore(time)) {
+            return Optional.ofNullable(tail.get().getLastLocation());
+        }
+
+        List<Location> history = switch (resourceType) {
+            case VEHICLE -> reservationRepository.findVehicleLastLocation(
+                    resourceId, time, PageRequest.of(0, 1));
+            case DISPATCHER -> reservationRepository.findDispatcherLastLocation(
+                    resourceId, time, PageRequest.of(0, 1));
+        };
+        return history.stream().findFirst();
+    }
+
+    /**
+     * 예약 INSERT 직후 호출 - 차량 → 디스패처 순서로 tail 전진 (락 순서 고정)
+     */
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void onInserted(Reservation reservation) {
+        advance(ResourceType.VEHICLE, reservation.getVehicle().getId(), reservation);
+        advance(ResourceType.DISPATCHER, reservation.getDispatcher().getId(), reservation);
+    }
+
+    /**
+     * 예약 DELETE 직후 호출 - 삭제된 예약이 tail이었으면 남은 이력으로 재계산
+     */
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void onDeleted(Reservation reservation) {
+        Long vehicleId = reservation.getVehicle().getId();
+        Long dispatcherId = reservation.getDispatcher().getId();
+
+        tailRepository.findWithLockByResourceTypeAndResourceId(ResourceType.VEHICLE, vehicleId)
+                .filter(tail -> reservation.getId().equals(tail.getReservationId()))
+                .ifPresent(tail -> tail.moveTo(first(
+                        reservationRepository.findVehicleLatest(vehicleId, PageRequest.of(0, 1)))));
+
+        tailRepository.findWithLockByResourceTypeAndResourceId(ResourceType.DISPATCHER, dispatcherId)
+                .filter(tail -> reservation.getId().equals(tail.getReservationId()))
+                .ifPresent(tail -> tail.moveTo(first(
+                        reservationRepository.findDispatcherLatest(dispatcherId, PageRequest.of(0, 1)))));
+    }
+
+    /**
+     * 예약 시간 이동(UPDATE flush) 직후 호출 - 차량 → 디스패처 순서
+     * 이동한 예약이 tail이었으면 재계산 (이동한 자신 포함), 아니면 새 종료 시각으로 전진 시도
+     */
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void onMoved(Reservation reservation) {
+        Long vehicleId = reservation.getVehicle().getId();
+        Long dispatcherId = reservation.getDispatcher().getId();
+
+        tailRepository.findWithLockByResourceTypeAndResourceId(ResourceType.VEHICLE, vehicleId)
+                .filter(tail -> reservation.getId().equals(tail.getReservationId()))
+                .ifPresentOrElse(
+                        tail -> tail.moveTo(first(
+                                reservationRepository.findVehicleLatest(vehicleId, PageRequest.of(0, 1)))),
+                        () -> advance(ResourceType.VEHICLE, vehicleId, reservation));
+
+        tailRepository.findWithLockByResourceTypeAndResourceId(ResourceType.DISPATCHER, dispatcherId)
+                .filter(tail -> reservation.getId().equals(tail.getReservationId()))
+                .ifPresentOrElse(
+                        tail -> tail.moveTo(first(
+                                reservationRepository.findDispatcherLatest(dispatcherId, PageRequest.of(0, 1)))),
+                        () -> advance(ResourceType.DISPATCHER, dispatcherId, reservation));
+    }
+
+    /**
+     * tail이 없는 리소스를 기존 예약 이력으로 채움
+     * INSERT ... SELECT 단일 구문이므로 InnoDB에서는 동시 INSERT와 경합해도 최신 예약을 본다.
+     *
+     * 시작 리스너(같은 빈 안의 호출)에서도 트랜잭션이 열리도록 @Transactional 프록시 대신 TransactionTemplate을 쓴다.
+     */
+    public int backfill() {
+        Integer created = transactionTemplate.execute(status ->
+                tailRepository.backfillVehicles() + tailRepository.backfillDispatchers());
+        return created != null ? created : 0;
+    }
+
+    /**
+     * 예약 전체 삭제 후 호출
+     */
+    @Transactional
+    public void resetAll() {
+        tailRepository.resetAll();
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void backfillOnStartup() {
+        if (backfillOnStartup) {
+            int created = backfill();
+            System.out.printf("[ScheduleTail] 미추적 리소스 %d건 tail 생성%n", created);
+        }
+    }
+
+    private void advance(ResourceType resourceType, Long resourceId, Reservation reservation) {
+        tailRepository.advance(
+                resourceType,
+                resourceId,
+                reservation.getToLocation(),
+                reservation.getEndTime(),
+                reservation.getId()
+        );
+    }
+
+    private Reservation first(List<Reservation> reservations) {
+        return reservations.isEmpty() ? null : reservations.get(0);
+    }
+}
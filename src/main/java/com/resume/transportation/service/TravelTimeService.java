@@ -1,25 +1,86 @@
 package com.resume.transportation.service;
 
 import com.resume.transportation.enums.Location;
-import com.resume.transportation.service.support.LocationPair;
+import com.resume.transportation.service.travel.TravelTimeMatrix;
+import com.resume.transportation.service.travel.TravelTimeSource;
+import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Service;
 
-import java.util.Map;
+import java.time.LocalDateTime;
 
+/**
+ * 장소 간 최소 이동 시간 (출발 시각의 시간대 반영)
+ *
+ * - 조회: 미리 계산된 TravelTimeMatrix의 배열 접근 (할당 없음)
+ * - 교체: 새 행렬을 완성한 뒤 volatile 참조 한 번으로 교체 → 조회 중인 요청은 이전/새 행렬 중 하나를 온전히 본다
+ *         여러 번 조회해야 하는 경우 snapshot()으로 한 버전을 잡고 사용한다
+ * - 갱신: refresh 주기마다 source를 다시 읽고 내용이 바뀐 경우에만 version을 올려 교체, 실패하면 기존 행렬 유지
+ */
 @Service
 public class TravelTimeService {
 
-    private static final Map<LocationPair, Integer> TRAVEL_TIME_MAP =
-            Map.of(
-                    LocationPair.of(Location.AIRPORT, Location.HOTEL), 60,
-                    LocationPair.of(Location.HOTEL, Location.VENUE_ONE), 30,
-                    LocationPair.of(Location.VENUE_ONE, Location.VENUE_TWO), 20
-            );
+    private final TravelTimeSource source;
 
+    private volatile TravelTimeMatrix matrix;
+
+    public TravelTimeService(TravelTimeSource source) {
+        this.source = source;
+        this.matrix = TravelTimeMatrix.of(source.load(), 1);
+        System.out.printf("🗺️ [TravelTime] %s 구간 %d개 로드 (v%d)%n",
+                source.describe(), matrix.getRouteCount(), matrix.getVersion());
+    }
+
+    /**
+     * 기본 시간대 최소 이동 시간(분), 이동 불가면 Integer.MAX_VALUE
+     */
     public int getRequiredMinutes(Location from, Location to) {
-        return TRAVEL_TIME_MAP.getOrDefault(
-                LocationPair.of(from, to),
-                Integer.MAX_VALUE // 이동 불가
-        );
+        return matrix.minutes(from, to);
+    }
+
+    /**
+     * 출발 시각 기준 최소 이동 시간(분), 이동 불가면 Integer.MAX_VALUE
+     */
+    public int getRequiredMinutes(Location from, Location to, LocalDateTime departure) {
+        return matrix.minutes(from, to, departure);
+    }
+
+    /**
+     * 현재 행렬 스냅샷 (이후 교체되어도 변하지 않음)
+     */
+    public TravelTimeMatrix snapshot() {
+        return matrix;
+    }
+
+    public String getSourceDescription() {
+        return source.describe();
+    }
+
+    /**
+     * source를 다시 읽어 행렬 교체
+     *
+     * @return 내용이 바뀌어 교체되었으면 true
+     */
+    public synchronized boolean reload() {
+        TravelTimeMatrix current = matrix;
+        TravelTimeMatrix loaded = TravelTimeMatrix.of(source.load(), current.getVersion() + 1);
+        if (loaded.sameAs(current)) {
+            return false;
+        }
+        matrix = loaded;
+        System.out.printf("🗺️ [TravelTime] %s 구간 %d개로 교체 (v%d)%n",
+                source.describe(), loaded.getRouteCount(), loaded.getVersion());
+        return true;
+    }
+
+    @Scheduled(
+            fixedDelayString = "${transportation.travel-time.refresh-interval:60000}",
+            initialDelayString = "${transportation.travel-time.refresh-interval:60000}"
+    )
+    public void refresh() {
+        try {
+            reload();
+        } catch (RuntimeException e) {
+            System.out.printf("⚠️ [TravelTime] 갱신 실패, 기존 행렬 유지: %s%n", e.getMessage());
+        }
     }
 }
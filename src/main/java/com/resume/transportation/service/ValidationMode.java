@@ -0,0 +1,16 @@
+package com.resume.transportation.service;
+
+/**
+ * 예약 검증 단계 실행 방식 (transportation.reservation.validation-mode)
+ *
+ * - SEQUENTIAL  : 락 획득 → 차량 위치 → 디스패처 위치 → INSERT → 차량 overlap → 디스패처 overlap (기본)
+ * - PARALLEL    : 락 획득 후 서로 독립인 DB 조회(위치 2건, overlap 2건)를 병렬 실행
+ * - SPECULATIVE : PARALLEL + 위치 조회를 락 획득과 동시에 투기적으로 시작.
+ *                 락 획득 실패 시 결과는 버리고, 락 획득 전에 읽은 값이므로
+ *                 INSERT 후 overlap 검증과 병렬로 위치를 한 번 더 확인한다.
+ */
+public enum ValidationMode {
+    SEQUENTIAL,
+    PARALLEL,
+    SPECULATIVE
+}
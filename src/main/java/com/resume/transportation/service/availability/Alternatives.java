@@ -0,0 +1,25 @@
+package com.resume.transportation.service.availability;
+
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * 거절된 예약 요청의 대안 (인메모리 인덱스 기준, 참고용)
+ *
+ * @param nextStartTime 같은 차량 / 디스패처로 같은 길이를 예약할 수 있는 가장 가까운 이후 시작 시각 (없으면 null)
+ * @param nextEndTime   nextStartTime + 요청 길이 (없으면 null)
+ * @param vehicleIds    같은 시간에 출발지에서 비어 있는 다른 차량
+ * @param builtAt       인덱스 마지막 재구성 시각
+ */
+public record Alternatives(
+        LocalDateTime nextStartTime,
+        LocalDateTime nextEndTime,
+        List<Long> vehicleIds,
+        Instant builtAt
+) {
+
+    public boolean isEmpty() {
+        return nextStartTime == null && vehicleIds.isEmpty();
+    }
+}
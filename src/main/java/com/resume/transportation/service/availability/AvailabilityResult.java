@@ -0,0 +1,16 @@
+package com.resume.transportation.service.availability;
+
+import java.time.Instant;
+import java.util.List;
+
+/**
+ * 가용 리소스 조회 결과
+ *
+ * @param builtAt 인덱스 마지막 재구성 시각 (이후 다른 서버에서 생긴 예약은 반영되지 않았을 수 있음)
+ */
+public record AvailabilityResult(
+        List<Long> vehicleIds,
+        List<Long> dispatcherIds,
+        Instant builtAt
+) {
+}
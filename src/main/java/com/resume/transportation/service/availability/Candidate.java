@@ -0,0 +1,10 @@
+package com.resume.transportation.service.availability;
+
+/**
+ * 배정 후보 리소스
+ *
+ * @param idleMinutes 직전 예약 종료 후 대기 시간(분), 이력 없이 기준 위치에서 출발하면 null
+ * @param load        인덱스 범위 안의 활성 예약 수
+ */
+public record Candidate(long resourceId, Integer idleMinutes, int load) {
+}
@@ -0,0 +1,98 @@
+package com.resume.transportation.service.availability;
+
+import com.resume.transportation.enums.Location;
+
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentSkipListSet;
+
+/**
+ * 리소스 종류(차량 / 디스패처)별 인덱스
+ *
+ * - timelines : 리소스 id → 스케줄
+ * - byLocation: 장소 → 그 장소에 있을 수 있는 리소스 (기준 위치 또는 도착지로 등장한 적 있음)
+ *               조회 시 후보를 줄이는 용도이므로 제거하지 않는다 (재구성 때 정리됨)
+ */
+final class ResourceIndex {
+
+    private final Map<Long, Timeline> timelines = new ConcurrentHashMap<>();
+    private final Map<Location, Set<Long>> byLocation = new EnumMap<>(Location.class);
+
+    ResourceIndex() {
+        for (Location location : Location.values()) {
+            byLocation.put(location, new ConcurrentSkipListSet<>());
+        }
+    }
+
+    void addResource(long resourceId, Location baseLocation) {
+        timelines.putIfAbsent(resourceId, new Timeline(baseLocation));
+        if (baseLocation != null) {
+            byLocation.get(baseLocation).add(resourceId);
+        }
+    }
+
+    /**
+     * 재구성 전에 생긴 리소스면 기준 위치 없이 등록 (다음 재구성에서 채워짐)
+     */
+    void addSlot(long resourceId, Timeline.Slot slot) {
+        timelines.computeIfAbsent(resourceId, id -> new Timeline(null)).add(slot);
+        byLocation.get(slot.toLocation()).add(resourceId);
+    }
+
+    void removeSlot(long resourceId, long reservationId) {
+        Timeline timeline = timelines.get(resourceId);
+        if (timeline != null) {
+            timeline.remove(reservationId);
+        }
+    }
+
+    /**
+     * @return 인덱스에 없는 리소스면 null
+     */
+    Timeline timeline(long resourceId) {
+        return timelines.get(resourceId);
+    }
+
+    /**
+     * from에 있고 [start, end) 동안 비어 있는 리소스 (id 오름차순, 최대 limit개)
+     */
+    List<Long> findAvailable(Location from, int start, int end, int limit) {
+        List<Long> result = new ArrayList<>();
+        for (Long resourceId : byLocation.get(from)) {
+            Timeline timeline = timelines.get(resourceId);
+            if (timeline != null && timeline.isAvailable(from, start, end)) {
+                result.add(resourceId);
+                if (result.size() >= limit) {
+                    break;
+                }
+            }
+        }
+        return result;
+    }
+
+    /**
+     * from에 있고 [start, end) 동안 비어 있는 리소스 전체 + 배정 점수 계산용 정보
+     */
+    List<Candidate> findCandidates(Location from, int start, int end) {
+        List<Candidate> result = new ArrayList<>();
+        for (Long resourceId : byLocation.get(from)) {
+            Timeline timeline = timelines.get(resourceId);
+            if (timeline == null) {
+                continue;
+            }
+            int idle = timeline.idleMinutes(from, start, end);
+            if (idle != Timeline.UNAVAILABLE) {
+                result.add(new Candidate(resourceId, idle == Timeline.NO_HISTORY ? null : idle, timeline.activeCount()));
+            }
+        }
+        return result;
+    }
+
+    int size() {
+        return timelines.size();
+    }
+}
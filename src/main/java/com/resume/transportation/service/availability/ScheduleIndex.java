@@ -0,0 +1,249 @@
+package com.resume.transportation.service.availability;
+
+import com.resume.transportation.config.datasource.Workload;
+import com.resume.transportation.config.datasource.WorkloadContext;
+import com.resume.transportation.entity.converter.EpochMinuteConverter;
+import com.resume.transportation.enums.Location;
+import com.resume.transportation.enums.ResourceType;
+import com.resume.transportation.enums.UserRole;
+import com.resume.transportation.repository.ResourceBaseLocation;
+import com.resume.transportation.repository.UserRepository;
+import com.resume.transportation.repository.VehicleRepository;
+import com.resume.transportation.service.command.CreateReservationCommand;
+import com.resume.transportation.service.store.ReservationStore;
+import com.resume.transportation.service.store.ScheduleEntry;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.SortedSet;
+import java.util.TreeSet;
+import java.util.function.Consumer;
+
+/**
+ * 가용성 조회용 인메모리 스케줄 인덱스
+ *
+ * - 조회: 장소별 후보 → 리소스별 정렬된 스케줄에서 겹침 / 시작 위치 확인 (DB 접근 없음)
+ *         거절된 예약의 대안(가장 가까운 빈 시간, 다른 차량)도 같은 인덱스에서 계산한다
+ * - 갱신: 이 서버에서 성공한 예약 / 취소 / 시간 변경은 즉시 반영 (onReserved / onCancelled / onMoved)
+ * - 재구성: rebuild-interval마다 DB 전체를 다시 읽어 교체 (다른 서버의 예약 / 삭제 / 신규 리소스 반영)
+ *
+ * 조회 결과는 참고용이다. 실제 예약은 POST에서 다시 검증되므로 재구성 주기만큼의 지연은 허용한다.
+ * 재구성 중 들어온 갱신은 기록해 두었다가 교체 직전에 새 인덱스에 다시 적용한다.
+ */
+@Component
+public class ScheduleIndex {
+
+    private final ReservationStore reservationStore;
+    private final VehicleRepository vehicleRepository;
+    private final UserRepository userRepository;
+
+    @Value("${transportation.availability.lookback:1d}")
+    private Duration lookback = Duration.ofDays(1);
+
+    private volatile Snapshot snapshot = new Snapshot(new ResourceIndex(), new ResourceIndex(), Instant.EPOCH);
+
+    /** 재구성 중이면 그 사이의 갱신 기록 (this로 보호) */
+    private List<Consumer<Snapshot>> journal;
+
+    private final Object rebuildLock = new Object();
+
+    public ScheduleIndex(ReservationStore reservationStore,
+                         VehicleRepository vehicleRepository,
+                         UserRepository userRepository) {
+        this.reservationStore = reservationStore;
+        this.vehicleRepository = vehicleRepository;
+        this.userRepository = userRepository;
+    }
+
+    /**
+     * from에 있고 [start, end) 동안 비어 있는 차량 / 디스패처
+     */
+    public AvailabilityResult findAvailable(Location from, LocalDateTime start, LocalDateTime end, int limit) {
+        Snapshot current = snapshot;
+        int startMinute = EpochMinuteConverter.toEpochMinute(start);
+        int endMinute = EpochMinuteConverter.toEpochMinute(end);
+        return new AvailabilityResult(
+                current.vehicles().findAvailable(from, startMinute, endMinute, limit),
+                current.dispatchers().findAvailable(from, startMinute, endMinute, limit),
+                current.builtAt()
+        );
+    }
+
+    /**
+     * from에 있고 [start, end) 동안 비어 있는 리소스와 배정 점수 계산용 정보 (자동 배정용)
+     */
+    public List<Candidate> findCandidates(ResourceType resourceType, Location from,
+                                          LocalDateTime start, LocalDateTime end) {
+        Snapshot current = snapshot;
+        ResourceIndex index = resourceType == ResourceType.VEHICLE ? current.vehicles() : current.dispatchers();
+        return index.findCandidates(from,
+                EpochMinuteConverter.toEpochMinute(start),
+                EpochMinuteConverter.toEpochMinute(end));
+    }
+
+    /**
+     * 거절된 요청의 대안 (DB 접근 없음)
+     * - 같은 차량 / 디스패처: 요청 시작 이후 horizonMinutes 안에서 같은 길이로 둘 다 비고 출발지에 있는 가장 이른 시각
+     *   후보 시각은 둘 중 한쪽의 예약이 끝나는 시각뿐이다 (빈 시간 / 위치는 예약 종료 시점에만 바뀜)
+     * - 다른 차량: 같은 시간에 출발지에서 비어 있는 차량 최대 maxVehicles개
+     */
+    public Alternatives findAlternatives(CreateReservationCommand cmd, int horizonMinutes, int maxVehicles) {
+        Snapshot current = snapshot;
+        int start = EpochMinuteConverter.toEpochMinute(cmd.startTime());
+        int end = EpochMinuteConverter.toEpochMinute(cmd.endTime());
+        int duration = end - start;
+
+        LocalDateTime nextStart = null;
+        Timeline vehicle = current.vehicles().timeline(cmd.vehicleId());
+        Timeline dispatcher = current.dispatchers().timeline(cmd.dispatcherId());
+        if (vehicle != null && dispatcher != null) {
+            SortedSet<Integer> candidates = new TreeSet<>();
+            vehicle.collectEnds(start, start + horizonMinutes, candidates);
+            dispatcher.collectEnds(start, start + horizonMinutes, candidates);
+            for (int candidate : candidates) {
+                if (vehicle.isAvailable(cmd.fromLocation(), candidate, candidate + duration)
+                        && dispatcher.isAvailable(cmd.fromLocation(), candidate, candidate + duration)) {
+                    nextStart = EpochMinuteConverter.fromEpochMinute(candidate);
+                    break;
+                }
+            }
+        }
+
+        List<Long> vehicleIds = new ArrayList<>(maxVehicles);
+        for (Long vehicleId : current.vehicles().findAvailable(cmd.fromLocation(), start, end, maxVehicles + 1)) {
+            if (!vehicleId.equals(cmd.vehicleId()) && vehicleIds.size() < maxVehicles) {
+                vehicleIds.add(vehicleId);
+            }
+        }
+
+        return new Alternatives(
+                nextStart,
+                nextStart == null ? null : nextStart.plusMinutes(duration),
+                vehicleIds,
+                current.builtAt()
+        );
+    }
+
+    /**
+     * 예약 성공 직후 호출 (이 서버에서 생성된 예약을 재구성 전에 바로 반영)
+     */
+    public void onReserved(long reservationId, CreateReservationCommand cmd) {
+        int start = EpochMinuteConverter.toEpochMinute(cmd.startTime());
+        int end = EpochMinuteConverter.toEpochMinute(cmd.endTime());
+        Timeline.Slot slot = new Timeline.Slot(start, end, reservationId, cmd.toLocation(), true);
+        apply(s -> {
+            s.vehicles().addSlot(cmd.vehicleId(), slot);
+            s.dispatchers().addSlot(cmd.dispatcherId(), slot);
+        });
+    }
+
+    /**
+     * 예약 취소 직후 호출 (재구성을 기다리지 않고 바로 빈 시간으로 보이게 함)
+     */
+    public void onCancelled(long reservationId, long vehicleId, long dispatcherId) {
+        apply(s -> {
+            s.vehicles().removeSlot(vehicleId, reservationId);
+            s.dispatchers().removeSlot(dispatcherId, reservationId);
+        });
+    }
+
+    /**
+     * 예약 시간 변경 직후 호출 (cmd는 변경된 시간)
+     */
+    public void onMoved(long reservationId, CreateReservationCommand cmd) {
+        int start = EpochMinuteConverter.toEpochMinute(cmd.startTime());
+        int end = EpochMinuteConverter.toEpochMinute(cmd.endTime());
+        Timeline.Slot slot = new Timeline.Slot(start, end, reservationId, cmd.toLocation(), true);
+        apply(s -> {
+            s.vehicles().removeSlot(cmd.vehicleId(), reservationId);
+            s.dispatchers().removeSlot(cmd.dispatcherId(), reservationId);
+            s.vehicles().addSlot(cmd.vehicleId(), slot);
+            s.dispatchers().addSlot(cmd.dispatcherId(), slot);
+        });
+    }
+
+    private synchronized void apply(Consumer<Snapshot> update) {
+        update.accept(snapshot);
+        if (journal != null) {
+            journal.add(update);
+        }
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void buildOnStartup() {
+        rebuild();
+    }
+
+    @Scheduled(
+            fixedDelayString = "${transportation.availability.rebuild-interval:30000}",
+            initialDelayString = "${transportation.availability.rebuild-interval:30000}"
+    )
+    public void refresh() {
+        try {
+            rebuild();
+        } catch (RuntimeException e) {
+            System.out.printf("⚠️ [Availability] 인덱스 재구성 실패, 기존 인덱스 유지: %s%n", e.getMessage());
+        }
+    }
+
+    /**
+     * DB 전체를 읽어 새 인덱스를 만든 뒤 교체 (REPORTING 풀)
+     */
+    public void rebuild() {
+        synchronized (rebuildLock) {
+            synchronized (this) {
+                journal = new ArrayList<>();
+            }
+            try {
+                Instant builtAt = Instant.now();
+                Snapshot fresh = WorkloadContext.call(Workload.REPORTING, () -> load(builtAt));
+                synchronized (this) {
+                    journal.forEach(update -> update.accept(fresh));
+                    snapshot = fresh;
+                }
+                System.out.printf("🔎 [Availability] 인덱스 재구성: 차량 %d, 디스패처 %d%n",
+                        fresh.vehicles().size(), fresh.dispatchers().size());
+            } finally {
+                synchronized (this) {
+                    journal = null;
+                }
+            }
+        }
+    }
+
+    private Snapshot load(Instant builtAt) {
+        Snapshot fresh = new Snapshot(new ResourceIndex(), new ResourceIndex(), builtAt);
+
+        for (ResourceBaseLocation vehicle : vehicleRepository.findAllBaseLocations()) {
+            fresh.vehicles().addResource(vehicle.id(), vehicle.baseLocation());
+        }
+        for (ResourceBaseLocation dispatcher : userRepository.findAllBaseLocations(UserRole.VOLUNTEER)) {
+            fresh.dispatchers().addResource(dispatcher.id(), dispatcher.baseLocation());
+        }
+
+        LocalDateTime since = LocalDateTime.now().minus(lookback);
+        reservationStore.scanSchedule(since, entry -> {
+            ResourceIndex target = entry.resourceType() == ResourceType.VEHICLE
+                    ? fresh.vehicles()
+                    : fresh.dispatchers();
+            target.addSlot(entry.resourceId(), toSlot(entry));
+        });
+        return fresh;
+    }
+
+    private static Timeline.Slot toSlot(ScheduleEntry entry) {
+        return new Timeline.Slot(entry.startMinute(), entry.endMinute(), entry.reservationId(),
+                entry.toLocation(), entry.active());
+    }
+
+    private record Snapshot(ResourceIndex vehicles, ResourceIndex dispatchers, Instant builtAt) {
+    }
+}
@@ -0,0 +1,113 @@
+package com.resume.transportation.service.availability;
+
+import com.resume.transportation.enums.Location;
+
+import java.util.Comparator;
+import java.util.Iterator;
+import java.util.SortedSet;
+import java.util.concurrent.ConcurrentSkipListSet;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * 리소스 1개의 스케줄 (시작 시각 순 정렬, 시각은 epoch-minute)
+ *
+ * 쓰기는 ScheduleIndex 락 안에서만, 읽기는 락 없이 수행한다.
+ */
+final class Timeline {
+
+    /** start 이전 이력이 없어 기준 위치에서 출발하는 경우의 대기 시간 */
+    static final int NO_HISTORY = Integer.MAX_VALUE;
+
+    /** 비어 있지 않거나 start 시점 위치가 다른 경우 */
+    static final int UNAVAILABLE = -1;
+
+    private static final Comparator<Slot> ORDER =
+            Comparator.comparingInt(Slot::start).thenComparingLong(Slot::reservationId);
+
+    private final Location baseLocation;
+    private final ConcurrentSkipListSet<Slot> slots = new ConcurrentSkipListSet<>(ORDER);
+    private final AtomicInteger activeCount = new AtomicInteger();
+
+    Timeline(Location baseLocation) {
+        this.baseLocation = baseLocation;
+    }
+
+    Location getBaseLocation() {
+        return baseLocation;
+    }
+
+    void add(Slot slot) {
+        if (slots.add(slot) && slot.active()) {
+            activeCount.incrementAndGet();
+        }
+    }
+
+    /**
+     * 예약 취소 / 이동 (시작 시각을 모르므로 전체 순회, 리소스 1개의 인덱스 범위라 짧다)
+     */
+    void remove(long reservationId) {
+        for (Slot slot : slots) {
+            if (slot.reservationId() == reservationId && slots.remove(slot) && slot.active()) {
+                activeCount.decrementAndGet();
+            }
+        }
+    }
+
+    /**
+     * 인덱스 범위 안의 활성 예약 수 (배정 부하 분산용)
+     */
+    int activeCount() {
+        return activeCount.get();
+    }
+
+    /**
+     * (after, until] 사이에 끝나는 예약의 종료 시각 - 빈 시간 / 위치가 바뀔 수 있는 시점 (대안 탐색용)
+     */
+    void collectEnds(int after, int until, SortedSet<Integer> out) {
+        for (Slot slot : slots.headSet(Slot.probe(until), false)) {
+            if (slot.end() > after && slot.end() <= until) {
+                out.add(slot.end());
+            }
+        }
+    }
+
+    /**
+     * [start, end) 동안 비어 있고 start 시점에 from에 있는지
+     */
+    boolean isAvailable(Location from, int start, int end) {
+        return idleMinutes(from, start, end) != UNAVAILABLE;
+    }
+
+    /**
+     * 가용하면 직전 예약 종료 ~ start 사이 대기 시간(분), 이력이 없으면 NO_HISTORY, 불가면 UNAVAILABLE
+     *
+     * end 이전에 시작한 예약을 늦게 시작한 순서로 본다.
+     * - 활성 예약이 start 이후에 끝나면 → 겹침
+     * - start 이전에 끝난 첫 예약의 도착지 → start 시점 위치
+     * - 그런 예약이 없으면 기준 위치
+     */
+    int idleMinutes(Location from, int start, int end) {
+        Iterator<Slot> earlier = slots.headSet(Slot.probe(end), false).descendingIterator();
+        while (earlier.hasNext()) {
+            Slot slot = earlier.next();
+            if (slot.end() > start) {
+                if (slot.active()) {
+                    return UNAVAILABLE;
+                }
+                continue;
+            }
+            return slot.toLocation() == from ? start - slot.end() : UNAVAILABLE;
+        }
+        return baseLocation == from ? NO_HISTORY : UNAVAILABLE;
+    }
+
+    /**
+     * 예약 1칸 (active=false 면 위치 판단에만 사용)
+     */
+    record Slot(int start, int end, long reservationId, Location toLocation, boolean active) {
+
+        static Slot probe(int start) {
+            return new Slot(start, start, Long.MIN_VALUE, null, false);
+        }
+    }
+}
@@ -0,0 +1,69 @@
+package com.resume.transportation.service.capacity;
+
+import com.resume.transportation.repository.VehicleCapacity;
+import com.resume.transportation.repository.VehicleRepository;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * 공유 차량(정원 > 1) 정원 스냅샷
+ *
+ * - 조회: volatile 맵 조회 1회 (락 획득 전, DB 접근 없음). 맵에 없으면 전용 차량(정원 1)
+ * - 갱신: refresh-interval마다 정원 > 1 인 차량만 다시 읽어 통째로 교체 (replica)
+ *
+ * 스냅샷이 늦으면 새로 합승 셔틀이 된 차량도 전용으로 취급된다 (더 엄격한 쪽).
+ * 탑승 수 검증에 쓰는 정원은 선점 INSERT 이후 primary에서 다시 읽는다 (ReservationService).
+ */
+@Component
+public class VehicleCapacities {
+
+    private final VehicleRepository vehicleRepository;
+
+    private volatile Map<Long, Integer> shared = Map.of();
+
+    public VehicleCapacities(VehicleRepository vehicleRepository) {
+        this.vehicleRepository = vehicleRepository;
+    }
+
+    /**
+     * 동시 탑승 가능한 예약 수 (전용 차량 1)
+     */
+    public int capacityOf(Long vehicleId) {
+        return shared.getOrDefault(vehicleId, 1);
+    }
+
+    public boolean isShared(Long vehicleId) {
+        return shared.containsKey(vehicleId);
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void loadOnStartup() {
+        refresh();
+    }
+
+    @Scheduled(
+            fixedDelayString = "${transportation.capacity.refresh-interval:60000}",
+            initialDelayString = "${transportation.capacity.refresh-interval:60000}"
+    )
+    public void scheduledRefresh() {
+        try {
+            refresh();
+        } catch (RuntimeException e) {
+            System.out.printf("⚠️ [Capacity] 정원 스냅샷 갱신 실패, 기존 값 유지: %s%n", e.getMessage());
+        }
+    }
+
+    public void refresh() {
+        Map<Long, Integer> fresh = new HashMap<>();
+        for (VehicleCapacity vehicle : vehicleRepository.findSharedCapacities()) {
+            fresh.put(vehicle.id(), vehicle.capacity());
+        }
+        shared = Map.copyOf(fresh);
+        System.out.printf("🚐 [Capacity] 공유 차량 %d대%n", fresh.size());
+    }
+}
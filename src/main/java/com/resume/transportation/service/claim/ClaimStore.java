@@ -0,0 +1,140 @@
+package com.resume.transportation.service.claim;
+
+import com.resume.transportation.entity.converter.EpochMinuteConverter;
+import com.resume.transportation.enums.ClaimType;
+import com.resume.transportation.service.command.ResourceClaim;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * 부가 리소스 점유(reservation_claim) 저장소
+ *
+ * overlap 검증은 리소스 종류 / 개수와 무관하게 쿼리 1회다.
+ * (resource_type, resource_id) 쌍을 OR로 묶어 idx_claim_resource_time 범위 스캔 여러 개를 한 번에 수행한다.
+ * 리소스 개수만큼 SQL 문자열이 달라지지만 개수별로 한 번씩만 준비되므로 PreparedStatement 캐시에 그대로 남는다.
+ *
+ * 저장소 구현(jpa / jdbc / sharded)과 무관하게 기본 DataSource에 기록한다 (WorkloadContext 라우팅 그대로).
+ * 쓰기는 reservation과 같이 별도 트랜잭션으로 즉시 커밋한다.
+ */
+@Component
+public class ClaimStore {
+
+    private static final String INSERT_CLAIM = """
+            insert into reservation_claim (reservation_id, resource_type, resource_id, start_time, end_time)
+            values (?, ?, ?, ?, ?)
+            """;
+
+    private static final String CLAIM_OVERLAP = """
+            select resource_type, resource_id from reservation_claim
+            where (%s)
+              and reservation_id %s ?
+              and start_time < ? and end_time > ?
+            limit 1
+            """;
+
+    private static final String CLAIM_RESOURCE = "(resource_type = ? and resource_id = ?)";
+
+    private static final String SELECT_CLAIMS = """
+            select resource_type, resource_id from reservation_claim where reservation_id = ?
+            """;
+
+    private static final String MOVE_CLAIMS = """
+            update reservation_claim set start_time = ?, end_time = ? where reservation_id = ?
+            """;
+
+    private static final String DELETE_CLAIMS = "delete from reservation_claim where reservation_id = ?";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate requiresNew;
+
+    public ClaimStore(JdbcTemplate jdbcTemplate, PlatformTransactionManager transactionManager) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.requiresNew = new TransactionTemplate(transactionManager);
+        this.requiresNew.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+    }
+
+    /**
+     * 예약의 부가 리소스 점유 INSERT (배치 1회, 즉시 커밋)
+     */
+    public void insertAll(Long reservationId, List<ResourceClaim> claims,
+                          LocalDateTime startTime, LocalDateTime endTime) {
+        int startMinute = EpochMinuteConverter.toEpochMinute(startTime);
+        int endMinute = EpochMinuteConverter.toEpochMinute(endTime);
+        List<Object[]> rows = new ArrayList<>(claims.size());
+        for (ResourceClaim claim : claims) {
+            rows.add(new Object[]{reservationId, claim.type().getCode(), claim.resourceId(), startMinute, endMinute});
+        }
+
+        requiresNew.executeWithoutResult(status -> jdbcTemplate.batchUpdate(INSERT_CLAIM, rows));
+    }
+
+    /**
+     * 자기보다 먼저 INSERT된(reservation_id < excludeId) 예약 중 claims 리소스와 시간이 겹치는 점유
+     *
+     * @return 겹치는 리소스 하나 (없으면 empty)
+     */
+    public Optional<ResourceClaim> findConflictExcluding(List<ResourceClaim> claims, Long excludeId,
+                                                         LocalDateTime startTime, LocalDateTime endTime) {
+        return findConflict(claims, "<", excludeId, startTime, endTime);
+    }
+
+    /**
+     * 자기 자신(reservationId)을 제외한 모든 예약 중 claims 리소스와 시간이 겹치는 점유 (제자리 이동 검증용)
+     */
+    public Optional<ResourceClaim> findConflictOther(List<ResourceClaim> claims, Long reservationId,
+                                                     LocalDateTime startTime, LocalDateTime endTime) {
+        return findConflict(claims, "<>", reservationId, startTime, endTime);
+    }
+
+    public List<ResourceClaim> findClaims(Long reservationId) {
+        return jdbcTemplate.query(SELECT_CLAIMS, (rs, rowNum) -> new ResourceClaim(
+                ClaimType.fromCode(rs.getByte(1)), rs.getLong(2)), reservationId);
+    }
+
+    /**
+     * 예약 시간 변경에 맞춰 점유 구간 이동 (즉시 커밋)
+     */
+    public void move(Long reservationId, LocalDateTime startTime, LocalDateTime endTime) {
+        requiresNew.executeWithoutResult(status -> jdbcTemplate.update(MOVE_CLAIMS,
+                EpochMinuteConverter.toEpochMinute(startTime),
+                EpochMinuteConverter.toEpochMinute(endTime),
+                reservationId));
+    }
+
+    /**
+     * 예약의 점유 전체 삭제 (즉시 커밋, 보상 / 취소)
+     */
+    public void delete(Long reservationId) {
+        requiresNew.executeWithoutResult(status -> jdbcTemplate.update(DELETE_CLAIMS, reservationId));
+    }
+
+    private Optional<ResourceClaim> findConflict(List<ResourceClaim> claims, String idOperator, Long reservationId,
+                                                 LocalDateTime startTime, LocalDateTime endTime) {
+        if (claims.isEmpty()) {
+            return Optional.empty();
+        }
+
+        String sql = CLAIM_OVERLAP.formatted(
+                String.join(" or ", Collections.nCopies(claims.size(), CLAIM_RESOURCE)), idOperator);
+        List<Object> args = new ArrayList<>(claims.size() * 2 + 3);
+        for (ResourceClaim claim : claims) {
+            args.add(claim.type().getCode());
+            args.add(claim.resourceId());
+        }
+        args.add(reservationId);
+        args.add(EpochMinuteConverter.toEpochMinute(endTime));
+        args.add(EpochMinuteConverter.toEpochMinute(startTime));
+
+        return jdbcTemplate.query(sql, (rs, rowNum) -> new ResourceClaim(
+                ClaimType.fromCode(rs.getByte(1)), rs.getLong(2)), args.toArray()).stream().findFirst();
+    }
+}
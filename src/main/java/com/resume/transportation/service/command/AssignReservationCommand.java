@@ -0,0 +1,47 @@
+package com.resume.transportation.service.command;
+
+import com.resume.transportation.enums.Location;
+import com.resume.transportation.enums.ReservationPriority;
+
+import java.time.LocalDateTime;
+
+/**
+ * 자동 배정 요청 (차량 / 디스패처는 서버가 선택)
+ *
+ * @param priority 수용 우선순위 (null이면 운영자 기준으로 정함, PriorityAdmission 참고) - 후보마다 그대로 적용
+ */
+public record AssignReservationCommand(
+        Long operatorId,
+        Location fromLocation,
+        Location toLocation,
+        LocalDateTime startTime,
+        LocalDateTime endTime,
+        ReservationPriority priority
+) {
+
+    /**
+     * 분 미만 시각은 바깥쪽으로 맞춘다 (MinuteTimes) - 후보 탐색도 정규화된 구간으로 한다
+     */
+    public AssignReservationCommand {
+        startTime = MinuteTimes.floor(startTime);
+        endTime = MinuteTimes.ceil(endTime);
+    }
+
+    public AssignReservationCommand(Long operatorId, Location fromLocation, Location toLocation,
+                                    LocalDateTime startTime, LocalDateTime endTime) {
+        this(operatorId, fromLocation, toLocation, startTime, endTime, null);
+    }
+
+    public CreateReservationCommand withResources(Long vehicleId, Long dispatcherId) {
+        return new CreateReservationCommand(
+                operatorId,
+                vehicleId,
+                dispatcherId,
+                fromLocation,
+                toLocation,
+                startTime,
+                endTime,
+                priority
+        );
+    }
+}
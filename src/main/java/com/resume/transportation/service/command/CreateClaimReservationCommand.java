@@ -0,0 +1,45 @@
+package com.resume.transportation.service.command;
+
+import com.resume.transportation.enums.Location;
+import com.resume.transportation.enums.ReservationPriority;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * 부가 리소스를 함께 점유하는 예약 (차량 + 디스패처 + 에스코트 / 통역사 / 주차 구역 ...)
+ *
+ * @param priority 수용 우선순위 (null이면 운영자 기준으로 정함, PriorityAdmission 참고)
+ */
+public record CreateClaimReservationCommand(
+        Long operatorId,
+        Long vehicleId,
+        Long dispatcherId,
+        Location fromLocation,
+        Location toLocation,
+        LocalDateTime startTime,
+        LocalDateTime endTime,
+        List<ResourceClaim> claims,
+        ReservationPriority priority
+) {
+
+    /**
+     * 분 미만 시각은 바깥쪽으로 맞춘다 (MinuteTimes) - 점유 구간도 같은 값을 쓴다
+     */
+    public CreateClaimReservationCommand {
+        startTime = MinuteTimes.floor(startTime);
+        endTime = MinuteTimes.ceil(endTime);
+    }
+
+    public CreateClaimReservationCommand(Long operatorId, Long vehicleId, Long dispatcherId,
+                                         Location fromLocation, Location toLocation,
+                                         LocalDateTime startTime, LocalDateTime endTime,
+                                         List<ResourceClaim> claims) {
+        this(operatorId, vehicleId, dispatcherId, fromLocation, toLocation, startTime, endTime, claims, null);
+    }
+
+    public CreateReservationCommand toReservationCommand() {
+        return new CreateReservationCommand(
+                operatorId, vehicleId, dispatcherId, fromLocation, toLocation, startTime, endTime, priority);
+    }
+}
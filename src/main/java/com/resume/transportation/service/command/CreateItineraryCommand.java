@@ -0,0 +1,51 @@
+package com.resume.transportation.service.command;
+
+import com.resume.transportation.enums.Location;
+import com.resume.transportation.enums.ReservationPriority;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * 다구간 일정 예약 (같은 차량 / 디스패처로 AIRPORT → HOTEL → VENUE_ONE ...)
+ *
+ * @param priority 수용 우선순위 (null이면 운영자 기준으로 정함, PriorityAdmission 참고) - 일정 전체에 한 번 적용
+ */
+public record CreateItineraryCommand(
+        Long operatorId,
+        Long vehicleId,
+        Long dispatcherId,
+        List<Leg> legs,
+        ReservationPriority priority
+) {
+
+    public CreateItineraryCommand(Long operatorId, Long vehicleId, Long dispatcherId, List<Leg> legs) {
+        this(operatorId, vehicleId, dispatcherId, legs, null);
+    }
+
+    public record Leg(
+            Location fromLocation,
+            Location toLocation,
+            LocalDateTime startTime,
+            LocalDateTime endTime
+    ) {
+
+        /**
+         * 분 미만 시각은 바깥쪽으로 맞춘다 (MinuteTimes) - 구간 연결 검증도 정규화된 값으로 한다
+         */
+        public Leg {
+            startTime = MinuteTimes.floor(startTime);
+            endTime = MinuteTimes.ceil(endTime);
+        }
+    }
+
+    /**
+     * 구간별 단건 예약 명령 (입력 순서 유지)
+     */
+    public List<CreateReservationCommand> toReservationCommands() {
+        return legs.stream()
+                .map(leg -> new CreateReservationCommand(operatorId, vehicleId, dispatcherId,
+                        leg.fromLocation(), leg.toLocation(), leg.startTime(), leg.endTime(), priority))
+                .toList();
+    }
+}
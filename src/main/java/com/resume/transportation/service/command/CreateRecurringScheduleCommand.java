@@ -0,0 +1,29 @@
+package com.resume.transportation.service.command;
+
+import com.resume.transportation.enums.Location;
+
+import java.time.LocalDateTime;
+
+/**
+ * 반복 일정 생성 (firstStart부터 periodMinutes 간격, until까지 끝나는 회차)
+ */
+public record CreateRecurringScheduleCommand(
+        Long operatorId,
+        Long vehicleId,
+        Long dispatcherId,
+        Location fromLocation,
+        Location toLocation,
+        LocalDateTime firstStart,
+        LocalDateTime until,
+        Integer periodMinutes,
+        Integer durationMinutes
+) {
+
+    /**
+     * 회차 시각은 firstStart + 분 단위 간격이므로 firstStart / until은 분 단위로 내린다 (MinuteTimes)
+     */
+    public CreateRecurringScheduleCommand {
+        firstStart = MinuteTimes.floor(firstStart);
+        until = MinuteTimes.floor(until);
+    }
+}
@@ -1,9 +1,15 @@
 package com.resume.transportation.service.command;
 
 import com.resume.transportation.enums.Location;
+import com.resume.transportation.enums.ReservationPriority;
 
 import java.time.LocalDateTime;
 
+/**
+ * @param startTime 분 미만은 내림
+ * @param endTime   분 미만은 올림
+ * @param priority 수용 우선순위 (null이면 운영자 기준으로 정함, PriorityAdmission 참고)
+ */
 public record CreateReservationCommand(
         Long operatorId,
         Long vehicleId,
@@ -11,6 +17,21 @@ public record CreateReservationCommand(
         Location fromLocation,
         Location toLocation,
         LocalDateTime startTime,
-        LocalDateTime endTime
+        LocalDateTime endTime,
+        ReservationPriority priority
 ) {
+
+    /**
+     * 분 미만 시각은 바깥쪽으로 맞춘다 (MinuteTimes)
+     */
+    public CreateReservationCommand {
+        startTime = MinuteTimes.floor(startTime);
+        endTime = MinuteTimes.ceil(endTime);
+    }
+
+    public CreateReservationCommand(Long operatorId, Long vehicleId, Long dispatcherId,
+                                    Location fromLocation, Location toLocation,
+                                    LocalDateTime startTime, LocalDateTime endTime) {
+        this(operatorId, vehicleId, dispatcherId, fromLocation, toLocation, startTime, endTime, null);
+    }
 }
@@ -0,0 +1,25 @@
+package com.resume.transportation.service.command;
+
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+
+/**
+ * 예약 시각 분 단위 정규화 (명령 생성 시점)
+ *
+ * 저장 인코딩(epoch-minute)이 분 단위이므로, 검증 / 락 / 겹침 검사 / 저장이 모두 같은 값을 보도록
+ * 분 미만 입력은 요청 구간을 덮는 쪽으로 맞춘다 - 시작은 내림, 종료는 올림.
+ */
+final class MinuteTimes {
+
+    private MinuteTimes() {
+    }
+
+    static LocalDateTime floor(LocalDateTime time) {
+        return time == null ? null : time.truncatedTo(ChronoUnit.MINUTES);
+    }
+
+    static LocalDateTime ceil(LocalDateTime time) {
+        LocalDateTime floor = floor(time);
+        return floor == null || floor.equals(time) ? floor : floor.plusMinutes(1);
+    }
+}
@@ -0,0 +1,20 @@
+package com.resume.transportation.service.command;
+
+import java.time.LocalDateTime;
+
+/**
+ * 예약 시간 변경 (차량 / 디스패처 / 구간은 그대로)
+ */
+public record RescheduleReservationCommand(
+        LocalDateTime startTime,
+        LocalDateTime endTime
+) {
+
+    /**
+     * 분 미만 시각은 바깥쪽으로 맞춘다 (MinuteTimes)
+     */
+    public RescheduleReservationCommand {
+        startTime = MinuteTimes.floor(startTime);
+        endTime = MinuteTimes.ceil(endTime);
+    }
+}
@@ -0,0 +1,12 @@
+package com.resume.transportation.service.command;
+
+import com.resume.transportation.enums.ClaimType;
+
+/**
+ * 예약이 점유하는 부가 리소스 1개 (에스코트 / 통역사 / 주차 구역)
+ */
+public record ResourceClaim(
+        ClaimType type,
+        Long resourceId
+) {
+}
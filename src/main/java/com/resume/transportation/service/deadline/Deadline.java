@@ -0,0 +1,21 @@
+package com.resume.transportation.service.deadline;
+
+import java.time.Duration;
+
+/**
+ * 요청 1건의 처리 마감 시각 (System.nanoTime 기준)
+ */
+public record Deadline(long expiresAtNanos) {
+
+    public static Deadline after(Duration budget) {
+        return new Deadline(System.nanoTime() + budget.toNanos());
+    }
+
+    public Duration remaining() {
+        return Duration.ofNanos(Math.max(0L, expiresAtNanos - System.nanoTime()));
+    }
+
+    public boolean isExpired() {
+        return System.nanoTime() - expiresAtNanos >= 0;
+    }
+}
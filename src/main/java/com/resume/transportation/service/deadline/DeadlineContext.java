@@ -0,0 +1,66 @@
+package com.resume.transportation.service.deadline;
+
+import java.util.function.Supplier;
+
+/**
+ * 현재 스레드의 처리 마감 시각 (스레드 로컬)
+ *
+ * 지정하지 않으면 마감 없음 (비동기 워커 / 배치 / 내부 호출).
+ * HTTP 요청은 DeadlineFilter가 요청 전체를 감싼다.
+ * DB 커넥션 대기 / statement timeout도 남은 시간으로 제한된다 (DeadlineBoundDataSource).
+ *
+ * <pre>
+ * DeadlineContext.call(Deadline.after(Duration.ofSeconds(2)), () -> reservationService.createReservation(cmd));
+ * </pre>
+ */
+public final class DeadlineContext {
+
+    private static final ThreadLocal<Deadline> CURRENT = new ThreadLocal<>();
+
+    private DeadlineContext() {
+    }
+
+    public static <T> T call(Deadline deadline, Supplier<T> task) {
+        Deadline previous = CURRENT.get();
+        CURRENT.set(deadline);
+        try {
+            return task.get();
+        } finally {
+            if (previous == null) {
+                CURRENT.remove();
+            } else {
+                CURRENT.set(previous);
+            }
+        }
+    }
+
+    public static void run(Deadline deadline, Runnable task) {
+        call(deadline, () -> {
+            task.run();
+            return null;
+        });
+    }
+
+    /**
+     * 현재 마감을 그대로 이어받는 범위 - 안에서 clear()해도 범위가 끝나면 바깥 마감으로 돌아간다
+     */
+    public static <T> T scope(Supplier<T> task) {
+        return call(current(), task);
+    }
+
+    /**
+     * 현재 범위(call / run / scope)의 나머지를 마감 없이 실행
+     *
+     * 선점 INSERT처럼 커밋 이후 단계를 끊으면 검증 / 보상 전의 행이 남는 지점에서 쓴다.
+     */
+    public static void clear() {
+        CURRENT.remove();
+    }
+
+    /**
+     * @return 현재 마감 (없으면 null)
+     */
+    public static Deadline current() {
+        return CURRENT.get();
+    }
+}
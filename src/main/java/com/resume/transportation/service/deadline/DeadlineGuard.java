@@ -0,0 +1,70 @@
+package com.resume.transportation.service.deadline;
+
+import com.resume.transportation.service.exception.RejectReason;
+import com.resume.transportation.service.exception.ReservationRejectedException;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+
+import java.sql.SQLTimeoutException;
+import java.sql.SQLTransientConnectionException;
+
+/**
+ * 단계 진입 전 남은 처리 시간 확인
+ *
+ * 클라이언트가 이미 포기한 요청(accept 큐 / 커넥션 대기로 마감을 넘긴 요청)이
+ * 락 / Redis 슬롯 / DB 커넥션을 더 쓰지 않도록 다음 단계로 가기 전에 버린다.
+ *
+ * 단계 사이의 DB 작업은 DeadlineBoundDataSource가 남은 시간으로 끊고, translate()가 같은 거절로 바꾼다.
+ *
+ * 메트릭
+ * - reservation.deadline.shed{stage} : 단계별로 버린 요청 수
+ */
+@Component
+@RequiredArgsConstructor
+public class DeadlineGuard {
+
+    private final MeterRegistry meterRegistry;
+
+    /**
+     * @throws ReservationRejectedException DEADLINE_EXCEEDED - 마감이 지났으면
+     */
+    public void check(DeadlineStage stage) {
+        Deadline deadline = DeadlineContext.current();
+        if (deadline == null || !deadline.isExpired()) {
+            return;
+        }
+
+        throw shed(stage);
+    }
+
+    /**
+     * 마감 때문에 끊긴 DB 작업(statement timeout / 커넥션 대기 초과)이면 DEADLINE_EXCEEDED로 바꾼다
+     *
+     * @return 바꾼 예외, 마감과 무관한 실패면 e 그대로
+     */
+    public RuntimeException translate(RuntimeException e) {
+        Deadline deadline = DeadlineContext.current();
+        if (deadline == null || !deadline.isExpired() || !causedByTimeout(e)) {
+            return e;
+        }
+
+        ReservationRejectedException rejected = shed(DeadlineStage.PERSISTENCE);
+        rejected.initCause(e);
+        return rejected;
+    }
+
+    private ReservationRejectedException shed(DeadlineStage stage) {
+        meterRegistry.counter("reservation.deadline.shed", "stage", stage.tag()).increment();
+        return new ReservationRejectedException(RejectReason.DEADLINE_EXCEEDED);
+    }
+
+    private static boolean causedByTimeout(Throwable e) {
+        for (Throwable t = e; t != null; t = t.getCause()) {
+            if (t instanceof SQLTimeoutException || t instanceof SQLTransientConnectionException) {
+                return true;
+            }
+        }
+        return false;
+    }
+}
@@ -0,0 +1,23 @@
+package com.resume.transportation.service.deadline;
+
+/**
+ * 마감 확인 지점 (예약 생성 파이프라인 순서)
+ *
+ * 선점 INSERT 이후에는 확인하지 않는다 - 이미 커밋된 행을 되돌리는 비용이 남은 검증보다 크다.
+ */
+public enum DeadlineStage {
+    ADMISSION,
+    LOCAL_LOCK,
+    DISTRIBUTED_LOCK,
+    LOCATION_CHECK,
+    INSERT,
+    /** 위치 조회 ~ 선점 INSERT 사이 DB 작업이 커넥션 대기 / statement timeout으로 끊긴 경우 */
+    PERSISTENCE;
+
+    /**
+     * 메트릭 태그 값
+     */
+    public String tag() {
+        return name().toLowerCase().replace('_', '-');
+    }
+}
@@ -0,0 +1,59 @@
+package com.resume.transportation.service.exception;
+
+/**
+ * 예약 거절 사유 코드
+ *
+ * category는 클라이언트 재시도 판단 기준이다.
+ * - INVALID  : 요청 자체가 성립하지 않음 (재시도 무의미)
+ * - CONFLICT : 현재 스케줄과 충돌 (요청을 바꿔야 함)
+ * - BUSY     : 일시적 경합 (잠시 후 같은 요청 재시도 가능)
+ */
+public enum RejectReason {
+
+    INVALID_REQUEST(Category.INVALID, "필수 값이 없거나 시간 범위가 잘못되었습니다."),
+    ROUTE_NOT_AVAILABLE(Category.INVALID, "이동할 수 없는 경로입니다."),
+    TRAVEL_TIME_TOO_SHORT(Category.INVALID, "이동 시간 부족"),
+    ITINERARY_NOT_CONTINUOUS(Category.INVALID, "다음 구간이 이전 구간 도착지 / 종료 시각에서 이어지지 않습니다."),
+    IDEMPOTENCY_KEY_REUSED(Category.INVALID, "같은 Idempotency-Key로 내용이 다른 요청을 보냈습니다."),
+
+    VEHICLE_LOCATION_MISMATCH(Category.CONFLICT, "차량 위치가 출발지와 다릅니다."),
+    DISPATCHER_LOCATION_MISMATCH(Category.CONFLICT, "디스패처 위치가 출발지와 다릅니다."),
+    VEHICLE_OVERLAP(Category.CONFLICT, "차량이 해당 시간에 이미 예약되어 있습니다."),
+    DISPATCHER_OVERLAP(Category.CONFLICT, "디스패처가 해당 시간에 이미 배정되어 있습니다."),
+    VEHICLE_FULL(Category.CONFLICT, "합승 차량의 해당 운행 정원이 찼습니다."),
+    CLAIM_OVERLAP(Category.CONFLICT, "요청한 부가 리소스(에스코트 / 통역사 / 주차 구역)가 해당 시간에 이미 예약되어 있습니다."),
+    NO_AVAILABLE_RESOURCE(Category.CONFLICT, "조건에 맞는 차량 또는 디스패처가 없습니다."),
+    HOLD_NOT_FOUND(Category.CONFLICT, "홀드가 없거나 만료되었습니다."),
+    RESERVATION_NOT_FOUND(Category.CONFLICT, "예약이 없거나 이미 취소되었습니다."),
+    RESERVATION_NOT_MODIFIABLE(Category.CONFLICT, "진행 중이거나 완료된 예약은 변경 / 취소할 수 없습니다."),
+    RESERVATION_MODIFIED(Category.CONFLICT, "다른 요청이 먼저 예약을 변경했습니다. 다시 조회 후 요청해주세요."),
+
+    SHARD_MOVING(Category.BUSY, "샤드 이동 중인 리소스입니다. 잠시 후 다시 시도해주세요."),
+    IDEMPOTENCY_IN_PROGRESS(Category.BUSY, "같은 Idempotency-Key 요청을 처리 중입니다. 잠시 후 다시 시도해주세요."),
+    PRIORITY_SHED(Category.BUSY, "요청이 몰려 우선순위가 낮은 예약부터 거절했습니다. 잠시 후 다시 시도해주세요."),
+    DEADLINE_EXCEEDED(Category.BUSY, "요청 처리 마감 시각이 지났습니다. 잠시 후 다시 시도해주세요."),
+    SUBMISSION_QUEUE_FULL(Category.BUSY, "비동기 접수 대기열이 밀려 있습니다. 잠시 후 다시 시도해주세요."),
+    ASSIGNMENT_CONTENDED(Category.BUSY, "배정 후보가 모두 처리 중인 요청과 경합했습니다. 잠시 후 다시 시도해주세요.");
+
+    public enum Category {
+        INVALID,
+        CONFLICT,
+        BUSY
+    }
+
+    private final Category category;
+    private final String message;
+
+    RejectReason(Category category, String message) {
+        this.category = category;
+        this.message = message;
+    }
+
+    public Category getCategory() {
+        return category;
+    }
+
+    public String getMessage() {
+        return message;
+    }
+}
@@ -0,0 +1,44 @@
+package com.resume.transportation.service.exception;
+
+import com.resume.transportation.service.availability.Alternatives;
+
+/**
+ * 비즈니스 규칙에 의한 예약 거절
+ *
+ * 정상적인 거절 흐름이므로 스택 트레이스를 만들지 않는다 (fillInStackTrace 비용 제거).
+ * 기존 호출부 호환을 위해 IllegalStateException을 상속한다.
+ */
+public class ReservationRejectedException extends IllegalStateException {
+
+    private final RejectReason reason;
+    private Alternatives alternatives;
+
+    public ReservationRejectedException(RejectReason reason) {
+        super(reason.getMessage());
+        this.reason = reason;
+    }
+
+    public RejectReason getReason() {
+        return reason;
+    }
+
+    /**
+     * 예약 생성 경로에서 거절 직후 첨부 (응답 본문의 alternatives)
+     */
+    public ReservationRejectedException withAlternatives(Alternatives alternatives) {
+        this.alternatives = alternatives;
+        return this;
+    }
+
+    /**
+     * @return 첨부된 대안 (없으면 null)
+     */
+    public Alternatives getAlternatives() {
+        return alternatives;
+    }
+
+    @Override
+    public synchronized Throwable fillInStackTrace() {
+        return this;
+    }
+}
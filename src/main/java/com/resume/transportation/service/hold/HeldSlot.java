@@ -0,0 +1,13 @@
+package com.resume.transportation.service.hold;
+
+import com.resume.transportation.enums.Location;
+
+/**
+ * 리소스별 홀드 구간 [startMinute, endMinute) + 도착지 (겹침 / 위치 판정용)
+ */
+public record HeldSlot(String holdId, int startMinute, int endMinute, Location toLocation) {
+
+    public boolean overlaps(int start, int end) {
+        return startMinute < end && endMinute > start;
+    }
+}
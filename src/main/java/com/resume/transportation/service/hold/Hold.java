@@ -0,0 +1,15 @@
+package com.resume.transportation.service.hold;
+
+import com.resume.transportation.service.command.CreateReservationCommand;
+
+import java.time.Instant;
+
+/**
+ * 임시 선점 (확정 전까지 DB 행 없음)
+ */
+public record Hold(String holdId, CreateReservationCommand command, Instant expiresAt) {
+
+    public boolean isExpired(Instant now) {
+        return !now.isBefore(expiresAt);
+    }
+}
@@ -0,0 +1,120 @@
+package com.resume.transportation.service.hold;
+
+import com.resume.transportation.config.datasource.Workload;
+import com.resume.transportation.config.datasource.WorkloadContext;
+import com.resume.transportation.enums.ResourceType;
+import com.resume.transportation.service.ReservationService;
+import com.resume.transportation.service.command.CreateReservationCommand;
+import com.resume.transportation.service.exception.RejectReason;
+import com.resume.transportation.service.exception.ReservationRejectedException;
+import com.resume.transportation.service.ratelimit.CompositeRateLimiter;
+import com.resume.transportation.service.recurring.RecurringScheduleCalendar;
+import com.resume.transportation.service.result.ReservationResult;
+import com.resume.transportation.service.store.ReservationStore;
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.UUID;
+
+/**
+ * 2단계 예약 (홀드 → 확정)
+ *
+ * 홀드: 예약과 같은 슬롯 락 안에서 위치 확인 → HoldStore에 먼저 기록 → 겹침(예약 행, 반복 일정, 다른 홀드) 확인,
+ *       충돌이면 기록한 홀드를 지운다 (예약의 insert-then-validate와 같은 순서)
+ *       → DB 쓰기 없음, TTL이 지나면 Redis에서 사라진다 (삭제 쿼리 없음)
+ * 확정: 홀드 내용으로 일반 예약 생성 경로를 그대로 실행 (자기 홀드만 겹침 검증에서 제외) → 홀드 제거
+ *
+ * 예약 생성은 행을 INSERT한 뒤 홀드를 확인하고, 홀드는 기록한 뒤 예약 행을 확인하므로
+ * 슬롯 락이 풀린 상황(Fallback / 만료)에서도 동시에 들어온 홀드 / 예약 중 최소 한쪽은 상대를 보고 거절된다.
+ */
+@Service
+@RequiredArgsConstructor
+public class HoldService {
+
+    private final ReservationService reservationService;
+    private final ReservationStore reservationStore;
+    private final RecurringScheduleCalendar recurringCalendar;
+    private final HoldStore holdStore;
+    private final CompositeRateLimiter rateLimiter;
+
+    @Value("${transportation.hold.ttl:5m}")
+    private Duration ttl = Duration.ofMinutes(5);
+
+    public Hold hold(CreateReservationCommand cmd) {
+        if (cmd.operatorId() == null || cmd.vehicleId() == null || cmd.dispatcherId() == null) {
+            throw new ReservationRejectedException(RejectReason.INVALID_REQUEST);
+        }
+        reservationService.validateTrip(cmd.fromLocation(), cmd.toLocation(), cmd.startTime(), cmd.endTime());
+
+        CompositeRateLimiter.CompositeContext lockContext = null;
+        try {
+            lockContext = rateLimiter.acquire(cmd.vehicleId(), cmd.dispatcherId(), cmd.startTime(), cmd.endTime());
+
+            WorkloadContext.run(Workload.VALIDATION, () -> {
+                if (reservationService.locationAt(ResourceType.VEHICLE, cmd.vehicleId(), cmd.startTime()) != cmd.fromLocation()) {
+                    throw new ReservationRejectedException(RejectReason.VEHICLE_LOCATION_MISMATCH);
+                }
+                if (reservationService.locationAt(ResourceType.DISPATCHER, cmd.dispatcherId(), cmd.startTime()) != cmd.fromLocation()) {
+                    throw new ReservationRejectedException(RejectReason.DISPATCHER_LOCATION_MISMATCH);
+                }
+            });
+
+            // 홀드 선점 기록 → 겹침 검증 (실패 시 홀드 제거)
+            Hold hold = new Hold(UUID.randomUUID().toString(), cmd, Instant.now().plus(ttl));
+            holdStore.save(hold);
+            try {
+                WorkloadContext.run(Workload.VALIDATION, () -> {
+                    if (reservationStore.existsOverlapExcluding(ResourceType.VEHICLE, cmd.vehicleId(), Long.MAX_VALUE,
+                            cmd.startTime(), cmd.endTime())) {
+                        throw new ReservationRejectedException(RejectReason.VEHICLE_OVERLAP);
+                    }
+                    if (reservationStore.existsOverlapExcluding(ResourceType.DISPATCHER, cmd.dispatcherId(), Long.MAX_VALUE,
+                            cmd.startTime(), cmd.endTime())) {
+                        throw new ReservationRejectedException(RejectReason.DISPATCHER_OVERLAP);
+                    }
+                    RejectReason recurring = recurringCalendar.findConflict(
+                            cmd.vehicleId(), cmd.dispatcherId(), cmd.startTime(), cmd.endTime());
+                    if (recurring != null) {
+                        throw new ReservationRejectedException(recurring);
+                    }
+                });
+
+                // 다른 홀드는 id 순서가 없으므로 서로 보이면 양쪽 모두 거절 (둘 다 통과하는 경우는 없음)
+                RejectReason held = holdStore.findConflict(
+                        cmd.vehicleId(), cmd.dispatcherId(), cmd.startTime(), cmd.endTime(), hold.holdId());
+                if (held != null) {
+                    throw new ReservationRejectedException(held);
+                }
+            } catch (RuntimeException e) {
+                holdStore.remove(hold);
+                throw e;
+            }
+            return hold;
+
+        } finally {
+            rateLimiter.release(lockContext);
+        }
+    }
+
+    /**
+     * 홀드 확정 → reservation 행 생성
+     */
+    public ReservationResult confirm(String holdId) {
+        Hold hold = holdStore.find(holdId)
+                .orElseThrow(() -> new ReservationRejectedException(RejectReason.HOLD_NOT_FOUND));
+
+        ReservationResult result = reservationService.createReservation(hold.command(), hold.holdId());
+        holdStore.remove(hold);
+        return result;
+    }
+
+    /**
+     * 홀드 취소 (DB 접근 없음, 이미 만료된 경우도 성공)
+     */
+    public void release(String holdId) {
+        holdStore.find(holdId).ifPresent(holdStore::remove);
+    }
+}
@@ -0,0 +1,234 @@
+package com.resume.transportation.service.hold;
+
+import com.resume.transportation.entity.converter.EpochMinuteConverter;
+import com.resume.transportation.enums.Location;
+import com.resume.transportation.enums.ResourceType;
+import com.resume.transportation.service.command.CreateReservationCommand;
+import com.resume.transportation.service.exception.RejectReason;
+import com.resume.transportation.service.ratelimit.CircuitBreaker;
+import org.redisson.api.RBucket;
+import org.redisson.api.RMapCache;
+import org.redisson.api.RedissonClient;
+import org.redisson.client.codec.StringCodec;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+
+/**
+ * 홀드 저장소 (Redis + 로컬 메모리, DB 접근 없음)
+ *
+ * Redis
+ * - reservation:hold:{holdId}               : 홀드 본문 (bucket, TTL)
+ * - reservation:hold:{VEHICLE|DISPATCHER}:{id} : 리소스별 홀드 구간 (map cache, 항목별 TTL)
+ * 만료된 홀드는 Redis가 읽기에서 제외하고 스스로 정리한다.
+ *
+ * 로컬: 이 서버에서 만든 홀드 사본 (확정 시 Redis 왕복 생략, Redis 장애 시 Fallback)
+ * Redis 장애 시에는 DistributedRateLimiter와 마찬가지로 서버 로컬 범위로만 동작한다.
+ */
+@Component
+public class HoldStore {
+
+    private static final String HOLD_PREFIX = "reservation:hold:";
+
+    private static final int FAILURE_THRESHOLD = 5;
+    private static final Duration OPEN_TIMEOUT = Duration.ofSeconds(30);
+
+    private final RedissonClient redissonClient;
+    private final CircuitBreaker circuitBreaker;
+    private final ConcurrentHashMap<String, Hold> localHolds = new ConcurrentHashMap<>();
+
+    public HoldStore(RedissonClient redissonClient) {
+        this.redissonClient = redissonClient;
+        this.circuitBreaker = new CircuitBreaker("Redisson-Hold", FAILURE_THRESHOLD, OPEN_TIMEOUT);
+    }
+
+    public void save(Hold hold) {
+        localHolds.put(hold.holdId(), hold);
+
+        long ttlMillis = Math.max(1, Duration.between(Instant.now(), hold.expiresAt()).toMillis());
+        CreateReservationCommand cmd = hold.command();
+        redis(() -> {
+            redissonClient.getBucket(HOLD_PREFIX + hold.holdId(), StringCodec.INSTANCE)
+                    .set(encode(cmd), ttlMillis, TimeUnit.MILLISECONDS);
+            String slot = encodeSlot(cmd);
+            slotsOf(ResourceType.VEHICLE, cmd.vehicleId()).put(hold.holdId(), slot, ttlMillis, TimeUnit.MILLISECONDS);
+            slotsOf(ResourceType.DISPATCHER, cmd.dispatcherId()).put(hold.holdId(), slot, ttlMillis, TimeUnit.MILLISECONDS);
+            return null;
+        });
+    }
+
+    /**
+     * @return 만료되지 않은 홀드
+     */
+    public Optional<Hold> find(String holdId) {
+        Instant now = Instant.now();
+        Hold local = localHolds.get(holdId);
+        if (local != null && !local.isExpired(now)) {
+            return Optional.of(local);
+        }
+
+        return Optional.ofNullable(redis(() -> {
+            RBucket<String> bucket = redissonClient.getBucket(HOLD_PREFIX + holdId, StringCodec.INSTANCE);
+            String encoded = bucket.get();
+            long ttlMillis = bucket.remainTimeToLive();
+            return encoded == null || ttlMillis <= 0
+                    ? null
+                    : new Hold(holdId, decode(encoded), now.plusMillis(ttlMillis));
+        }));
+    }
+
+    public void remove(Hold hold) {
+        localHolds.remove(hold.holdId());
+        CreateReservationCommand cmd = hold.command();
+        redis(() -> {
+            redissonClient.getBucket(HOLD_PREFIX + hold.holdId(), StringCodec.INSTANCE).delete();
+            slotsOf(ResourceType.VEHICLE, cmd.vehicleId()).fastRemove(hold.holdId());
+            slotsOf(ResourceType.DISPATCHER, cmd.dispatcherId()).fastRemove(hold.holdId());
+            return null;
+        });
+    }
+
+    /**
+     * [start, end)와 겹치는 다른 홀드 (차량 우선)
+     *
+     * @param excludeHoldId 확정 중인 자기 홀드 (없으면 null)
+     * @return VEHICLE_OVERLAP / DISPATCHER_OVERLAP, 없으면 null
+     */
+    public RejectReason findConflict(Long vehicleId, Long dispatcherId,
+                                     LocalDateTime start, LocalDateTime end, String excludeHoldId) {
+        int startMinute = EpochMinuteConverter.toEpochMinute(start);
+        int endMinute = EpochMinuteConverter.toEpochMinute(end);
+        if (overlapsAny(heldSlots(ResourceType.VEHICLE, vehicleId), startMinute, endMinute, excludeHoldId)) {
+            return RejectReason.VEHICLE_OVERLAP;
+        }
+        if (overlapsAny(heldSlots(ResourceType.DISPATCHER, dispatcherId), startMinute, endMinute, excludeHoldId)) {
+            return RejectReason.DISPATCHER_OVERLAP;
+        }
+        return null;
+    }
+
+    /**
+     * time 이전(포함)에 끝나는 홀드 중 가장 늦게 끝나는 것
+     */
+    public Optional<HeldSlot> lastArrival(ResourceType resourceType, Long resourceId, LocalDateTime time) {
+        int minute = EpochMinuteConverter.toEpochMinute(time);
+        HeldSlot latest = null;
+        for (HeldSlot slot : heldSlots(resourceType, resourceId)) {
+            if (slot.endMinute() <= minute && (latest == null || slot.endMinute() > latest.endMinute())) {
+                latest = slot;
+            }
+        }
+        return Optional.ofNullable(latest);
+    }
+
+    /**
+     * 만료된 로컬 사본 정리 (Redis 쪽은 TTL로 자동 정리)
+     */
+    @Scheduled(fixedDelay = 60000)
+    public void purgeExpired() {
+        Instant now = Instant.now();
+        localHolds.values().removeIf(hold -> hold.isExpired(now));
+    }
+
+    private List<HeldSlot> heldSlots(ResourceType resourceType, Long resourceId) {
+        List<HeldSlot> slots = redis(() -> {
+            List<HeldSlot> result = new ArrayList<>();
+            slotsOf(resourceType, resourceId).readAllMap()
+                    .forEach((holdId, encoded) -> result.add(decodeSlot(holdId, encoded)));
+            return result;
+        });
+        return slots != null ? slots : localSlots(resourceType, resourceId);
+    }
+
+    /**
+     * Fallback: 이 서버에서 만든 홀드만
+     */
+    private List<HeldSlot> localSlots(ResourceType resourceType, Long resourceId) {
+        Instant now = Instant.now();
+        List<HeldSlot> slots = new ArrayList<>();
+        for (Hold hold : localHolds.values()) {
+            CreateReservationCommand cmd = hold.command();
+            Long owner = resourceType == ResourceType.VEHICLE ? cmd.vehicleId() : cmd.dispatcherId();
+            if (!hold.isExpired(now) && owner.equals(resourceId)) {
+                slots.add(decodeSlot(hold.holdId(), encodeSlot(cmd)));
+            }
+        }
+        return slots;
+    }
+
+    private static boolean overlapsAny(List<HeldSlot> slots, int start, int end, String excludeHoldId) {
+        for (HeldSlot slot : slots) {
+            if (!slot.holdId().equals(excludeHoldId) && slot.overlaps(start, end)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private RMapCache<String, String> slotsOf(ResourceType resourceType, Long resourceId) {
+        return redissonClient.getMapCache(HOLD_PREFIX + resourceType.name() + ":" + resourceId, StringCodec.INSTANCE);
+    }
+
+    /**
+     * Redis 호출 (Circuit OPEN이거나 실패하면 null → 호출자가 로컬 사본 사용)
+     */
+    private <T> T redis(Supplier<T> call) {
+        if (!circuitBreaker.allowRequest()) {
+            return null;
+        }
+        try {
+            T result = call.get();
+            circuitBreaker.recordSuccess();
+            return result;
+        } catch (Exception e) {
+            circuitBreaker.recordFailure();
+            System.err.printf("[HoldStore] Redis 오류 - 로컬 홀드만 사용: %s%n", e.getMessage());
+            return null;
+        }
+    }
+
+    /*
+     * 직렬화: operatorId,vehicleId,dispatcherId,from,to,startMinute,endMinute (장소는 TINYINT 코드)
+     */
+
+    private static String encode(CreateReservationCommand cmd) {
+        return String.join(",",
+                String.valueOf(cmd.operatorId()),
+                String.valueOf(cmd.vehicleId()),
+                String.valueOf(cmd.dispatcherId()),
+                String.valueOf(cmd.fromLocation().getCode()),
+                String.valueOf(cmd.toLocation().getCode()),
+                String.valueOf(EpochMinuteConverter.toEpochMinute(cmd.startTime())),
+                String.valueOf(EpochMinuteConverter.toEpochMinute(cmd.endTime())));
+    }
+
+    private static CreateReservationCommand decode(String encoded) {
+        String[] f = encoded.split(",");
+        return new CreateReservationCommand(
+                Long.valueOf(f[0]), Long.valueOf(f[1]), Long.valueOf(f[2]),
+                Location.fromCode(Byte.parseByte(f[3])), Location.fromCode(Byte.parseByte(f[4])),
+                EpochMinuteConverter.fromEpochMinute(Integer.parseInt(f[5])),
+                EpochMinuteConverter.fromEpochMinute(Integer.parseInt(f[6])));
+    }
+
+    private static String encodeSlot(CreateReservationCommand cmd) {
+        return EpochMinuteConverter.toEpochMinute(cmd.startTime()) + ","
+                + EpochMinuteConverter.toEpochMinute(cmd.endTime()) + ","
+                + cmd.toLocation().getCode();
+    }
+
+    private static HeldSlot decodeSlot(String holdId, String encoded) {
+        String[] f = encoded.split(",");
+        return new HeldSlot(holdId, Integer.parseInt(f[0]), Integer.parseInt(f[1]),
+                Location.fromCode(Byte.parseByte(f[2])));
+    }
+}
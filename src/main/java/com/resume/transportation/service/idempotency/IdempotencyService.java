@@ -0,0 +1,176 @@
+package com.resume.transportation.service.idempotency;
+
+import com.resume.transportation.service.exception.RejectReason;
+import com.resume.transportation.service.exception.ReservationRejectedException;
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.function.Supplier;
+
+/**
+ * Idempotency-Key 기반 예약 생성 (네트워크 재시도가 두 번 실행되지 않도록)
+ *
+ * 1. 끝난 요청이면 저장된 결과를 그대로 돌려준다 (락 / Redis 슬롯 / DB 접근 없음)
+ * 2. 같은 서버에서 처리 중이면 원본의 결과를 기다린다 (로컬 future)
+ * 3. 다른 서버에서 처리 중이면(Redis 처리 중 표시) 결과가 저장될 때까지 기다린다
+ * 4. 원본이면 실행 후 결과 저장
+ *    - 성공 / 확정 거절(INVALID, CONFLICT): 저장 → 재시도에도 같은 응답
+ *    - 일시적 실패(BUSY, 락 경합, 그 외 예외): 저장하지 않음 → 같은 키 재시도가 다시 실행
+ *
+ * 같은 키로 본문이 다른 요청이 오면 IDEMPOTENCY_KEY_REUSED.
+ * 기다리다 wait-timeout을 넘기면 IDEMPOTENCY_IN_PROGRESS (429 + Retry-After).
+ */
+@Service
+@RequiredArgsConstructor
+public class IdempotencyService {
+
+    private static final int MAX_KEY_LENGTH = 128;
+
+    private final IdempotencyStore idempotencyStore;
+    private final ConcurrentHashMap<String, CompletableFuture<IdempotentOutcome>> inFlight = new ConcurrentHashMap<>();
+
+    @Value("${transportation.idempotency.wait-timeout:5s}")
+    private Duration waitTimeout = Duration.ofSeconds(5);
+
+    @Value("${transportation.idempotency.poll-interval:50ms}")
+    private Duration pollInterval = Duration.ofMillis(50);
+
+    /**
+     * @param request 요청 본문 (지문 계산용, 같은 요청이면 같은 문자열)
+     * @param action  원본일 때만 실행할 예약 생성 (생성된 예약 ID 반환)
+     */
+    public IdempotentResult execute(String key, String request, Supplier<Long> action) {
+        if (key.isBlank() || key.length() > MAX_KEY_LENGTH) {
+            throw new ReservationRejectedException(RejectReason.INVALID_REQUEST);
+        }
+        String fingerprint = UUID.nameUUIDFromBytes(request.getBytes(StandardCharsets.UTF_8)).toString();
+
+        // 1️⃣ 끝난 요청 (로컬 → Redis)
+        Optional<IdempotentOutcome> completed = idempotencyStore.findCompleted(key);
+        if (completed.isPresent()) {
+            return replay(completed.get(), fingerprint);
+        }
+
+        // 2️⃣ 같은 서버의 동시 중복 → 원본 대기
+        CompletableFuture<IdempotentOutcome> mine = new CompletableFuture<>();
+        CompletableFuture<IdempotentOutcome> running = inFlight.putIfAbsent(key, mine);
+        if (running != null) {
+            return replay(await(running), fingerprint);
+        }
+
+        try {
+            // 3️⃣ 다른 서버의 동시 중복 → 결과 저장 대기
+            if (!idempotencyStore.tryBegin(key, fingerprint)) {
+                IdempotentOutcome outcome = awaitRemote(key);
+                mine.complete(outcome);
+                return replay(outcome, fingerprint);
+            }
+
+            // 4️⃣ 원본 실행
+            return new IdempotentResult(run(key, fingerprint, action, mine), false);
+
+        } catch (RuntimeException e) {
+            mine.completeExceptionally(e);
+            throw e;
+        } finally {
+            inFlight.remove(key, mine);
+        }
+    }
+
+    /**
+     * 원본 실행 후 결과 저장 + 대기 중인 같은 서버 중복 요청에 전달
+     *
+     * @return 생성된 예약 ID
+     */
+    private Long run(String key, String fingerprint, Supplier<Long> action,
+                     CompletableFuture<IdempotentOutcome> waiters) {
+        Long reservationId;
+        try {
+            reservationId = action.get();
+        } catch (ReservationRejectedException e) {
+            if (e.getReason().getCategory() == RejectReason.Category.BUSY) {
+                idempotencyStore.abandon(key);
+                throw e;
+            }
+            // 확정 거절은 저장 후 그대로 전파 (원본 응답에는 대안 등 부가 정보 유지)
+            IdempotentOutcome rejected = IdempotentOutcome.rejected(fingerprint, e.getReason());
+            idempotencyStore.complete(key, rejected);
+            waiters.complete(rejected);
+            throw e;
+        } catch (RuntimeException e) {
+            idempotencyStore.abandon(key);
+            throw e;
+        }
+
+        IdempotentOutcome succeeded = IdempotentOutcome.succeeded(fingerprint, reservationId);
+        idempotencyStore.complete(key, succeeded);
+        waiters.complete(succeeded);
+        return reservationId;
+    }
+
+    /**
+     * 같은 서버 원본의 결과 (원본이 일시적 실패면 같은 예외)
+     */
+    private IdempotentOutcome await(CompletableFuture<IdempotentOutcome> running) {
+        try {
+            return running.get(waitTimeout.toMillis(), TimeUnit.MILLISECONDS);
+        } catch (TimeoutException e) {
+            throw new ReservationRejectedException(RejectReason.IDEMPOTENCY_IN_PROGRESS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new ReservationRejectedException(RejectReason.IDEMPOTENCY_IN_PROGRESS);
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            throw new IllegalStateException(e.getCause());
+        }
+    }
+
+    /**
+     * 다른 서버 원본의 결과 저장 대기 (처리 중 표시가 사라지면 = 일시적 실패로 포기 → 클라이언트 재시도)
+     */
+    private IdempotentOutcome awaitRemote(String key) {
+        long deadline = System.nanoTime() + waitTimeout.toNanos();
+        while (System.nanoTime() < deadline) {
+            Optional<IdempotentOutcome> completed = idempotencyStore.findCompleted(key);
+            if (completed.isPresent()) {
+                return completed.get();
+            }
+            if (!idempotencyStore.isPending(key)) {
+                break;
+            }
+            try {
+                Thread.sleep(pollInterval.toMillis());
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                break;
+            }
+        }
+        throw new ReservationRejectedException(RejectReason.IDEMPOTENCY_IN_PROGRESS);
+    }
+
+    private static IdempotentResult replay(IdempotentOutcome outcome, String fingerprint) {
+        if (!outcome.fingerprint().equals(fingerprint)) {
+            throw new ReservationRejectedException(RejectReason.IDEMPOTENCY_KEY_REUSED);
+        }
+        return toResult(outcome, true);
+    }
+
+    private static IdempotentResult toResult(IdempotentOutcome outcome, boolean replayed) {
+        if (outcome.reason() != null) {
+            throw new ReservationRejectedException(outcome.reason());
+        }
+        return new IdempotentResult(outcome.reservationId(), replayed);
+    }
+}
@@ -0,0 +1,172 @@
+package com.resume.transportation.service.idempotency;
+
+import com.resume.transportation.service.exception.RejectReason;
+import com.resume.transportation.service.ratelimit.CircuitBreaker;
+import org.redisson.api.RBucket;
+import org.redisson.api.RedissonClient;
+import org.redisson.client.codec.StringCodec;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+
+/**
+ * Idempotency-Key 결과 저장소 (로컬 캐시 + Redis, DB 접근 없음)
+ *
+ * Redis - reservation:idem:{key} (bucket)
+ * - P|{지문}              : 처리 중 (in-flight-ttl, 원본 서버가 죽어도 키가 묶이지 않음)
+ * - S|{지문}|{reservationId} : 성공 (ttl)
+ * - R|{지문}|{거절 사유}     : 확정 거절 (ttl)
+ *
+ * 로컬: 이 서버가 보거나 만든 결과 사본 (local-ttl, 재시도는 대부분 짧은 간격이라 Redis 왕복도 생략)
+ * Redis 장애 시에는 HoldStore와 마찬가지로 서버 로컬 범위로만 동작한다.
+ */
+@Component
+public class IdempotencyStore {
+
+    private static final String KEY_PREFIX = "reservation:idem:";
+    private static final String PENDING = "P";
+    private static final String SUCCEEDED = "S";
+    private static final String REJECTED = "R";
+
+    private static final int FAILURE_THRESHOLD = 5;
+    private static final Duration OPEN_TIMEOUT = Duration.ofSeconds(30);
+
+    private final RedissonClient redissonClient;
+    private final CircuitBreaker circuitBreaker;
+    private final ConcurrentHashMap<String, LocalCopy> localOutcomes = new ConcurrentHashMap<>();
+
+    @Value("${transportation.idempotency.ttl:24h}")
+    private Duration ttl = Duration.ofHours(24);
+
+    @Value("${transportation.idempotency.local-ttl:10m}")
+    private Duration localTtl = Duration.ofMinutes(10);
+
+    @Value("${transportation.idempotency.in-flight-ttl:30s}")
+    private Duration inFlightTtl = Duration.ofSeconds(30);
+
+    public IdempotencyStore(RedissonClient redissonClient) {
+        this.redissonClient = redissonClient;
+        this.circuitBreaker = new CircuitBreaker("Redisson-Idempotency", FAILURE_THRESHOLD, OPEN_TIMEOUT);
+    }
+
+    /**
+     * 끝난 요청의 결과 (로컬 → Redis 순)
+     */
+    public Optional<IdempotentOutcome> findCompleted(String key) {
+        LocalCopy local = localOutcomes.get(key);
+        if (local != null && !local.isExpired(Instant.now())) {
+            return Optional.of(local.outcome());
+        }
+
+        String encoded = redis(() -> bucket(key).get());
+        IdempotentOutcome outcome = encoded == null ? null : decode(encoded);
+        if (outcome != null) {
+            remember(key, outcome);
+        }
+        return Optional.ofNullable(outcome);
+    }
+
+    /**
+     * 처리 중 표시 선점 (다른 서버의 같은 키 요청과 경합)
+     *
+     * @return 이 요청이 원본이면 true (Redis 장애 시에도 true - 로컬 범위로만 보장)
+     */
+    public boolean tryBegin(String key, String fingerprint) {
+        Boolean began = redis(() -> bucket(key).trySet(
+                PENDING + "|" + fingerprint, inFlightTtl.toMillis(), TimeUnit.MILLISECONDS));
+        return began == null || began;
+    }
+
+    /**
+     * 결과 저장 (처리 중 표시를 결과로 교체)
+     */
+    public void complete(String key, IdempotentOutcome outcome) {
+        remember(key, outcome);
+        redis(() -> {
+            bucket(key).set(encode(outcome), ttl.toMillis(), TimeUnit.MILLISECONDS);
+            return null;
+        });
+    }
+
+    /**
+     * 결과를 남기지 않고 처리 중 표시 제거 (일시적 실패 - 같은 키 재시도가 다시 실행되어야 함)
+     */
+    public void abandon(String key) {
+        redis(() -> bucket(key).delete());
+    }
+
+    /**
+     * @return Redis에 처리 중 표시가 남아 있으면 true (Redis 장애 시 false)
+     */
+    public boolean isPending(String key) {
+        String encoded = redis(() -> bucket(key).get());
+        return encoded != null && encoded.startsWith(PENDING + "|");
+    }
+
+    /**
+     * 만료된 로컬 사본 정리 (Redis 쪽은 TTL로 자동 정리)
+     */
+    @Scheduled(fixedDelay = 60000)
+    public void purgeExpired() {
+        Instant now = Instant.now();
+        localOutcomes.values().removeIf(copy -> copy.isExpired(now));
+    }
+
+    private void remember(String key, IdempotentOutcome outcome) {
+        localOutcomes.put(key, new LocalCopy(outcome, Instant.now().plus(localTtl)));
+    }
+
+    private RBucket<String> bucket(String key) {
+        return redissonClient.getBucket(KEY_PREFIX + key, StringCodec.INSTANCE);
+    }
+
+    /**
+     * Redis 호출 (Circuit OPEN이거나 실패하면 null → 호출자가 로컬 사본 사용)
+     */
+    private <T> T redis(Supplier<T> call) {
+        if (!circuitBreaker.allowRequest()) {
+            return null;
+        }
+        try {
+            T result = call.get();
+            circuitBreaker.recordSuccess();
+            return result;
+        } catch (Exception e) {
+            circuitBreaker.recordFailure();
+            System.err.printf("[IdempotencyStore] Redis 오류 - 로컬 결과만 사용: %s%n", e.getMessage());
+            return null;
+        }
+    }
+
+    private static String encode(IdempotentOutcome outcome) {
+        return outcome.reason() == null
+                ? SUCCEEDED + "|" + outcome.fingerprint() + "|" + outcome.reservationId()
+                : REJECTED + "|" + outcome.fingerprint() + "|" + outcome.reason().name();
+    }
+
+    /**
+     * @return 처리 중 표시면 null
+     */
+    private static IdempotentOutcome decode(String encoded) {
+        String[] f = encoded.split("\\|");
+        return switch (f[0]) {
+            case SUCCEEDED -> IdempotentOutcome.succeeded(f[1], Long.valueOf(f[2]));
+            case REJECTED -> IdempotentOutcome.rejected(f[1], RejectReason.valueOf(f[2]));
+            default -> null;
+        };
+    }
+
+    private record LocalCopy(IdempotentOutcome outcome, Instant expiresAt) {
+
+        boolean isExpired(Instant now) {
+            return !now.isBefore(expiresAt);
+        }
+    }
+}
@@ -0,0 +1,19 @@
+package com.resume.transportation.service.idempotency;
+
+import com.resume.transportation.service.exception.RejectReason;
+
+/**
+ * Idempotency-Key로 저장한 예약 생성 결과 (성공이면 reservationId, 거절이면 reason)
+ *
+ * @param fingerprint 원본 요청 본문 지문 (같은 키로 다른 요청이 오면 거절)
+ */
+public record IdempotentOutcome(String fingerprint, Long reservationId, RejectReason reason) {
+
+    public static IdempotentOutcome succeeded(String fingerprint, Long reservationId) {
+        return new IdempotentOutcome(fingerprint, reservationId, null);
+    }
+
+    public static IdempotentOutcome rejected(String fingerprint, RejectReason reason) {
+        return new IdempotentOutcome(fingerprint, null, reason);
+    }
+}
@@ -0,0 +1,7 @@
+package com.resume.transportation.service.idempotency;
+
+/**
+ * @param replayed 저장된 결과를 돌려준 경우 true (락 / DB 접근 없음)
+ */
+public record IdempotentResult(Long reservationId, boolean replayed) {
+}
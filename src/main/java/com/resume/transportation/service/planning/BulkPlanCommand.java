@@ -0,0 +1,15 @@
+package com.resume.transportation.service.planning;
+
+import java.util.List;
+
+/**
+ * 배치 계획 요청
+ *
+ * @param commit false면 계획만 반환 (dry-run)
+ */
+public record BulkPlanCommand(
+        Long operatorId,
+        List<PlannedTrip> trips,
+        boolean commit
+) {
+}
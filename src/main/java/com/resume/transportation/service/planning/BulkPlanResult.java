@@ -0,0 +1,29 @@
+package com.resume.transportation.service.planning;
+
+import com.resume.transportation.service.exception.RejectReason;
+
+import java.util.List;
+
+/**
+ * 배치 계획 결과
+ *
+ * @param planMillis   검증 + 정렬 + 배정 시간
+ * @param commitMillis 대량 INSERT + 겹침 검증 시간 (dry-run이면 0)
+ */
+public record BulkPlanResult(
+        List<Assignment> assigned,
+        List<Unassigned> unassigned,
+        boolean committed,
+        long planMillis,
+        long commitMillis
+) {
+
+    /**
+     * @param reservationId 커밋된 경우에만 값이 있음
+     */
+    public record Assignment(String ref, long vehicleId, long dispatcherId, Long reservationId) {
+    }
+
+    public record Unassigned(String ref, RejectReason reason) {
+    }
+}
@@ -0,0 +1,266 @@
+package com.resume.transportation.service.planning;
+
+import com.resume.transportation.config.datasource.Workload;
+import com.resume.transportation.config.datasource.WorkloadContext;
+import com.resume.transportation.entity.converter.EpochMinuteConverter;
+import com.resume.transportation.enums.Location;
+import com.resume.transportation.enums.ResourceType;
+import com.resume.transportation.service.ReservationService;
+import com.resume.transportation.service.availability.Candidate;
+import com.resume.transportation.service.availability.ScheduleIndex;
+import com.resume.transportation.service.command.CreateReservationCommand;
+import com.resume.transportation.service.exception.RejectReason;
+import com.resume.transportation.service.exception.ReservationRejectedException;
+import com.resume.transportation.service.hold.HoldStore;
+import com.resume.transportation.service.recurring.RecurringScheduleCalendar;
+import com.resume.transportation.service.store.ReservationStore;
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.stream.IntStream;
+
+/**
+ * 하루치 운행 목록 일괄 배정 (오프라인 배치)
+ *
+ * 1. 검증: 운행별 구간 / 이동 시간 검증을 fork/join 병렬 실행 (TravelTimeService, 메모리 조회만)
+ * 2. 정렬: (시작 시각, 입력 순서)를 long 하나로 인코딩해 Arrays.parallelSort
+ * 3. 배정: 시작 시각 순으로 한 번 훑으며 출발지에서 가장 늦게 비는 차량 / 디스패처를 배정 (대기 시간 최소)
+ *          → 도착지 / 종료 시각으로 되돌려 놓음 (위치 연속성 + 겹침 없음이 구성상 보장)
+ *          리소스 위치가 시간대를 넘어 이어지므로 이 단계는 순차 실행한다. 운행 n, 리소스 m에 대해 O(n log m).
+ * 4. 커밋: chunk 단위 JDBC batch INSERT → 병렬 겹침 검증 (insert-then-validate와 같은 규칙)
+ *          계획 이후 온라인 예약과 겹친 운행은 삭제하고, 그 리소스의 이후 운행도 위치가 끊기므로 함께 삭제
+ *          반복 일정 회차(아직 행으로 만들어지지 않은 것 포함) / 다른 요청의 홀드와 겹친 운행도 같은 방식으로 삭제
+ *          (배치가 홀드를 덮어쓰지 않는다 - 홀드는 확정 예약과 똑같이 막는다)
+ *
+ * 대상 리소스: 계획 구간 [가장 이른 시작, 가장 늦은 종료) 전체가 비어 있는 리소스 (ScheduleIndex 기준)
+ */
+@Service
+@RequiredArgsConstructor
+public class BulkPlanner {
+
+    private final ReservationService reservationService;
+    private final ReservationStore reservationStore;
+    private final ScheduleIndex scheduleIndex;
+    private final RecurringScheduleCalendar recurringCalendar;
+    private final HoldStore holdStore;
+    private final ExecutorService validationExecutor;
+
+    @Value("${transportation.planning.verify-parallelism:4}")
+    private int verifyParallelism = 4;
+
+    public BulkPlanResult plan(BulkPlanCommand cmd) {
+        if (cmd.operatorId() == null || cmd.trips() == null || cmd.trips().isEmpty()) {
+            throw new ReservationRejectedException(RejectReason.INVALID_REQUEST);
+        }
+
+        long began = System.nanoTime();
+        List<PlannedTrip> trips = cmd.trips();
+        int n = trips.size();
+
+        // 1. 병렬 검증
+        RejectReason[] rejected = new RejectReason[n];
+        IntStream.range(0, n).parallel().forEach(i -> rejected[i] = validate(trips.get(i)));
+
+        // 2. 시작 시각 순 정렬
+        long[] order = IntStream.range(0, n).parallel()
+                .filter(i -> rejected[i] == null)
+                .mapToLong(i -> ((long) minute(trips.get(i).startTime()) << 32) | i)
+                .toArray();
+        Arrays.parallelSort(order);
+
+        // 3. 배정
+        long[] vehicleOf = new long[n];
+        long[] dispatcherOf = new long[n];
+        List<Integer> assigned = new ArrayList<>(order.length);
+        if (order.length > 0) {
+            LocalDateTime windowStart = trips.get((int) order[0]).startTime();
+            LocalDateTime windowEnd = Arrays.stream(order).parallel()
+                    .mapToObj(entry -> trips.get((int) entry).endTime())
+                    .max(LocalDateTime::compareTo)
+                    .orElseThrow();
+            ResourcePool vehicles = loadPool(ResourceType.VEHICLE, windowStart, windowEnd);
+            ResourcePool dispatchers = loadPool(ResourceType.DISPATCHER, windowStart, windowEnd);
+
+            for (long entry : order) {
+                int i = (int) entry;
+                PlannedTrip trip = trips.get(i);
+                int start = minute(trip.startTime());
+                long vehicle = vehicles.take(trip.fromLocation(), start);
+                long dispatcher = dispatchers.take(trip.fromLocation(), start);
+                if (vehicle < 0 || dispatcher < 0) {
+                    if (vehicle >= 0) {
+                        vehicles.undo(trip.fromLocation(), vehicle);
+                    }
+                    if (dispatcher >= 0) {
+                        dispatchers.undo(trip.fromLocation(), dispatcher);
+                    }
+                    rejected[i] = RejectReason.NO_AVAILABLE_RESOURCE;
+                    continue;
+                }
+
+                int end = minute(trip.endTime());
+                vehicles.release(vehicle, trip.toLocation(), end);
+                dispatchers.release(dispatcher, trip.toLocation(), end);
+                vehicleOf[i] = vehicles.resourceId(vehicle);
+                dispatcherOf[i] = dispatchers.resourceId(dispatcher);
+                assigned.add(i);
+            }
+        }
+        long planMillis = (System.nanoTime() - began) / 1_000_000;
+
+        // 4. 커밋
+        Long[] reservationIds = new Long[n];
+        long commitMillis = 0;
+        if (cmd.commit() && !assigned.isEmpty()) {
+            long commitBegan = System.nanoTime();
+            commit(cmd.operatorId(), trips, assigned, vehicleOf, dispatcherOf, reservationIds, rejected);
+            scheduleIndex.rebuild();
+            commitMillis = (System.nanoTime() - commitBegan) / 1_000_000;
+        }
+
+        List<BulkPlanResult.Assignment> assignments = new ArrayList<>(assigned.size());
+        List<BulkPlanResult.Unassigned> unassigned = new ArrayList<>();
+        for (int i = 0; i < n; i++) {
+            if (rejected[i] != null) {
+                unassigned.add(new BulkPlanResult.Unassigned(trips.get(i).ref(), rejected[i]));
+            }
+        }
+        for (int i : assigned) {
+            if (rejected[i] == null) {
+                assignments.add(new BulkPlanResult.Assignment(
+                        trips.get(i).ref(), vehicleOf[i], dispatcherOf[i], reservationIds[i]));
+            }
+        }
+
+        System.out.printf("📦 [BulkPlan] 운행 %d건 → 배정 %d, 미배정 %d (계획 %dms, 커밋 %dms)%n",
+                n, assignments.size(), unassigned.size(), planMillis, commitMillis);
+        return new BulkPlanResult(assignments, unassigned, cmd.commit(), planMillis, commitMillis);
+    }
+
+    private RejectReason validate(PlannedTrip trip) {
+        try {
+            reservationService.validateTrip(trip.fromLocation(), trip.toLocation(), trip.startTime(), trip.endTime());
+            return null;
+        } catch (ReservationRejectedException e) {
+            return e.getReason();
+        }
+    }
+
+    /**
+     * 계획 구간 전체가 비어 있는 리소스를 구간 시작 시점 위치별로 적재
+     */
+    private ResourcePool loadPool(ResourceType resourceType, LocalDateTime windowStart, LocalDateTime windowEnd) {
+        List<List<Candidate>> byLocation = new ArrayList<>();
+        int total = 0;
+        for (Location location : Location.values()) {
+            List<Candidate> candidates = scheduleIndex.findCandidates(resourceType, location, windowStart, windowEnd);
+            byLocation.add(candidates);
+            total += candidates.size();
+        }
+
+        ResourcePool pool = new ResourcePool(total);
+        int freeAt = minute(windowStart);
+        for (Location location : Location.values()) {
+            for (Candidate candidate : byLocation.get(location.ordinal())) {
+                pool.add(candidate.resourceId(), location, freeAt);
+            }
+        }
+        return pool;
+    }
+
+    private void commit(Long operatorId,
+                        List<PlannedTrip> trips,
+                        List<Integer> assigned,
+                        long[] vehicleOf,
+                        long[] dispatcherOf,
+                        Long[] reservationIds,
+                        RejectReason[] rejected) {
+        List<CreateReservationCommand> commands = new ArrayList<>(assigned.size());
+        for (int i : assigned) {
+            PlannedTrip trip = trips.get(i);
+            commands.add(new CreateReservationCommand(operatorId, vehicleOf[i], dispatcherOf[i],
+                    trip.fromLocation(), trip.toLocation(), trip.startTime(), trip.endTime()));
+        }
+
+        List<Long> ids = reservationStore.insertAll(commands);
+        for (int k = 0; k < assigned.size(); k++) {
+            reservationIds[assigned.get(k)] = ids.get(k);
+        }
+
+        RejectReason[] conflicts = verify(commands, ids);
+
+        // 겹친 운행 + 그 리소스의 이후 운행 삭제 (시작 시각 순으로 한 번 훑으면 전파됨)
+        Set<Long> brokenVehicles = new HashSet<>();
+        Set<Long> brokenDispatchers = new HashSet<>();
+        for (int k = 0; k < assigned.size(); k++) {
+            int i = assigned.get(k);
+            RejectReason reason = conflicts[k];
+            if (reason == null && brokenVehicles.contains(vehicleOf[i])) {
+                reason = RejectReason.VEHICLE_LOCATION_MISMATCH;
+            } else if (reason == null && brokenDispatchers.contains(dispatcherOf[i])) {
+                reason = RejectReason.DISPATCHER_LOCATION_MISMATCH;
+            }
+            if (reason != null) {
+                reservationStore.delete(ids.get(k));
+                reservationIds[i] = null;
+                rejected[i] = reason;
+                brokenVehicles.add(vehicleOf[i]);
+                brokenDispatchers.add(dispatcherOf[i]);
+            }
+        }
+    }
+
+    /**
+     * 커밋된 예약마다 자기보다 먼저 INSERT된 예약과의 겹침 검사 (VALIDATION 풀, verify-parallelism개 구간 병렬)
+     * 같은 배치끼리는 구성상 겹치지 않으므로 걸리는 것은 계획 이후 들어온 온라인 예약,
+     * ScheduleIndex에 없는 반복 일정 회차(회차 산술, horizon 밖 회차 포함)와 홀드다.
+     */
+    private RejectReason[] verify(List<CreateReservationCommand> commands, List<Long> ids) {
+        RejectReason[] conflicts = new RejectReason[commands.size()];
+        int parallelism = Math.max(1, verifyParallelism);
+        int sliceSize = (commands.size() + parallelism - 1) / parallelism;
+
+        List<CompletableFuture<Void>> slices = new ArrayList<>();
+        for (int from = 0; from < commands.size(); from += sliceSize) {
+            int sliceFrom = from;
+            int sliceTo = Math.min(from + sliceSize, commands.size());
+            slices.add(CompletableFuture.runAsync(() -> WorkloadContext.run(Workload.VALIDATION, () -> {
+                for (int k = sliceFrom; k < sliceTo; k++) {
+                    conflicts[k] = conflictOf(commands.get(k), ids.get(k));
+                }
+            }), validationExecutor));
+        }
+        CompletableFuture.allOf(slices.toArray(CompletableFuture[]::new)).join();
+        return conflicts;
+    }
+
+    private RejectReason conflictOf(CreateReservationCommand cmd, Long reservationId) {
+        if (reservationStore.existsOverlapExcluding(ResourceType.VEHICLE, cmd.vehicleId(), reservationId,
+                cmd.startTime(), cmd.endTime())) {
+            return RejectReason.VEHICLE_OVERLAP;
+        }
+        if (reservationStore.existsOverlapExcluding(ResourceType.DISPATCHER, cmd.dispatcherId(), reservationId,
+                cmd.startTime(), cmd.endTime())) {
+            return RejectReason.DISPATCHER_OVERLAP;
+        }
+        RejectReason recurring = recurringCalendar.findConflict(
+                cmd.vehicleId(), cmd.dispatcherId(), cmd.startTime(), cmd.endTime());
+        if (recurring != null) {
+            return recurring;
+        }
+        return holdStore.findConflict(cmd.vehicleId(), cmd.dispatcherId(), cmd.startTime(), cmd.endTime(), null);
+    }
+
+    private static int minute(LocalDateTime time) {
+        return EpochMinuteConverter.toEpochMinute(time);
+    }
+}
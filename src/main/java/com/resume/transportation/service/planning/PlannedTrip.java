@@ -0,0 +1,19 @@
+package com.resume.transportation.service.planning;
+
+import com.resume.transportation.enums.Location;
+
+import java.time.LocalDateTime;
+
+/**
+ * 배치 계획 입력 운행 1건
+ *
+ * @param ref 호출자 식별자 (결과 매칭용)
+ */
+public record PlannedTrip(
+        String ref,
+        Location fromLocation,
+        Location toLocation,
+        LocalDateTime startTime,
+        LocalDateTime endTime
+) {
+}
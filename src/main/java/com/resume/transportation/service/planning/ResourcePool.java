@@ -0,0 +1,75 @@
+package com.resume.transportation.service.planning;
+
+import com.resume.transportation.enums.Location;
+
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.TreeSet;
+
+/**
+ * 배치 계획용 리소스 상태 (장소별로 "비는 시각" 순 정렬)
+ *
+ * 키 = (비는 시각 epoch-minute << 32) | 리소스 인덱스 → long 하나로 정렬 / 조회
+ * 단일 스레드 전용 (배정 단계는 순차 실행)
+ */
+final class ResourcePool {
+
+    private static final long INDEX_MASK = 0xFFFFFFFFL;
+
+    private final long[] resourceIds;
+    private final Map<Location, TreeSet<Long>> byLocation = new EnumMap<>(Location.class);
+    private int size;
+
+    ResourcePool(int capacity) {
+        this.resourceIds = new long[capacity];
+        for (Location location : Location.values()) {
+            byLocation.put(location, new TreeSet<>());
+        }
+    }
+
+    void add(long resourceId, Location location, int freeAt) {
+        resourceIds[size] = resourceId;
+        byLocation.get(location).add(key(freeAt, size));
+        size++;
+    }
+
+    /**
+     * location에서 start까지 비는 리소스 중 가장 늦게 비는 것 (대기 시간 최소)
+     *
+     * @return 꺼낸 키, 없으면 -1
+     */
+    long take(Location location, int start) {
+        Long key = byLocation.get(location).floor(key(start, (int) INDEX_MASK));
+        if (key == null) {
+            return -1;
+        }
+        byLocation.get(location).remove(key);
+        return key;
+    }
+
+    /**
+     * take한 리소스를 그대로 되돌림 (상대 리소스를 못 찾은 경우)
+     */
+    void undo(Location location, long key) {
+        byLocation.get(location).add(key);
+    }
+
+    /**
+     * 운행 후 도착지에서 end부터 다시 사용 가능
+     */
+    void release(long key, Location location, int freeAt) {
+        byLocation.get(location).add(key(freeAt, (int) (key & INDEX_MASK)));
+    }
+
+    long resourceId(long key) {
+        return resourceIds[(int) (key & INDEX_MASK)];
+    }
+
+    int size() {
+        return size;
+    }
+
+    private static long key(int freeAt, int index) {
+        return ((long) freeAt << 32) | (index & INDEX_MASK);
+    }
+}
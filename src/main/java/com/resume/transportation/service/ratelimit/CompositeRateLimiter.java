@@ -1,9 +1,15 @@
 package com.resume.transportation.service.ratelimit;
 
+import com.resume.transportation.service.capacity.VehicleCapacities;
+import com.resume.transportation.service.command.ResourceClaim;
+import com.resume.transportation.service.deadline.DeadlineGuard;
+import com.resume.transportation.service.deadline.DeadlineStage;
 import org.springframework.stereotype.Component;
 
 import java.time.LocalDateTime;
-import java.util.HashSet;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
 import java.util.Set;
 
 /**
@@ -14,19 +20,35 @@ import java.util.Set;
  *
  * Semaphore를 먼저 통과해야 Redis에 접근하므로,
  * Redis 부하도 최소화된다.
+ *
+ * 예약이 점유하는 리소스(차량 / 디스패처 / 부가 리소스)는 하나의 목록으로 모아
+ * 전역 순서(종류 → ID)로 정렬한 뒤 레이어마다 한 번에 획득한다.
+ * 리소스 종류가 늘어도 Redis 왕복은 1회로 유지된다.
+ *
+ * 두 레이어 모두 리소스 슬롯당 키 1개에 점유 수를 세고, 리소스 자신의 정원과 비교한다.
+ * - 합승 셔틀 차량(정원 > 1): 같은 운행의 예약이 정원만큼 함께 진입
+ * - 디스패처 / 부가 리소스: 항상 전용(정원 1) → 셔틀 운행과 다른 전용 운행이 같은 키에서 직렬화된다
+ *
+ * 요청 마감(DeadlineContext)이 지났으면 레이어마다 진입 전에 버린다 (DEADLINE_EXCEEDED).
  */
 @Component
 public class CompositeRateLimiter {
 
     private final ResourceRateLimiter localRateLimiter;
     private final DistributedRateLimiter distributedRateLimiter;
+    private final VehicleCapacities vehicleCapacities;
+    private final DeadlineGuard deadlineGuard;
 
     public CompositeRateLimiter(
             ResourceRateLimiter localRateLimiter,
-            DistributedRateLimiter distributedRateLimiter
+            DistributedRateLimiter distributedRateLimiter,
+            VehicleCapacities vehicleCapacities,
+            DeadlineGuard deadlineGuard
     ) {
         this.localRateLimiter = localRateLimiter;
         this.distributedRateLimiter = distributedRateLimiter;
+        this.vehicleCapacities = vehicleCapacities;
+        this.deadlineGuard = deadlineGuard;
     }
 
     /**
@@ -35,40 +57,44 @@ public class CompositeRateLimiter {
      * @return 락 해제에 필요한 컨텍스트
      */
     public CompositeContext acquire(Long vehicleId, Long dispatcherId, LocalDateTime startTime, LocalDateTime endTime) {
-        Set<String> localSlots = new HashSet<>();
-        DistributedRateLimiter.LockContext vehicleLock = null;
-        DistributedRateLimiter.LockContext dispatcherLock = null;
+        return acquire(vehicleId, dispatcherId, List.of(), startTime, endTime);
+    }
 
+    /**
+     * 차량 + 디스패처 + 부가 리소스에 대한 복합 락 획득
+     *
+     * @return 락 해제에 필요한 컨텍스트
+     */
+    public CompositeContext acquire(Long vehicleId, Long dispatcherId, List<ResourceClaim> claims,
+                                    LocalDateTime startTime, LocalDateTime endTime) {
+        deadlineGuard.check(DeadlineStage.LOCAL_LOCK);
+
+        List<LockTarget> targets = new ArrayList<>(claims.size() + 2);
+        targets.add(new LockTarget("VEHICLE", vehicleId, vehicleCapacities.capacityOf(vehicleId)));
+        targets.add(LockTarget.exclusive("DISPATCHER", dispatcherId));
+        for (ResourceClaim claim : claims) {
+            targets.add(LockTarget.exclusive(claim.type().name(), claim.resourceId()));
+        }
+        Collections.sort(targets);
+
+        Set<String> localSlots = null;
         try {
             // ============================================
             // Layer 1: Local Semaphore (빠른 필터링)
             // ============================================
-            Set<String> vehicleLocalSlots = localRateLimiter.tryAcquireForVehicle(
-                    vehicleId, startTime, endTime
-            );
-            localSlots.addAll(vehicleLocalSlots);
-
-            Set<String> dispatcherLocalSlots = localRateLimiter.tryAcquireForDispatcher(
-                    dispatcherId, startTime, endTime
-            );
-            localSlots.addAll(dispatcherLocalSlots);
+            localSlots = localRateLimiter.tryAcquireAll(targets, startTime, endTime);
 
             // ============================================
-            // Layer 2: Redis 분산 락 (전역 조율)
+            // Layer 2: Redis 분산 락 (전역 조율, 왕복 1회)
             // ============================================
-            vehicleLock = distributedRateLimiter.tryAcquireForVehicle(
-                    vehicleId, startTime, endTime
-            );
-
-            dispatcherLock = distributedRateLimiter.tryAcquireForDispatcher(
-                    dispatcherId, startTime, endTime
-            );
+            DistributedRateLimiter.LockContext distributedLock =
+                    distributedRateLimiter.tryAcquireAll(targets, startTime, endTime);
 
-            return new CompositeContext(localSlots, vehicleLock, dispatcherLock);
+            return new CompositeContext(localSlots, distributedLock);
 
         } catch (Exception e) {
             // 실패 시 이미 획득한 락들 정리
-            releasePartial(localSlots, vehicleLock, dispatcherLock);
+            releasePartial(localSlots, null);
             throw e;
         }
     }
@@ -79,29 +105,18 @@ public class CompositeRateLimiter {
     public void release(CompositeContext context) {
         if (context == null) return;
 
-        releasePartial(
-                context.localSlots(),
-                context.vehicleDistributedLock(),
-                context.dispatcherDistributedLock()
-        );
+        releasePartial(context.localSlots(), context.distributedLock());
     }
 
-    private void releasePartial(
-            Set<String> localSlots,
-            DistributedRateLimiter.LockContext vehicleLock,
-            DistributedRateLimiter.LockContext dispatcherLock
-    ) {
+    private void releasePartial(Set<String> localSlots, DistributedRateLimiter.LockContext distributedLock) {
         // Local 락 해제
         if (localSlots != null && !localSlots.isEmpty()) {
             localRateLimiter.release(localSlots);
         }
 
         // 분산 락 해제
-        if (vehicleLock != null) {
-            distributedRateLimiter.release(vehicleLock);
-        }
-        if (dispatcherLock != null) {
-            distributedRateLimiter.release(dispatcherLock);
+        if (distributedLock != null) {
+            distributedRateLimiter.release(distributedLock);
         }
     }
 
@@ -110,7 +125,6 @@ public class CompositeRateLimiter {
      */
     public record CompositeContext(
             Set<String> localSlots,
-            DistributedRateLimiter.LockContext vehicleDistributedLock,
-            DistributedRateLimiter.LockContext dispatcherDistributedLock
+            DistributedRateLimiter.LockContext distributedLock
     ) {}
 }
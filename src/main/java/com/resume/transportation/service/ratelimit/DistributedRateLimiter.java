@@ -1,139 +1,241 @@
 package com.resume.transportation.service.ratelimit;
 
-import org.redisson.api.RLock;
+import com.resume.transportation.service.deadline.DeadlineGuard;
+import com.resume.transportation.service.deadline.DeadlineStage;
+import jakarta.annotation.PreDestroy;
+import org.redisson.api.RScript;
 import org.redisson.api.RedissonClient;
+import org.redisson.client.codec.StringCodec;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Component;
 
+import java.time.Duration;
 import java.time.LocalDateTime;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.Set;
+import java.util.UUID;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
 import java.util.concurrent.TimeUnit;
 
 /**
- * Redisson 기반 분산 Rate Limiter (Circuit Breaker 적용)
- * Redisson의 RLock을 사용하여:
- * - 자동 Watchdog: 락 보유 중 TTL 자동 연장 (기본 30초마다)
- * - 안전한 해제: 본인 락만 해제
- * - 재진입 지원: 같은 스레드에서 여러 번 획득 가능
- * Redis 장애 시 Circuit Breaker가 동작하여 Fallback 처리
+ * Redis 기반 분산 Rate Limiter (Circuit Breaker 적용)
+ *
+ * tryAcquireAll은 여러 리소스의 모든 시간 슬롯을 리소스 / 슬롯 수와 무관하게 Redis 왕복 1회로 잡는다.
+ * - 슬롯마다 ZSET(member = 요청 토큰, score = lease 만료 시각)으로 점유 수를 센다 (정원 1 = 전용, > 1 = 합승)
+ * - Lua 스크립트가 전역 순서대로 모든 슬롯을 확인한 뒤 전부 통과할 때만 한꺼번에 점유 (all-or-nothing)
+ * - 해제는 자기 토큰만 제거한다 (다른 요청의 점유는 건드리지 않음)
+ *
+ * lease 연장: 보유 중인 점유는 전용 스레드가 slot-lease / 3마다 만료 시각을 다시 slot-lease 뒤로 민다
+ * (RLock Watchdog과 같은 방식, 스크립트 1회로 그 요청의 모든 슬롯 연장).
+ * - 요청이 slot-lease보다 오래 걸려도 점유가 풀리지 않는다
+ * - 서버가 죽으면 연장이 멈추므로 마지막 연장 후 slot-lease가 지나면 자동 반환된다
+ * - 연장 시점에 토큰이 이미 없으면(Redis 지연 등으로 만료) 점유를 잃은 것으로 보고 로그만 남긴다
+ *   → 이후 정합성은 DB insert-then-validate가 보장한다
+ *
+ * Redis 장애 시 Circuit Breaker가 동작하여 Fallback 처리 (로컬 Semaphore만으로 진행)
+ * 단일 서버 Redis 기준이다 (Cluster에서는 다중 키 스크립트가 같은 hash slot을 요구함).
  */
 @Component
 public class DistributedRateLimiter {
 
     private final RedissonClient redissonClient;
+    private final DeadlineGuard deadlineGuard;
     private final CircuitBreaker circuitBreaker;
+    private final long leaseMillis;
 
     /**
-     * 락 키 접두사
+     * 보유 중인 점유 (토큰 → 슬롯), 연장 대상
      */
-    private static final String LOCK_PREFIX = "reservation:lock:";
+    private final ConcurrentHashMap<String, SlotLease> heldLeases = new ConcurrentHashMap<>();
+    private final ScheduledExecutorService renewer;
 
     /**
-     * 락 획득 대기 시간 (0 = 즉시 실패, 대기 안 함)
+     * 슬롯 키 접두사 (ZSET)
      */
-    private static final long WAIT_TIME = 0;
+    private static final String SLOT_PREFIX = "reservation:slots:";
 
     /**
-     * 락 보유 시간 (-1 = Watchdog 사용, 자동 연장)
+     * KEYS: 슬롯 키 (전역 순서)
+     * ARGV: 현재 시각(ms), lease 만료 시각(ms), 토큰, 키 TTL(ms), 슬롯별 정원...
+     * 반환: 0 = 전부 점유, i > 0 = i번째 슬롯이 정원 초과 (아무 것도 점유하지 않음)
      */
-    private static final long LEASE_TIME = -1;
+    private static final String ACQUIRE_SLOTS = """
+            for i, key in ipairs(KEYS) do
+                redis.call('zremrangebyscore', key, '-inf', ARGV[1])
+                if redis.call('zcard', key) >= tonumber(ARGV[4 + i]) then
+                    return i
+                end
+            end
+            for i, key in ipairs(KEYS) do
+                redis.call('zadd', key, ARGV[2], ARGV[3])
+                redis.call('pexpire', key, ARGV[4])
+            end
+            return 0
+            """;
+
+    /**
+     * KEYS: 점유한 슬롯 키
+     * ARGV: 새 lease 만료 시각(ms), 토큰, 키 TTL(ms)
+     * 반환: 토큰이 남아 있지 않은(이미 만료된) 슬롯 수 - 그런 슬롯은 다시 점유하지 않는다
+     */
+    private static final String RENEW_SLOTS = """
+            local lost = 0
+            for _, key in ipairs(KEYS) do
+                if redis.call('zscore', key, ARGV[2]) then
+                    redis.call('zadd', key, ARGV[1], ARGV[2])
+                    redis.call('pexpire', key, ARGV[3])
+                else
+                    lost = lost + 1
+                end
+            end
+            return lost
+            """;
+
+    /**
+     * KEYS: 점유한 슬롯 키, ARGV[1]: 토큰
+     */
+    private static final String RELEASE_SLOTS = """
+            for _, key in ipairs(KEYS) do
+                redis.call('zrem', key, ARGV[1])
+            end
+            return 0
+            """;
 
     /**
      * Circuit Breaker 설정
      */
     private static final int FAILURE_THRESHOLD = 5;
-    private static final java.time.Duration OPEN_TIMEOUT = java.time.Duration.ofSeconds(30);
+    private static final Duration OPEN_TIMEOUT = Duration.ofSeconds(30);
 
-    public DistributedRateLimiter(RedissonClient redissonClient) {
+    public DistributedRateLimiter(RedissonClient redissonClient,
+                                  DeadlineGuard deadlineGuard,
+                                  @Value("${transportation.distributed-lock.slot-lease:30s}") Duration slotLease) {
         this.redissonClient = redissonClient;
+        this.deadlineGuard = deadlineGuard;
         this.circuitBreaker = new CircuitBreaker("Redisson-DistributedLock", FAILURE_THRESHOLD, OPEN_TIMEOUT);
+        this.leaseMillis = slotLease.toMillis();
+
+        long renewInterval = Math.max(1, leaseMillis / 3);
+        this.renewer = Executors.newSingleThreadScheduledExecutor(
+                Thread.ofPlatform().name("slot-lease-renewer").daemon().factory());
+        this.renewer.scheduleWithFixedDelay(this::renewHeldLeases, renewInterval, renewInterval, TimeUnit.MILLISECONDS);
     }
 
-    /**
-     * 차량 + 시간 슬롯에 대한 분산 락 획득 시도
-     */
-    public LockContext tryAcquireForVehicle(Long vehicleId, LocalDateTime startTime, LocalDateTime endTime) {
-        return tryAcquire("VEHICLE", vehicleId, startTime, endTime);
+    @PreDestroy
+    public void stop() {
+        renewer.shutdownNow();
     }
 
     /**
-     * 디스패처 + 시간 슬롯에 대한 분산 락 획득 시도
+     * 여러 리소스 + 시간 슬롯을 Redis 왕복 1회로 모두 획득 (전부 성공 또는 전부 실패)
+     *
+     * @param targets 정렬된 리소스 목록 (LockTarget 전역 순서)
+     * @throws RateLimitExceededException 하나라도 정원이 찬 슬롯이 있으면
+     * @throws com.resume.transportation.service.exception.ReservationRejectedException DEADLINE_EXCEEDED - Redis 왕복 전 마감이 지났으면
      */
-    public LockContext tryAcquireForDispatcher(Long dispatcherId, LocalDateTime startTime, LocalDateTime endTime) {
-        return tryAcquire("DISPATCHER", dispatcherId, startTime, endTime);
+    public LockContext tryAcquireAll(List<LockTarget> targets, LocalDateTime startTime, LocalDateTime endTime) {
+        deadlineGuard.check(DeadlineStage.DISTRIBUTED_LOCK);
+        return tryAcquireBatch(targets, startTime, endTime);
     }
 
     /**
      * 획득한 락 해제
      */
     public void release(LockContext context) {
-        if (context == null || context.isSkipped() || context.locks().isEmpty()) {
+        if (context == null || context.isSkipped()) {
             return;
         }
 
-        for (RLock lock : context.locks()) {
-            try {
-                // isHeldByCurrentThread(): 현재 스레드가 락을 보유 중인지 확인
-                if (lock.isHeldByCurrentThread()) {
-                    lock.unlock();
-                }
-            } catch (Exception e) {
-                // 해제 실패는 Watchdog 만료로 자동 해제되므로 로그만
-                System.err.printf("[DistributedRateLimiter] 락 해제 실패 (자동 만료 예정): %s%n", e.getMessage());
-            }
+        if (context.lease() != null) {
+            heldLeases.remove(context.lease().token());
+            releaseBatch(context.lease());
         }
     }
 
-    private LockContext tryAcquire(String resourceType, Long resourceId, LocalDateTime startTime, LocalDateTime endTime) {
-        // Circuit Breaker 체크
+    /**
+     * 배치 획득: 모든 리소스의 모든 슬롯을 Lua 스크립트 1회로 판정 / 점유
+     * 슬롯당 점유 수(만료되지 않은 lease)가 정원 미만이어야 하며, 하나라도 차 있으면 아무 것도 점유하지 않는다.
+     */
+    private LockContext tryAcquireBatch(List<LockTarget> targets, LocalDateTime startTime, LocalDateTime endTime) {
         if (!circuitBreaker.allowRequest()) {
             System.out.printf("[DistributedRateLimiter] Circuit OPEN - Redis 스킵 (Fallback 모드)%n");
             return LockContext.createSkipped();
         }
 
-        Set<String> slotKeys = generateSlotKeys(resourceType, resourceId, startTime, endTime);
-        List<RLock> acquiredLocks = new ArrayList<>();
-
-        try {
-            for (String slotKey : slotKeys) {
-                String lockKey = LOCK_PREFIX + slotKey;
-                RLock lock = redissonClient.getLock(lockKey);
-
-                // tryLock(waitTime, leaseTime, unit)
-                // waitTime=0: 즉시 실패 (대기 안 함)
-                // leaseTime=-1: Watchdog 활성화 (자동 연장)
-                boolean acquired = lock.tryLock(WAIT_TIME, LEASE_TIME, TimeUnit.SECONDS);
-
-                if (acquired) {
-                    acquiredLocks.add(lock);
-                } else {
-                    // 하나라도 실패하면 이미 획득한 락들 해제
-                    release(new LockContext(acquiredLocks, false));
-                    throw new RateLimitExceededException(
-                            String.format("%s %d의 해당 시간대에 이미 처리 중인 요청이 있습니다. (distributed)", resourceType, resourceId)
-                    );
-                }
+        List<Object> slotKeys = new ArrayList<>();
+        List<LockTarget> slotOwners = new ArrayList<>();
+        List<Object> args = new ArrayList<>();
+        String token = UUID.randomUUID().toString();
+        long now = System.currentTimeMillis();
+        args.add(String.valueOf(now));
+        args.add(String.valueOf(now + leaseMillis));
+        args.add(token);
+        args.add(String.valueOf(leaseMillis));
+        for (LockTarget target : targets) {
+            for (String slotKey : generateSlotKeys(target.resourceType(), target.resourceId(), startTime, endTime)) {
+                slotKeys.add(SLOT_PREFIX + slotKey);
+                slotOwners.add(target);
+                args.add(String.valueOf(target.permits()));
             }
+        }
 
-            circuitBreaker.recordSuccess();
-            return new LockContext(acquiredLocks, false);
-
-        } catch (RateLimitExceededException e) {
-            throw e;
-        } catch (InterruptedException e) {
-            Thread.currentThread().interrupt();
-            release(new LockContext(acquiredLocks, false));
-            circuitBreaker.recordFailure();
-            System.err.printf("[DistributedRateLimiter] 락 획득 중 인터럽트: %s%n", e.getMessage());
-            return LockContext.createSkipped();
+        Long blocked;
+        try {
+            blocked = redissonClient.getScript(StringCodec.INSTANCE).eval(
+                    RScript.Mode.READ_WRITE, ACQUIRE_SLOTS, RScript.ReturnType.INTEGER, slotKeys, args.toArray());
         } catch (Exception e) {
-            release(new LockContext(acquiredLocks, false));
             circuitBreaker.recordFailure();
             System.err.printf("[DistributedRateLimiter] Redis 오류 - Fallback 모드로 전환: %s%n", e.getMessage());
             return LockContext.createSkipped();
         }
+
+        circuitBreaker.recordSuccess();
+        if (blocked != null && blocked > 0) {
+            LockTarget owner = slotOwners.get(blocked.intValue() - 1);
+            throw new RateLimitExceededException(
+                    String.format("%s %d의 해당 시간대에 이미 처리 중인 요청이 있습니다. (distributed)",
+                            owner.resourceType(), owner.resourceId())
+            );
+        }
+        SlotLease lease = new SlotLease(slotKeys, token);
+        heldLeases.put(token, lease);
+        return new LockContext(lease, false);
+    }
+
+    /**
+     * 보유 중인 모든 점유의 만료 시각을 slot-lease 뒤로 연장 (점유마다 스크립트 1회)
+     */
+    private void renewHeldLeases() {
+        if (heldLeases.isEmpty() || !circuitBreaker.allowRequest()) {
+            return;
+        }
+        for (SlotLease lease : heldLeases.values()) {
+            try {
+                Long lost = redissonClient.getScript(StringCodec.INSTANCE).eval(
+                        RScript.Mode.READ_WRITE, RENEW_SLOTS, RScript.ReturnType.INTEGER, lease.slotKeys(),
+                        String.valueOf(System.currentTimeMillis() + leaseMillis), lease.token(),
+                        String.valueOf(leaseMillis));
+                if (lost != null && lost > 0 && heldLeases.remove(lease.token()) != null) {
+                    System.err.printf("[DistributedRateLimiter] 슬롯 점유 %d개가 연장 전에 만료됨 - 연장 중단 (DB 검증으로 보호)%n", lost);
+                }
+            } catch (Exception e) {
+                // 다음 주기에 다시 시도, 그 전에 만료되면 위의 lost로 처리
+                System.err.printf("[DistributedRateLimiter] 슬롯 점유 연장 실패: %s%n", e.getMessage());
+            }
+        }
+    }
+
+    private void releaseBatch(SlotLease lease) {
+        try {
+            redissonClient.getScript(StringCodec.INSTANCE).eval(
+                    RScript.Mode.READ_WRITE, RELEASE_SLOTS, RScript.ReturnType.INTEGER, lease.slotKeys(), lease.token());
+        } catch (Exception e) {
+            // 해제 실패는 lease 만료로 자동 반환되므로 로그만
+            System.err.printf("[DistributedRateLimiter] 슬롯 반환 실패 (자동 만료 예정): %s%n", e.getMessage());
+        }
     }
 
     private Set<String> generateSlotKeys(String resourceType, Long resourceId, LocalDateTime startTime, LocalDateTime endTime) {
@@ -171,18 +273,24 @@ public class DistributedRateLimiter {
     }
 
     /**
-     * 락 컨텍스트 - Redisson RLock 리스트를 보관
+     * 락 컨텍스트 - 슬롯 점유(토큰 + 슬롯 키)를 보관, Fallback이면 skipped
      */
     public record LockContext(
-            List<RLock> locks,
+            SlotLease lease,
             boolean skipped
     ) {
         public static LockContext createSkipped() {
-            return new LockContext(new ArrayList<>(), true);
+            return new LockContext(null, true);
         }
 
         public boolean isSkipped() {
             return skipped;
         }
     }
+
+    /**
+     * 배치로 점유한 슬롯 키와 요청 토큰 (반환 시 이 토큰만 제거)
+     */
+    public record SlotLease(List<Object> slotKeys, String token) {
+    }
 }
@@ -0,0 +1,30 @@
+package com.resume.transportation.service.ratelimit;
+
+import java.util.Comparator;
+
+/**
+ * 한 번에 획득할 리소스 1개 (종류 + ID + 슬롯당 정원)
+ *
+ * 정렬 순서(종류 → ID)가 전역 획득 순서다.
+ * 모든 요청이 같은 순서로 슬롯을 잡으므로, 겹치는 리소스 집합을 가진 두 요청은
+ * 가장 앞선 공통 슬롯에서 한쪽만 통과한다 (서로 일부씩 잡고 함께 실패하는 경합이 없다).
+ */
+public record LockTarget(
+        String resourceType,
+        Long resourceId,
+        int permits
+) implements Comparable<LockTarget> {
+
+    private static final Comparator<LockTarget> GLOBAL_ORDER = Comparator
+            .comparing(LockTarget::resourceType)
+            .thenComparing(LockTarget::resourceId);
+
+    public static LockTarget exclusive(String resourceType, Long resourceId) {
+        return new LockTarget(resourceType, resourceId, 1);
+    }
+
+    @Override
+    public int compareTo(LockTarget other) {
+        return GLOBAL_ORDER.compare(this, other);
+    }
+}
@@ -0,0 +1,236 @@
+package com.resume.transportation.service.ratelimit;
+
+import com.resume.transportation.enums.ReservationPriority;
+import com.resume.transportation.service.command.CreateReservationCommand;
+import com.resume.transportation.service.deadline.Deadline;
+import com.resume.transportation.service.deadline.DeadlineContext;
+import com.resume.transportation.service.exception.RejectReason;
+import com.resume.transportation.service.exception.ReservationRejectedException;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * 우선순위별 예약 수용 (락 / DB 단계 앞의 서버별 동시 처리 한도)
+ *
+ * 동시에 락 획득 ~ INSERT ~ 검증을 진행하는 요청 수를 max-in-flight로 제한하고,
+ * (단건 / 부가 리소스 / 다구간 일정 예약, 비동기 접수 워커도 createReservation을 거치므로 같은 한도를 쓴다)
+ * 등급마다 쓸 수 있는 몫을 나눠 높은 등급의 여유분을 남겨 둔다.
+ * - VIP      : max-in-flight 전부
+ * - ATHLETE  : max-in-flight × athlete-share
+ * - STANDARD : max-in-flight × standard-share (대량 봉사자 예약 등)
+ *
+ * 몫이 찬 등급은 max-wait(요청 마감이 더 가까우면 마감)까지 기다렸다가 못 들어가면 PRIORITY_SHED로 거절된다.
+ * 빈자리는 대기 중인 가장 높은 등급부터 넘겨주고, 높은 등급이 기다리는 동안 낮은 등급은 새로 들어가지 못한다.
+ * → 포화 시 낮은 등급부터 대기 / 거절되고, 높은 등급은 남겨 둔 몫으로 바로 진입한다.
+ *
+ * max-in-flight는 WRITE / VALIDATION 풀(bulkhead) 크기에 맞춘다 - 커넥션을 기다리는 요청 수가 곧 이 한도다.
+ *
+ * 등급: 명령의 priority → 없으면 운영자 ID 목록(vip-operator-ids / athlete-operator-ids) → STANDARD
+ *
+ * 메트릭
+ * - reservation.priority.latency{priority}            : 등급별 예약 생성 소요 시간 (수용 대기 포함)
+ * - reservation.priority.rejected{priority, category} : 등급별 거절 수 (INVALID / CONFLICT / BUSY / ERROR)
+ * - reservation.priority.in-flight                    : 수용된 요청 수
+ */
+@Component
+@RequiredArgsConstructor
+public class PriorityAdmission {
+
+    private static final String ERROR = "ERROR";
+
+    private final MeterRegistry meterRegistry;
+
+    private final ReentrantLock lock = new ReentrantLock();
+    private final Map<ReservationPriority, Condition> admittable = new EnumMap<>(ReservationPriority.class);
+    private final Map<ReservationPriority, Integer> waiting = new EnumMap<>(ReservationPriority.class);
+    private final Map<ReservationPriority, Integer> limits = new EnumMap<>(ReservationPriority.class);
+    private final Map<ReservationPriority, Timer> latencyTimers = new EnumMap<>(ReservationPriority.class);
+    private volatile int inFlight;
+
+    @Value("${transportation.priority.max-in-flight:32}")
+    private int maxInFlight = 32;
+
+    @Value("${transportation.priority.athlete-share:0.85}")
+    private double athleteShare = 0.85;
+
+    @Value("${transportation.priority.standard-share:0.6}")
+    private double standardShare = 0.6;
+
+    @Value("${transportation.priority.max-wait:2s}")
+    private Duration maxWait = Duration.ofSeconds(2);
+
+    @Value("${transportation.priority.vip-operator-ids:}")
+    private Set<Long> vipOperatorIds = Set.of();
+
+    @Value("${transportation.priority.athlete-operator-ids:}")
+    private Set<Long> athleteOperatorIds = Set.of();
+
+    @PostConstruct
+    public void init() {
+        limits.put(ReservationPriority.VIP, maxInFlight);
+        limits.put(ReservationPriority.ATHLETE, Math.max(1, (int) Math.ceil(maxInFlight * athleteShare)));
+        limits.put(ReservationPriority.STANDARD, Math.max(1, (int) Math.ceil(maxInFlight * standardShare)));
+
+        for (ReservationPriority priority : ReservationPriority.values()) {
+            admittable.put(priority, lock.newCondition());
+            waiting.put(priority, 0);
+            latencyTimers.put(priority, Timer.builder("reservation.priority.latency")
+                    .description("Reservation creation latency by priority class")
+                    .tag("priority", priority.tag())
+                    .publishPercentiles(0.5, 0.95, 0.99)
+                    .register(meterRegistry));
+        }
+
+        Gauge.builder("reservation.priority.in-flight", this, PriorityAdmission::getInFlight)
+                .description("Reservations admitted past the priority gate")
+                .register(meterRegistry);
+    }
+
+    /**
+     * 명령의 수용 등급
+     */
+    public ReservationPriority classify(CreateReservationCommand cmd) {
+        return classify(cmd.operatorId(), cmd.priority());
+    }
+
+    /**
+     * 요청한 등급 → 없으면 운영자 ID 목록 → STANDARD (다구간 일정 등 단건 명령이 아닌 요청)
+     */
+    public ReservationPriority classify(Long operatorId, ReservationPriority requested) {
+        if (requested != null) {
+            return requested;
+        }
+        if (vipOperatorIds.contains(operatorId)) {
+            return ReservationPriority.VIP;
+        }
+        if (athleteOperatorIds.contains(operatorId)) {
+            return ReservationPriority.ATHLETE;
+        }
+        return ReservationPriority.STANDARD;
+    }
+
+    /**
+     * 수용 (등급 몫이 찼으면 빈자리가 날 때까지 대기)
+     *
+     * @throws ReservationRejectedException PRIORITY_SHED - max-wait / 요청 마감까지 빈자리가 나지 않으면
+     */
+    public void admit(ReservationPriority priority) {
+        long remainingNanos = waitBudgetNanos();
+        lock.lock();
+        try {
+            if (canEnter(priority)) {
+                inFlight++;
+                return;
+            }
+
+            waiting.merge(priority, 1, Integer::sum);
+            boolean admitted = false;
+            try {
+                while (!canEnter(priority)) {
+                    if (remainingNanos <= 0) {
+                        throw new ReservationRejectedException(RejectReason.PRIORITY_SHED);
+                    }
+                    remainingNanos = admittable.get(priority).awaitNanos(remainingNanos);
+                }
+                admitted = true;
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new ReservationRejectedException(RejectReason.PRIORITY_SHED);
+            } finally {
+                waiting.merge(priority, -1, Integer::sum);
+                if (!admitted) {
+                    // 자리를 못 얻고 떠나면 이 대기자 때문에 막혀 있던 낮은 등급에게 기회를 넘긴다
+                    signalNext();
+                }
+            }
+            inFlight++;
+            // 들어간 뒤에도 남은 자리가 있으면, 이 대기자 때문에 막혀 있던 다음 대기자를 깨운다
+            signalNext();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * admit에 성공한 요청의 처리 종료
+     */
+    public void release() {
+        lock.lock();
+        try {
+            inFlight--;
+            signalNext();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    public void recordLatency(ReservationPriority priority, long startNanos) {
+        latencyTimers.get(priority).record(System.nanoTime() - startNanos, TimeUnit.NANOSECONDS);
+    }
+
+    public void recordRejected(ReservationPriority priority, Exception e) {
+        String category;
+        if (e instanceof ReservationRejectedException rejected) {
+            category = rejected.getReason().getCategory().name();
+        } else if (e instanceof RateLimitExceededException) {
+            category = RejectReason.Category.BUSY.name();
+        } else {
+            category = ERROR;
+        }
+        meterRegistry.counter("reservation.priority.rejected",
+                "priority", priority.tag(), "category", category).increment();
+    }
+
+    public int getInFlight() {
+        return inFlight;
+    }
+
+    /**
+     * 등급 몫에 자리가 있고, 더 높은 등급이 기다리고 있지 않을 때만 진입 (lock 보유 중 호출)
+     */
+    private boolean canEnter(ReservationPriority priority) {
+        if (inFlight >= limits.get(priority)) {
+            return false;
+        }
+        for (ReservationPriority higher : ReservationPriority.values()) {
+            if (higher == priority) {
+                return true;
+            }
+            if (waiting.get(higher) > 0) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * 빈자리에 들어갈 수 있는 가장 높은 대기 등급 1건을 깨운다 (lock 보유 중 호출)
+     */
+    private void signalNext() {
+        for (ReservationPriority priority : ReservationPriority.values()) {
+            if (waiting.get(priority) > 0 && inFlight < limits.get(priority)) {
+                admittable.get(priority).signal();
+                return;
+            }
+        }
+    }
+
+    private long waitBudgetNanos() {
+        long budget = maxWait.toNanos();
+        Deadline deadline = DeadlineContext.current();
+        return deadline == null ? budget : Math.min(budget, deadline.remaining().toNanos());
+    }
+}
@@ -1,13 +1,38 @@
 package com.resume.transportation.service.ratelimit;
 
+import com.resume.transportation.service.availability.Alternatives;
+
 /**
  * Rate Limit 초과 시 발생하는 예외
  * 
- * HTTP 429 (Too Many Requests)로 매핑될 수 있음
+ * HTTP 429 (Too Many Requests) + Retry-After로 매핑된다.
+ * 경합 시 대량으로 발생하므로 스택 트레이스를 만들지 않는다.
  */
 public class RateLimitExceededException extends RuntimeException {
+
+    private Alternatives alternatives;
     
     public RateLimitExceededException(String message) {
         super(message);
     }
+
+    /**
+     * 예약 생성 경로에서 거절 직후 첨부 (응답 본문의 alternatives)
+     */
+    public RateLimitExceededException withAlternatives(Alternatives alternatives) {
+        this.alternatives = alternatives;
+        return this;
+    }
+
+    /**
+     * @return 첨부된 대안 (없으면 null)
+     */
+    public Alternatives getAlternatives() {
+        return alternatives;
+    }
+
+    @Override
+    public synchronized Throwable fillInStackTrace() {
+        return this;
+    }
 }
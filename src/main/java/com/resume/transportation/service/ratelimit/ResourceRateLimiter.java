@@ -3,27 +3,35 @@ package com.resume.transportation.service.ratelimit;
 import org.springframework.stereotype.Component;
 
 import java.time.LocalDateTime;
+import java.util.List;
 import java.util.Set;
 import java.util.concurrent.ConcurrentHashMap;
-import java.util.concurrent.Semaphore;
+import java.util.concurrent.atomic.AtomicInteger;
 
 /**
  * 리소스(차량/디스패처) + 시간 슬롯 기반 Rate Limiter
  *
  * 동일 리소스의 겹치는 시간대에 대해 동시 요청 수를 제한하여
  * DB 부하를 줄이고 불필요한 선점-삭제 사이클을 방지한다.
+ *
+ * 리소스 슬롯마다 키 1개에 점유 수를 세고, 요청이 가진 정원(LockTarget.permits)보다 적을 때만 진입한다.
+ * - 공유 차량(정원 > 1): 정원만큼 동시 진입
+ * - 전용(정원 1): 점유가 하나라도 있으면 실패 → 같은 리소스의 공유 / 전용 요청이 같은 카운터로 직렬화된다
+ * Redis 레이어(DistributedRateLimiter)의 슬롯 ZSET과 같은 규칙이다.
+ *
+ * 여러 리소스(차량 / 디스패처 / 부가 리소스)는 tryAcquireAll로 전역 순서(LockTarget 정렬)대로 한 번에 잡는다.
  */
 @Component
 public class ResourceRateLimiter {
 
     /**
-     * 리소스별 Semaphore 저장소
-     * Key: "VEHICLE_{id}_SLOT_{hour}" 또는 "DISPATCHER_{id}_SLOT_{hour}"
+     * 리소스 슬롯별 점유 수
+     * Key: "VEHICLE_{id}_{date}_SLOT_{hour}" 또는 "DISPATCHER_{id}_{date}_SLOT_{hour}"
      */
-    private final ConcurrentHashMap<String, Semaphore> semaphores = new ConcurrentHashMap<>();
+    private final ConcurrentHashMap<String, AtomicInteger> holders = new ConcurrentHashMap<>();
 
     /**
-     * 동시 요청 허용 수 (리소스+슬롯당)
+     * 전용 리소스의 동시 요청 허용 수 (리소스+슬롯당)
      * 1로 설정하면 완전 직렬화, 높이면 어느 정도 동시성 허용
      */
     private static final int PERMITS_PER_SLOT = 1;
@@ -35,14 +43,35 @@ public class ResourceRateLimiter {
      * @throws RateLimitExceededException permit 획득 실패 시
      */
     public Set<String> tryAcquireForVehicle(Long vehicleId, LocalDateTime startTime, LocalDateTime endTime) {
-        return tryAcquire("VEHICLE", vehicleId, startTime, endTime);
+        return tryAcquire("VEHICLE", vehicleId, startTime, endTime, PERMITS_PER_SLOT);
     }
 
     /**
      * 디스패처 + 시간 슬롯에 대한 permit 획득 시도
      */
     public Set<String> tryAcquireForDispatcher(Long dispatcherId, LocalDateTime startTime, LocalDateTime endTime) {
-        return tryAcquire("DISPATCHER", dispatcherId, startTime, endTime);
+        return tryAcquire("DISPATCHER", dispatcherId, startTime, endTime, PERMITS_PER_SLOT);
+    }
+
+    /**
+     * 여러 리소스의 슬롯을 전역 순서(종류 → ID)대로 모두 획득 (전부 성공 또는 전부 반환)
+     *
+     * @param targets 정렬된 리소스 목록
+     * @return 획득한 슬롯 키 Set
+     * @throws RateLimitExceededException 하나라도 획득 실패 시
+     */
+    public Set<String> tryAcquireAll(List<LockTarget> targets, LocalDateTime startTime, LocalDateTime endTime) {
+        Set<String> acquiredKeys = ConcurrentHashMap.newKeySet();
+        try {
+            for (LockTarget target : targets) {
+                acquiredKeys.addAll(tryAcquire(target.resourceType(), target.resourceId(),
+                        startTime, endTime, target.permits()));
+            }
+            return acquiredKeys;
+        } catch (Exception e) {
+            release(acquiredKeys);
+            throw e;
+        }
     }
 
     /**
@@ -50,22 +79,21 @@ public class ResourceRateLimiter {
      */
     public void release(Set<String> slotKeys) {
         for (String key : slotKeys) {
-            Semaphore semaphore = semaphores.get(key);
-            if (semaphore != null) {
-                semaphore.release();
+            AtomicInteger held = holders.get(key);
+            if (held != null) {
+                held.decrementAndGet();
             }
         }
     }
 
-    private Set<String> tryAcquire(String resourceType, Long resourceId, LocalDateTime startTime, LocalDateTime endTime) {
+    private Set<String> tryAcquire(String resourceType, Long resourceId, LocalDateTime startTime, LocalDateTime endTime,
+                                   int permits) {
         Set<String> slotKeys = generateSlotKeys(resourceType, resourceId, startTime, endTime);
         Set<String> acquiredKeys = ConcurrentHashMap.newKeySet();
 
         try {
             for (String key : slotKeys) {
-                Semaphore semaphore = semaphores.computeIfAbsent(key, k -> new Semaphore(PERMITS_PER_SLOT));
-
-                if (!semaphore.tryAcquire()) {
+                if (!tryHold(holders.computeIfAbsent(key, k -> new AtomicInteger()), permits)) {
                     // 하나라도 실패하면 이미 획득한 것들 반환 후 예외
                     release(acquiredKeys);
                     throw new RateLimitExceededException(
@@ -85,7 +113,22 @@ public class ResourceRateLimiter {
     }
 
     /**
-     * 시간 범위를 1시간 단위 슬롯으로 변환하여 키 생성
+     * 점유 수가 정원보다 적을 때만 1 증가
+     */
+    private static boolean tryHold(AtomicInteger held, int capacity) {
+        while (true) {
+            int current = held.get();
+            if (current >= capacity) {
+                return false;
+            }
+            if (held.compareAndSet(current, current + 1)) {
+                return true;
+            }
+        }
+    }
+
+    /**
+     * 시간 범위를 1시간 단위 슬롯으로 변환하여 키 생성 (정원과 무관하게 리소스 슬롯당 키 1개)
      *
      * 예: 10:30 ~ 12:15 → SLOT_10, SLOT_11, SLOT_12
      */
@@ -114,10 +157,10 @@ public class ResourceRateLimiter {
     }
 
     /**
-     * 테스트/모니터링용: 현재 관리 중인 semaphore 수
+     * 테스트/모니터링용: 현재 관리 중인 슬롯 카운터 수
      */
     public int getActiveSemaphoreCount() {
-        return semaphores.size();
+        return holders.size();
     }
 
     /**
@@ -126,12 +169,12 @@ public class ResourceRateLimiter {
      */
     public void cleanupExpiredSlots(LocalDateTime before) {
         String cutoffDate = before.toLocalDate().toString();
-        semaphores.keySet().removeIf(key -> {
+        holders.keySet().removeIf(key -> {
             // 키에서 날짜 부분 추출하여 비교
-            // 형식: RESOURCE_ID_DATE_SLOT_HH
-            String[] parts = key.split("_");
-            if (parts.length >= 3) {
-                String dateInKey = parts[2];
+            // 형식: RESOURCE_ID_DATE_SLOT_HH (리소스 종류에 _가 들어갈 수 있으므로 _SLOT_ 앞 10자리)
+            int slotIndex = key.lastIndexOf("_SLOT_");
+            if (slotIndex >= 10) {
+                String dateInKey = key.substring(slotIndex - 10, slotIndex);
                 return dateInKey.compareTo(cutoffDate) < 0;
             }
             return false;
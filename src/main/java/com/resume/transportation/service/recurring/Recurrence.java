@@ -0,0 +1,109 @@
+package com.resume.transportation.service.recurring;
+
+/**
+ * 반복 일정 회차 계산 (epoch-minute 정수 산술, 회차를 펼치지 않음)
+ *
+ * k번째 회차 = [firstStart + k * period, firstStart + k * period + duration), 0 <= k < count
+ * duration <= period 이므로 같은 규칙의 회차끼리는 겹치지 않는다.
+ * 단건 예약도 count=1인 규칙으로 표현해 같은 겹침 계산을 사용한다.
+ */
+public record Recurrence(int firstStart, int periodMinutes, int durationMinutes, int count) {
+
+    public Recurrence {
+        if (periodMinutes <= 0 || durationMinutes <= 0 || durationMinutes > periodMinutes || count <= 0) {
+            throw new IllegalArgumentException("잘못된 반복 규칙: period=%d, duration=%d, count=%d"
+                    .formatted(periodMinutes, durationMinutes, count));
+        }
+    }
+
+    /**
+     * until까지 끝나는 회차 수로 규칙 생성
+     *
+     * @return 회차가 하나도 없으면 null
+     */
+    public static Recurrence until(int firstStart, int periodMinutes, int durationMinutes, int until) {
+        if (periodMinutes <= 0 || until < firstStart + durationMinutes) {
+            return null;
+        }
+        return new Recurrence(firstStart, periodMinutes, durationMinutes,
+                (until - firstStart - durationMinutes) / periodMinutes + 1);
+    }
+
+    /**
+     * 단건 구간 [start, end)
+     */
+    public static Recurrence once(int start, int end) {
+        return new Recurrence(start, end - start, end - start, 1);
+    }
+
+    public int startOf(int k) {
+        return firstStart + k * periodMinutes;
+    }
+
+    public int lastEnd() {
+        return startOf(count - 1) + durationMinutes;
+    }
+
+    /**
+     * [start, end)와 겹치는 첫 회차
+     *
+     * @return 회차 번호, 없으면 -1
+     */
+    public int firstOverlapping(int start, int end) {
+        int k = start < firstStart + durationMinutes
+                ? 0
+                : (start - firstStart - durationMinutes) / periodMinutes + 1;
+        return k < count && startOf(k) < end ? k : -1;
+    }
+
+    /**
+     * time 이전(포함)에 끝난 마지막 회차의 종료 시각
+     *
+     * @return epoch-minute, 없으면 -1
+     */
+    public int lastEndAtOrBefore(int time) {
+        if (time < firstStart + durationMinutes) {
+            return -1;
+        }
+        int k = Math.min((time - firstStart - durationMinutes) / periodMinutes, count - 1);
+        return startOf(k) + durationMinutes;
+    }
+
+    /**
+     * time 이후(포함)에 시작하는 첫 회차 번호 (count 이상이면 없음)
+     */
+    public int firstStartingAtOrAfter(int time) {
+        if (time <= firstStart) {
+            return 0;
+        }
+        return (time - firstStart + periodMinutes - 1) / periodMinutes;
+    }
+
+    /**
+     * [start, end)가 정확히 이 규칙의 한 회차인지 (회차 행 판별용)
+     */
+    public boolean isOccurrence(int start, int end) {
+        int offset = start - firstStart;
+        return offset >= 0 && offset % periodMinutes == 0 && offset / periodMinutes < count
+                && end - start == durationMinutes;
+    }
+
+    /**
+     * 두 규칙의 회차 중 겹치는 것이 있는지 (회차 수가 적은 쪽만 순회)
+     */
+    public boolean overlaps(Recurrence other) {
+        if (other.count < count) {
+            return other.overlaps(this);
+        }
+        int k = firstOverlapping(other.firstStart, other.lastEnd());
+        if (k < 0) {
+            return false;
+        }
+        for (; k < count && startOf(k) < other.lastEnd(); k++) {
+            if (other.firstOverlapping(startOf(k), startOf(k) + durationMinutes) >= 0) {
+                return true;
+            }
+        }
+        return false;
+    }
+}
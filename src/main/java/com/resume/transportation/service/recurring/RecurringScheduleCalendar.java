@@ -0,0 +1,169 @@
+package com.resume.transportation.service.recurring;
+
+import com.resume.transportation.entity.converter.EpochMinuteConverter;
+import com.resume.transportation.enums.Location;
+import com.resume.transportation.enums.ResourceType;
+import com.resume.transportation.service.exception.RejectReason;
+import com.resume.transportation.service.store.ReservationSnapshot;
+import com.resume.transportation.service.store.ReservationStore;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowMapper;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.function.Predicate;
+import java.util.function.Supplier;
+
+/**
+ * 예약 검증에서 반복 일정을 산술로 반영 (회차를 행으로 펼치지 않음)
+ *
+ * - 겹침: 시간 범위가 걸치는 규칙만 조회한 뒤 Recurrence 산술로 회차 겹침 판정
+ * - 위치: 규칙의 마지막 도착이 reservation 행의 마지막 도착보다 늦으면 규칙의 도착지
+ *
+ * 이미 행으로 생성된 회차는 reservation과 규칙 양쪽에서 보이지만 같은 시간 / 도착지이므로 결과가 같다.
+ * 조회는 호출자의 Workload(VALIDATION 등)를 따르며 JdbcTemplate로 primary를 읽는다 (replica 지연 없음).
+ */
+@Component
+@RequiredArgsConstructor
+public class RecurringScheduleCalendar {
+
+    private static final String COLUMNS = """
+            id, vehicle_id, dispatcher_id, to_location,
+            first_start, period_minutes, duration_minutes, occurrences
+            """;
+
+    private static final String FIND_OVERLAPPING = """
+            select %s from recurring_schedule
+            where active = true and id <> ?
+              and (vehicle_id = ? or dispatcher_id = ?)
+              and first_start < ? and last_end > ?
+            """.formatted(COLUMNS);
+
+    private static final String FIND_STARTED_VEHICLE = """
+            select %s from recurring_schedule
+            where active = true and vehicle_id = ? and first_start < ?
+            """.formatted(COLUMNS);
+
+    private static final String FIND_STARTED_DISPATCHER = """
+            select %s from recurring_schedule
+            where active = true and dispatcher_id = ? and first_start < ?
+            """.formatted(COLUMNS);
+
+    private static final RowMapper<Rule> RULE_MAPPER = (rs, rowNum) -> new Rule(
+            rs.getLong("id"),
+            rs.getLong("vehicle_id"),
+            rs.getLong("dispatcher_id"),
+            Location.fromCode(rs.getByte("to_location")),
+            new Recurrence(rs.getInt("first_start"), rs.getInt("period_minutes"),
+                    rs.getInt("duration_minutes"), rs.getInt("occurrences")));
+
+    private final JdbcTemplate jdbcTemplate;
+    private final ReservationStore reservationStore;
+
+    /**
+     * 단건 예약 [start, end)와 겹치는 반복 일정 회차
+     *
+     * @return VEHICLE_OVERLAP / DISPATCHER_OVERLAP, 없으면 null
+     */
+    public RejectReason findConflict(Long vehicleId, Long dispatcherId, LocalDateTime start, LocalDateTime end) {
+        return findConflict(vehicleId, dispatcherId,
+                Recurrence.once(EpochMinuteConverter.toEpochMinute(start), EpochMinuteConverter.toEpochMinute(end)),
+                -1L);
+    }
+
+    /**
+     * recurrence와 회차가 겹치는 다른 반복 일정 (차량 우선)
+     *
+     * @param excludeScheduleId 자기 자신 (신규 규칙 검증 시)
+     */
+    public RejectReason findConflict(Long vehicleId, Long dispatcherId, Recurrence recurrence, long excludeScheduleId) {
+        List<Rule> rules = jdbcTemplate.query(FIND_OVERLAPPING, RULE_MAPPER,
+                excludeScheduleId, vehicleId, dispatcherId, recurrence.lastEnd(), recurrence.firstStart());
+
+        RejectReason conflict = null;
+        for (Rule rule : rules) {
+            if (!rule.recurrence().overlaps(recurrence)) {
+                continue;
+            }
+            if (rule.vehicleId() == vehicleId) {
+                return RejectReason.VEHICLE_OVERLAP;
+            }
+            conflict = RejectReason.DISPATCHER_OVERLAP;
+        }
+        return conflict;
+    }
+
+    /**
+     * [start, end)에 걸친 다른 규칙(excludeScheduleId 제외)이 행으로 만든 회차인지 판별하는 조건
+     * 차량 / 디스패처 / 도착지 / 시각이 모두 회차와 같으면 회차 행으로 본다.
+     * 그런 행과의 충돌은 findConflict(회차 산술)가 규칙 단위로 판정하므로 행 검사에서는 빼도 된다.
+     */
+    public Predicate<ReservationSnapshot> materializedByOtherRules(Long vehicleId, Long dispatcherId,
+                                                                   LocalDateTime start, LocalDateTime end,
+                                                                   long excludeScheduleId) {
+        List<Rule> rules = jdbcTemplate.query(FIND_OVERLAPPING, RULE_MAPPER,
+                excludeScheduleId, vehicleId, dispatcherId,
+                EpochMinuteConverter.toEpochMinute(end), EpochMinuteConverter.toEpochMinute(start));
+        if (rules.isEmpty()) {
+            return row -> false;
+        }
+        return row -> {
+            int rowStart = EpochMinuteConverter.toEpochMinute(row.startTime());
+            int rowEnd = EpochMinuteConverter.toEpochMinute(row.endTime());
+            return rules.stream().anyMatch(rule -> rule.vehicleId() == row.vehicleId()
+                    && rule.dispatcherId() == row.dispatcherId()
+                    && rule.toLocation() == row.toLocation()
+                    && rule.recurrence().isOccurrence(rowStart, rowEnd));
+        };
+    }
+
+    /**
+     * time 시점 위치
+     *
+     * @param recorded reservation 행 기준 위치 (마지막 도착 또는 기준 위치)
+     */
+    public Location locationAt(ResourceType resourceType, Long resourceId, LocalDateTime time, Supplier<Location> recorded) {
+        int minute = EpochMinuteConverter.toEpochMinute(time);
+        List<Rule> rules = jdbcTemplate.query(
+                resourceType == ResourceType.VEHICLE ? FIND_STARTED_VEHICLE : FIND_STARTED_DISPATCHER,
+                RULE_MAPPER, resourceId, minute);
+
+        int arrival = -1;
+        Location location = null;
+        for (Rule rule : rules) {
+            int end = rule.recurrence().lastEndAtOrBefore(minute);
+            if (end > arrival) {
+                arrival = end;
+                location = rule.toLocation();
+            }
+        }
+        if (location == null) {
+            return recorded.get();
+        }
+
+        // 회차 도착 이후 time 전에 끝난(또는 걸친) 예약 행이 있으면 그쪽이 더 최근 위치
+        if (arrival < minute && reservationStore.existsOverlapExcluding(resourceType, resourceId, Long.MAX_VALUE,
+                EpochMinuteConverter.fromEpochMinute(arrival), time)) {
+            return recorded.get();
+        }
+        return location;
+    }
+
+    /**
+     * [from, to)와 겹치는 회차가 있는지 (resourceType 기준)
+     */
+    public boolean hasOccurrence(ResourceType resourceType, Long resourceId, LocalDateTime from, LocalDateTime to) {
+        int fromMinute = EpochMinuteConverter.toEpochMinute(from);
+        int toMinute = EpochMinuteConverter.toEpochMinute(to);
+        return jdbcTemplate.query(
+                        resourceType == ResourceType.VEHICLE ? FIND_STARTED_VEHICLE : FIND_STARTED_DISPATCHER,
+                        RULE_MAPPER, resourceId, toMinute)
+                .stream()
+                .anyMatch(rule -> rule.recurrence().firstOverlapping(fromMinute, toMinute) >= 0);
+    }
+
+    private record Rule(long id, long vehicleId, long dispatcherId, Location toLocation, Recurrence recurrence) {
+    }
+}
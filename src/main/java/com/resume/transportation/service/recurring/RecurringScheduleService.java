@@ -0,0 +1,199 @@
+package com.resume.transportation.service.recurring;
+
+import com.resume.transportation.config.datasource.Workload;
+import com.resume.transportation.config.datasource.WorkloadContext;
+import com.resume.transportation.entity.RecurringSchedule;
+import com.resume.transportation.entity.converter.EpochMinuteConverter;
+import com.resume.transportation.enums.Location;
+import com.resume.transportation.enums.ResourceType;
+import com.resume.transportation.repository.RecurringScheduleRepository;
+import com.resume.transportation.service.ReservationService;
+import com.resume.transportation.service.TravelTimeService;
+import com.resume.transportation.service.command.CreateRecurringScheduleCommand;
+import com.resume.transportation.service.command.CreateReservationCommand;
+import com.resume.transportation.service.exception.RejectReason;
+import com.resume.transportation.service.exception.ReservationRejectedException;
+import com.resume.transportation.service.store.ReservationSnapshot;
+import com.resume.transportation.service.store.ReservationStore;
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Predicate;
+
+/**
+ * 반복 일정 (셔틀) 생성 / 회차 행 생성
+ *
+ * 생성: 규칙 1행 INSERT → 겹침 검증 (insert-then-validate, 실패 시 규칙 삭제)
+ * - 기존 예약 행: 규칙 전체 기간 [첫 회차 시작, 마지막 회차 종료)에 걸치면 충돌 (셔틀 전용 리소스 가정)
+ *   단, 다른 규칙이 행으로 만든 회차는 제외한다 (그 규칙과는 아래 회차 산술로만 판정)
+ * - 다른 반복 일정: 회차 산술로 판정
+ * 단건 예약도 INSERT 후 규칙을 확인하므로, 동시에 들어온 규칙 / 예약 중 최소 한쪽은 상대를 본다.
+ * 기간이 여러 날에 걸치므로 시간 슬롯 락(CompositeRateLimiter)은 사용하지 않는다.
+ *
+ * 회차 행 생성: 실행 horizon 안에 시작하는 회차만 reservation 행으로 batch INSERT
+ */
+@Service
+@RequiredArgsConstructor
+public class RecurringScheduleService {
+
+    private final RecurringScheduleRepository recurringScheduleRepository;
+    private final RecurringScheduleCalendar recurringCalendar;
+    private final ReservationService reservationService;
+    private final ReservationStore reservationStore;
+    private final TravelTimeService travelTimeService;
+
+    @Value("${transportation.recurring.max-occurrences:10000}")
+    private int maxOccurrences = 10000;
+
+    @Value("${transportation.recurring.horizon:2h}")
+    private Duration horizon = Duration.ofHours(2);
+
+    /**
+     * @return 생성된 규칙
+     */
+    public RecurringSchedule create(CreateRecurringScheduleCommand cmd) {
+        Recurrence recurrence = preValidate(cmd);
+
+        // 첫 회차 출발 위치
+        WorkloadContext.run(Workload.VALIDATION, () -> {
+            if (reservationService.locationAt(ResourceType.VEHICLE, cmd.vehicleId(), cmd.firstStart()) != cmd.fromLocation()) {
+                throw new ReservationRejectedException(RejectReason.VEHICLE_LOCATION_MISMATCH);
+            }
+            if (reservationService.locationAt(ResourceType.DISPATCHER, cmd.dispatcherId(), cmd.firstStart()) != cmd.fromLocation()) {
+                throw new ReservationRejectedException(RejectReason.DISPATCHER_LOCATION_MISMATCH);
+            }
+        });
+
+        // 규칙 1행 선점
+        RecurringSchedule schedule = recurringScheduleRepository.save(RecurringSchedule.create(
+                cmd.operatorId(), cmd.vehicleId(), cmd.dispatcherId(),
+                cmd.fromLocation(), cmd.toLocation(), recurrence));
+
+        try {
+            WorkloadContext.run(Workload.VALIDATION, () -> {
+                Predicate<ReservationSnapshot> materialized = recurringCalendar.materializedByOtherRules(
+                        cmd.vehicleId(), cmd.dispatcherId(), schedule.getFirstStart(), schedule.getLastEnd(),
+                        schedule.getId());
+                if (hasOverlappingRow(ResourceType.VEHICLE, cmd.vehicleId(), schedule, materialized)) {
+                    throw new ReservationRejectedException(RejectReason.VEHICLE_OVERLAP);
+                }
+                if (hasOverlappingRow(ResourceType.DISPATCHER, cmd.dispatcherId(), schedule, materialized)) {
+                    throw new ReservationRejectedException(RejectReason.DISPATCHER_OVERLAP);
+                }
+                RejectReason conflict = recurringCalendar.findConflict(
+                        cmd.vehicleId(), cmd.dispatcherId(), recurrence, schedule.getId());
+                if (conflict != null) {
+                    throw new ReservationRejectedException(conflict);
+                }
+            });
+        } catch (IllegalStateException e) {
+            recurringScheduleRepository.deleteById(schedule.getId());
+            throw e;
+        }
+
+        System.out.printf("🔁 [Recurring] 규칙 %d 생성: %s → %s, %d분 간격 %d회 (%s ~ %s)%n",
+                schedule.getId(), cmd.fromLocation(), cmd.toLocation(), recurrence.periodMinutes(),
+                recurrence.count(), schedule.getFirstStart(), schedule.getLastEnd());
+        return schedule;
+    }
+
+    /**
+     * 규칙 전체 기간에 걸친 예약 행 중 다른 규칙의 회차 행이 아닌 것이 있는지
+     * 회차 행은 그 규칙과의 회차 산술(findConflict)로 판정하므로, 기간만 걸친다고 충돌로 보지 않는다.
+     */
+    private boolean hasOverlappingRow(ResourceType resourceType, Long resourceId, RecurringSchedule schedule,
+                                      Predicate<ReservationSnapshot> materialized) {
+        return reservationStore.findOverlapping(resourceType, resourceId, schedule.getFirstStart(), schedule.getLastEnd())
+                .stream()
+                .anyMatch(materialized.negate());
+    }
+
+    /**
+     * 상태 없는 사전 검증 (모든 회차의 이동 시간은 메모리 행렬로 확인)
+     * 출발지와 도착지가 다르면 다음 회차 전에 출발지로 돌아갈 시간이 있어야 한다.
+     */
+    private Recurrence preValidate(CreateRecurringScheduleCommand cmd) {
+        if (cmd.operatorId() == null || cmd.vehicleId() == null || cmd.dispatcherId() == null
+                || cmd.fromLocation() == null || cmd.toLocation() == null
+                || cmd.firstStart() == null || cmd.until() == null
+                || cmd.periodMinutes() == null || cmd.durationMinutes() == null
+                || cmd.durationMinutes() <= 0 || cmd.durationMinutes() > cmd.periodMinutes()) {
+            throw new ReservationRejectedException(RejectReason.INVALID_REQUEST);
+        }
+
+        Recurrence recurrence = Recurrence.until(EpochMinuteConverter.toEpochMinute(cmd.firstStart()),
+                cmd.periodMinutes(), cmd.durationMinutes(), EpochMinuteConverter.toEpochMinute(cmd.until()));
+        if (recurrence == null || recurrence.count() > maxOccurrences) {
+            throw new ReservationRejectedException(RejectReason.INVALID_REQUEST);
+        }
+
+        int returnGap = recurrence.periodMinutes() - recurrence.durationMinutes();
+        for (int k = 0; k < recurrence.count(); k++) {
+            LocalDateTime start = EpochMinuteConverter.fromEpochMinute(recurrence.startOf(k));
+            LocalDateTime end = start.plusMinutes(recurrence.durationMinutes());
+            reservationService.validateTrip(cmd.fromLocation(), cmd.toLocation(), start, end);
+
+            if (cmd.fromLocation() != cmd.toLocation() && k + 1 < recurrence.count()) {
+                int back = travelTimeService.getRequiredMinutes(cmd.toLocation(), cmd.fromLocation(), end);
+                if (back == Integer.MAX_VALUE) {
+                    throw new ReservationRejectedException(RejectReason.ROUTE_NOT_AVAILABLE);
+                }
+                if (back > returnGap) {
+                    throw new ReservationRejectedException(RejectReason.TRAVEL_TIME_TOO_SHORT);
+                }
+            }
+        }
+        return recurrence;
+    }
+
+    /**
+     * 실행이 가까운 회차를 reservation 행으로 생성
+     * materializedUntil을 먼저 CAS로 옮겨 서버 간 중복 생성을 막고, INSERT 실패 시 되돌린다.
+     */
+    @Scheduled(fixedDelayString = "${transportation.recurring.materialize-interval:60000}")
+    public void materialize() {
+        LocalDateTime until = LocalDateTime.now().plus(horizon);
+        int created = 0;
+        for (RecurringSchedule schedule : recurringScheduleRepository.findMaterializable(until)) {
+            created += materialize(schedule, until);
+        }
+        if (created > 0) {
+            System.out.printf("🔁 [Recurring] 회차 %d건 생성 (~ %s)%n", created, until);
+        }
+    }
+
+    private int materialize(RecurringSchedule schedule, LocalDateTime until) {
+        Recurrence recurrence = schedule.toRecurrence();
+        LocalDateTime current = schedule.getMaterializedUntil();
+        LocalDateTime next = until.isBefore(schedule.getLastEnd()) ? until : schedule.getLastEnd();
+        if (recurringScheduleRepository.moveMaterializedUntil(schedule.getId(), current, next) == 0) {
+            return 0;
+        }
+
+        int nextMinute = EpochMinuteConverter.toEpochMinute(next);
+        List<CreateReservationCommand> commands = new ArrayList<>();
+        for (int k = recurrence.firstStartingAtOrAfter(EpochMinuteConverter.toEpochMinute(current));
+             k < recurrence.count() && recurrence.startOf(k) < nextMinute; k++) {
+            LocalDateTime start = EpochMinuteConverter.fromEpochMinute(recurrence.startOf(k));
+            commands.add(new CreateReservationCommand(schedule.getOperatorId(), schedule.getVehicleId(),
+                    schedule.getDispatcherId(), schedule.getFromLocation(), schedule.getToLocation(),
+                    start, start.plusMinutes(recurrence.durationMinutes())));
+        }
+
+        try {
+            reservationStore.insertAll(commands);
+        } catch (RuntimeException e) {
+            recurringScheduleRepository.moveMaterializedUntil(schedule.getId(), next, current);
+            System.err.printf("[Recurring] 규칙 %d 회차 생성 실패 (다음 주기에 재시도): %s%n",
+                    schedule.getId(), e.getMessage());
+            return 0;
+        }
+        return commands.size();
+    }
+}
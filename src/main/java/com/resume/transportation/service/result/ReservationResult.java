@@ -0,0 +1,31 @@
+package com.resume.transportation.service.result;
+
+import com.resume.transportation.enums.Location;
+import com.resume.transportation.service.command.CreateReservationCommand;
+
+import java.time.LocalDateTime;
+
+/**
+ * 예약 생성 결과 (엔티티 hydration 없이 반환)
+ */
+public record ReservationResult(
+        Long reservationId,
+        Long vehicleId,
+        Long dispatcherId,
+        Location fromLocation,
+        Location toLocation,
+        LocalDateTime startTime,
+        LocalDateTime endTime
+) {
+    public static ReservationResult of(Long reservationId, CreateReservationCommand cmd) {
+        return new ReservationResult(
+                reservationId,
+                cmd.vehicleId(),
+                cmd.dispatcherId(),
+                cmd.fromLocation(),
+                cmd.toLocation(),
+                cmd.startTime(),
+                cmd.endTime()
+        );
+    }
+}
@@ -0,0 +1,351 @@
+package com.resume.transportation.service.store;
+
+import com.resume.transportation.enums.Location;
+import com.resume.transportation.enums.ReservationStatus;
+import com.resume.transportation.enums.ResourceType;
+import com.resume.transportation.service.command.CreateReservationCommand;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.ResultSetExtractor;
+import org.springframework.jdbc.support.GeneratedKeyHolder;
+import org.springframework.jdbc.support.KeyHolder;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.Statement;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+import java.util.function.Consumer;
+
+/**
+ * JdbcTemplate 기반 경량 저장소 (transportation.reservation.store=jdbc)
+ *
+ * JPA 핫패스 대비 제거되는 비용:
+ * - getReferenceById 프록시 3개 생성, saveAndFlush, 영속성 컨텍스트 dirty checking
+ * - JPQL count(r) > 0 → EXISTS 의미의 "select 1 ... limit 1" (첫 행에서 중단)
+ * - 조회 결과는 엔티티가 아닌 단일 컬럼만 읽음
+ *
+ * SQL은 모두 상수 문자열이므로 드라이버의 PreparedStatement 캐시
+ * (spring.datasource.hikari.data-source-properties.cachePrepStmts)가 그대로 재사용된다.
+ * 컬럼 인코딩은 transportation.storage.encoding(StorageEncoding)을 따른다 - 상태 목록도 시작 시점에 상수로 고정된다.
+ */
+@Component
+@ConditionalOnProperty(name = "transportation.reservation.store", havingValue = "jdbc")
+public class JdbcReservationStore implements ReservationStore {
+
+    private static final String VEHICLE_OVERLAP = """
+            select 1 from reservation
+            where vehicle_id = ? and id < ?
+              and status in (%s)
+              and start_time < ? and end_time > ?
+            limit 1
+            """;
+
+    private static final String DISPATCHER_OVERLAP = """
+            select 1 from reservation
+            where dispatcher_id = ? and id < ?
+              and status in (%s)
+              and start_time < ? and end_time > ?
+            limit 1
+            """;
+
+    private static final String VEHICLE_OVERLAP_OTHER = """
+            select 1 from reservation
+            where vehicle_id = ? and id <> ?
+              and status in (%s)
+              and start_time < ? and end_time > ?
+            limit 1
+            """;
+
+    private static final String DISPATCHER_OVERLAP_OTHER = """
+            select 1 from reservation
+            where dispatcher_id = ? and id <> ?
+              and status in (%s)
+              and start_time < ? and end_time > ?
+            limit 1
+            """;
+
+    private static final String VEHICLE_LAST_LOCATION = """
+            select to_location from reservation
+            where vehicle_id = ? and end_time <= ?
+            order by end_time desc
+            limit 1
+            """;
+
+    private static final String DISPATCHER_LAST_LOCATION = """
+            select to_location from reservation
+            where dispatcher_id = ? and end_time <= ?
+            order by end_time desc
+            limit 1
+            """;
+
+    private static final String VEHICLE_LATEST = """
+            select id, to_location, end_time from reservation
+            where vehicle_id = ?
+            order by end_time desc, id desc
+            limit 1
+            """;
+
+    private static final String DISPATCHER_LATEST = """
+            select id, to_location, end_time from reservation
+            where dispatcher_id = ?
+            order by end_time desc, id desc
+            limit 1
+            """;
+
+    private static final String SELECT_TAIL = """
+            select last_location, last_end_time from resource_schedule_tail
+            where resource_type = ? and resource_id = ?
+            """;
+
+    private static final String SELECT_TAIL_FOR_UPDATE = """
+            select reservation_id from resource_schedule_tail
+            where resource_type = ? and resource_id = ?
+            for update
+            """;
+
+    private static final String MOVE_TAIL = """
+            update resource_schedule_tail
+               set last_location = ?, last_end_time = ?, reservation_id = ?
+             where resource_type = ? and resource_id = ?
+            """;
+
+    private static final String SELECT_RESOURCES = """
+            select vehicle_id, dispatcher_id from reservation where id = ?
+            """;
+
+    private static final String SELECT_MOVED = """
+            select vehicle_id, dispatcher_id, to_location, end_time from reservation where id = ?
+            """;
+
+    private static final String DELETE_RESERVATION = """
+            delete from reservation where id = ?
+            """;
+
+    private final JdbcTemplate jdbcTemplate;
+    private final StorageEncoding encoding;
+    private final TransactionTemplate requiresNew;
+    private final ReservationBatchWriter batchWriter;
+
+    private final String vehicleOverlap;
+    private final String dispatcherOverlap;
+    private final String vehicleOverlapOther;
+    private final String dispatcherOverlapOther;
+
+    public JdbcReservationStore(JdbcTemplate jdbcTemplate, StorageEncoding encoding,
+                                PlatformTransactionManager transactionManager) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.encoding = encoding;
+        this.requiresNew = new TransactionTemplate(transactionManager);
+        this.requiresNew.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+        this.batchWriter = new ReservationBatchWriter(jdbcTemplate, encoding, transactionManager);
+
+        String activeStatuses = encoding.statusList(ReservationStatus.ACTIVE);
+        this.vehicleOverlap = VEHICLE_OVERLAP.formatted(activeStatuses);
+        this.dispatcherOverlap = DISPATCHER_OVERLAP.formatted(activeStatuses);
+        this.vehicleOverlapOther = VEHICLE_OVERLAP_OTHER.formatted(activeStatuses);
+        this.dispatcherOverlapOther = DISPATCHER_OVERLAP_OTHER.formatted(activeStatuses);
+    }
+
+    @Override
+    public Long insert(CreateReservationCommand cmd) {
+        Object end = encoding.time(cmd.endTime());
+
+        return requiresNew.execute(status -> {
+            KeyHolder keyHolder = new GeneratedKeyHolder();
+            jdbcTemplate.update(connection -> {
+                PreparedStatement ps = connection.prepareStatement(ReservationBatchWriter.INSERT_RESERVATION, Statement.RETURN_GENERATED_KEYS);
+                ps.setLong(1, cmd.operatorId());
+                ps.setLong(2, cmd.dispatcherId());
+                ps.setLong(3, cmd.vehicleId());
+                ps.setObject(4, encoding.location(cmd.fromLocation()));
+                ps.setObject(5, encoding.location(cmd.toLocation()));
+                ps.setObject(6, encoding.status(ReservationStatus.CREATED));
+                ps.setObject(7, encoding.time(cmd.startTime()));
+                ps.setObject(8, end);
+                ps.setTimestamp(9, Timestamp.valueOf(LocalDateTime.now()));
+                return ps;
+            }, keyHolder);
+
+            Long reservationId = keyHolder.getKeyAs(Long.class);
+
+            // schedule tail 전진 (차량 → 디스패처 순서 고정)
+            Object toLocation = encoding.location(cmd.toLocation());
+            jdbcTemplate.update(ReservationBatchWriter.ADVANCE_TAIL, toLocation, end, reservationId,
+                    ResourceType.VEHICLE.name(), cmd.vehicleId(), end);
+            jdbcTemplate.update(ReservationBatchWriter.ADVANCE_TAIL, toLocation, end, reservationId,
+                    ResourceType.DISPATCHER.name(), cmd.dispatcherId(), end);
+
+            return reservationId;
+        });
+    }
+
+    @Override
+    public List<Long> insertAll(List<CreateReservationCommand> commands) {
+        return batchWriter.insertAll(commands);
+    }
+
+    @Override
+    public boolean existsOverlapExcluding(
+            ResourceType resourceType,
+            Long resourceId,
+            Long excludeId,
+            LocalDateTime startTime,
+            LocalDateTime endTime
+    ) {
+        String sql = switch (resourceType) {
+            case VEHICLE -> vehicleOverlap;
+            case DISPATCHER -> dispatcherOverlap;
+        };
+        Boolean exists = jdbcTemplate.query(sql, (ResultSetExtractor<Boolean>) ResultSet::next,
+                resourceId,
+                excludeId,
+                encoding.time(endTime),
+                encoding.time(startTime));
+        return Boolean.TRUE.equals(exists);
+    }
+
+    @Override
+    public RunLoad countRunLoadExcluding(ResourceType resourceType, Long excludeId, CreateReservationCommand cmd) {
+        return switch (resourceType) {
+            case VEHICLE -> RunLoadQuery.count(jdbcTemplate, encoding, "reservation", "id", "vehicle_id", "dispatcher_id",
+                    cmd.vehicleId(), cmd.dispatcherId(), excludeId, cmd);
+            case DISPATCHER -> RunLoadQuery.count(jdbcTemplate, encoding, "reservation", "id", "dispatcher_id", "vehicle_id",
+                    cmd.dispatcherId(), cmd.vehicleId(), excludeId, cmd);
+        };
+    }
+
+    @Override
+    public boolean existsOverlapOther(
+            ResourceType resourceType,
+            Long resourceId,
+            Long reservationId,
+            LocalDateTime startTime,
+            LocalDateTime endTime
+    ) {
+        String sql = switch (resourceType) {
+            case VEHICLE -> vehicleOverlapOther;
+            case DISPATCHER -> dispatcherOverlapOther;
+        };
+        Boolean exists = jdbcTemplate.query(sql, (ResultSetExtractor<Boolean>) ResultSet::next,
+                resourceId,
+                reservationId,
+                encoding.time(endTime),
+                encoding.time(startTime));
+        return Boolean.TRUE.equals(exists);
+    }
+
+    @Override
+    public Optional<Location> findLastLocation(ResourceType resourceType, Long resourceId, LocalDateTime time) {
+        // 1. schedule tail PK 조회 - 스케줄 끝에 붙는 예약이면 여기서 결정
+        TailLookup tail = jdbcTemplate.query(SELECT_TAIL,
+                rs -> rs.next() ? new TailLookup(encoding.location(rs, 1), encoding.time(rs, 2)) : null,
+                resourceType.name(), resourceId);
+        if (tail != null && (tail.endTime() == null || !tail.endTime().isAfter(time))) {
+            return Optional.ofNullable(tail.location());
+        }
+
+        // 2. 중간 삽입 / 미추적 리소스 → 이력 조회
+        String sql = switch (resourceType) {
+            case VEHICLE -> VEHICLE_LAST_LOCATION;
+            case DISPATCHER -> DISPATCHER_LAST_LOCATION;
+        };
+        List<Location> history = jdbcTemplate.query(sql,
+                (rs, rowNum) -> encoding.location(rs, 1), resourceId, encoding.time(time));
+        return history.stream().findFirst();
+    }
+
+    @Override
+    public void delete(Long reservationId) {
+        requiresNew.executeWithoutResult(status -> {
+            List<long[]> resources = jdbcTemplate.query(SELECT_RESOURCES,
+                    (rs, rowNum) -> new long[]{rs.getLong(1), rs.getLong(2)}, reservationId);
+            if (resources.isEmpty()) {
+                return;
+            }
+
+            jdbcTemplate.update(DELETE_RESERVATION, reservationId);
+
+            long[] ids = resources.get(0);
+            recomputeTailIfLatest(ResourceType.VEHICLE, ids[0], reservationId, VEHICLE_LATEST);
+            recomputeTailIfLatest(ResourceType.DISPATCHER, ids[1], reservationId, DISPATCHER_LATEST);
+        });
+    }
+
+    @Override
+    public Optional<ReservationSnapshot> find(Long reservationId) {
+        return ReservationRows.find(jdbcTemplate, encoding, reservationId);
+    }
+
+    @Override
+    public List<ReservationSnapshot> findOverlapping(ResourceType resourceType, Long resourceId,
+                                                     LocalDateTime startTime, LocalDateTime endTime) {
+        return ReservationRows.findOverlapping(jdbcTemplate, encoding,
+                resourceType == ResourceType.VEHICLE ? "vehicle_id" : "dispatcher_id",
+                resourceId, startTime, endTime);
+    }
+
+    /**
+     * version 조건부 UPDATE 후 schedule tail 갱신 (차량 → 디스패처 순서 고정)
+     * - 이 예약이 tail이었으면 남은 이력(이동한 자신 포함)으로 재계산
+     * - 아니면 새 종료 시각으로 전진 시도
+     */
+    @Override
+    public boolean move(Long reservationId, long version, LocalDateTime startTime, LocalDateTime endTime) {
+        Boolean moved = requiresNew.execute(status -> {
+            if (!ReservationRows.move(jdbcTemplate, encoding, reservationId, version, startTime, endTime)) {
+                return false;
+            }
+
+            Object[] row = jdbcTemplate.queryForObject(SELECT_MOVED,
+                    (rs, rowNum) -> new Object[]{rs.getLong(1), rs.getLong(2),
+                            encoding.location(encoding.location(rs, 3)), encoding.time(encoding.time(rs, 4))},
+                    reservationId);
+            if (!recomputeTailIfLatest(ResourceType.VEHICLE, (long) row[0], reservationId, VEHICLE_LATEST)) {
+                jdbcTemplate.update(ReservationBatchWriter.ADVANCE_TAIL, row[2], row[3], reservationId,
+                        ResourceType.VEHICLE.name(), row[0], row[3]);
+            }
+            if (!recomputeTailIfLatest(ResourceType.DISPATCHER, (long) row[1], reservationId, DISPATCHER_LATEST)) {
+                jdbcTemplate.update(ReservationBatchWriter.ADVANCE_TAIL, row[2], row[3], reservationId,
+                        ResourceType.DISPATCHER.name(), row[1], row[3]);
+            }
+            return true;
+        });
+        return Boolean.TRUE.equals(moved);
+    }
+
+    @Override
+    public void scanSchedule(LocalDateTime since, Consumer<ScheduleEntry> consumer) {
+        ScheduleScan.scan(jdbcTemplate, encoding, "reservation", "id", "vehicle_id", ResourceType.VEHICLE, since, consumer);
+        ScheduleScan.scan(jdbcTemplate, encoding, "reservation", "id", "dispatcher_id", ResourceType.DISPATCHER, since, consumer);
+    }
+
+    /**
+     * 삭제 / 이동된 예약이 tail이었으면 남은 이력 중 마지막 예약으로 재계산
+     *
+     * @return 재계산했으면 true
+     */
+    private boolean recomputeTailIfLatest(ResourceType resourceType, long resourceId, Long changedId, String latestSql) {
+        List<Long> tailReservation = jdbcTemplate.query(SELECT_TAIL_FOR_UPDATE,
+                (rs, rowNum) -> rs.getObject(1, Long.class), resourceType.name(), resourceId);
+        if (tailReservation.isEmpty() || !changedId.equals(tailReservation.get(0))) {
+            return false;
+        }
+
+        List<Object[]> latest = jdbcTemplate.query(latestSql,
+                (rs, rowNum) -> new Object[]{rs.getLong(1),
+                        encoding.location(encoding.location(rs, 2)), encoding.time(encoding.time(rs, 3))}, resourceId);
+        Object[] row = latest.isEmpty() ? new Object[]{null, null, null} : latest.get(0);
+        jdbcTemplate.update(MOVE_TAIL, row[1], row[2], row[0], resourceType.name(), resourceId);
+        return true;
+    }
+
+    private record TailLookup(Location location, LocalDateTime endTime) {
+    }
+}
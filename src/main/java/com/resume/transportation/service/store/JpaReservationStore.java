@@ -0,0 +1,130 @@
+package com.resume.transportation.service.store;
+
+import com.resume.transportation.enums.Location;
+import com.resume.transportation.enums.ResourceType;
+import com.resume.transportation.repository.ReservationRepository;
+import com.resume.transportation.service.ReservationPersistenceService;
+import com.resume.transportation.service.ScheduleTailService;
+import com.resume.transportation.service.command.CreateReservationCommand;
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.dao.OptimisticLockingFailureException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+import java.util.function.Consumer;
+
+/**
+ * Spring Data JPA 기반 저장소 (기본값)
+ *
+ * 가용성 인덱스 스캔과 대량 INSERT는 엔티티가 필요 없으므로 JdbcTemplate으로 직접 처리한다.
+ */
+@Component
+@ConditionalOnProperty(name = "transportation.reservation.store", havingValue = "jpa", matchIfMissing = true)
+@RequiredArgsConstructor
+public class JpaReservationStore implements ReservationStore {
+
+    private final ReservationRepository reservationRepository;
+    private final ReservationPersistenceService persistenceService;
+    private final ScheduleTailService scheduleTailService;
+    private final JdbcTemplate jdbcTemplate;
+    private final PlatformTransactionManager transactionManager;
+    private final StorageEncoding encoding;
+
+    @Override
+    public Long insert(CreateReservationCommand cmd) {
+        return persistenceService.insertReservation(cmd).getId();
+    }
+
+    @Override
+    public List<Long> insertAll(List<CreateReservationCommand> commands) {
+        return new ReservationBatchWriter(jdbcTemplate, encoding, transactionManager).insertAll(commands);
+    }
+
+    @Override
+    public boolean existsOverlapExcluding(
+            ResourceType resourceType,
+            Long resourceId,
+            Long excludeId,
+            LocalDateTime startTime,
+            LocalDateTime endTime
+    ) {
+        return switch (resourceType) {
+            case VEHICLE -> reservationRepository.existsVehicleOverlapExcluding(
+                    resourceId, excludeId, startTime, endTime);
+            case DISPATCHER -> reservationRepository.existsDispatcherOverlapExcluding(
+                    resourceId, excludeId, startTime, endTime);
+        };
+    }
+
+    @Override
+    public RunLoad countRunLoadExcluding(ResourceType resourceType, Long excludeId, CreateReservationCommand cmd) {
+        return switch (resourceType) {
+            case VEHICLE -> RunLoadQuery.count(jdbcTemplate, encoding, "reservation", "id", "vehicle_id", "dispatcher_id",
+                    cmd.vehicleId(), cmd.dispatcherId(), excludeId, cmd);
+            case DISPATCHER -> RunLoadQuery.count(jdbcTemplate, encoding, "reservation", "id", "dispatcher_id", "vehicle_id",
+                    cmd.dispatcherId(), cmd.vehicleId(), excludeId, cmd);
+        };
+    }
+
+    @Override
+    public boolean existsOverlapOther(
+            ResourceType resourceType,
+            Long resourceId,
+            Long reservationId,
+            LocalDateTime startTime,
+            LocalDateTime endTime
+    ) {
+        return switch (resourceType) {
+            case VEHICLE -> reservationRepository.existsVehicleOverlapOther(
+                    resourceId, reservationId, startTime, endTime);
+            case DISPATCHER -> reservationRepository.existsDispatcherOverlapOther(
+                    resourceId, reservationId, startTime, endTime);
+        };
+    }
+
+    @Override
+    public Optional<Location> findLastLocation(ResourceType resourceType, Long resourceId, LocalDateTime time) {
+        return scheduleTailService.findLastLocation(resourceType, resourceId, time);
+    }
+
+    @Override
+    public void delete(Long reservationId) {
+        persistenceService.deleteReservation(reservationId);
+    }
+
+    @Override
+    public Optional<ReservationSnapshot> find(Long reservationId) {
+        return ReservationRows.find(jdbcTemplate, encoding, reservationId);
+    }
+
+    @Override
+    public List<ReservationSnapshot> findOverlapping(ResourceType resourceType, Long resourceId,
+                                                     LocalDateTime startTime, LocalDateTime endTime) {
+        return ReservationRows.findOverlapping(jdbcTemplate, encoding,
+                resourceType == ResourceType.VEHICLE ? "vehicle_id" : "dispatcher_id",
+                resourceId, startTime, endTime);
+    }
+
+    /**
+     * 조회 ~ flush 사이에 다른 요청이 먼저 커밋하면 @Version 조건 UPDATE가 0건 → 실패로 취급
+     */
+    @Override
+    public boolean move(Long reservationId, long version, LocalDateTime startTime, LocalDateTime endTime) {
+        try {
+            return persistenceService.moveReservation(reservationId, version, startTime, endTime);
+        } catch (OptimisticLockingFailureException e) {
+            return false;
+        }
+    }
+
+    @Override
+    public void scanSchedule(LocalDateTime since, Consumer<ScheduleEntry> consumer) {
+        ScheduleScan.scan(jdbcTemplate, encoding, "reservation", "id", "vehicle_id", ResourceType.VEHICLE, since, consumer);
+        ScheduleScan.scan(jdbcTemplate, encoding, "reservation", "id", "dispatcher_id", ResourceType.DISPATCHER, since, consumer);
+    }
+}
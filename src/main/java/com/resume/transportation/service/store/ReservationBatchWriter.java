@@ -0,0 +1,132 @@
+package com.resume.transportation.service.store;
+
+import com.resume.transportation.enums.ReservationStatus;
+import com.resume.transportation.enums.ResourceType;
+import com.resume.transportation.service.command.CreateReservationCommand;
+import org.springframework.jdbc.core.BatchPreparedStatementSetter;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.support.GeneratedKeyHolder;
+import org.springframework.jdbc.support.KeyHolder;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * reservation 테이블 대량 INSERT (jpa / jdbc 저장소 공통, 같은 테이블)
+ *
+ * - chunk 단위 JDBC batch + 생성 키 회수, chunk마다 별도 트랜잭션으로 즉시 커밋
+ * - 같은 트랜잭션에서 chunk 안의 리소스별 마지막 예약으로 schedule tail 전진 (리소스당 1회)
+ * - 시간 겹침 검증은 하지 않는다 (호출자가 커밋 후 검증)
+ */
+final class ReservationBatchWriter {
+
+    static final String INSERT_RESERVATION = """
+            insert into reservation
+                (operator_id, dispatcher_id, vehicle_id, from_location, to_location,
+                 status, start_time, end_time, version, updated_at)
+            values (?, ?, ?, ?, ?, ?, ?, ?, 0, ?)
+            """;
+
+    static final String ADVANCE_TAIL = """
+            update resource_schedule_tail
+               set last_location = ?, last_end_time = ?, reservation_id = ?
+             where resource_type = ? and resource_id = ?
+               and (last_end_time is null or last_end_time <= ?)
+            """;
+
+    private static final int CHUNK_SIZE = 1000;
+
+    private final JdbcTemplate jdbcTemplate;
+    private final StorageEncoding encoding;
+    private final TransactionTemplate requiresNew;
+
+    ReservationBatchWriter(JdbcTemplate jdbcTemplate, StorageEncoding encoding, PlatformTransactionManager transactionManager) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.encoding = encoding;
+        this.requiresNew = new TransactionTemplate(transactionManager);
+        this.requiresNew.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+    }
+
+    /**
+     * @return 입력 순서대로 생성된 예약 ID
+     */
+    List<Long> insertAll(List<CreateReservationCommand> commands) {
+        List<Long> ids = new ArrayList<>(commands.size());
+        for (int from = 0; from < commands.size(); from += CHUNK_SIZE) {
+            List<CreateReservationCommand> chunk = commands.subList(from, Math.min(from + CHUNK_SIZE, commands.size()));
+            ids.addAll(requiresNew.execute(status -> insertChunk(chunk)));
+        }
+        return ids;
+    }
+
+    private List<Long> insertChunk(List<CreateReservationCommand> chunk) {
+        Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+        KeyHolder keyHolder = new GeneratedKeyHolder();
+        jdbcTemplate.batchUpdate(
+                connection -> connection.prepareStatement(INSERT_RESERVATION, Statement.RETURN_GENERATED_KEYS),
+                new BatchPreparedStatementSetter() {
+                    @Override
+                    public void setValues(PreparedStatement ps, int i) throws SQLException {
+                        CreateReservationCommand cmd = chunk.get(i);
+                        ps.setLong(1, cmd.operatorId());
+                        ps.setLong(2, cmd.dispatcherId());
+                        ps.setLong(3, cmd.vehicleId());
+                        ps.setObject(4, encoding.location(cmd.fromLocation()));
+                        ps.setObject(5, encoding.location(cmd.toLocation()));
+                        ps.setObject(6, encoding.status(ReservationStatus.CREATED));
+                        ps.setObject(7, encoding.time(cmd.startTime()));
+                        ps.setObject(8, encoding.time(cmd.endTime()));
+                        ps.setTimestamp(9, now);
+                    }
+
+                    @Override
+                    public int getBatchSize() {
+                        return chunk.size();
+                    }
+                },
+                keyHolder);
+
+        List<Long> ids = new ArrayList<>(chunk.size());
+        for (Map<String, Object> keys : keyHolder.getKeyList()) {
+            ids.add(((Number) keys.values().iterator().next()).longValue());
+        }
+
+        advanceTails(chunk, ids);
+        return ids;
+    }
+
+    /**
+     * 리소스별로 chunk 안에서 가장 늦게 끝나는 예약만 tail에 반영 (차량 → 디스패처 순서 고정)
+     */
+    private void advanceTails(List<CreateReservationCommand> chunk, List<Long> ids) {
+        Map<Long, Integer> lastVehicle = new HashMap<>();
+        Map<Long, Integer> lastDispatcher = new HashMap<>();
+        for (int i = 0; i < chunk.size(); i++) {
+            CreateReservationCommand cmd = chunk.get(i);
+            lastVehicle.merge(cmd.vehicleId(), i, (a, b) -> later(chunk, a, b));
+            lastDispatcher.merge(cmd.dispatcherId(), i, (a, b) -> later(chunk, a, b));
+        }
+        lastVehicle.forEach((vehicleId, i) -> advance(ResourceType.VEHICLE, vehicleId, chunk.get(i), ids.get(i)));
+        lastDispatcher.forEach((dispatcherId, i) -> advance(ResourceType.DISPATCHER, dispatcherId, chunk.get(i), ids.get(i)));
+    }
+
+    private static int later(List<CreateReservationCommand> chunk, int a, int b) {
+        return chunk.get(b).endTime().isBefore(chunk.get(a).endTime()) ? a : b;
+    }
+
+    private void advance(ResourceType resourceType, Long resourceId, CreateReservationCommand cmd, Long reservationId) {
+        Object end = encoding.time(cmd.endTime());
+        jdbcTemplate.update(ADVANCE_TAIL, encoding.location(cmd.toLocation()), end, reservationId,
+                resourceType.name(), resourceId, end);
+    }
+}
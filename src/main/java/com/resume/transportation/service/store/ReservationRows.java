@@ -0,0 +1,89 @@
+package com.resume.transportation.service.store;
+
+import com.resume.transportation.enums.ReservationStatus;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowMapper;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * reservation 테이블 단건 / 구간 조회, 제자리 이동 SQL (jpa / jdbc / sharded 공통)
+ *
+ * 이동은 version 조건부 UPDATE 1회 - Reservation 엔티티의 @Version 갱신과 같은 의미다.
+ */
+final class ReservationRows {
+
+    private static final String SELECT_RESERVATION = """
+            select id, operator_id, vehicle_id, dispatcher_id, from_location, to_location,
+                   status, start_time, end_time, version
+            from reservation
+            where id = ?
+            """;
+
+    private static final String SELECT_OVERLAPPING = """
+            select id, operator_id, vehicle_id, dispatcher_id, from_location, to_location,
+                   status, start_time, end_time, version
+            from reservation
+            where %s = ?
+              and status in (%s)
+              and start_time < ? and end_time > ?
+            order by start_time, id
+            """;
+
+    private static final String MOVE_RESERVATION = """
+            update reservation
+               set start_time = ?, end_time = ?, version = version + 1, updated_at = ?
+             where id = ? and version = ?
+            """;
+
+    private ReservationRows() {
+    }
+
+    static Optional<ReservationSnapshot> find(JdbcTemplate jdbcTemplate, StorageEncoding encoding, Long reservationId) {
+        List<ReservationSnapshot> rows = jdbcTemplate.query(SELECT_RESERVATION, mapper(encoding), reservationId);
+        return rows.stream().findFirst();
+    }
+
+    /**
+     * resourceColumn(vehicle_id / dispatcher_id) 기준 [startTime, endTime)과 겹치는 활성 예약 (시작 시각 순)
+     */
+    static List<ReservationSnapshot> findOverlapping(JdbcTemplate jdbcTemplate, StorageEncoding encoding,
+                                                     String resourceColumn, Long resourceId,
+                                                     LocalDateTime startTime, LocalDateTime endTime) {
+        return jdbcTemplate.query(
+                SELECT_OVERLAPPING.formatted(resourceColumn, encoding.statusList(ReservationStatus.ACTIVE)),
+                mapper(encoding),
+                resourceId, encoding.time(endTime), encoding.time(startTime));
+    }
+
+    /**
+     * @return 변경된 행이 있으면 true (version 불일치 / 삭제됨이면 false)
+     */
+    static boolean move(JdbcTemplate jdbcTemplate, StorageEncoding encoding, Long reservationId, long version,
+                        LocalDateTime startTime, LocalDateTime endTime) {
+        return jdbcTemplate.update(MOVE_RESERVATION,
+                encoding.time(startTime),
+                encoding.time(endTime),
+                Timestamp.valueOf(LocalDateTime.now()),
+                reservationId,
+                version) == 1;
+    }
+
+    private static RowMapper<ReservationSnapshot> mapper(StorageEncoding encoding) {
+        return (rs, rowNum) -> new ReservationSnapshot(
+                rs.getLong(1),
+                rs.getLong(2),
+                rs.getLong(3),
+                rs.getLong(4),
+                encoding.location(rs, 5),
+                encoding.location(rs, 6),
+                encoding.status(rs, 7),
+                encoding.time(rs, 8),
+                encoding.time(rs, 9),
+                rs.getLong(10)
+        );
+    }
+}
@@ -0,0 +1,39 @@
+package com.resume.transportation.service.store;
+
+import com.resume.transportation.enums.Location;
+import com.resume.transportation.enums.ReservationStatus;
+import com.resume.transportation.service.command.CreateReservationCommand;
+
+import java.time.LocalDateTime;
+
+/**
+ * 예약 1건의 현재 값 (변경 / 취소용, 엔티티 hydration 없이 조회)
+ *
+ * version은 Reservation 엔티티의 @Version과 같은 컬럼이다.
+ */
+public record ReservationSnapshot(
+        Long reservationId,
+        Long operatorId,
+        Long vehicleId,
+        Long dispatcherId,
+        Location fromLocation,
+        Location toLocation,
+        ReservationStatus status,
+        LocalDateTime startTime,
+        LocalDateTime endTime,
+        long version
+) {
+
+    public CreateReservationCommand toCommand() {
+        return new CreateReservationCommand(
+                operatorId, vehicleId, dispatcherId, fromLocation, toLocation, startTime, endTime);
+    }
+
+    /**
+     * 같은 예약을 [startTime, endTime)으로 옮긴 명령 (검증 / 인덱스 반영용)
+     */
+    public CreateReservationCommand movedTo(LocalDateTime startTime, LocalDateTime endTime) {
+        return new CreateReservationCommand(
+                operatorId, vehicleId, dispatcherId, fromLocation, toLocation, startTime, endTime);
+    }
+}
@@ -0,0 +1,122 @@
+package com.resume.transportation.service.store;
+
+import com.resume.transportation.enums.Location;
+import com.resume.transportation.enums.ResourceType;
+import com.resume.transportation.service.command.CreateReservationCommand;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.function.Consumer;
+
+/**
+ * 예약 핫패스 저장소 추상화 (선점 INSERT → overlap 검증 → 실패 시 DELETE)
+ *
+ * transportation.reservation.store 설정으로 구현 선택
+ * - jpa  (기본): Spring Data JPA + ReservationPersistenceService
+ * - jdbc       : JdbcTemplate, 엔티티 hydration / dirty checking 없음
+ * - sharded    : vehicleId 기준 다중 DB 샤딩 (ShardedReservationStore)
+ *
+ * 모든 구현은 INSERT/DELETE를 별도 트랜잭션으로 즉시 커밋하고,
+ * 같은 트랜잭션에서 schedule tail을 갱신해야 한다.
+ */
+public interface ReservationStore {
+
+    /**
+     * 대량 INSERT (배치 플래너 / 다구간 일정 커밋용, 시간 겹침 검증 없음 - 호출자가 커밋 후 검증)
+     * jpa / jdbc 구현은 chunk(1000건) 단위 한 트랜잭션
+     * 기본 구현은 건별 insert, 중간 실패 시 앞서 넣은 행을 보상 삭제
+     *
+     * @return 입력 순서대로 생성된 예약 ID
+     */
+    default List<Long> insertAll(List<CreateReservationCommand> commands) {
+        List<Long> ids = new ArrayList<>(commands.size());
+        try {
+            for (CreateReservationCommand cmd : commands) {
+                ids.add(insert(cmd));
+            }
+        } catch (RuntimeException e) {
+            ids.forEach(this::delete);
+            throw e;
+        }
+        return ids;
+    }
+
+    /**
+     * 예약 선점 INSERT (즉시 커밋)
+     * id는 모든 인스턴스에 걸쳐 할당 순서대로 커져야 한다 (id < self 검증이 이 순서로 선후를 정함)
+     *
+     * @return 생성된 예약 ID
+     */
+    Long insert(CreateReservationCommand cmd);
+
+    /**
+     * 자기보다 먼저 INSERT된(id < excludeId) 활성 예약 중 시간이 겹치는 예약 존재 여부
+     */
+    boolean existsOverlapExcluding(
+            ResourceType resourceType,
+            Long resourceId,
+            Long excludeId,
+            LocalDateTime startTime,
+            LocalDateTime endTime
+    );
+
+    /**
+     * 합승 셔틀 검증용: 자기보다 먼저 INSERT된(id < excludeId) 활성 예약 중 cmd 시간과 겹치는 예약 수
+     * resourceType 리소스(cmd의 차량 또는 디스패처) 기준으로 같은 운행 / 그 외를 나눠 센다.
+     */
+    RunLoad countRunLoadExcluding(ResourceType resourceType, Long excludeId, CreateReservationCommand cmd);
+
+    /**
+     * 자기 자신(reservationId)을 제외한 활성 예약 중 시간이 겹치는 예약 존재 여부 (제자리 이동 검증용)
+     * 먼저 INSERT된 예약만 보는 existsOverlapExcluding과 달리 id 순서와 무관하게 모두 확인한다.
+     */
+    boolean existsOverlapOther(
+            ResourceType resourceType,
+            Long resourceId,
+            Long reservationId,
+            LocalDateTime startTime,
+            LocalDateTime endTime
+    );
+
+    /**
+     * time 시점 기준 마지막 도착 위치
+     *
+     * @return 예약 이력이 없으면 empty (기준 위치 사용)
+     */
+    Optional<Location> findLastLocation(ResourceType resourceType, Long resourceId, LocalDateTime time);
+
+    /**
+     * 예약 삭제 (즉시 커밋, 보상 트랜잭션)
+     */
+    void delete(Long reservationId);
+
+    /**
+     * 예약 단건 조회 (primary 기준, 변경 / 취소용)
+     */
+    Optional<ReservationSnapshot> find(Long reservationId);
+
+    /**
+     * [startTime, endTime)과 겹치는 활성 예약 목록 (primary 기준, 시작 시각 순)
+     * 겹침 여부만이 아니라 어떤 행인지 봐야 하는 검증용 (반복 일정 생성 시 회차 행 구분)
+     * sharded의 디스패처 조회는 인덱스 행 기준이라 operatorId / fromLocation이 비어 있다
+     */
+    List<ReservationSnapshot> findOverlapping(ResourceType resourceType, Long resourceId,
+                                              LocalDateTime startTime, LocalDateTime endTime);
+
+    /**
+     * 예약 시간을 제자리에서 변경 (즉시 커밋, schedule tail 함께 갱신)
+     * version이 일치할 때만 변경하고 version을 1 올린다 (Reservation @Version과 같은 컬럼).
+     *
+     * @return 다른 요청이 먼저 변경 / 삭제해서 version이 맞지 않으면 false
+     */
+    boolean move(Long reservationId, long version, LocalDateTime startTime, LocalDateTime endTime);
+
+    /**
+     * 가용성 인덱스 재구성용 스캔 (차량 / 디스패처 각각)
+     * - endTime > since 인 예약
+     * - 리소스별 since 이전에 끝난 마지막 예약 (since 시점 위치 기준점)
+     */
+    void scanSchedule(LocalDateTime since, Consumer<ScheduleEntry> consumer);
+}
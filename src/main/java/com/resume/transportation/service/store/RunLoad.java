@@ -0,0 +1,10 @@
+package com.resume.transportation.service.store;
+
+/**
+ * 공유 차량 운행 탑승 현황 (자기보다 먼저 INSERT된 겹치는 활성 예약 수)
+ *
+ * @param sameRun   같은 운행 (같은 차량 · 디스패처 · 도착지 · 시작 · 종료)
+ * @param otherRuns 시간만 겹치는 다른 운행 / 전용 예약
+ */
+public record RunLoad(int sameRun, int otherRuns) {
+}
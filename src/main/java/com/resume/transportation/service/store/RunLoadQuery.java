@@ -0,0 +1,56 @@
+package com.resume.transportation.service.store;
+
+import com.resume.transportation.enums.ReservationStatus;
+import com.resume.transportation.service.command.CreateReservationCommand;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+/**
+ * 공유 차량 탑승 수 집계 SQL (jpa / jdbc / sharded 공통, 테이블만 다름)
+ *
+ * 겹치는 활성 예약을 한 번에 읽어 같은 운행 / 그 외로 나눠 센다 (COUNT 1회, 행을 가져오지 않음).
+ * 출발지는 시작 시점 위치 검증으로 이미 같으므로 비교하지 않는다 (dispatcher_assignment에는 출발지가 없음).
+ */
+final class RunLoadQuery {
+
+    private static final String RUN_LOAD = """
+            select coalesce(sum(case when %4$s = ? and to_location = ? and start_time = ? and end_time = ?
+                                     then 1 else 0 end), 0),
+                   count(*)
+            from %1$s
+            where %3$s = ? and %2$s < ?
+              and status in (%5$s)
+              and start_time < ? and end_time > ?
+            """;
+
+    private RunLoadQuery() {
+    }
+
+    /**
+     * @param table          예약 테이블 (reservation / dispatcher_assignment)
+     * @param idColumn       예약 id 컬럼
+     * @param resourceColumn 집계 대상 리소스 컬럼 (vehicle_id / dispatcher_id)
+     * @param partnerColumn  같은 운행 판정용 상대 리소스 컬럼 (dispatcher_id / vehicle_id)
+     * @param partnerId      cmd의 상대 리소스 id
+     */
+    static RunLoad count(JdbcTemplate jdbcTemplate,
+                         StorageEncoding encoding,
+                         String table,
+                         String idColumn,
+                         String resourceColumn,
+                         String partnerColumn,
+                         long resourceId,
+                         long partnerId,
+                         long excludeId,
+                         CreateReservationCommand cmd) {
+        Object start = encoding.time(cmd.startTime());
+        Object end = encoding.time(cmd.endTime());
+        String sql = RUN_LOAD.formatted(table, idColumn, resourceColumn, partnerColumn,
+                encoding.statusList(ReservationStatus.ACTIVE));
+        return jdbcTemplate.queryForObject(sql, (rs, rowNum) -> {
+                    int sameRun = rs.getInt(1);
+                    return new RunLoad(sameRun, rs.getInt(2) - sameRun);
+                },
+                partnerId, encoding.location(cmd.toLocation()), start, end,
+                resourceId, excludeId, end, start);
+    }
+}
@@ -0,0 +1,20 @@
+package com.resume.transportation.service.store;
+
+import com.resume.transportation.enums.Location;
+import com.resume.transportation.enums.ResourceType;
+
+/**
+ * 리소스 스케줄 한 칸 (가용성 인덱스 재구성용, 시각은 epoch-minute)
+ *
+ * active=false 인 예약은 시간 겹침에는 쓰이지 않고 위치 판단에만 쓰인다 (findLastLocation과 동일).
+ */
+public record ScheduleEntry(
+        ResourceType resourceType,
+        long resourceId,
+        long reservationId,
+        int startMinute,
+        int endMinute,
+        Location toLocation,
+        boolean active
+) {
+}
@@ -0,0 +1,68 @@
+package com.resume.transportation.service.store;
+
+import com.resume.transportation.enums.ReservationStatus;
+import com.resume.transportation.enums.ResourceType;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowCallbackHandler;
+
+import java.time.LocalDateTime;
+import java.util.function.Consumer;
+
+/**
+ * 스케줄 스캔 SQL (jpa / jdbc / sharded 공통, 테이블만 다름)
+ *
+ * 1. end_time > since 인 예약 전체
+ * 2. 리소스별 since 이전에 끝난 마지막 예약 (since 시점 위치 기준점)
+ *    (resource, end_time) 인덱스로 그룹별 max를 구한 뒤 다시 조인한다.
+ */
+final class ScheduleScan {
+
+    private static final String WINDOW = """
+            select %1$s, %2$s, start_time, end_time, to_location, status
+            from %3$s
+            where end_time > ?
+            """;
+
+    private static final String ANCHOR = """
+            select r.%1$s, r.%2$s, r.start_time, r.end_time, r.to_location, r.status
+            from %3$s r
+            join (select %2$s, max(end_time) as last_end
+                  from %3$s
+                  where end_time <= ?
+                  group by %2$s) latest
+              on r.%2$s = latest.%2$s and r.end_time = latest.last_end
+            """;
+
+    private ScheduleScan() {
+    }
+
+    /**
+     * @param table          예약 테이블 (reservation / dispatcher_assignment)
+     * @param idColumn       예약 id 컬럼
+     * @param resourceColumn 리소스 id 컬럼 (vehicle_id / dispatcher_id)
+     */
+    static void scan(JdbcTemplate jdbcTemplate,
+                     StorageEncoding encoding,
+                     String table,
+                     String idColumn,
+                     String resourceColumn,
+                     ResourceType resourceType,
+                     LocalDateTime since,
+                     Consumer<ScheduleEntry> consumer) {
+        RowCallbackHandler handler = rs -> {
+            ReservationStatus status = encoding.status(rs, 6);
+            consumer.accept(new ScheduleEntry(
+                    resourceType,
+                    rs.getLong(2),
+                    rs.getLong(1),
+                    encoding.minute(rs, 3),
+                    encoding.minute(rs, 4),
+                    encoding.location(rs, 5),
+                    ReservationStatus.ACTIVE.contains(status)
+            ));
+        };
+        Object sinceValue = encoding.time(since);
+        jdbcTemplate.query(WINDOW.formatted(idColumn, resourceColumn, table), handler, sinceValue);
+        jdbcTemplate.query(ANCHOR.formatted(idColumn, resourceColumn, table), handler, sinceValue);
+    }
+}
@@ -0,0 +1,336 @@
+package com.resume.transportation.service.store;
+
+import com.resume.transportation.entity.converter.EpochMinuteConverter;
+import com.resume.transportation.enums.Location;
+import com.resume.transportation.enums.ReservationStatus;
+import com.resume.transportation.enums.ResourceType;
+import com.resume.transportation.service.command.CreateReservationCommand;
+import com.resume.transportation.service.exception.RejectReason;
+import com.resume.transportation.service.exception.ReservationRejectedException;
+import com.resume.transportation.service.store.shard.ReservationIdAllocator;
+import com.resume.transportation.service.store.shard.Shard;
+import com.resume.transportation.service.store.shard.ShardCluster;
+import com.resume.transportation.service.store.shard.ShardDirectory;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.jdbc.core.ResultSetExtractor;
+import org.springframework.stereotype.Component;
+
+import java.sql.ResultSet;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+import java.util.function.Consumer;
+import java.util.stream.Collectors;
+
+/**
+ * vehicleId 기준 샤딩 저장소 (transportation.reservation.store=sharded)
+ *
+ * - reservation 행은 vehicleId를 소유한 샤드에 저장 → 차량 overlap / 위치 조회는 단일 샤드
+ * - 디스패처는 여러 차량(=여러 샤드)에 걸치므로 dispatcherId를 소유한 샤드에
+ *   dispatcher_assignment 인덱스 행을 함께 기록 → 디스패처 overlap / 위치 조회도 단일 샤드
+ * - id는 ReservationIdAllocator(primary 단일 시퀀스)에서 INSERT 직전에 받는다
+ *   → 인스턴스와 무관하게 할당 순서대로 커지므로 "id < self" 검증이 단일 DB와 같은 선후를 본다
+ *
+ * 샤드 간 분산 트랜잭션은 없다. 쓰기 순서는 항상 보수적인 쪽으로 정한다.
+ * - INSERT: 디스패처 인덱스 → 예약 (중간 실패 시 남는 것은 인덱스뿐 = 디스패처가 잠시 바쁜 것으로 보일 뿐)
+ * - DELETE: 예약 → 디스패처 인덱스
+ *
+ * schedule tail은 사용하지 않는다 (위치 조회는 샤드의 (resource, end_time) 인덱스로 처리).
+ * 샤드 스키마(db/shard)는 처음부터 compact 인코딩이다 (transportation.storage.encoding과 무관).
+ */
+@Component
+@ConditionalOnProperty(name = "transportation.reservation.store", havingValue = "sharded")
+public class ShardedReservationStore implements ReservationStore {
+
+    private static final StorageEncoding SHARD_ENCODING = StorageEncoding.COMPACT;
+
+    private static final String ACTIVE_STATUS_CODES = ReservationStatus.ACTIVE.stream()
+            .map(status -> String.valueOf(status.getCode()))
+            .collect(Collectors.joining(", "));
+
+    private static final String INSERT_RESERVATION = """
+            insert into reservation
+                (id, operator_id, dispatcher_id, vehicle_id, from_location, to_location,
+                 status, start_time, end_time, version, updated_at)
+            values (?, ?, ?, ?, ?, ?, ?, ?, ?, 0, ?)
+            """;
+
+    private static final String INSERT_ASSIGNMENT = """
+            insert into dispatcher_assignment
+                (reservation_id, dispatcher_id, vehicle_id, to_location, status, start_time, end_time)
+            values (?, ?, ?, ?, ?, ?, ?)
+            """;
+
+    private static final String VEHICLE_OVERLAP = """
+            select 1 from reservation
+            where vehicle_id = ? and id < ?
+              and status in (%s)
+              and start_time < ? and end_time > ?
+            limit 1
+            """.formatted(ACTIVE_STATUS_CODES);
+
+    private static final String DISPATCHER_OVERLAP = """
+            select 1 from dispatcher_assignment
+            where dispatcher_id = ? and reservation_id < ?
+              and status in (%s)
+              and start_time < ? and end_time > ?
+            limit 1
+            """.formatted(ACTIVE_STATUS_CODES);
+
+    private static final String VEHICLE_OVERLAP_OTHER = """
+            select 1 from reservation
+            where vehicle_id = ? and id <> ?
+              and status in (%s)
+              and start_time < ? and end_time > ?
+            limit 1
+            """.formatted(ACTIVE_STATUS_CODES);
+
+    private static final String DISPATCHER_OVERLAP_OTHER = """
+            select 1 from dispatcher_assignment
+            where dispatcher_id = ? and reservation_id <> ?
+              and status in (%s)
+              and start_time < ? and end_time > ?
+            limit 1
+            """.formatted(ACTIVE_STATUS_CODES);
+
+    private static final String DISPATCHER_OVERLAPPING = """
+            select reservation_id, vehicle_id, to_location, status, start_time, end_time from dispatcher_assignment
+            where dispatcher_id = ?
+              and status in (%s)
+              and start_time < ? and end_time > ?
+            order by start_time, reservation_id
+            """.formatted(ACTIVE_STATUS_CODES);
+
+    private static final String VEHICLE_LAST_LOCATION = """
+            select to_location from reservation
+            where vehicle_id = ? and end_time <= ?
+            order by end_time desc
+            limit 1
+            """;
+
+    private static final String DISPATCHER_LAST_LOCATION = """
+            select to_location from dispatcher_assignment
+            where dispatcher_id = ? and end_time <= ?
+            order by end_time desc
+            limit 1
+            """;
+
+    private static final String DELETE_RESERVATION = "delete from reservation where id = ?";
+    private static final String DELETE_ASSIGNMENT = "delete from dispatcher_assignment where reservation_id = ?";
+    private static final String MOVE_ASSIGNMENT =
+            "update dispatcher_assignment set start_time = ?, end_time = ? where reservation_id = ?";
+
+    private final ShardCluster shardCluster;
+    private final ShardDirectory shardDirectory;
+    private final ReservationIdAllocator idAllocator;
+
+    public ShardedReservationStore(ShardCluster shardCluster,
+                                   ShardDirectory shardDirectory,
+                                   ReservationIdAllocator idAllocator) {
+        this.shardCluster = shardCluster;
+        this.shardDirectory = shardDirectory;
+        this.idAllocator = idAllocator;
+    }
+
+    @Override
+    public Long insert(CreateReservationCommand cmd) {
+        if (shardDirectory.isMoving(cmd.vehicleId()) || shardDirectory.isMoving(cmd.dispatcherId())) {
+            throw new ReservationRejectedException(RejectReason.SHARD_MOVING);
+        }
+
+        long reservationId = idAllocator.next();
+        byte created = ReservationStatus.CREATED.getCode();
+        int startMinute = EpochMinuteConverter.toEpochMinute(cmd.startTime());
+        int endMinute = EpochMinuteConverter.toEpochMinute(cmd.endTime());
+
+        // 1. 디스패처 인덱스 (디스패처 소유 샤드)
+        Shard dispatcherShard = shardDirectory.shardOf(cmd.dispatcherId());
+        dispatcherShard.transactionTemplate().executeWithoutResult(status ->
+                dispatcherShard.jdbcTemplate().update(INSERT_ASSIGNMENT,
+                        reservationId, cmd.dispatcherId(), cmd.vehicleId(),
+                        cmd.toLocation().getCode(), created, startMinute, endMinute));
+
+        // 2. 예약 (차량 소유 샤드) - 실패 시 인덱스 보상 삭제
+        Shard vehicleShard = shardDirectory.shardOf(cmd.vehicleId());
+        try {
+            vehicleShard.transactionTemplate().executeWithoutResult(status ->
+                    vehicleShard.jdbcTemplate().update(INSERT_RESERVATION,
+                            reservationId, cmd.operatorId(), cmd.dispatcherId(), cmd.vehicleId(),
+                            cmd.fromLocation().getCode(), cmd.toLocation().getCode(),
+                            created, startMinute, endMinute, Timestamp.valueOf(LocalDateTime.now())));
+        } catch (RuntimeException e) {
+            dispatcherShard.jdbcTemplate().update(DELETE_ASSIGNMENT, reservationId);
+            throw e;
+        }
+
+        return reservationId;
+    }
+
+    @Override
+    public boolean existsOverlapExcluding(
+            ResourceType resourceType,
+            Long resourceId,
+            Long excludeId,
+            LocalDateTime startTime,
+            LocalDateTime endTime
+    ) {
+        String sql = switch (resourceType) {
+            case VEHICLE -> VEHICLE_OVERLAP;
+            case DISPATCHER -> DISPATCHER_OVERLAP;
+        };
+        Boolean exists = shardDirectory.shardOf(resourceId).jdbcTemplate().query(sql,
+                (ResultSetExtractor<Boolean>) ResultSet::next,
+                resourceId,
+                excludeId,
+                EpochMinuteConverter.toEpochMinute(endTime),
+                EpochMinuteConverter.toEpochMinute(startTime));
+        return Boolean.TRUE.equals(exists);
+    }
+
+    /**
+     * 차량은 차량 샤드의 reservation, 디스패처는 디스패처 샤드의 dispatcher_assignment (각각 단일 샤드)
+     */
+    @Override
+    public RunLoad countRunLoadExcluding(ResourceType resourceType, Long excludeId, CreateReservationCommand cmd) {
+        return switch (resourceType) {
+            case VEHICLE -> RunLoadQuery.count(shardDirectory.shardOf(cmd.vehicleId()).jdbcTemplate(), SHARD_ENCODING,
+                    "reservation", "id", "vehicle_id", "dispatcher_id",
+                    cmd.vehicleId(), cmd.dispatcherId(), excludeId, cmd);
+            case DISPATCHER -> RunLoadQuery.count(shardDirectory.shardOf(cmd.dispatcherId()).jdbcTemplate(), SHARD_ENCODING,
+                    "dispatcher_assignment", "reservation_id", "dispatcher_id", "vehicle_id",
+                    cmd.dispatcherId(), cmd.vehicleId(), excludeId, cmd);
+        };
+    }
+
+    @Override
+    public boolean existsOverlapOther(
+            ResourceType resourceType,
+            Long resourceId,
+            Long reservationId,
+            LocalDateTime startTime,
+            LocalDateTime endTime
+    ) {
+        String sql = switch (resourceType) {
+            case VEHICLE -> VEHICLE_OVERLAP_OTHER;
+            case DISPATCHER -> DISPATCHER_OVERLAP_OTHER;
+        };
+        Boolean exists = shardDirectory.shardOf(resourceId).jdbcTemplate().query(sql,
+                (ResultSetExtractor<Boolean>) ResultSet::next,
+                resourceId,
+                reservationId,
+                EpochMinuteConverter.toEpochMinute(endTime),
+                EpochMinuteConverter.toEpochMinute(startTime));
+        return Boolean.TRUE.equals(exists);
+    }
+
+    @Override
+    public Optional<Location> findLastLocation(ResourceType resourceType, Long resourceId, LocalDateTime time) {
+        String sql = switch (resourceType) {
+            case VEHICLE -> VEHICLE_LAST_LOCATION;
+            case DISPATCHER -> DISPATCHER_LAST_LOCATION;
+        };
+        List<Location> history = shardDirectory.shardOf(resourceId).jdbcTemplate().query(sql,
+                (rs, rowNum) -> Location.fromCode(rs.getByte(1)),
+                resourceId, EpochMinuteConverter.toEpochMinute(time));
+        return history.stream().findFirst();
+    }
+
+    /**
+     * id만으로는 소유 샤드를 알 수 없으므로 모든 샤드에서 삭제 (PK 삭제, 샤드 수만큼)
+     * 리밸런싱 복사 도중에도 원본/대상 양쪽에서 지워진다.
+     */
+    @Override
+    public void delete(Long reservationId) {
+        for (Shard shard : shardCluster.all()) {
+            shard.jdbcTemplate().update(DELETE_RESERVATION, reservationId);
+        }
+        for (Shard shard : shardCluster.all()) {
+            shard.jdbcTemplate().update(DELETE_ASSIGNMENT, reservationId);
+        }
+    }
+
+    /**
+     * id만으로는 소유 샤드를 알 수 없으므로 모든 샤드에서 조회 (PK 조회, 샤드 수만큼)
+     */
+    @Override
+    public Optional<ReservationSnapshot> find(Long reservationId) {
+        for (Shard shard : shardCluster.all()) {
+            Optional<ReservationSnapshot> found = ReservationRows.find(shard.jdbcTemplate(), SHARD_ENCODING, reservationId);
+            if (found.isPresent()) {
+                return found;
+            }
+        }
+        return Optional.empty();
+    }
+
+    /**
+     * 차량은 차량 샤드의 reservation, 디스패처는 디스패처 샤드의 dispatcher_assignment (각각 단일 샤드)
+     * 디스패처 쪽은 인덱스 행 그대로 돌려준다 - operatorId / fromLocation은 null, version은 0
+     * (예약 행이 없는 인덱스도 포함 = existsOverlapExcluding과 같은 보수적인 쪽)
+     */
+    @Override
+    public List<ReservationSnapshot> findOverlapping(ResourceType resourceType, Long resourceId,
+                                                     LocalDateTime startTime, LocalDateTime endTime) {
+        if (resourceType == ResourceType.VEHICLE) {
+            return ReservationRows.findOverlapping(shardDirectory.shardOf(resourceId).jdbcTemplate(), SHARD_ENCODING,
+                    "vehicle_id", resourceId, startTime, endTime);
+        }
+        return shardDirectory.shardOf(resourceId).jdbcTemplate().query(DISPATCHER_OVERLAPPING,
+                (rs, rowNum) -> new ReservationSnapshot(
+                        rs.getLong(1),
+                        null,
+                        rs.getLong(2),
+                        resourceId,
+                        null,
+                        SHARD_ENCODING.location(rs, 3),
+                        SHARD_ENCODING.status(rs, 4),
+                        SHARD_ENCODING.time(rs, 5),
+                        SHARD_ENCODING.time(rs, 6),
+                        0L),
+                resourceId,
+                EpochMinuteConverter.toEpochMinute(endTime),
+                EpochMinuteConverter.toEpochMinute(startTime));
+    }
+
+    /**
+     * 예약(차량 샤드, version 조건부) → 디스패처 인덱스(디스패처 샤드) 순서로 이동
+     * 인덱스 이동 전에는 디스패처가 이전 시간대에 바쁜 것으로 보일 뿐이고, 새 시간대 검증은 호출자가 인덱스 이동 후에 한다.
+     */
+    @Override
+    public boolean move(Long reservationId, long version, LocalDateTime startTime, LocalDateTime endTime) {
+        Optional<ReservationSnapshot> found = find(reservationId);
+        if (found.isEmpty()) {
+            return false;
+        }
+        ReservationSnapshot snapshot = found.get();
+        if (shardDirectory.isMoving(snapshot.vehicleId()) || shardDirectory.isMoving(snapshot.dispatcherId())) {
+            throw new ReservationRejectedException(RejectReason.SHARD_MOVING);
+        }
+
+        Shard vehicleShard = shardDirectory.shardOf(snapshot.vehicleId());
+        if (!ReservationRows.move(vehicleShard.jdbcTemplate(), SHARD_ENCODING, reservationId, version, startTime, endTime)) {
+            return false;
+        }
+
+        shardDirectory.shardOf(snapshot.dispatcherId()).jdbcTemplate().update(MOVE_ASSIGNMENT,
+                EpochMinuteConverter.toEpochMinute(startTime),
+                EpochMinuteConverter.toEpochMinute(endTime),
+                reservationId);
+        return true;
+    }
+
+    /**
+     * 모든 샤드 스캔 - 차량은 reservation, 디스패처는 dispatcher_assignment
+     * 리밸런싱 복사 도중에는 같은 예약이 두 샤드에서 나올 수 있다 (인덱스에서 id로 중복 제거).
+     */
+    @Override
+    public void scanSchedule(LocalDateTime since, Consumer<ScheduleEntry> consumer) {
+        for (Shard shard : shardCluster.all()) {
+            ScheduleScan.scan(shard.jdbcTemplate(), SHARD_ENCODING, "reservation", "id", "vehicle_id",
+                    ResourceType.VEHICLE, since, consumer);
+            ScheduleScan.scan(shard.jdbcTemplate(), SHARD_ENCODING, "dispatcher_assignment", "reservation_id", "dispatcher_id",
+                    ResourceType.DISPATCHER, since, consumer);
+        }
+    }
+}
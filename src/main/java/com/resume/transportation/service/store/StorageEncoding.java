@@ -0,0 +1,155 @@
+package com.resume.transportation.service.store;
+
+import com.resume.transportation.entity.converter.EpochMinuteConverter;
+import com.resume.transportation.enums.Location;
+import com.resume.transportation.enums.ReservationStatus;
+
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.Locale;
+import java.util.stream.Collectors;
+
+/**
+ * reservation / resource_schedule_tail 컬럼 인코딩 (transportation.storage.encoding)
+ *
+ * - COMPACT : 장소 / 상태는 TINYINT 코드, 시각은 epoch-minute INT (027 마이그레이션 이후, 기본값)
+ * - LEGACY  : 장소 / 상태는 VARCHAR 이름, 시각은 DATETIME (027 마이그레이션 이전 스키마)
+ *
+ * JPA 엔티티는 COMPACT 변환기로 매핑되고, LEGACY는 META-INF/orm-legacy-encoding.xml이 변환기를 바꾼다
+ * (application-legacy-encoding.yml). JDBC 경로(저장소 / 집계 / 스캔 SQL)는 이 enum으로 바인딩 값과 읽기를 맞춘다.
+ *
+ * 027 이후에 생긴 테이블(reservation_claim, recurring_schedule)과 샤드 스키마는 처음부터 COMPACT만 있다.
+ */
+public enum StorageEncoding {
+
+    COMPACT {
+        @Override
+        public Object time(LocalDateTime time) {
+            return time == null ? null : EpochMinuteConverter.toEpochMinute(time);
+        }
+
+        @Override
+        public Integer minute(ResultSet rs, int column) throws SQLException {
+            int minute = rs.getInt(column);
+            return rs.wasNull() ? null : minute;
+        }
+
+        @Override
+        public Object location(Location location) {
+            return location == null ? null : location.getCode();
+        }
+
+        @Override
+        public Location location(ResultSet rs, int column) throws SQLException {
+            byte code = rs.getByte(column);
+            return rs.wasNull() ? null : Location.fromCode(code);
+        }
+
+        @Override
+        public Object status(ReservationStatus status) {
+            return status.getCode();
+        }
+
+        @Override
+        public ReservationStatus status(ResultSet rs, int column) throws SQLException {
+            return ReservationStatus.fromCode(rs.getByte(column));
+        }
+
+        @Override
+        String literal(ReservationStatus status) {
+            return String.valueOf(status.getCode());
+        }
+    },
+
+    LEGACY {
+        @Override
+        public Object time(LocalDateTime time) {
+            return time == null ? null : Timestamp.valueOf(time);
+        }
+
+        @Override
+        public Integer minute(ResultSet rs, int column) throws SQLException {
+            Timestamp time = rs.getTimestamp(column);
+            return time == null ? null : EpochMinuteConverter.toEpochMinute(time.toLocalDateTime());
+        }
+
+        @Override
+        public Object location(Location location) {
+            return location == null ? null : location.name();
+        }
+
+        @Override
+        public Location location(ResultSet rs, int column) throws SQLException {
+            String name = rs.getString(column);
+            return name == null ? null : Location.valueOf(name);
+        }
+
+        @Override
+        public Object status(ReservationStatus status) {
+            return status.name();
+        }
+
+        @Override
+        public ReservationStatus status(ResultSet rs, int column) throws SQLException {
+            return ReservationStatus.valueOf(rs.getString(column));
+        }
+
+        @Override
+        String literal(ReservationStatus status) {
+            return "'" + status.name() + "'";
+        }
+    };
+
+    /**
+     * 시각 바인딩 값 (null 허용)
+     */
+    public abstract Object time(LocalDateTime time);
+
+    /**
+     * 시각 컬럼을 epoch-minute으로 읽는다 (NULL이면 null)
+     */
+    public abstract Integer minute(ResultSet rs, int column) throws SQLException;
+
+    /**
+     * 장소 바인딩 값 (null 허용)
+     */
+    public abstract Object location(Location location);
+
+    /**
+     * 장소 컬럼 읽기 (NULL이면 null)
+     */
+    public abstract Location location(ResultSet rs, int column) throws SQLException;
+
+    public abstract Object status(ReservationStatus status);
+
+    public abstract ReservationStatus status(ResultSet rs, int column) throws SQLException;
+
+    abstract String literal(ReservationStatus status);
+
+    /**
+     * 시각 컬럼 읽기 (NULL이면 null)
+     */
+    public LocalDateTime time(ResultSet rs, int column) throws SQLException {
+        Integer minute = minute(rs, column);
+        return minute == null ? null : EpochMinuteConverter.fromEpochMinute(minute);
+    }
+
+    /**
+     * SQL에 상수로 넣을 상태 목록 (status in (%s)) - 상수 SQL이라 PreparedStatement 캐시가 그대로 재사용된다
+     */
+    public String statusList(Collection<ReservationStatus> statuses) {
+        return statuses.stream()
+                .map(this::literal)
+                .collect(Collectors.joining(", "));
+    }
+
+    /**
+     * 설정값(compact / legacy) 해석
+     */
+    public static StorageEncoding of(String value) {
+        return valueOf(value.trim().toUpperCase(Locale.ROOT));
+    }
+}
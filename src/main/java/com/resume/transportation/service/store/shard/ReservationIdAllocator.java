@@ -0,0 +1,62 @@
+package com.resume.transportation.service.store.shard;
+
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.DependsOn;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.support.GeneratedKeyHolder;
+import org.springframework.jdbc.support.KeyHolder;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/**
+ * 샤드 간 예약 ID 할당 (primary의 auto_increment 시퀀스 테이블)
+ *
+ * insert-then-validate는 "id가 더 작은 예약이 이긴다"로 충돌을 판정한다
+ * (차량/디스패처 overlap, 합승 정원, claim, 다구간 일정 모두 id < self).
+ * 이 판정이 맞으려면 id가 유일할 뿐 아니라 모든 인스턴스에 걸쳐 할당 순서대로 커져야 한다
+ * - 나중에 할당받은 예약이 더 작은 id를 가지면 먼저 검증을 끝낸 예약을 보지 못해 양쪽 모두 통과한다.
+ * - 인스턴스별 블록(hi/lo)은 이 순서를 깨므로 쓰지 않는다.
+ *
+ * 할당은 reservation_id_sequence에 빈 행 1개를 auto-commit으로 INSERT하고 생성 키를 읽는다.
+ * 매번 새 행이라 행 잠금 대기가 없고, auto_increment 카운터는 할당 순서대로 커진다 (단일 DB의 reservation.id와 같은 규칙).
+ * 비용은 예약 1건당 primary INSERT 1회이며, 쌓인 행은 TRIM_INTERVAL마다 지운다 (카운터는 유지됨).
+ *
+ * 단일 DB에서 전환할 때는 alter table reservation_id_sequence auto_increment = max(reservation.id) + 1 로 맞춘다.
+ */
+@Component
+@DependsOn("shardDirectory")
+@ConditionalOnProperty(name = "transportation.reservation.store", havingValue = "sharded")
+public class ReservationIdAllocator {
+
+    private static final String ALLOCATE = "insert into reservation_id_sequence (stub) values (0)";
+    private static final String TRIM = "delete from reservation_id_sequence where id < ?";
+
+    private static final long TRIM_INTERVAL = 1024;
+
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate autoCommit;
+
+    public ReservationIdAllocator(JdbcTemplate jdbcTemplate, PlatformTransactionManager transactionManager) {
+        this.jdbcTemplate = jdbcTemplate;
+        // 호출자 트랜잭션에 묶이지 않도록 분리 (시퀀스 행은 INSERT 즉시 커밋)
+        this.autoCommit = new TransactionTemplate(transactionManager);
+        this.autoCommit.setPropagationBehavior(TransactionDefinition.PROPAGATION_NOT_SUPPORTED);
+    }
+
+    /**
+     * 다음 id (모든 인스턴스에서 호출 순서대로 증가)
+     */
+    public long next() {
+        long id = autoCommit.execute(status -> {
+            KeyHolder keyHolder = new GeneratedKeyHolder();
+            jdbcTemplate.update(con -> con.prepareStatement(ALLOCATE, new String[]{"id"}), keyHolder);
+            return keyHolder.getKey().longValue();
+        });
+        if (id % TRIM_INTERVAL == 0) {
+            autoCommit.executeWithoutResult(status -> jdbcTemplate.update(TRIM, id));
+        }
+        return id;
+    }
+}
@@ -0,0 +1,14 @@
+package com.resume.transportation.service.store.shard;
+
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/**
+ * 샤드 하나 (독립 DB 인스턴스)
+ *
+ * @param index               샤드 번호 (transportation.sharding.shards[index])
+ * @param jdbcTemplate        샤드 전용 JdbcTemplate
+ * @param transactionTemplate 샤드 로컬 트랜잭션 (샤드 간 분산 트랜잭션은 없음)
+ */
+public record Shard(int index, JdbcTemplate jdbcTemplate, TransactionTemplate transactionTemplate) {
+}
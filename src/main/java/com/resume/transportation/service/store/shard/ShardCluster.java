@@ -0,0 +1,75 @@
+package com.resume.transportation.service.store.shard;
+
+import com.zaxxer.hikari.HikariDataSource;
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DataSourceTransactionManager;
+import org.springframework.jdbc.datasource.init.ResourceDatabasePopulator;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 예약 샤드 목록
+ *
+ * 샤드 DataSource는 스프링 빈으로 등록하지 않는다
+ * (@Primary dataSource / JPA 트랜잭션 매니저 자동 설정과 충돌 방지).
+ * 풀 종료는 이 객체의 close()가 담당한다.
+ */
+public class ShardCluster implements AutoCloseable {
+
+    private static final String SCHEMA_SCRIPT = "db/shard/schema-%s.sql";
+
+    private final List<HikariDataSource> pools;
+    private final List<Shard> shards;
+
+    public ShardCluster(List<HikariDataSource> pools) {
+        this.pools = List.copyOf(pools);
+        List<Shard> shards = new ArrayList<>(pools.size());
+        for (int i = 0; i < pools.size(); i++) {
+            HikariDataSource pool = pools.get(i);
+            shards.add(new Shard(i, new JdbcTemplate(pool),
+                    new TransactionTemplate(new DataSourceTransactionManager(pool))));
+        }
+        this.shards = List.copyOf(shards);
+    }
+
+    /**
+     * 각 샤드에 reservation / dispatcher_assignment 테이블 생성 (이미 있으면 스킵)
+     */
+    public void initializeSchema() {
+        for (HikariDataSource pool : pools) {
+            String script = SCHEMA_SCRIPT.formatted(platformOf(pool));
+            new ResourceDatabasePopulator(new ClassPathResource(script)).execute(pool);
+        }
+    }
+
+    public Shard get(int index) {
+        return shards.get(index);
+    }
+
+    public List<Shard> all() {
+        return shards;
+    }
+
+    public int size() {
+        return shards.size();
+    }
+
+    @Override
+    public void close() {
+        pools.forEach(HikariDataSource::close);
+    }
+
+    private String platformOf(HikariDataSource pool) {
+        try (Connection connection = pool.getConnection()) {
+            String product = connection.getMetaData().getDatabaseProductName().toLowerCase();
+            return product.contains("mysql") ? "mysql" : "h2";
+        } catch (SQLException e) {
+            throw new IllegalStateException("샤드 DB 종류 확인 실패: " + pool.getPoolName(), e);
+        }
+    }
+}
@@ -0,0 +1,175 @@
+package com.resume.transportation.service.store.shard;
+
+import jakarta.annotation.PostConstruct;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowCallbackHandler;
+import org.springframework.jdbc.datasource.init.ResourceDatabasePopulator;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import javax.sql.DataSource;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+
+/**
+ * bucket → shard 디렉터리 (primary DB의 shard_bucket 테이블)
+ *
+ * bucket = resourceId mod transportation.sharding.buckets
+ * - 예약 행: vehicleId의 bucket이 속한 샤드
+ * - 디스패처 인덱스(dispatcher_assignment): dispatcherId의 bucket이 속한 샤드
+ *
+ * 조회는 메모리 스냅샷으로만 하고, 주기적으로 DB에서 다시 읽는다.
+ * 다른 인스턴스의 리밸런싱 결과는 최대 refresh 주기만큼 늦게 반영되므로
+ * 리밸런서는 그보다 긴 유예 시간(move-grace-period)을 두고 움직인다.
+ */
+@Component
+@ConditionalOnProperty(name = "transportation.reservation.store", havingValue = "sharded")
+public class ShardDirectory {
+
+    private static final String DIRECTORY_SCRIPT = "db/shard/directory.sql";
+
+    private static final String SELECT_BUCKETS = "select bucket, shard, moving from shard_bucket order by bucket";
+    private static final String INSERT_BUCKET = "insert into shard_bucket (bucket, shard, moving) values (?, ?, 0)";
+    private static final String UPDATE_MOVING = "update shard_bucket set moving = ? where bucket = ?";
+    private static final String UPDATE_OWNER = "update shard_bucket set shard = ?, moving = 0 where bucket = ?";
+
+    private final DataSource dataSource;
+    private final JdbcTemplate jdbcTemplate;
+    private final ShardCluster shardCluster;
+    private final int bucketCount;
+
+    private volatile Snapshot snapshot;
+
+    public ShardDirectory(DataSource dataSource,
+                          JdbcTemplate jdbcTemplate,
+                          ShardCluster shardCluster,
+                          @Value("${transportation.sharding.buckets:64}") int bucketCount) {
+        this.dataSource = dataSource;
+        this.jdbcTemplate = jdbcTemplate;
+        this.shardCluster = shardCluster;
+        this.bucketCount = bucketCount;
+    }
+
+    /**
+     * 디렉터리 테이블 생성 + 최초 1회 bucket 균등 배치 (bucket i → shard i % N)
+     */
+    @PostConstruct
+    public void init() {
+        new ResourceDatabasePopulator(new ClassPathResource(DIRECTORY_SCRIPT)).execute(dataSource);
+
+        Integer existing = jdbcTemplate.queryForObject("select count(*) from shard_bucket", Integer.class);
+        if (existing == null || existing == 0) {
+            List<Object[]> rows = new ArrayList<>(bucketCount);
+            for (int bucket = 0; bucket < bucketCount; bucket++) {
+                rows.add(new Object[]{bucket, bucket % shardCluster.size()});
+            }
+            try {
+                jdbcTemplate.batchUpdate(INSERT_BUCKET, rows);
+            } catch (DuplicateKeyException e) {
+                // 다른 인스턴스가 먼저 생성
+            }
+        }
+
+        refresh();
+        System.out.printf("[ShardDirectory] bucket %d개 / 샤드 %d개 - %s%n",
+                bucketCount, shardCluster.size(), bucketCountsByShard());
+    }
+
+    @Scheduled(fixedDelayString = "${transportation.sharding.directory-refresh-interval:5000}")
+    public void refresh() {
+        int[] owners = new int[bucketCount];
+        boolean[] moving = new boolean[bucketCount];
+        int[] loaded = {0};
+
+        jdbcTemplate.query(SELECT_BUCKETS, (RowCallbackHandler) rs -> {
+            int bucket = rs.getInt(1);
+            int shard = rs.getInt(2);
+            if (bucket >= bucketCount || shard >= shardCluster.size()) {
+                throw new IllegalStateException(
+                        "샤드 디렉터리가 설정과 다릅니다. bucket=" + bucket + ", shard=" + shard);
+            }
+            owners[bucket] = shard;
+            moving[bucket] = rs.getInt(3) != 0;
+            loaded[0]++;
+        });
+
+        if (loaded[0] != bucketCount) {
+            throw new IllegalStateException(
+                    "bucket 수가 설정과 다릅니다. (DB: " + loaded[0] + ", 설정: " + bucketCount + ")");
+        }
+        snapshot = new Snapshot(owners, moving);
+    }
+
+    public int bucketOf(long resourceId) {
+        return (int) Math.floorMod(resourceId, (long) bucketCount);
+    }
+
+    /**
+     * resourceId(vehicleId 또는 dispatcherId)를 소유한 샤드
+     */
+    public Shard shardOf(long resourceId) {
+        return shardCluster.get(snapshot.owners[bucketOf(resourceId)]);
+    }
+
+    public int ownerOfBucket(int bucket) {
+        return snapshot.owners[bucket];
+    }
+
+    /**
+     * 리밸런싱 중인 bucket이면 신규 쓰기 금지
+     */
+    public boolean isMoving(long resourceId) {
+        return snapshot.moving[bucketOf(resourceId)];
+    }
+
+    public int getBucketCount() {
+        return bucketCount;
+    }
+
+    public int getShardCount() {
+        return shardCluster.size();
+    }
+
+    /**
+     * 샤드별 bucket 수 (shard → count)
+     */
+    public Map<Integer, Integer> bucketCountsByShard() {
+        Map<Integer, Integer> counts = new TreeMap<>();
+        for (int shard = 0; shard < shardCluster.size(); shard++) {
+            counts.put(shard, 0);
+        }
+        for (int owner : snapshot.owners) {
+            counts.merge(owner, 1, Integer::sum);
+        }
+        return counts;
+    }
+
+    public List<Integer> movingBuckets() {
+        List<Integer> buckets = new ArrayList<>();
+        for (int bucket = 0; bucket < bucketCount; bucket++) {
+            if (snapshot.moving[bucket]) {
+                buckets.add(bucket);
+            }
+        }
+        return buckets;
+    }
+
+    void markMoving(int bucket, boolean moving) {
+        jdbcTemplate.update(UPDATE_MOVING, moving ? 1 : 0, bucket);
+        refresh();
+    }
+
+    void assign(int bucket, int shard) {
+        jdbcTemplate.update(UPDATE_OWNER, shard, bucket);
+        refresh();
+    }
+
+    private record Snapshot(int[] owners, boolean[] moving) {
+    }
+}
@@ -0,0 +1,249 @@
+package com.resume.transportation.service.store.shard;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.time.Duration;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * bucket 단위 샤드 리밸런싱 (DB 노드 추가 후 bucket 재분배)
+ *
+ * bucket 하나의 이동 절차
+ * 1. moving 표시 → 유예 시간 대기 (모든 인스턴스가 해당 bucket 신규 INSERT 중단)
+ * 2. 원본 → 대상 복사 (reservation: vehicle bucket, dispatcher_assignment: dispatcher bucket)
+ * 3. 소유 샤드 전환 → 유예 시간 대기 (모든 인스턴스가 새 소유 샤드로 라우팅)
+ * 4. 복사 도중 원본에서 삭제된 행은 대상에서도 삭제, 원본의 복사분 삭제
+ *
+ * 유예 시간(transportation.sharding.move-grace-period)은
+ * 디렉터리 refresh 주기 + 최대 요청 처리 시간보다 길어야 한다.
+ */
+@Component
+@ConditionalOnProperty(name = "transportation.reservation.store", havingValue = "sharded")
+public class ShardRebalancer {
+
+    private static final String RESERVATION_COLUMNS = """
+            id, operator_id, dispatcher_id, vehicle_id, from_location, to_location,
+            status, start_time, end_time, version, updated_at""";
+    private static final String ASSIGNMENT_COLUMNS = """
+            reservation_id, dispatcher_id, vehicle_id, to_location, status, start_time, end_time""";
+
+    private static final String SELECT_RESERVATIONS =
+            "select " + RESERVATION_COLUMNS + " from reservation where mod(vehicle_id, ?) = ?";
+    private static final String SELECT_ASSIGNMENTS =
+            "select " + ASSIGNMENT_COLUMNS + " from dispatcher_assignment where mod(dispatcher_id, ?) = ?";
+
+    private static final String INSERT_RESERVATION =
+            "insert into reservation (" + RESERVATION_COLUMNS + ") values (?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?)";
+    private static final String INSERT_ASSIGNMENT =
+            "insert into dispatcher_assignment (" + ASSIGNMENT_COLUMNS + ") values (?, ?, ?, ?, ?, ?, ?)";
+
+    private static final String EXISTS_RESERVATION = "select count(*) from reservation where id = ?";
+    private static final String EXISTS_ASSIGNMENT = "select count(*) from dispatcher_assignment where reservation_id = ?";
+    private static final String DELETE_RESERVATION = "delete from reservation where id = ?";
+    private static final String DELETE_ASSIGNMENT = "delete from dispatcher_assignment where reservation_id = ?";
+
+    private final ShardCluster shardCluster;
+    private final ShardDirectory shardDirectory;
+    private final Duration gracePeriod;
+    private final ReentrantLock rebalanceLock = new ReentrantLock();
+
+    public ShardRebalancer(ShardCluster shardCluster,
+                           ShardDirectory shardDirectory,
+                           @Value("${transportation.sharding.move-grace-period:10s}") Duration gracePeriod) {
+        this.shardCluster = shardCluster;
+        this.shardDirectory = shardDirectory;
+        this.gracePeriod = gracePeriod;
+    }
+
+    /**
+     * 샤드별 bucket 수를 균등하게 만드는 이동 계획 (실행하지 않음)
+     */
+    public List<BucketMove> plan() {
+        int shardCount = shardDirectory.getShardCount();
+        int bucketCount = shardDirectory.getBucketCount();
+        Map<Integer, Integer> counts = shardDirectory.bucketCountsByShard();
+
+        // 목표: bucketCount / shardCount, 나머지는 앞 번호 샤드부터 1개씩
+        int[] target = new int[shardCount];
+        for (int shard = 0; shard < shardCount; shard++) {
+            target[shard] = bucketCount / shardCount + (shard < bucketCount % shardCount ? 1 : 0);
+        }
+
+        Deque<Integer> receivers = new ArrayDeque<>();
+        for (int shard = 0; shard < shardCount; shard++) {
+            for (int i = counts.get(shard); i < target[shard]; i++) {
+                receivers.add(shard);
+            }
+        }
+
+        int[] surplus = new int[shardCount];
+        for (int shard = 0; shard < shardCount; shard++) {
+            surplus[shard] = Math.max(0, counts.get(shard) - target[shard]);
+        }
+
+        List<BucketMove> moves = new ArrayList<>();
+        for (int bucket = bucketCount - 1; bucket >= 0 && !receivers.isEmpty(); bucket--) {
+            int owner = shardDirectory.ownerOfBucket(bucket);
+            if (surplus[owner] > 0) {
+                surplus[owner]--;
+                moves.add(new BucketMove(bucket, owner, receivers.poll()));
+            }
+        }
+        return moves;
+    }
+
+    /**
+     * 계획대로 bucket을 하나씩 이동
+     */
+    public List<BucketMove> rebalance() {
+        List<BucketMove> executed = new ArrayList<>();
+        runExclusive(() -> plan().forEach(move -> {
+            doMove(move);
+            executed.add(move);
+        }));
+        return executed;
+    }
+
+    /**
+     * bucket 하나를 지정 샤드로 이동
+     */
+    public BucketMove moveBucket(int bucket, int targetShard) {
+        if (bucket < 0 || bucket >= shardDirectory.getBucketCount()) {
+            throw new IllegalArgumentException("존재하지 않는 bucket: " + bucket);
+        }
+        if (targetShard < 0 || targetShard >= shardDirectory.getShardCount()) {
+            throw new IllegalArgumentException("존재하지 않는 샤드: " + targetShard);
+        }
+        BucketMove move = new BucketMove(bucket, shardDirectory.ownerOfBucket(bucket), targetShard);
+        runExclusive(() -> doMove(move));
+        return move;
+    }
+
+    private void runExclusive(Runnable task) {
+        if (!rebalanceLock.tryLock()) {
+            throw new IllegalStateException("이미 리밸런싱이 진행 중입니다.");
+        }
+        try {
+            task.run();
+        } finally {
+            rebalanceLock.unlock();
+        }
+    }
+
+    private void doMove(BucketMove move) {
+        if (move.fromShard() == move.toShard()) {
+            return;
+        }
+        long started = System.currentTimeMillis();
+        Shard source = shardCluster.get(move.fromShard());
+        Shard target = shardCluster.get(move.toShard());
+        int bucketCount = shardDirectory.getBucketCount();
+
+        // 1. 신규 INSERT 중단
+        shardDirectory.markMoving(move.bucket(), true);
+        Copied copied;
+        try {
+            sleep(gracePeriod);
+
+            // 2. 복사 (대상 샤드 단일 트랜잭션)
+            List<Object[]> reservations = source.jdbcTemplate().query(SELECT_RESERVATIONS,
+                    (rs, rowNum) -> readRow(rs, 11), bucketCount, move.bucket());
+            List<Object[]> assignments = source.jdbcTemplate().query(SELECT_ASSIGNMENTS,
+                    (rs, rowNum) -> readRow(rs, 7), bucketCount, move.bucket());
+            copied = target.transactionTemplate().execute(status -> new Copied(
+                    copy(target, reservations, EXISTS_RESERVATION, INSERT_RESERVATION),
+                    copy(target, assignments, EXISTS_ASSIGNMENT, INSERT_ASSIGNMENT)));
+
+            // 3. 소유 샤드 전환 (moving 해제) - 실패 시 대상 복사분 제거
+            try {
+                shardDirectory.assign(move.bucket(), move.toShard());
+            } catch (RuntimeException e) {
+                copied.reservationIds().forEach(id -> target.jdbcTemplate().update(DELETE_RESERVATION, id));
+                copied.assignmentIds().forEach(id -> target.jdbcTemplate().update(DELETE_ASSIGNMENT, id));
+                throw e;
+            }
+        } catch (RuntimeException e) {
+            shardDirectory.markMoving(move.bucket(), false);
+            throw e;
+        }
+        sleep(gracePeriod);
+
+        // 4. 복사 도중 삭제된 행 정리 + 원본 삭제
+        reconcile(source, target, copied.reservationIds(), EXISTS_RESERVATION, DELETE_RESERVATION);
+        reconcile(source, target, copied.assignmentIds(), EXISTS_ASSIGNMENT, DELETE_ASSIGNMENT);
+
+        System.out.printf("[ShardRebalancer] bucket %d: shard %d → %d (예약 %d건, 디스패처 인덱스 %d건, %dms)%n",
+                move.bucket(), move.fromShard(), move.toShard(),
+                copied.reservationIds().size(), copied.assignmentIds().size(),
+                System.currentTimeMillis() - started);
+    }
+
+    /**
+     * 대상에 없는 행만 INSERT (호출자 트랜잭션 안에서 실행)
+     */
+    private Set<Long> copy(Shard target, List<Object[]> rows, String existsSql, String insertSql) {
+        JdbcTemplate jdbc = target.jdbcTemplate();
+        Set<Long> copied = new HashSet<>();
+        for (Object[] row : rows) {
+            Long id = ((Number) row[0]).longValue();
+            Integer exists = jdbc.queryForObject(existsSql, Integer.class, id);
+            if (exists == null || exists == 0) {
+                jdbc.update(insertSql, row);
+            }
+            copied.add(id);
+        }
+        return copied;
+    }
+
+    private void reconcile(Shard source, Shard target, Set<Long> ids, String existsSql, String deleteSql) {
+        for (Long id : ids) {
+            Integer exists = source.jdbcTemplate().queryForObject(existsSql, Integer.class, id);
+            if (exists == null || exists == 0) {
+                target.jdbcTemplate().update(deleteSql, id);
+            } else {
+                source.jdbcTemplate().update(deleteSql, id);
+            }
+        }
+    }
+
+    private Object[] readRow(ResultSet rs, int columns) throws SQLException {
+        Object[] row = new Object[columns];
+        for (int i = 0; i < columns; i++) {
+            row[i] = rs.getObject(i + 1);
+        }
+        return row;
+    }
+
+    private void sleep(Duration duration) {
+        if (duration.isZero()) {
+            return;
+        }
+        try {
+            Thread.sleep(duration.toMillis());
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("리밸런싱 대기 중 인터럽트", e);
+        }
+    }
+
+    private record Copied(Set<Long> reservationIds, Set<Long> assignmentIds) {
+    }
+
+    /**
+     * bucket 이동 (fromShard → toShard)
+     */
+    public record BucketMove(int bucket, int fromShard, int toShard) {
+    }
+}
@@ -0,0 +1,41 @@
+package com.resume.transportation.service.submission;
+
+import java.time.Instant;
+
+/**
+ * 비동기 예약 접수 1건의 현재 상태 (폴링 / 스트리밍 응답용)
+ *
+ * @param reservationId 성공 시 생성된 예약 ID (그 외 null)
+ * @param reason        거절 / 실패 사유 코드 (RejectReason 이름, RATE_LIMITED, ERROR / 성공이면 null)
+ * @param completedAt   처리 완료 시각 (QUEUED면 null)
+ */
+public record Submission(
+        String ticketId,
+        SubmissionState state,
+        Long reservationId,
+        String reason,
+        String message,
+        Instant acceptedAt,
+        Instant completedAt
+) {
+
+    public static Submission queued(String ticketId) {
+        return new Submission(ticketId, SubmissionState.QUEUED, null, null, null, Instant.now(), null);
+    }
+
+    public Submission succeeded(Long reservationId) {
+        return new Submission(ticketId, SubmissionState.SUCCEEDED, reservationId, null, null, acceptedAt, Instant.now());
+    }
+
+    public Submission rejected(String reason, String message) {
+        return new Submission(ticketId, SubmissionState.REJECTED, null, reason, message, acceptedAt, Instant.now());
+    }
+
+    public Submission failed(String reason, String message) {
+        return new Submission(ticketId, SubmissionState.FAILED, null, reason, message, acceptedAt, Instant.now());
+    }
+
+    public boolean isDone() {
+        return state.isDone();
+    }
+}
@@ -0,0 +1,281 @@
+package com.resume.transportation.service.submission;
+
+import com.resume.transportation.service.ReservationService;
+import com.resume.transportation.service.command.CreateReservationCommand;
+import com.resume.transportation.service.exception.RejectReason;
+import com.resume.transportation.service.exception.ReservationRejectedException;
+import com.resume.transportation.service.ratelimit.RateLimitExceededException;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
+
+/**
+ * 비동기 예약 접수 (202 Accepted → 폴링 / 스트리밍으로 결과 확인)
+ *
+ * 요청 스레드는 큐에 넣고 바로 돌아가고, 파티션별 워커 1개가 순서대로 createReservation을 실행한다.
+ * - 파티션 = vehicleId 기준 → 같은 차량 요청은 한 워커가 직렬 처리 (로컬 락 경합 없음)
+ * - 동시 처리 수 = 파티션 수 → DB가 감당하는 속도로만 흘려보낸다
+ * - 접수(admission): 파티션이 가득 찼거나 맨 앞 요청이 max-age 이상 기다리고 있으면 거절 (429 SUBMISSION_QUEUE_FULL)
+ * - BUSY / 락 경합은 워커가 max-attempts까지 재시도, 확정 거절(INVALID / CONFLICT)은 바로 REJECTED
+ * - 워커도 createReservation을 거치므로 동기 요청과 같은 우선순위별 수용(PriorityAdmission) 한도를 나눠 쓴다
+ *   (등급은 요청 본문의 priority, PRIORITY_SHED는 BUSY라 재시도 대상)
+ *
+ * 메트릭 (파티션별)
+ * - reservation.submission.queue.depth{partition} : 대기 중인 요청 수
+ * - reservation.submission.queue.age{partition}   : 맨 앞 요청의 대기 시간 (ms)
+ *
+ * 접수 상태는 SubmissionStore(Redis + 로컬 사본)에 result-ttl 동안 보관한다.
+ * - 처리(대기열 / 워커)는 접수한 인스턴스에서만 일어나고, 폴링 / 스트리밍은 어느 인스턴스로 와도 된다
+ * - 다른 인스턴스의 접수를 구독하면 remote-poll-interval마다 Redis에서 완료 여부를 확인해 알린다
+ * - 접수한 인스턴스가 처리 전에 죽으면 그 접수는 result-ttl이 지날 때까지 QUEUED로 남는다
+ */
+@Service
+@RequiredArgsConstructor
+public class SubmissionService {
+
+    private static final String RATE_LIMITED = "RATE_LIMITED";
+    private static final String ERROR = "ERROR";
+
+    private final ReservationService reservationService;
+    private final MeterRegistry meterRegistry;
+    private final SubmissionStore submissionStore;
+
+    private final ConcurrentHashMap<String, List<Consumer<Submission>>> listeners = new ConcurrentHashMap<>();
+    private final List<Partition> partitions = new ArrayList<>();
+
+    private volatile boolean running;
+
+    @Value("${transportation.submission.partitions:4}")
+    private int partitionCount = 4;
+
+    @Value("${transportation.submission.capacity:1000}")
+    private int capacity = 1000;
+
+    @Value("${transportation.submission.max-age:5s}")
+    private Duration maxAge = Duration.ofSeconds(5);
+
+    @Value("${transportation.submission.max-attempts:3}")
+    private int maxAttempts = 3;
+
+    @Value("${transportation.submission.retry-backoff:100ms}")
+    private Duration retryBackoff = Duration.ofMillis(100);
+
+    @PostConstruct
+    public void start() {
+        running = true;
+        for (int i = 0; i < partitionCount; i++) {
+            Partition partition = new Partition(i, new ArrayBlockingQueue<>(capacity));
+            partitions.add(partition);
+
+            String tag = String.valueOf(i);
+            Gauge.builder("reservation.submission.queue.depth", partition, p -> p.queue.size())
+                    .description("Queued async reservation submissions")
+                    .tag("partition", tag)
+                    .register(meterRegistry);
+            Gauge.builder("reservation.submission.queue.age", partition, Partition::oldestAgeMillis)
+                    .description("Wait time of the oldest queued submission")
+                    .baseUnit("milliseconds")
+                    .tag("partition", tag)
+                    .register(meterRegistry);
+
+            partition.worker = Thread.ofVirtual().name("submission-" + i).start(partition);
+        }
+        System.out.printf("📥 [Submission] 워커 시작 - 파티션 %d개, 파티션당 %d건%n", partitionCount, capacity);
+    }
+
+    @PreDestroy
+    public void stop() {
+        running = false;
+        partitions.forEach(p -> p.worker.interrupt());
+    }
+
+    /**
+     * 접수 (큐에 넣기만 하고 바로 반환)
+     *
+     * @throws ReservationRejectedException SUBMISSION_QUEUE_FULL - 파티션이 가득 찼거나 밀려 있음
+     */
+    public Submission submit(CreateReservationCommand command) {
+        Partition partition = partitions.get(Math.floorMod(Objects.hashCode(command.vehicleId()), partitions.size()));
+        if (partition.oldestAgeMillis() > maxAge.toMillis()) {
+            throw new ReservationRejectedException(RejectReason.SUBMISSION_QUEUE_FULL);
+        }
+
+        Submission queued = Submission.queued(UUID.randomUUID().toString());
+        submissionStore.save(queued);
+        if (!partition.queue.offer(new Entry(queued.ticketId(), command, System.nanoTime()))) {
+            submissionStore.remove(queued.ticketId());
+            throw new ReservationRejectedException(RejectReason.SUBMISSION_QUEUE_FULL);
+        }
+        return queued;
+    }
+
+    public Optional<Submission> find(String ticketId) {
+        return submissionStore.find(ticketId);
+    }
+
+    /**
+     * 처리가 끝나면 listener를 1회 호출한다 (이미 끝났으면 즉시 호출)
+     *
+     * @return 등록 시점의 상태 (없는 접수면 empty, listener 등록 안 함)
+     */
+    public Optional<Submission> subscribe(String ticketId, Consumer<Submission> listener) {
+        Optional<Submission> current = submissionStore.find(ticketId);
+        if (current.isEmpty()) {
+            return Optional.empty();
+        }
+
+        listeners.computeIfAbsent(ticketId, id -> new CopyOnWriteArrayList<>()).add(listener);
+
+        // 등록 직전에 끝났으면 process()의 알림을 놓쳤을 수 있다
+        submissionStore.find(ticketId)
+                .filter(Submission::isDone)
+                .ifPresent(this::notifyListeners);
+        return current;
+    }
+
+    /**
+     * 구독 중인 접수의 완료 확인 (다른 인스턴스가 처리한 접수는 여기서 알린다)
+     * 이 서버가 처리 중인 접수는 로컬 사본에서 바로 읽히므로 Redis 왕복이 없다.
+     */
+    @Scheduled(fixedDelayString = "${transportation.submission.remote-poll-interval:500}")
+    public void pollSubscriptions() {
+        for (String ticketId : listeners.keySet()) {
+            Optional<Submission> latest = submissionStore.find(ticketId);
+            if (latest.isEmpty()) {
+                // 보관 기간이 지났거나 Redis에서 사라짐
+                listeners.remove(ticketId);
+            } else if (latest.get().isDone()) {
+                notifyListeners(latest.get());
+            }
+        }
+    }
+
+    private void process(Entry entry) {
+        Submission queued = submissionStore.find(entry.ticketId()).orElse(null);
+        if (queued == null) {
+            return;
+        }
+
+        Submission done;
+        try {
+            done = queued.succeeded(createWithRetry(entry.command()));
+        } catch (ReservationRejectedException e) {
+            done = e.getReason().getCategory() == RejectReason.Category.BUSY
+                    ? queued.failed(e.getReason().name(), e.getMessage())
+                    : queued.rejected(e.getReason().name(), e.getMessage());
+        } catch (RateLimitExceededException e) {
+            done = queued.failed(RATE_LIMITED, e.getMessage());
+        } catch (Exception e) {
+            System.err.printf("❌ [Submission] 처리 실패 - ticket=%s: %s%n", entry.ticketId(), e.getMessage());
+            done = queued.failed(ERROR, e.getMessage());
+        }
+
+        submissionStore.save(done);
+        notifyListeners(done);
+    }
+
+    /**
+     * 일시적 경합(BUSY / Rate Limit)은 같은 요청을 다시 시도한다
+     */
+    private Long createWithRetry(CreateReservationCommand command) {
+        for (int attempt = 1; ; attempt++) {
+            RuntimeException busy;
+            try {
+                return reservationService.createReservation(command).reservationId();
+            } catch (ReservationRejectedException e) {
+                if (e.getReason().getCategory() != RejectReason.Category.BUSY) {
+                    throw e;
+                }
+                busy = e;
+            } catch (RateLimitExceededException e) {
+                busy = e;
+            }
+            if (attempt >= maxAttempts || !sleep(retryBackoff.toMillis() * attempt)) {
+                throw busy;
+            }
+        }
+    }
+
+    private void notifyListeners(Submission done) {
+        List<Consumer<Submission>> waiting = listeners.remove(done.ticketId());
+        if (waiting == null) {
+            return;
+        }
+        for (Consumer<Submission> listener : waiting) {
+            try {
+                listener.accept(done);
+            } catch (Exception e) {
+                System.err.printf("⚠️ [Submission] 결과 알림 실패 - ticket=%s: %s%n", done.ticketId(), e.getMessage());
+            }
+        }
+    }
+
+    /**
+     * @return 인터럽트되면 false (종료 중)
+     */
+    private static boolean sleep(long millis) {
+        try {
+            Thread.sleep(millis);
+            return true;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return false;
+        }
+    }
+
+    private record Entry(String ticketId, CreateReservationCommand command, long acceptedNanos) {
+    }
+
+    private final class Partition implements Runnable {
+
+        private final int index;
+        private final BlockingQueue<Entry> queue;
+        private Thread worker;
+
+        private Partition(int index, BlockingQueue<Entry> queue) {
+            this.index = index;
+            this.queue = queue;
+        }
+
+        private long oldestAgeMillis() {
+            Entry head = queue.peek();
+            return head == null ? 0L : TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - head.acceptedNanos());
+        }
+
+        @Override
+        public void run() {
+            while (running) {
+                try {
+                    Entry entry = queue.poll(1, TimeUnit.SECONDS);
+                    if (entry != null) {
+                        process(entry);
+                    }
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    break;
+                }
+            }
+            if (!queue.isEmpty()) {
+                System.out.printf("⚠️ [Submission] 파티션 %d 종료 - 미처리 %d건%n", index, queue.size());
+            }
+        }
+    }
+}
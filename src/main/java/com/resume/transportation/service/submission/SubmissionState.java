@@ -0,0 +1,17 @@
+package com.resume.transportation.service.submission;
+
+/**
+ * 비동기 예약 접수 상태
+ *
+ * QUEUED 이후 SUCCEEDED / REJECTED / FAILED 중 하나로 한 번만 바뀐다.
+ */
+public enum SubmissionState {
+    QUEUED,
+    SUCCEEDED,
+    REJECTED,
+    FAILED;
+
+    public boolean isDone() {
+        return this != QUEUED;
+    }
+}
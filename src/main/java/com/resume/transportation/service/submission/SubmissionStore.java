@@ -0,0 +1,139 @@
+package com.resume.transportation.service.submission;
+
+import com.resume.transportation.service.ratelimit.CircuitBreaker;
+import org.redisson.api.RBucket;
+import org.redisson.api.RedissonClient;
+import org.redisson.client.codec.StringCodec;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+
+/**
+ * 비동기 접수 상태 저장소 (로컬 사본 + Redis, DB 접근 없음)
+ *
+ * Redis - reservation:submission:{ticketId} (bucket, result-ttl)
+ * - {상태}|{접수 ms}|{완료 ms}|{reservationId}|{사유}|{메시지} (없는 값은 빈 문자열)
+ * → 접수한 인스턴스가 아닌 곳으로 들어온 폴링 / 스트리밍도 같은 상태를 본다.
+ *
+ * 로컬: 이 서버가 접수한 요청(처리 중 포함)과 읽어 온 완료 결과 사본
+ * Redis 장애 시에는 IdempotencyStore와 마찬가지로 접수한 서버에서만 조회된다.
+ */
+@Component
+public class SubmissionStore {
+
+    private static final String KEY_PREFIX = "reservation:submission:";
+
+    private static final int FAILURE_THRESHOLD = 5;
+    private static final Duration OPEN_TIMEOUT = Duration.ofSeconds(30);
+
+    private final RedissonClient redissonClient;
+    private final CircuitBreaker circuitBreaker;
+    private final ConcurrentHashMap<String, Submission> localSubmissions = new ConcurrentHashMap<>();
+
+    @Value("${transportation.submission.result-ttl:10m}")
+    private Duration resultTtl = Duration.ofMinutes(10);
+
+    public SubmissionStore(RedissonClient redissonClient) {
+        this.redissonClient = redissonClient;
+        this.circuitBreaker = new CircuitBreaker("Redisson-Submission", FAILURE_THRESHOLD, OPEN_TIMEOUT);
+    }
+
+    /**
+     * 상태 저장 (접수 / 완료 모두 result-ttl 동안 보관)
+     */
+    public void save(Submission submission) {
+        localSubmissions.put(submission.ticketId(), submission);
+        redis(() -> {
+            bucket(submission.ticketId()).set(encode(submission), resultTtl.toMillis(), TimeUnit.MILLISECONDS);
+            return null;
+        });
+    }
+
+    /**
+     * 현재 상태 (로컬 → Redis 순, 처리 중인 다른 서버의 접수는 매번 Redis에서 읽는다)
+     */
+    public Optional<Submission> find(String ticketId) {
+        Submission local = localSubmissions.get(ticketId);
+        if (local != null) {
+            return Optional.of(local);
+        }
+
+        String encoded = redis(() -> bucket(ticketId).get());
+        Submission submission = encoded == null ? null : decode(ticketId, encoded);
+        if (submission != null && submission.isDone()) {
+            localSubmissions.put(ticketId, submission);
+        }
+        return Optional.ofNullable(submission);
+    }
+
+    /**
+     * 접수 취소 (대기열에 넣지 못한 경우)
+     */
+    public void remove(String ticketId) {
+        localSubmissions.remove(ticketId);
+        redis(() -> bucket(ticketId).delete());
+    }
+
+    /**
+     * 보관 기간이 지난 로컬 사본 정리 (Redis 쪽은 TTL로 자동 정리)
+     */
+    @Scheduled(fixedDelay = 60000)
+    public void purgeExpired() {
+        Instant threshold = Instant.now().minus(resultTtl);
+        localSubmissions.values().removeIf(s -> s.isDone() && s.completedAt().isBefore(threshold));
+    }
+
+    private RBucket<String> bucket(String ticketId) {
+        return redissonClient.getBucket(KEY_PREFIX + ticketId, StringCodec.INSTANCE);
+    }
+
+    /**
+     * Redis 호출 (Circuit OPEN이거나 실패하면 null → 호출자가 로컬 사본 사용)
+     */
+    private <T> T redis(Supplier<T> call) {
+        if (!circuitBreaker.allowRequest()) {
+            return null;
+        }
+        try {
+            T result = call.get();
+            circuitBreaker.recordSuccess();
+            return result;
+        } catch (Exception e) {
+            circuitBreaker.recordFailure();
+            System.err.printf("[SubmissionStore] Redis 오류 - 로컬 접수만 사용: %s%n", e.getMessage());
+            return null;
+        }
+    }
+
+    /*
+     * 직렬화: 메시지는 '|'를 포함할 수 있으므로 마지막 필드로 둔다
+     */
+    private static String encode(Submission s) {
+        return String.join("|",
+                s.state().name(),
+                String.valueOf(s.acceptedAt().toEpochMilli()),
+                s.completedAt() == null ? "" : String.valueOf(s.completedAt().toEpochMilli()),
+                s.reservationId() == null ? "" : String.valueOf(s.reservationId()),
+                s.reason() == null ? "" : s.reason(),
+                s.message() == null ? "" : s.message());
+    }
+
+    private static Submission decode(String ticketId, String encoded) {
+        String[] f = encoded.split("\\|", 6);
+        return new Submission(
+                ticketId,
+                SubmissionState.valueOf(f[0]),
+                f[3].isEmpty() ? null : Long.valueOf(f[3]),
+                f[4].isEmpty() ? null : f[4],
+                f[5].isEmpty() ? null : f[5],
+                Instant.ofEpochMilli(Long.parseLong(f[1])),
+                f[2].isEmpty() ? null : Instant.ofEpochMilli(Long.parseLong(f[2])));
+    }
+}
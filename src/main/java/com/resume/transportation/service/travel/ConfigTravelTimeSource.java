@@ -0,0 +1,46 @@
+package com.resume.transportation.service.travel;
+
+import com.resume.transportation.enums.Location;
+import org.springframework.boot.context.properties.bind.Bindable;
+import org.springframework.boot.context.properties.bind.Binder;
+import org.springframework.core.env.Environment;
+
+import java.util.List;
+
+/**
+ * application.yml 시간대 / 구간 목록
+ *
+ * 구간 설정이 없으면 기본 구간(AIRPORT → HOTEL → VENUE_ONE → VENUE_TWO)을 사용한다.
+ * Environment에서 매번 다시 바인딩하므로 설정 갱신 후 reload 하면 반영된다.
+ */
+public class ConfigTravelTimeSource implements TravelTimeSource {
+
+    private static final String BANDS = "transportation.travel-time.bands";
+    private static final String ROUTES = "transportation.travel-time.routes";
+
+    static final List<TravelRoute> DEFAULT_ROUTES = List.of(
+            TravelRoute.of(Location.AIRPORT, Location.HOTEL, 60),
+            TravelRoute.of(Location.HOTEL, Location.VENUE_ONE, 30),
+            TravelRoute.of(Location.VENUE_ONE, Location.VENUE_TWO, 20)
+    );
+
+    private final Environment environment;
+
+    public ConfigTravelTimeSource(Environment environment) {
+        this.environment = environment;
+    }
+
+    @Override
+    public TravelTimeProfile load() {
+        Binder binder = Binder.get(environment);
+        return new TravelTimeProfile(
+                binder.bind(BANDS, Bindable.listOf(TimeBand.class)).orElse(List.of()),
+                binder.bind(ROUTES, Bindable.listOf(TravelRoute.class)).orElse(DEFAULT_ROUTES)
+        );
+    }
+
+    @Override
+    public String describe() {
+        return "config(" + ROUTES + ")";
+    }
+}
@@ -0,0 +1,106 @@
+package com.resume.transportation.service.travel;
+
+import com.resume.transportation.enums.Location;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.LocalTime;
+import java.time.format.DateTimeParseException;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * CSV 파일 시간대 / 구간 목록 (# 이후는 주석)
+ *
+ * 시간대: band,name,HH:mm,HH:mm               예) band,morning-peak,07:00,10:00
+ * 구간:   from,to,minutes[,both][,band=minutes...] 예) AIRPORT,HOTEL,60,both,morning-peak=90
+ */
+public class FileTravelTimeSource implements TravelTimeSource {
+
+    private final Path path;
+
+    public FileTravelTimeSource(Path path) {
+        this.path = path;
+    }
+
+    @Override
+    public TravelTimeProfile load() {
+        List<String> lines;
+        try {
+            lines = Files.readAllLines(path, StandardCharsets.UTF_8);
+        } catch (IOException e) {
+            throw new UncheckedIOException("이동 시간 파일을 읽을 수 없습니다: " + path, e);
+        }
+
+        List<TimeBand> bands = new ArrayList<>();
+        List<TravelRoute> routes = new ArrayList<>();
+        for (int i = 0; i < lines.size(); i++) {
+            String line = stripComment(lines.get(i));
+            if (line.isEmpty()) {
+                continue;
+            }
+            String[] cols = line.split(",");
+            for (int c = 0; c < cols.length; c++) {
+                cols[c] = cols[c].trim();
+            }
+            try {
+                if ("band".equalsIgnoreCase(cols[0])) {
+                    bands.add(parseBand(cols));
+                } else {
+                    routes.add(parseRoute(cols));
+                }
+            } catch (IllegalArgumentException | DateTimeParseException e) {
+                throw new IllegalArgumentException(path + ":" + (i + 1) + " " + e.getMessage() + ": " + line, e);
+            }
+        }
+        return new TravelTimeProfile(bands, routes);
+    }
+
+    private static TimeBand parseBand(String[] cols) {
+        if (cols.length != 4) {
+            throw new IllegalArgumentException("형식 오류 (band,name,HH:mm,HH:mm)");
+        }
+        return new TimeBand(cols[1], LocalTime.parse(cols[2]), LocalTime.parse(cols[3]));
+    }
+
+    private static TravelRoute parseRoute(String[] cols) {
+        if (cols.length < 3) {
+            throw new IllegalArgumentException("형식 오류 (from,to,minutes[,both][,band=minutes...])");
+        }
+        boolean bidirectional = false;
+        Map<String, Integer> bandMinutes = new HashMap<>();
+        for (int c = 3; c < cols.length; c++) {
+            if ("both".equalsIgnoreCase(cols[c])) {
+                bidirectional = true;
+                continue;
+            }
+            int eq = cols[c].indexOf('=');
+            if (eq <= 0) {
+                throw new IllegalArgumentException("알 수 없는 항목: " + cols[c]);
+            }
+            bandMinutes.put(cols[c].substring(0, eq).trim(), Integer.parseInt(cols[c].substring(eq + 1).trim()));
+        }
+        return new TravelRoute(
+                Location.valueOf(cols[0]),
+                Location.valueOf(cols[1]),
+                Integer.parseInt(cols[2]),
+                bidirectional,
+                bandMinutes
+        );
+    }
+
+    private static String stripComment(String line) {
+        int hash = line.indexOf('#');
+        return (hash >= 0 ? line.substring(0, hash) : line).trim();
+    }
+
+    @Override
+    public String describe() {
+        return "file(" + path + ")";
+    }
+}
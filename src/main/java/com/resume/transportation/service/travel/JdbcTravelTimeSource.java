@@ -0,0 +1,98 @@
+package com.resume.transportation.service.travel;
+
+import com.resume.transportation.enums.Location;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowCallbackHandler;
+
+import java.time.LocalTime;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * DB 시간대 / 구간 목록 (단방향, 양방향은 두 행으로 저장)
+ *
+ * - travel_time            : 기본 이동 시간
+ * - travel_time_band       : 시간대 정의 (sort_order 순, 겹치면 뒤가 우선)
+ * - travel_time_band_route : 시간대별 이동 시간 (없으면 기본값)
+ * 운영 중 행을 수정하면 다음 refresh 주기에 반영된다.
+ */
+public class JdbcTravelTimeSource implements TravelTimeSource {
+
+    private static final List<String> CREATE_TABLES = List.of(
+            """
+            create table if not exists travel_time (
+                from_location varchar(20) not null,
+                to_location   varchar(20) not null,
+                minutes       int         not null,
+                primary key (from_location, to_location)
+            )
+            """,
+            """
+            create table if not exists travel_time_band (
+                name       varchar(50) not null primary key,
+                start_time char(5)     not null,
+                end_time   char(5)     not null,
+                sort_order int         not null default 0
+            )
+            """,
+            """
+            create table if not exists travel_time_band_route (
+                band          varchar(50) not null,
+                from_location varchar(20) not null,
+                to_location   varchar(20) not null,
+                minutes       int         not null,
+                primary key (band, from_location, to_location)
+            )
+            """
+    );
+
+    private static final String SELECT_BANDS =
+            "select name, start_time, end_time from travel_time_band order by sort_order, name";
+
+    private static final String SELECT_BAND_ROUTES =
+            "select band, from_location, to_location, minutes from travel_time_band_route";
+
+    private static final String SELECT_ROUTES =
+            "select from_location, to_location, minutes from travel_time";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    public JdbcTravelTimeSource(JdbcTemplate jdbcTemplate) {
+        this.jdbcTemplate = jdbcTemplate;
+        CREATE_TABLES.forEach(jdbcTemplate::execute);
+    }
+
+    @Override
+    public TravelTimeProfile load() {
+        List<TimeBand> bands = jdbcTemplate.query(SELECT_BANDS, (rs, rowNum) -> new TimeBand(
+                rs.getString("name"),
+                LocalTime.parse(rs.getString("start_time")),
+                LocalTime.parse(rs.getString("end_time"))
+        ));
+
+        // "FROM>TO" → band → minutes
+        Map<String, Map<String, Integer>> bandMinutes = new HashMap<>();
+        jdbcTemplate.query(SELECT_BAND_ROUTES, (RowCallbackHandler) rs -> bandMinutes
+                .computeIfAbsent(rs.getString("from_location") + ">" + rs.getString("to_location"), k -> new HashMap<>())
+                .put(rs.getString("band"), rs.getInt("minutes")));
+
+        List<TravelRoute> routes = jdbcTemplate.query(SELECT_ROUTES, (rs, rowNum) -> {
+            String from = rs.getString("from_location");
+            String to = rs.getString("to_location");
+            return new TravelRoute(
+                    Location.valueOf(from),
+                    Location.valueOf(to),
+                    rs.getInt("minutes"),
+                    false,
+                    bandMinutes.getOrDefault(from + ">" + to, Map.of())
+            );
+        });
+        return new TravelTimeProfile(bands, routes);
+    }
+
+    @Override
+    public String describe() {
+        return "db(travel_time)";
+    }
+}
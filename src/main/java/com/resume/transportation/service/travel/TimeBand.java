@@ -0,0 +1,31 @@
+package com.resume.transportation.service.travel;
+
+import java.time.LocalTime;
+
+/**
+ * 시간대 구간 [start, end) - start > end 면 자정을 넘는 구간 (예: 22:00 ~ 02:00)
+ *
+ * 구간이 겹치면 나중에 정의된 시간대가 우선한다.
+ */
+public record TimeBand(String name, LocalTime start, LocalTime end) {
+
+    public TimeBand {
+        if (name == null || name.isBlank()) {
+            throw new IllegalArgumentException("시간대 이름이 없습니다.");
+        }
+        if (start == null || end == null || start.equals(end)) {
+            throw new IllegalArgumentException("시간대 범위가 올바르지 않습니다: " + name);
+        }
+    }
+
+    /**
+     * 자정 기준 분 단위 포함 여부
+     */
+    boolean contains(int minuteOfDay) {
+        int from = start.getHour() * 60 + start.getMinute();
+        int to = end.getHour() * 60 + end.getMinute();
+        return from < to
+                ? minuteOfDay >= from && minuteOfDay < to
+                : minuteOfDay >= from || minuteOfDay < to;
+    }
+}
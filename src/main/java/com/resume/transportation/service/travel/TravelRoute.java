@@ -0,0 +1,48 @@
+package com.resume.transportation.service.travel;
+
+import com.resume.transportation.enums.Location;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+import java.util.Map;
+
+/**
+ * 직접 이동 구간 (간선)
+ *
+ * bidirectional=true 면 역방향도 같은 시간으로 등록한다.
+ * bandMinutes: 시간대 이름 → 해당 시간대 이동 시간 (없는 시간대는 minutes 사용)
+ * 경유 경로는 TravelTimeMatrix가 계산하므로 직접 구간만 정의하면 된다.
+ */
+public record TravelRoute(
+        Location from,
+        Location to,
+        int minutes,
+        @DefaultValue("false") boolean bidirectional,
+        Map<String, Integer> bandMinutes
+) {
+
+    public TravelRoute {
+        if (from == null || to == null) {
+            throw new IllegalArgumentException("이동 구간의 출발지/도착지가 없습니다.");
+        }
+        checkMinutes(from, to, minutes);
+        bandMinutes = bandMinutes == null ? Map.of() : Map.copyOf(bandMinutes);
+        bandMinutes.values().forEach(value -> checkMinutes(from, to, value));
+    }
+
+    public static TravelRoute of(Location from, Location to, int minutes) {
+        return new TravelRoute(from, to, minutes, false, Map.of());
+    }
+
+    /**
+     * 시간대별 이동 시간 (정의되지 않은 시간대는 기본값)
+     */
+    public int minutesIn(String band) {
+        return bandMinutes.getOrDefault(band, minutes);
+    }
+
+    private static void checkMinutes(Location from, Location to, Integer minutes) {
+        if (minutes == null || minutes <= 0) {
+            throw new IllegalArgumentException("이동 시간은 0보다 커야 합니다: " + from + " -> " + to + " = " + minutes);
+        }
+    }
+}
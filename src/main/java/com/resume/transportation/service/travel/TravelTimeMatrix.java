@@ -0,0 +1,192 @@
+package com.resume.transportation.service.travel;
+
+import com.resume.transportation.enums.Location;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.EnumMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 시간대별 전 구간 최소 이동 시간 (불변 스냅샷)
+ *
+ * - minutes[(band * SIZE + from) * SIZE + to] : 경유 포함 최소 이동 시간(분), band 0 = 기본
+ * - bandOfMinute[자정 기준 분] : 해당 시각의 band 번호 (1440칸)
+ * - 생성 시 band마다 Floyd–Warshall 한 번 → 조회는 배열 접근 2번, 할당 없음
+ * - 출발 시각의 band를 이동 전체에 적용한다 (구간 도중 band가 바뀌는 경우는 고려하지 않음)
+ * - 도달 불가 구간은 UNREACHABLE(Integer.MAX_VALUE), 같은 장소는 0
+ * - version: 교체될 때마다 증가, 한 번의 검증은 하나의 스냅샷만 사용한다
+ */
+public final class TravelTimeMatrix {
+
+    public static final int UNREACHABLE = Integer.MAX_VALUE;
+    public static final int MAX_BANDS = Byte.MAX_VALUE - 1;
+
+    private static final String BASE_BAND = "base";
+    private static final int SIZE = Location.values().length;
+    private static final int MINUTES_PER_DAY = 24 * 60;
+
+    private final int[] minutes;
+    private final byte[] bandOfMinute;
+    private final List<String> bandNames;
+    private final int routeCount;
+    private final long version;
+
+    private TravelTimeMatrix(int[] minutes, byte[] bandOfMinute, List<String> bandNames, int routeCount, long version) {
+        this.minutes = minutes;
+        this.bandOfMinute = bandOfMinute;
+        this.bandNames = bandNames;
+        this.routeCount = routeCount;
+        this.version = version;
+    }
+
+    /**
+     * 시간대 없이 직접 구간만으로 생성
+     */
+    public static TravelTimeMatrix of(List<TravelRoute> routes) {
+        return of(TravelTimeProfile.of(routes), 0);
+    }
+
+    /**
+     * 시간대별 행렬 생성 (같은 구간이 여러 번 나오면 짧은 쪽 사용)
+     */
+    public static TravelTimeMatrix of(TravelTimeProfile profile, long version) {
+        List<String> names = new ArrayList<>();
+        names.add(BASE_BAND);
+        profile.bands().forEach(band -> names.add(band.name()));
+
+        int bandCount = names.size();
+        int[] m = new int[bandCount * SIZE * SIZE];
+        for (int band = 0; band < bandCount; band++) {
+            String name = band == 0 ? null : names.get(band);
+            int offset = band * SIZE * SIZE;
+            fill(m, offset, profile.routes(), name);
+            floydWarshall(m, offset);
+        }
+
+        byte[] bandOfMinute = new byte[MINUTES_PER_DAY];
+        for (int b = 0; b < profile.bands().size(); b++) {
+            TimeBand band = profile.bands().get(b);
+            for (int minute = 0; minute < MINUTES_PER_DAY; minute++) {
+                if (band.contains(minute)) {
+                    bandOfMinute[minute] = (byte) (b + 1);
+                }
+            }
+        }
+
+        return new TravelTimeMatrix(m, bandOfMinute, Collections.unmodifiableList(names),
+                profile.routes().size(), version);
+    }
+
+    private static void fill(int[] m, int offset, List<TravelRoute> routes, String band) {
+        Arrays.fill(m, offset, offset + SIZE * SIZE, UNREACHABLE);
+        for (int i = 0; i < SIZE; i++) {
+            m[offset + i * SIZE + i] = 0;
+        }
+        for (TravelRoute route : routes) {
+            int value = band == null ? route.minutes() : route.minutesIn(band);
+            put(m, offset, route.from(), route.to(), value);
+            if (route.bidirectional()) {
+                put(m, offset, route.to(), route.from(), value);
+            }
+        }
+    }
+
+    private static void put(int[] m, int offset, Location from, Location to, int value) {
+        int index = offset + from.ordinal() * SIZE + to.ordinal();
+        if (from != to && value < m[index]) {
+            m[index] = value;
+        }
+    }
+
+    // k를 경유하는 경로가 더 짧으면 갱신
+    private static void floydWarshall(int[] m, int offset) {
+        for (int k = 0; k < SIZE; k++) {
+            for (int i = 0; i < SIZE; i++) {
+                int ik = m[offset + i * SIZE + k];
+                if (ik == UNREACHABLE) {
+                    continue;
+                }
+                for (int j = 0; j < SIZE; j++) {
+                    int kj = m[offset + k * SIZE + j];
+                    if (kj == UNREACHABLE) {
+                        continue;
+                    }
+                    long via = (long) ik + kj;
+                    int ij = offset + i * SIZE + j;
+                    if (via < m[ij]) {
+                        m[ij] = (int) Math.min(via, UNREACHABLE - 1);
+                    }
+                }
+            }
+        }
+    }
+
+    /**
+     * 기본 시간대 최소 이동 시간(분), 도달 불가면 UNREACHABLE
+     */
+    public int minutes(Location from, Location to) {
+        return minutes[from.ordinal() * SIZE + to.ordinal()];
+    }
+
+    /**
+     * 출발 시각 기준 최소 이동 시간(분), 도달 불가면 UNREACHABLE
+     */
+    public int minutes(Location from, Location to, LocalDateTime departure) {
+        int band = bandOfMinute[departure.getHour() * 60 + departure.getMinute()];
+        return minutes[(band * SIZE + from.ordinal()) * SIZE + to.ordinal()];
+    }
+
+    /**
+     * 해당 시각에 적용되는 시간대 이름 (없으면 "base")
+     */
+    public String bandAt(LocalDateTime time) {
+        return bandNames.get(bandOfMinute[time.getHour() * 60 + time.getMinute()]);
+    }
+
+    public int getRouteCount() {
+        return routeCount;
+    }
+
+    public long getVersion() {
+        return version;
+    }
+
+    /**
+     * 내용이 같은 행렬인지 (reload 시 불필요한 교체 방지)
+     */
+    public boolean sameAs(TravelTimeMatrix other) {
+        return other != null
+                && bandNames.equals(other.bandNames)
+                && Arrays.equals(bandOfMinute, other.bandOfMinute)
+                && Arrays.equals(minutes, other.minutes);
+    }
+
+    /**
+     * 운영 API 조회용: 시간대 → 출발지 → 도착지 → 분 (도달 가능한 구간만)
+     */
+    public Map<String, Map<Location, Map<Location, Integer>>> toMap() {
+        Map<String, Map<Location, Map<Location, Integer>>> view = new LinkedHashMap<>();
+        for (int band = 0; band < bandNames.size(); band++) {
+            Map<Location, Map<Location, Integer>> table = new EnumMap<>(Location.class);
+            for (Location from : Location.values()) {
+                Map<Location, Integer> row = new EnumMap<>(Location.class);
+                for (Location to : Location.values()) {
+                    int value = minutes[(band * SIZE + from.ordinal()) * SIZE + to.ordinal()];
+                    if (from != to && value != UNREACHABLE) {
+                        row.put(to, value);
+                    }
+                }
+                if (!row.isEmpty()) {
+                    table.put(from, row);
+                }
+            }
+            view.put(bandNames.get(band), table);
+        }
+        return view;
+    }
+}
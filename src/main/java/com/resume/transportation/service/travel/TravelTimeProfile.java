@@ -0,0 +1,32 @@
+package com.resume.transportation.service.travel;
+
+import java.util.List;
+
+/**
+ * source에서 읽은 원본 데이터 (시간대 정의 + 직접 구간)
+ */
+public record TravelTimeProfile(List<TimeBand> bands, List<TravelRoute> routes) {
+
+    public TravelTimeProfile {
+        bands = List.copyOf(bands);
+        routes = List.copyOf(routes);
+        if (bands.size() > TravelTimeMatrix.MAX_BANDS) {
+            throw new IllegalArgumentException("시간대는 최대 " + TravelTimeMatrix.MAX_BANDS + "개까지 정의할 수 있습니다.");
+        }
+        long distinct = bands.stream().map(TimeBand::name).distinct().count();
+        if (distinct != bands.size()) {
+            throw new IllegalArgumentException("시간대 이름이 중복되었습니다: " + bands);
+        }
+        for (TravelRoute route : routes) {
+            for (String band : route.bandMinutes().keySet()) {
+                if (bands.stream().noneMatch(b -> b.name().equals(band))) {
+                    throw new IllegalArgumentException("정의되지 않은 시간대: " + band + " (" + route.from() + " -> " + route.to() + ")");
+                }
+            }
+        }
+    }
+
+    public static TravelTimeProfile of(List<TravelRoute> routes) {
+        return new TravelTimeProfile(List.of(), routes);
+    }
+}
@@ -0,0 +1,21 @@
+package com.resume.transportation.service.travel;
+
+/**
+ * 이동 시간 데이터 출처 (transportation.travel-time.source)
+ *
+ * - config : application.yml의 transportation.travel-time.bands / routes
+ * - file   : CSV 파일 (band,name,HH:mm,HH:mm / from,to,minutes[,both][,band=minutes...])
+ * - db     : travel_time / travel_time_band / travel_time_band_route 테이블
+ */
+public interface TravelTimeSource {
+
+    /**
+     * 현재 시간대 정의와 직접 구간 목록을 읽는다 (실패 시 예외 → 기존 행렬 유지)
+     */
+    TravelTimeProfile load();
+
+    /**
+     * 로그 / 운영 API 표시용
+     */
+    String describe();
+}
@@ -0,0 +1,42 @@
+-- ============================================
+-- reservation: 리소스 기준 클러스터링 레이아웃 (MySQL 8 / InnoDB)
+-- ============================================
+-- 클러스터링 키를 IDENTITY id → (vehicle_id, start_time, id)로 변경하여
+-- 한 차량의 스케줄이 물리적으로 인접한 페이지에 모이도록 한다.
+-- 디스패처는 클러스터링 키를 가질 수 없으므로 커버링 인덱스로 PK 왕복을 없앤다.
+--
+-- * id는 AUTO_INCREMENT를 유지하며 uk_reservation_id로 유일성을 보장한다.
+-- * 엔티티의 @Id(id)는 그대로 - Hibernate는 물리 PK를 알 필요가 없다.
+-- * 테이블 재구성(rebuild)이 일어나므로 대용량 테이블은 트래픽이 없는 시간에 수동 실행할 것
+--   mysql -u app -p transportation < src/main/resources/db/layout/reservation_clustered_by_resource.sql
+--   (시작 시 자동 적용은 transportation.storage.layout-apply-on-startup=true 일 때만)
+
+ALTER TABLE reservation
+    DROP PRIMARY KEY,
+    ADD PRIMARY KEY (vehicle_id, start_time, id),
+    ADD UNIQUE KEY uk_reservation_id (id);
+
+-- 마지막 위치 조회 커버링: (리소스, end_time) 범위 스캔만으로 to_location 반환
+-- identity 레이아웃의 (resource, end_time) 인덱스를 같은 이름의 커버링 인덱스로 교체한다.
+-- (ddl-auto=update는 인덱스를 이름으로만 비교하므로 엔티티 @Index가 있어도 다시 만들지 않는다)
+SET @ddl = IF((SELECT COUNT(*) FROM information_schema.statistics
+               WHERE table_schema = DATABASE() AND table_name = 'reservation'
+                 AND index_name = 'idx_reservation_vehicle_end') > 0,
+              'ALTER TABLE reservation DROP INDEX idx_reservation_vehicle_end',
+              'SELECT 1');
+PREPARE stmt FROM @ddl;
+EXECUTE stmt;
+DEALLOCATE PREPARE stmt;
+
+SET @ddl = IF((SELECT COUNT(*) FROM information_schema.statistics
+               WHERE table_schema = DATABASE() AND table_name = 'reservation'
+                 AND index_name = 'idx_reservation_dispatcher_end') > 0,
+              'ALTER TABLE reservation DROP INDEX idx_reservation_dispatcher_end',
+              'SELECT 1');
+PREPARE stmt FROM @ddl;
+EXECUTE stmt;
+DEALLOCATE PREPARE stmt;
+
+ALTER TABLE reservation
+    ADD INDEX idx_reservation_vehicle_end (vehicle_id, end_time, to_location),
+    ADD INDEX idx_reservation_dispatcher_end (dispatcher_id, end_time, to_location);
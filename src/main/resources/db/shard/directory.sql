@@ -0,0 +1,16 @@
+-- ============================================
+-- 샤드 디렉터리 (primary DB)
+-- bucket = vehicleId/dispatcherId mod bucket 수
+-- ============================================
+create table if not exists shard_bucket (
+    bucket int not null primary key,
+    shard int not null,
+    moving tinyint not null
+);
+
+-- 전역 예약 ID 시퀀스 (샤드 간 id 유일성 + 할당 순서 = insert-then-validate 순서 기준)
+-- 할당마다 행 1개 INSERT → 생성 키 사용, 오래된 행은 ReservationIdAllocator가 정리
+create table if not exists reservation_id_sequence (
+    id bigint not null auto_increment primary key,
+    stub tinyint not null
+);
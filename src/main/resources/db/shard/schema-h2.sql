@@ -0,0 +1,30 @@
+-- ============================================
+-- 샤드 스키마 (H2, 로컬/테스트용) - schema-mysql.sql과 동일 구조
+-- ============================================
+create table if not exists reservation (
+    id bigint not null primary key,
+    operator_id bigint not null,
+    dispatcher_id bigint not null,
+    vehicle_id bigint not null,
+    from_location tinyint not null,
+    to_location tinyint not null,
+    status tinyint not null,
+    start_time int not null,
+    end_time int not null,
+    version bigint not null,
+    updated_at timestamp(6)
+);
+create index if not exists idx_reservation_vehicle_time on reservation (vehicle_id, start_time, end_time);
+create index if not exists idx_reservation_vehicle_end on reservation (vehicle_id, end_time);
+
+create table if not exists dispatcher_assignment (
+    reservation_id bigint not null primary key,
+    dispatcher_id bigint not null,
+    vehicle_id bigint not null,
+    to_location tinyint not null,
+    status tinyint not null,
+    start_time int not null,
+    end_time int not null
+);
+create index if not exists idx_assignment_dispatcher_time on dispatcher_assignment (dispatcher_id, start_time, end_time);
+create index if not exists idx_assignment_dispatcher_end on dispatcher_assignment (dispatcher_id, end_time);
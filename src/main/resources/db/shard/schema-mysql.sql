@@ -0,0 +1,33 @@
+-- ============================================
+-- 샤드 스키마 (MySQL)
+-- reservation: vehicleId 소유 샤드
+-- dispatcher_assignment: dispatcherId 소유 샤드 (디스패처 overlap / 위치 조회용 인덱스)
+-- id는 primary의 reservation_id_sequence에서 할당 (샤드 테이블은 auto_increment 아님)
+-- ============================================
+create table if not exists reservation (
+    id bigint not null primary key,
+    operator_id bigint not null,
+    dispatcher_id bigint not null,
+    vehicle_id bigint not null,
+    from_location tinyint not null,
+    to_location tinyint not null,
+    status tinyint not null,
+    start_time int not null,
+    end_time int not null,
+    version bigint not null,
+    updated_at datetime(6),
+    index idx_reservation_vehicle_time (vehicle_id, start_time, end_time),
+    index idx_reservation_vehicle_end (vehicle_id, end_time)
+);
+
+create table if not exists dispatcher_assignment (
+    reservation_id bigint not null primary key,
+    dispatcher_id bigint not null,
+    vehicle_id bigint not null,
+    to_location tinyint not null,
+    status tinyint not null,
+    start_time int not null,
+    end_time int not null,
+    index idx_assignment_dispatcher_time (dispatcher_id, start_time, end_time),
+    index idx_assignment_dispatcher_end (dispatcher_id, end_time)
+);
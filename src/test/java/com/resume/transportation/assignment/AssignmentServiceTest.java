@@ -0,0 +1,218 @@
+package com.resume.transportation.assignment;
+
+import com.resume.transportation.entity.Reservation;
+import com.resume.transportation.entity.User;
+import com.resume.transportation.entity.Vehicle;
+import com.resume.transportation.enums.Location;
+import com.resume.transportation.enums.UserRole;
+import com.resume.transportation.enums.VehicleStatus;
+import com.resume.transportation.ratelimit.EmbeddedRedisConfig;
+import com.resume.transportation.repository.ReservationRepository;
+import com.resume.transportation.repository.UserRepository;
+import com.resume.transportation.repository.VehicleRepository;
+import com.resume.transportation.service.AssignmentService;
+import com.resume.transportation.service.ReservationService;
+import com.resume.transportation.service.availability.ScheduleIndex;
+import com.resume.transportation.service.command.AssignReservationCommand;
+import com.resume.transportation.service.command.CreateReservationCommand;
+import com.resume.transportation.service.exception.RejectReason;
+import com.resume.transportation.service.exception.ReservationRejectedException;
+import com.resume.transportation.service.result.ReservationResult;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.context.bean.override.mockito.MockitoSpyBean;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+/**
+ * 자동 배정 테스트 (top-k=1 → 점수 1등이 항상 먼저 시도됨)
+ */
+@SpringBootTest(properties = {
+        "transportation.assignment.top-k=1",
+        "transportation.assignment.max-attempts=5"
+})
+@Import(EmbeddedRedisConfig.class)
+class AssignmentServiceTest {
+
+    @Autowired
+    private AssignmentService assignmentService;
+
+    @MockitoSpyBean
+    private ReservationService reservationService;
+
+    @Autowired
+    private ScheduleIndex scheduleIndex;
+
+    @Autowired
+    private ReservationRepository reservationRepository;
+
+    @Autowired
+    private VehicleRepository vehicleRepository;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    private User operator;
+    private LocalDateTime baseTime;
+
+    @BeforeEach
+    void setUp() {
+        reservationRepository.deleteAll();
+        vehicleRepository.deleteAll();
+        userRepository.deleteAll();
+
+        operator = userRepository.save(new User(UserRole.OPERATOR, "Operator1"));
+        baseTime = LocalDateTime.now().plusDays(1).withHour(9).withMinute(0).withSecond(0).withNano(0);
+    }
+
+    @Test
+    @DisplayName("직전 예약 도착지에서 바로 이어지는 리소스를 우선 배정")
+    void prefersChainedResource() {
+        Vehicle chained = vehicleRepository.save(new Vehicle(Location.AIRPORT, VehicleStatus.IDLE));
+        vehicleRepository.save(new Vehicle(Location.HOTEL, VehicleStatus.IDLE));
+        User dispatcher = userRepository.save(new User(UserRole.VOLUNTEER, "Dispatcher1"));
+        scheduleIndex.rebuild();
+
+        // AIRPORT → HOTEL (9~11시), 이후 HOTEL에서 1시간 대기
+        reservationService.createReservation(new CreateReservationCommand(
+                operator.getId(), chained.getId(), dispatcher.getId(),
+                Location.AIRPORT, Location.HOTEL, baseTime, baseTime.plusHours(2)));
+
+        ReservationResult result = assignmentService.assign(command(
+                Location.HOTEL, Location.VENUE_ONE, baseTime.plusHours(3), baseTime.plusHours(4)));
+
+        assertThat(result.vehicleId()).isEqualTo(chained.getId());
+        assertThat(result.dispatcherId()).isEqualTo(dispatcher.getId());
+    }
+
+    @Test
+    @DisplayName("후보가 없으면 NO_AVAILABLE_RESOURCE")
+    void noCandidate() {
+        vehicleRepository.save(new Vehicle(Location.AIRPORT, VehicleStatus.IDLE));
+        userRepository.save(new User(UserRole.VOLUNTEER, "Dispatcher1"));
+        scheduleIndex.rebuild();
+
+        assignmentService.assign(command(Location.AIRPORT, Location.HOTEL, baseTime, baseTime.plusHours(2)));
+
+        assertThatThrownBy(() -> assignmentService.assign(
+                command(Location.AIRPORT, Location.HOTEL, baseTime, baseTime.plusHours(2))))
+                .isInstanceOf(ReservationRejectedException.class)
+                .satisfies(e -> assertThat(((ReservationRejectedException) e).getReason())
+                        .isEqualTo(RejectReason.NO_AVAILABLE_RESOURCE));
+    }
+
+    @Test
+    @DisplayName("잘못된 구간은 후보 탐색 없이 거절")
+    void invalidTrip() {
+        assertThatThrownBy(() -> assignmentService.assign(
+                command(Location.AIRPORT, Location.HOTEL, baseTime, baseTime.plusMinutes(10))))
+                .isInstanceOf(ReservationRejectedException.class)
+                .satisfies(e -> assertThat(((ReservationRejectedException) e).getReason())
+                        .isEqualTo(RejectReason.TRAVEL_TIME_TOO_SHORT));
+    }
+
+    @Test
+    @DisplayName("합승 차량 정원 초과(VEHICLE_FULL)는 차량만 다음 후보로 바꾼다")
+    void vehicleFullMovesToNextVehicle() {
+        vehicleRepository.save(new Vehicle(Location.AIRPORT, VehicleStatus.IDLE));
+        vehicleRepository.save(new Vehicle(Location.AIRPORT, VehicleStatus.IDLE));
+        User dispatcher = userRepository.save(new User(UserRole.VOLUNTEER, "Dispatcher1"));
+        scheduleIndex.rebuild();
+
+        AtomicReference<Long> fullVehicle = new AtomicReference<>();
+        doAnswer(invocation -> {
+            CreateReservationCommand attempted = invocation.getArgument(0);
+            if (fullVehicle.compareAndSet(null, attempted.vehicleId())) {
+                throw new ReservationRejectedException(RejectReason.VEHICLE_FULL);
+            }
+            return invocation.callRealMethod();
+        }).when(reservationService).createReservationWithoutAlternatives(any());
+
+        ReservationResult result = assignmentService.assign(
+                command(Location.AIRPORT, Location.HOTEL, baseTime, baseTime.plusHours(2)));
+
+        assertThat(result.vehicleId()).isNotEqualTo(fullVehicle.get());
+        assertThat(result.dispatcherId()).isEqualTo(dispatcher.getId());
+    }
+
+    @Test
+    @DisplayName("요청 마감(DEADLINE_EXCEEDED)은 다른 후보를 시도하지 않고 바로 전달")
+    void deadlineExceededFailsFast() {
+        for (int i = 0; i < 3; i++) {
+            vehicleRepository.save(new Vehicle(Location.AIRPORT, VehicleStatus.IDLE));
+            userRepository.save(new User(UserRole.VOLUNTEER, "Dispatcher" + i));
+        }
+        scheduleIndex.rebuild();
+
+        doThrow(new ReservationRejectedException(RejectReason.DEADLINE_EXCEEDED))
+                .when(reservationService).createReservationWithoutAlternatives(any());
+
+        assertThatThrownBy(() -> assignmentService.assign(
+                command(Location.AIRPORT, Location.HOTEL, baseTime, baseTime.plusHours(2))))
+                .isInstanceOf(ReservationRejectedException.class)
+                .satisfies(e -> assertThat(((ReservationRejectedException) e).getReason())
+                        .isEqualTo(RejectReason.DEADLINE_EXCEEDED));
+        verify(reservationService, times(1)).createReservationWithoutAlternatives(any());
+    }
+
+    @Test
+    @DisplayName("동시 배정 요청은 서로 다른 차량 / 디스패처로 나뉘고 중복 배정이 없어야 한다")
+    void concurrentAssignments() throws InterruptedException {
+        int resources = 5;
+        for (int i = 0; i < resources; i++) {
+            vehicleRepository.save(new Vehicle(Location.AIRPORT, VehicleStatus.IDLE));
+            userRepository.save(new User(UserRole.VOLUNTEER, "Dispatcher" + i));
+        }
+        scheduleIndex.rebuild();
+
+        ExecutorService executorService = Executors.newFixedThreadPool(resources);
+        CountDownLatch latch = new CountDownLatch(resources);
+        AtomicInteger successCount = new AtomicInteger();
+
+        for (int i = 0; i < resources; i++) {
+            executorService.execute(() -> {
+                try {
+                    assignmentService.assign(command(Location.AIRPORT, Location.HOTEL, baseTime, baseTime.plusHours(2)));
+                    successCount.incrementAndGet();
+                } catch (Exception e) {
+                    System.out.println("배정 실패: " + e.getMessage());
+                } finally {
+                    latch.countDown();
+                }
+            });
+        }
+
+        latch.await();
+        executorService.shutdown();
+
+        List<Reservation> reservations = reservationRepository.findAll();
+        assertThat(successCount.get()).isPositive();
+        assertThat(reservations).hasSize(successCount.get());
+        assertThat(reservations.stream().map(r -> r.getVehicle().getId()).distinct().count())
+                .isEqualTo(successCount.get());
+        assertThat(reservations.stream().map(r -> r.getDispatcher().getId()).distinct().count())
+                .isEqualTo(successCount.get());
+    }
+
+    private AssignReservationCommand command(Location from, Location to, LocalDateTime start, LocalDateTime end) {
+        return new AssignReservationCommand(operator.getId(), from, to, start, end);
+    }
+}
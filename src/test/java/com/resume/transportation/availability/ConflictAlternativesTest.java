@@ -0,0 +1,114 @@
+package com.resume.transportation.availability;
+
+import com.resume.transportation.entity.User;
+import com.resume.transportation.entity.Vehicle;
+import com.resume.transportation.enums.Location;
+import com.resume.transportation.enums.UserRole;
+import com.resume.transportation.enums.VehicleStatus;
+import com.resume.transportation.ratelimit.EmbeddedRedisConfig;
+import com.resume.transportation.repository.ReservationRepository;
+import com.resume.transportation.repository.UserRepository;
+import com.resume.transportation.repository.VehicleRepository;
+import com.resume.transportation.service.ReservationService;
+import com.resume.transportation.service.availability.Alternatives;
+import com.resume.transportation.service.availability.ScheduleIndex;
+import com.resume.transportation.service.command.CreateReservationCommand;
+import com.resume.transportation.service.exception.RejectReason;
+import com.resume.transportation.service.exception.ReservationRejectedException;
+import org.assertj.core.api.ThrowableAssert.ThrowingCallable;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.context.annotation.Import;
+
+import java.time.LocalDateTime;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.catchThrowable;
+
+/**
+ * 거절 응답 대안 테스트 (가장 가까운 빈 시간 / 같은 출발지의 다른 차량)
+ */
+@SpringBootTest
+@Import(EmbeddedRedisConfig.class)
+class ConflictAlternativesTest {
+
+    @Autowired
+    private ScheduleIndex scheduleIndex;
+
+    @Autowired
+    private ReservationService reservationService;
+
+    @Autowired
+    private ReservationRepository reservationRepository;
+
+    @Autowired
+    private VehicleRepository vehicleRepository;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    private Vehicle airportVehicle1;
+    private Vehicle airportVehicle2;
+    private User operator;
+    private User dispatcher;
+    private LocalDateTime baseTime;
+
+    @BeforeEach
+    void setUp() {
+        reservationRepository.deleteAll();
+        vehicleRepository.deleteAll();
+        userRepository.deleteAll();
+
+        airportVehicle1 = vehicleRepository.save(new Vehicle(Location.AIRPORT, VehicleStatus.IDLE));
+        airportVehicle2 = vehicleRepository.save(new Vehicle(Location.AIRPORT, VehicleStatus.IDLE));
+        vehicleRepository.save(new Vehicle(Location.HOTEL, VehicleStatus.IDLE));
+        operator = userRepository.save(new User(UserRole.OPERATOR, "Operator1"));
+        dispatcher = userRepository.save(new User(UserRole.VOLUNTEER, "Dispatcher1"));
+        scheduleIndex.rebuild();
+
+        baseTime = LocalDateTime.now().plusDays(1).withHour(11).withMinute(0).withSecond(0).withNano(0);
+    }
+
+    @Test
+    @DisplayName("겹침 거절에는 같은 차량 / 디스패처의 다음 빈 시간과 출발지의 다른 빈 차량이 함께 온다")
+    void overlapCarriesAlternatives() {
+        // 11:00 AIRPORT → HOTEL, 12:00 HOTEL → AIRPORT (13:00부터 다시 AIRPORT)
+        reservationService.createReservation(command(Location.AIRPORT, Location.HOTEL, baseTime, baseTime.plusHours(1)));
+        reservationService.createReservation(command(Location.HOTEL, Location.AIRPORT, baseTime.plusHours(1), baseTime.plusHours(2)));
+
+        ReservationRejectedException rejected = rejected(() -> reservationService.createReservation(
+                command(Location.AIRPORT, Location.HOTEL, baseTime.plusMinutes(30), baseTime.plusMinutes(90))));
+
+        assertThat(rejected.getReason()).isEqualTo(RejectReason.VEHICLE_OVERLAP);
+        Alternatives alternatives = rejected.getAlternatives();
+        assertThat(alternatives).isNotNull();
+        // 12:00은 HOTEL → AIRPORT 운행과 겹치고, 13:00에 AIRPORT로 돌아와 같은 길이(1시간)로 가능
+        assertThat(alternatives.nextStartTime()).isEqualTo(baseTime.plusHours(2));
+        assertThat(alternatives.nextEndTime()).isEqualTo(baseTime.plusHours(3));
+        assertThat(alternatives.vehicleIds()).containsExactly(airportVehicle2.getId());
+    }
+
+    @Test
+    @DisplayName("요청 자체가 잘못된 거절에는 대안을 계산하지 않는다")
+    void invalidRequestHasNoAlternatives() {
+        ReservationRejectedException rejected = rejected(() -> reservationService.createReservation(
+                command(Location.AIRPORT, Location.HOTEL, baseTime.plusHours(1), baseTime)));
+
+        assertThat(rejected.getReason()).isEqualTo(RejectReason.INVALID_REQUEST);
+        assertThat(rejected.getAlternatives()).isNull();
+    }
+
+    private CreateReservationCommand command(Location from, Location to, LocalDateTime start, LocalDateTime end) {
+        return new CreateReservationCommand(operator.getId(), airportVehicle1.getId(), dispatcher.getId(),
+                from, to, start, end);
+    }
+
+    private static ReservationRejectedException rejected(ThrowingCallable action) {
+        Throwable thrown = catchThrowable(action);
+        assertThat(thrown).isInstanceOf(ReservationRejectedException.class);
+        return (ReservationRejectedException) thrown;
+    }
+}
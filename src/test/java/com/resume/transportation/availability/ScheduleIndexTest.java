@@ -0,0 +1,117 @@
+package com.resume.transportation.availability;
+
+import com.resume.transportation.entity.User;
+import com.resume.transportation.entity.Vehicle;
+import com.resume.transportation.enums.Location;
+import com.resume.transportation.enums.UserRole;
+import com.resume.transportation.enums.VehicleStatus;
+import com.resume.transportation.ratelimit.EmbeddedRedisConfig;
+import com.resume.transportation.repository.ReservationRepository;
+import com.resume.transportation.repository.UserRepository;
+import com.resume.transportation.repository.VehicleRepository;
+import com.resume.transportation.service.ReservationService;
+import com.resume.transportation.service.availability.AvailabilityResult;
+import com.resume.transportation.service.availability.ScheduleIndex;
+import com.resume.transportation.service.command.CreateReservationCommand;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.context.annotation.Import;
+
+import java.time.LocalDateTime;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 인메모리 가용성 인덱스 테스트
+ *
+ * 예약 직후 반영(onReserved)과 DB 재구성(rebuild) 결과가 같아야 한다.
+ */
+@SpringBootTest
+@Import(EmbeddedRedisConfig.class)
+class ScheduleIndexTest {
+
+    @Autowired
+    private ScheduleIndex scheduleIndex;
+
+    @Autowired
+    private ReservationService reservationService;
+
+    @Autowired
+    private ReservationRepository reservationRepository;
+
+    @Autowired
+    private VehicleRepository vehicleRepository;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    private Vehicle airportVehicle1;
+    private Vehicle airportVehicle2;
+    private Vehicle hotelVehicle;
+    private User operator;
+    private User dispatcher1;
+    private User dispatcher2;
+    private LocalDateTime baseTime;
+
+    @BeforeEach
+    void setUp() {
+        reservationRepository.deleteAll();
+        vehicleRepository.deleteAll();
+        userRepository.deleteAll();
+
+        airportVehicle1 = vehicleRepository.save(new Vehicle(Location.AIRPORT, VehicleStatus.IDLE));
+        airportVehicle2 = vehicleRepository.save(new Vehicle(Location.AIRPORT, VehicleStatus.IDLE));
+        hotelVehicle = vehicleRepository.save(new Vehicle(Location.HOTEL, VehicleStatus.IDLE));
+        operator = userRepository.save(new User(UserRole.OPERATOR, "Operator1"));
+        dispatcher1 = userRepository.save(new User(UserRole.VOLUNTEER, "Dispatcher1"));
+        dispatcher2 = userRepository.save(new User(UserRole.VOLUNTEER, "Dispatcher2"));
+        scheduleIndex.rebuild();
+
+        baseTime = LocalDateTime.now().plusDays(1).withHour(9).withMinute(0).withSecond(0).withNano(0);
+    }
+
+    @Test
+    @DisplayName("예약이 없으면 기준 위치에 있는 리소스 전체가 가용")
+    void baseLocations() {
+        AvailabilityResult result = scheduleIndex.findAvailable(Location.AIRPORT, baseTime, baseTime.plusHours(2), 100);
+
+        assertThat(result.vehicleIds()).containsExactly(airportVehicle1.getId(), airportVehicle2.getId());
+        assertThat(result.dispatcherIds()).containsExactly(dispatcher1.getId(), dispatcher2.getId());
+    }
+
+    @Test
+    @DisplayName("예약된 리소스는 겹치는 시간에 제외되고, 종료 후에는 도착지에서 가용")
+    void reservedResources() {
+        reservationService.createReservation(new CreateReservationCommand(
+                operator.getId(), airportVehicle1.getId(), dispatcher1.getId(),
+                Location.AIRPORT, Location.HOTEL, baseTime, baseTime.plusHours(2)));
+
+        assertReservedState();
+
+        // DB에서 다시 읽어도 같은 결과
+        scheduleIndex.rebuild();
+        assertReservedState();
+    }
+
+    private void assertReservedState() {
+        // 겹치는 시간: 예약된 차량 / 디스패처 제외
+        AvailabilityResult overlapping = scheduleIndex.findAvailable(
+                Location.AIRPORT, baseTime.plusHours(1), baseTime.plusHours(3), 100);
+        assertThat(overlapping.vehicleIds()).containsExactly(airportVehicle2.getId());
+        assertThat(overlapping.dispatcherIds()).containsExactly(dispatcher2.getId());
+
+        // 종료 후: HOTEL에 도착해 있음
+        AvailabilityResult atHotel = scheduleIndex.findAvailable(
+                Location.HOTEL, baseTime.plusHours(2), baseTime.plusHours(3), 100);
+        assertThat(atHotel.vehicleIds()).containsExactly(airportVehicle1.getId(), hotelVehicle.getId());
+        assertThat(atHotel.dispatcherIds()).containsExactly(dispatcher1.getId());
+
+        // 종료 후 AIRPORT 출발은 불가
+        AvailabilityResult atAirport = scheduleIndex.findAvailable(
+                Location.AIRPORT, baseTime.plusHours(2), baseTime.plusHours(3), 100);
+        assertThat(atAirport.vehicleIds()).containsExactly(airportVehicle2.getId());
+    }
+}
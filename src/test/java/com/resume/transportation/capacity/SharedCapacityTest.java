@@ -0,0 +1,173 @@
+package com.resume.transportation.capacity;
+
+import com.resume.transportation.entity.User;
+import com.resume.transportation.entity.Vehicle;
+import com.resume.transportation.enums.Location;
+import com.resume.transportation.enums.UserRole;
+import com.resume.transportation.enums.VehicleStatus;
+import com.resume.transportation.ratelimit.EmbeddedRedisConfig;
+import com.resume.transportation.repository.ReservationRepository;
+import com.resume.transportation.repository.UserRepository;
+import com.resume.transportation.repository.VehicleRepository;
+import com.resume.transportation.service.ReservationService;
+import com.resume.transportation.service.capacity.VehicleCapacities;
+import com.resume.transportation.service.command.CreateReservationCommand;
+import com.resume.transportation.service.exception.RejectReason;
+import com.resume.transportation.service.exception.ReservationRejectedException;
+import com.resume.transportation.service.ratelimit.CompositeRateLimiter;
+import com.resume.transportation.service.ratelimit.RateLimitExceededException;
+import com.resume.transportation.support.ReservationTestSupport.Fixture;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.context.annotation.Import;
+
+import java.time.LocalDateTime;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static com.resume.transportation.support.ReservationTestSupport.assertRejected;
+import static com.resume.transportation.support.ReservationTestSupport.resetFixture;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * 합승 셔틀(정원 3) 예약 테스트
+ */
+@SpringBootTest
+@Import(EmbeddedRedisConfig.class)
+class SharedCapacityTest {
+
+    private static final int CAPACITY = 3;
+
+    @Autowired
+    private ReservationService reservationService;
+
+    @Autowired
+    private VehicleCapacities vehicleCapacities;
+
+    @Autowired
+    private CompositeRateLimiter rateLimiter;
+
+    @Autowired
+    private ReservationRepository reservationRepository;
+
+    @Autowired
+    private VehicleRepository vehicleRepository;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    private User operator;
+    private User dispatcher;
+    private Vehicle shuttle;
+    private LocalDateTime baseTime;
+
+    @BeforeEach
+    void setUp() {
+        Fixture fixture = resetFixture(reservationRepository, vehicleRepository, userRepository, Location.AIRPORT, CAPACITY, 11);
+        operator = fixture.operator();
+        dispatcher = fixture.dispatcher();
+        shuttle = fixture.vehicle();
+        baseTime = fixture.baseTime();
+        vehicleCapacities.refresh();
+    }
+
+    @Test
+    @DisplayName("같은 운행은 정원까지 예약되고, 그 다음은 만석으로 거절된다")
+    void sameRunUpToCapacity() {
+        for (int i = 0; i < CAPACITY; i++) {
+            reservationService.createReservation(command(baseTime, baseTime.plusHours(1)));
+        }
+
+        assertRejected(() -> reservationService.createReservation(command(baseTime, baseTime.plusHours(1))),
+                RejectReason.VEHICLE_FULL);
+        assertThat(reservationRepository.count()).isEqualTo(CAPACITY);
+    }
+
+    @Test
+    @DisplayName("시간만 겹치는 다른 운행은 정원이 남아도 거절된다")
+    void differentRunOverlapIsRejected() {
+        reservationService.createReservation(command(baseTime, baseTime.plusHours(1)));
+
+        assertRejected(() -> reservationService.createReservation(
+                        command(baseTime.plusMinutes(30), baseTime.plusMinutes(90))),
+                RejectReason.VEHICLE_OVERLAP);
+        assertThat(reservationRepository.count()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("동시 요청도 정원을 넘지 않는다 (디스패처 슬롯은 전용이라 같은 운행도 한 건씩 진입)")
+    void concurrentBookingsNeverExceedCapacity() throws InterruptedException {
+        int threadCount = 10;
+        ExecutorService executor = Executors.newFixedThreadPool(threadCount);
+        CountDownLatch ready = new CountDownLatch(threadCount);
+        CountDownLatch start = new CountDownLatch(1);
+        CountDownLatch done = new CountDownLatch(threadCount);
+        AtomicInteger success = new AtomicInteger();
+        AtomicInteger full = new AtomicInteger();
+        AtomicInteger busy = new AtomicInteger();
+
+        for (int i = 0; i < threadCount; i++) {
+            executor.submit(() -> {
+                ready.countDown();
+                try {
+                    start.await();
+                    reservationService.createReservation(command(baseTime, baseTime.plusHours(1)));
+                    success.incrementAndGet();
+                } catch (ReservationRejectedException e) {
+                    full.incrementAndGet();
+                } catch (RateLimitExceededException e) {
+                    busy.incrementAndGet();
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                } finally {
+                    done.countDown();
+                }
+            });
+        }
+
+        ready.await();
+        start.countDown();
+        done.await();
+        executor.shutdown();
+
+        assertThat(success.get()).isBetween(1, CAPACITY);
+        assertThat(success.get() + full.get() + busy.get()).isEqualTo(threadCount);
+        assertThat(reservationRepository.count()).isEqualTo(success.get());
+    }
+
+    @Test
+    @DisplayName("락 단계: 셔틀 차량은 정원만큼 함께 잡히고, 디스패처는 셔틀 / 전용 운행이 같은 슬롯에서 직렬화된다")
+    void dispatcherIsExclusiveAcrossSharedAndExclusiveTrips() {
+        User otherDispatcher = userRepository.save(new User(UserRole.VOLUNTEER, "Dispatcher2"));
+        Vehicle sedan = vehicleRepository.save(new Vehicle(Location.AIRPORT, VehicleStatus.IDLE));
+        vehicleCapacities.refresh();
+        LocalDateTime end = baseTime.plusHours(1);
+
+        CompositeRateLimiter.CompositeContext shuttleRun =
+                rateLimiter.acquire(shuttle.getId(), dispatcher.getId(), baseTime, end);
+        try {
+            // 같은 디스패처의 전용 운행 → 디스패처 슬롯에서 막힘
+            assertThatThrownBy(() -> rateLimiter.acquire(sedan.getId(), dispatcher.getId(), baseTime, end))
+                    .isInstanceOf(RateLimitExceededException.class)
+                    .hasMessageContaining("DISPATCHER");
+
+            // 셔틀 차량 슬롯은 정원이 남아 있어 다른 디스패처와 함께 진입
+            rateLimiter.release(rateLimiter.acquire(shuttle.getId(), otherDispatcher.getId(), baseTime, end));
+        } finally {
+            rateLimiter.release(shuttleRun);
+        }
+
+        rateLimiter.release(rateLimiter.acquire(sedan.getId(), dispatcher.getId(), baseTime, end));
+    }
+
+    private CreateReservationCommand command(LocalDateTime start, LocalDateTime end) {
+        return new CreateReservationCommand(operator.getId(), shuttle.getId(), dispatcher.getId(),
+                Location.AIRPORT, Location.HOTEL, start, end);
+    }
+}
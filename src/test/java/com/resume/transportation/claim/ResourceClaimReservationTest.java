@@ -0,0 +1,158 @@
+package com.resume.transportation.claim;
+
+import com.resume.transportation.entity.User;
+import com.resume.transportation.entity.Vehicle;
+import com.resume.transportation.enums.ClaimType;
+import com.resume.transportation.enums.Location;
+import com.resume.transportation.enums.UserRole;
+import com.resume.transportation.enums.VehicleStatus;
+import com.resume.transportation.ratelimit.EmbeddedRedisConfig;
+import com.resume.transportation.repository.ReservationRepository;
+import com.resume.transportation.repository.UserRepository;
+import com.resume.transportation.repository.VehicleRepository;
+import com.resume.transportation.service.ReservationService;
+import com.resume.transportation.service.command.CreateClaimReservationCommand;
+import com.resume.transportation.service.command.ResourceClaim;
+import com.resume.transportation.service.exception.RejectReason;
+import com.resume.transportation.service.ratelimit.CompositeRateLimiter;
+import com.resume.transportation.service.ratelimit.RateLimitExceededException;
+import com.resume.transportation.service.result.ReservationResult;
+import com.resume.transportation.support.ReservationTestSupport.Fixture;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static com.resume.transportation.support.ReservationTestSupport.assertRejected;
+import static com.resume.transportation.support.ReservationTestSupport.resetFixture;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * 부가 리소스(에스코트 / 통역사 / 주차 구역) 점유 예약 테스트
+ */
+@SpringBootTest
+@Import(EmbeddedRedisConfig.class)
+class ResourceClaimReservationTest {
+
+    @Autowired
+    private ReservationService reservationService;
+
+    @Autowired
+    private CompositeRateLimiter rateLimiter;
+
+    @Autowired
+    private ReservationRepository reservationRepository;
+
+    @Autowired
+    private VehicleRepository vehicleRepository;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    private User operator;
+    private User dispatcherA;
+    private User dispatcherB;
+    private Vehicle vehicleA;
+    private Vehicle vehicleB;
+    private LocalDateTime baseTime;
+
+    @BeforeEach
+    void setUp() {
+        jdbcTemplate.update("delete from reservation_claim");
+        Fixture fixture = resetFixture(reservationRepository, vehicleRepository, userRepository, 11);
+        operator = fixture.operator();
+        dispatcherA = fixture.dispatcher();
+        vehicleA = fixture.vehicle();
+        baseTime = fixture.baseTime();
+        dispatcherB = userRepository.save(new User(UserRole.VOLUNTEER, "Dispatcher2"));
+        vehicleB = vehicleRepository.save(new Vehicle(Location.AIRPORT, VehicleStatus.IDLE));
+    }
+
+    @Test
+    @DisplayName("같은 에스코트를 겹치는 시간에 요청하면 차량 / 디스패처가 달라도 거절된다")
+    void sameClaimOverlapIsRejected() {
+        reservationService.createReservation(command(vehicleA, dispatcherA,
+                List.of(new ResourceClaim(ClaimType.ESCORT, 7L), new ResourceClaim(ClaimType.PARKING_BAY, 3L))));
+
+        assertRejected(() -> reservationService.createReservation(command(vehicleB, dispatcherB,
+                        List.of(new ResourceClaim(ClaimType.INTERPRETER, 1L), new ResourceClaim(ClaimType.ESCORT, 7L)))),
+                RejectReason.CLAIM_OVERLAP);
+
+        // 거절된 예약의 선점 행 / 점유 행은 모두 보상 삭제
+        assertThat(reservationRepository.count()).isEqualTo(1);
+        assertThat(claimCount()).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("다른 부가 리소스는 같은 시간에 함께 예약할 수 있다")
+    void differentClaimsCoexist() {
+        reservationService.createReservation(command(vehicleA, dispatcherA,
+                List.of(new ResourceClaim(ClaimType.ESCORT, 7L))));
+        reservationService.createReservation(command(vehicleB, dispatcherB,
+                List.of(new ResourceClaim(ClaimType.ESCORT, 8L), new ResourceClaim(ClaimType.INTERPRETER, 7L))));
+
+        assertThat(reservationRepository.count()).isEqualTo(2);
+        assertThat(claimCount()).isEqualTo(3);
+    }
+
+    @Test
+    @DisplayName("같은 리소스를 중복으로 담은 요청은 락 / DB 접근 전에 거절된다")
+    void duplicateClaimIsInvalid() {
+        assertRejected(() -> reservationService.createReservation(command(vehicleA, dispatcherA,
+                        List.of(new ResourceClaim(ClaimType.ESCORT, 7L), new ResourceClaim(ClaimType.ESCORT, 7L)))),
+                RejectReason.INVALID_REQUEST);
+
+        assertThat(reservationRepository.count()).isZero();
+    }
+
+    @Test
+    @DisplayName("취소하면 부가 리소스 점유도 풀린다")
+    void cancelReleasesClaims() {
+        ReservationResult created = reservationService.createReservation(command(vehicleA, dispatcherA,
+                List.of(new ResourceClaim(ClaimType.ESCORT, 7L))));
+
+        reservationService.cancel(created.reservationId());
+        assertThat(claimCount()).isZero();
+
+        reservationService.createReservation(command(vehicleB, dispatcherB,
+                List.of(new ResourceClaim(ClaimType.ESCORT, 7L))));
+        assertThat(claimCount()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("처리 중인 요청과 부가 리소스 하나만 겹쳐도 락 단계에서 거절되고, 해제 후에는 다시 잡힌다")
+    void overlappingClaimIsContendedInLock() {
+        List<ResourceClaim> claims = List.of(new ResourceClaim(ClaimType.PARKING_BAY, 5L));
+        CompositeRateLimiter.CompositeContext first = rateLimiter.acquire(
+                vehicleA.getId(), dispatcherA.getId(), claims, baseTime, baseTime.plusHours(1));
+
+        assertThatThrownBy(() -> rateLimiter.acquire(
+                vehicleB.getId(), dispatcherB.getId(), claims, baseTime.plusMinutes(30), baseTime.plusMinutes(90)))
+                .isInstanceOf(RateLimitExceededException.class);
+
+        rateLimiter.release(first);
+
+        CompositeRateLimiter.CompositeContext second = rateLimiter.acquire(
+                vehicleB.getId(), dispatcherB.getId(), claims, baseTime.plusMinutes(30), baseTime.plusMinutes(90));
+        rateLimiter.release(second);
+    }
+
+    private CreateClaimReservationCommand command(Vehicle vehicle, User dispatcher, List<ResourceClaim> claims) {
+        return new CreateClaimReservationCommand(operator.getId(), vehicle.getId(), dispatcher.getId(),
+                Location.AIRPORT, Location.HOTEL, baseTime, baseTime.plusHours(1), claims);
+    }
+
+    private Integer claimCount() {
+        return jdbcTemplate.queryForObject("select count(*) from reservation_claim", Integer.class);
+    }
+}
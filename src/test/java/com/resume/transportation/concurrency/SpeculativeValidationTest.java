@@ -0,0 +1,142 @@
+package com.resume.transportation.concurrency;
+
+import com.resume.transportation.entity.User;
+import com.resume.transportation.entity.Vehicle;
+import com.resume.transportation.enums.Location;
+import com.resume.transportation.enums.UserRole;
+import com.resume.transportation.enums.VehicleStatus;
+import com.resume.transportation.ratelimit.EmbeddedRedisConfig;
+import com.resume.transportation.repository.ReservationRepository;
+import com.resume.transportation.repository.UserRepository;
+import com.resume.transportation.repository.VehicleRepository;
+import com.resume.transportation.service.ReservationService;
+import com.resume.transportation.service.command.CreateReservationCommand;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.context.annotation.Import;
+
+import java.time.LocalDateTime;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * 투기적 병렬 검증 모드(validation-mode=speculative) 테스트
+ *
+ * 위치 조회가 락 획득 전에 시작되더라도 순차 모드와 같은 결과를 내야 한다.
+ */
+@SpringBootTest(properties = "transportation.reservation.validation-mode=speculative")
+@Import(EmbeddedRedisConfig.class)
+class SpeculativeValidationTest {
+
+    @Autowired
+    private ReservationService reservationService;
+
+    @Autowired
+    private ReservationRepository reservationRepository;
+
+    @Autowired
+    private VehicleRepository vehicleRepository;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    private Vehicle vehicle;
+    private User operator;
+    private User dispatcher;
+    private LocalDateTime baseTime;
+
+    @BeforeEach
+    void setUp() {
+        reservationRepository.deleteAll();
+        vehicleRepository.deleteAll();
+        userRepository.deleteAll();
+
+        vehicle = vehicleRepository.save(new Vehicle(Location.AIRPORT, VehicleStatus.IDLE));
+        operator = userRepository.save(new User(UserRole.OPERATOR, "Operator1"));
+        dispatcher = userRepository.save(new User(UserRole.VOLUNTEER, "Dispatcher1"));
+
+        baseTime = LocalDateTime.now().plusDays(1).withHour(9).withMinute(0).withSecond(0).withNano(0);
+    }
+
+    @Test
+    @DisplayName("동시에 같은 차량, 같은 시간대 예약 시 하나만 성공해야 한다")
+    void concurrentSameSlot() throws InterruptedException {
+        int threadCount = 10;
+        ExecutorService executorService = Executors.newFixedThreadPool(threadCount);
+        CountDownLatch latch = new CountDownLatch(threadCount);
+        AtomicInteger successCount = new AtomicInteger(0);
+
+        for (int i = 0; i < threadCount; i++) {
+            executorService.execute(() -> {
+                try {
+                    reservationService.createReservation(
+                            command(Location.AIRPORT, Location.HOTEL, baseTime, baseTime.plusHours(2)));
+                    successCount.incrementAndGet();
+                } catch (Exception e) {
+                    System.out.println("예약 실패: " + e.getMessage());
+                } finally {
+                    latch.countDown();
+                }
+            });
+        }
+
+        latch.await();
+        executorService.shutdown();
+
+        assertThat(successCount.get()).isEqualTo(1);
+        assertThat(reservationRepository.count()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("이어지는 예약은 직전 예약의 도착지를 기준으로 검증한다")
+    void chainedReservationsUseLatestLocation() {
+        reservationService.createReservation(
+                command(Location.AIRPORT, Location.HOTEL, baseTime, baseTime.plusHours(2)));
+
+        // HOTEL 출발은 성공
+        reservationService.createReservation(
+                command(Location.HOTEL, Location.VENUE_ONE, baseTime.plusHours(3), baseTime.plusHours(4)));
+
+        // 이미 VENUE_ONE에 있으므로 AIRPORT 출발은 실패
+        assertThatThrownBy(() -> reservationService.createReservation(
+                command(Location.AIRPORT, Location.HOTEL, baseTime.plusHours(5), baseTime.plusHours(7))))
+                .isInstanceOf(IllegalStateException.class)
+                .hasMessageContaining("차량 위치가 출발지와 다릅니다.");
+
+        assertThat(reservationRepository.count()).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("시간이 겹치는 예약은 overlap 검증에서 거절되고 선점 행은 삭제된다")
+    void overlapRejectedAndCompensated() {
+        reservationService.createReservation(
+                command(Location.AIRPORT, Location.HOTEL, baseTime, baseTime.plusHours(2)));
+
+        // 다른 시간 슬롯 락(11시)이지만 9~11시 예약과 겹침
+        assertThatThrownBy(() -> reservationService.createReservation(
+                command(Location.AIRPORT, Location.HOTEL, baseTime.plusMinutes(90), baseTime.plusHours(4))))
+                .isInstanceOf(IllegalStateException.class);
+
+        assertThat(reservationRepository.count()).isEqualTo(1);
+    }
+
+    private CreateReservationCommand command(Location from, Location to, LocalDateTime start, LocalDateTime end) {
+        return new CreateReservationCommand(
+                operator.getId(),
+                vehicle.getId(),
+                dispatcher.getId(),
+                from,
+                to,
+                start,
+                end
+        );
+    }
+}
@@ -0,0 +1,122 @@
+package com.resume.transportation.controller;
+
+import com.resume.transportation.entity.User;
+import com.resume.transportation.entity.Vehicle;
+import com.resume.transportation.enums.Location;
+import com.resume.transportation.enums.UserRole;
+import com.resume.transportation.enums.VehicleStatus;
+import com.resume.transportation.ratelimit.EmbeddedRedisConfig;
+import com.resume.transportation.repository.ReservationRepository;
+import com.resume.transportation.repository.UserRepository;
+import com.resume.transportation.repository.VehicleRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.webmvc.test.autoconfigure.AutoConfigureMockMvc;
+import org.springframework.context.annotation.Import;
+import org.springframework.http.MediaType;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.ResultActions;
+
+import java.time.LocalDateTime;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * 예약 API 실패 응답 매핑 테스트
+ *
+ * - 요청 자체가 잘못된 경우: 400 + reason (락 / DB 접근 없이 거절)
+ * - 스케줄 충돌: 409 + reason
+ */
+@SpringBootTest
+@AutoConfigureMockMvc
+@Import(EmbeddedRedisConfig.class)
+class ReservationControllerTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private ReservationRepository reservationRepository;
+
+    @Autowired
+    private VehicleRepository vehicleRepository;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    private Vehicle vehicle;
+    private User operator;
+    private User dispatcher;
+    private LocalDateTime baseTime;
+
+    @BeforeEach
+    void setUp() {
+        reservationRepository.deleteAll();
+        vehicleRepository.deleteAll();
+        userRepository.deleteAll();
+
+        vehicle = vehicleRepository.save(new Vehicle(Location.AIRPORT, VehicleStatus.IDLE));
+        operator = userRepository.save(new User(UserRole.OPERATOR, "Operator1"));
+        dispatcher = userRepository.save(new User(UserRole.VOLUNTEER, "Dispatcher1"));
+
+        baseTime = LocalDateTime.now().plusDays(1).withHour(9).withMinute(0).withSecond(0).withNano(0);
+    }
+
+    @Test
+    @DisplayName("종료 시각이 시작 시각보다 앞서면 400 INVALID_REQUEST")
+    void invalidTimeRange() throws Exception {
+        create(Location.AIRPORT, Location.HOTEL, baseTime.plusHours(2), baseTime)
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.reason").value("INVALID_REQUEST"));
+
+        assertThat(reservationRepository.count()).isZero();
+    }
+
+    @Test
+    @DisplayName("이동 시간이 부족하면 400 TRAVEL_TIME_TOO_SHORT")
+    void travelTimeTooShort() throws Exception {
+        create(Location.AIRPORT, Location.HOTEL, baseTime, baseTime.plusMinutes(1))
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.reason").value("TRAVEL_TIME_TOO_SHORT"))
+                .andExpect(jsonPath("$.error").value("이동 시간 부족"));
+
+        assertThat(reservationRepository.count()).isZero();
+    }
+
+    @Test
+    @DisplayName("이미 예약된 시간대와 겹치면 409 VEHICLE_OVERLAP")
+    void overlapConflict() throws Exception {
+        create(Location.AIRPORT, Location.HOTEL, baseTime, baseTime.plusHours(2))
+                .andExpect(status().isOk());
+
+        create(Location.AIRPORT, Location.HOTEL, baseTime.plusMinutes(90), baseTime.plusHours(4))
+                .andExpect(status().isConflict())
+                .andExpect(jsonPath("$.reason").value("VEHICLE_OVERLAP"));
+
+        assertThat(reservationRepository.count()).isEqualTo(1);
+    }
+
+    private ResultActions create(Location from, Location to, LocalDateTime start, LocalDateTime end) throws Exception {
+        String body = """
+                {
+                  "operatorId": %d,
+                  "vehicleId": %d,
+                  "dispatcherId": %d,
+                  "fromLocation": "%s",
+                  "toLocation": "%s",
+                  "startTime": "%s",
+                  "endTime": "%s"
+                }
+                """.formatted(operator.getId(), vehicle.getId(), dispatcher.getId(), from, to, start, end);
+
+        return mockMvc.perform(post("/api/reservations")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(body));
+    }
+}
@@ -0,0 +1,152 @@
+package com.resume.transportation.datasource;
+
+import com.resume.transportation.config.datasource.ReadConsistency;
+import com.resume.transportation.config.datasource.ReplicaLagMonitor;
+import com.resume.transportation.entity.Vehicle;
+import com.resume.transportation.enums.Location;
+import com.resume.transportation.enums.VehicleStatus;
+import com.resume.transportation.ratelimit.EmbeddedRedisConfig;
+import com.resume.transportation.repository.ReservationRepository;
+import com.resume.transportation.repository.UserRepository;
+import com.resume.transportation.repository.VehicleRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import javax.sql.DataSource;
+import java.time.Duration;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Replica 라우팅 테스트
+ *
+ * 두 번째 H2 인메모리 DB를 replica로 사용한다.
+ * 복제는 없으므로 replica 데이터와 heartbeat를 테스트에서 직접 써서
+ * "replica가 primary와 다른 값을 가진 상태"를 만들고 어느 쪽에서 읽었는지 확인한다.
+ */
+@SpringBootTest(properties = {
+        "transportation.datasource.replica.enabled=true",
+        "transportation.datasource.replica.url=jdbc:h2:mem:replica;DB_CLOSE_DELAY=-1",
+        "transportation.datasource.replica.max-lag=3s",
+        "transportation.datasource.replica.heartbeat-interval=3600000"
+})
+@Import(EmbeddedRedisConfig.class)
+class ReplicaRoutingTest {
+
+    @Autowired
+    private VehicleRepository vehicleRepository;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private ReservationRepository reservationRepository;
+
+    @Autowired
+    private ReplicaLagMonitor replicaLagMonitor;
+
+    @Autowired
+    @Qualifier("replicaDataSource")
+    private DataSource replicaDataSource;
+
+    private JdbcTemplate replica;
+    private Long vehicleId;
+
+    @BeforeEach
+    void setUp() {
+        reservationRepository.deleteAll();
+        vehicleRepository.deleteAll();
+        userRepository.deleteAll();
+
+        replica = new JdbcTemplate(replicaDataSource);
+        replica.execute("create table if not exists vehicle ("
+                + "id bigint primary key, base_location varchar(30) not null, status varchar(20) not null)");
+        replica.execute("create table if not exists replica_heartbeat ("
+                + "id int primary key, beat_at bigint not null)");
+        replica.update("delete from vehicle");
+        replica.update("delete from replica_heartbeat");
+
+        // primary: AIRPORT, replica: HOTEL (아직 이동 전 값이 복제되어 있다고 가정)
+        vehicleId = vehicleRepository.save(new Vehicle(Location.AIRPORT, VehicleStatus.IDLE)).getId();
+        replica.update("insert into vehicle (id, base_location, status) values (?, 'HOTEL', 'IDLE')", vehicleId);
+    }
+
+    @Test
+    @DisplayName("지연이 허용 범위 이내면 readOnly 조회는 replica에서 읽는다")
+    void readOnlyQueryUsesReplica() {
+        replicateHeartbeat(System.currentTimeMillis());
+
+        assertThat(vehicleRepository.findBaseLocation(vehicleId)).isEqualTo(Location.HOTEL);
+    }
+
+    @Test
+    @DisplayName("ReadConsistency.primary로 감싼 조회는 항상 primary에서 읽는다")
+    void forcedPrimaryRead() {
+        replicateHeartbeat(System.currentTimeMillis());
+
+        Location location = ReadConsistency.primary(() -> vehicleRepository.findBaseLocation(vehicleId));
+
+        assertThat(location).isEqualTo(Location.AIRPORT);
+    }
+
+    @Test
+    @DisplayName("측정 지연이 0이어도 ReadConsistency.primary는 replica로 가지 않는다")
+    void forcedPrimaryReadWithZeroLag() {
+        // replica heartbeat가 마지막 beat 이후 시각 → 지연 0 (Math.max(0, ...))
+        replicateHeartbeat(System.currentTimeMillis() + Duration.ofMinutes(1).toMillis());
+        assertThat(replicaLagMonitor.getLagMillis()).isZero();
+        assertThat(replicaLagMonitor.isWithin(Duration.ZERO)).isTrue();
+
+        Location location = ReadConsistency.primary(() -> vehicleRepository.findBaseLocation(vehicleId));
+
+        assertThat(location).isEqualTo(Location.AIRPORT);
+    }
+
+    @Test
+    @DisplayName("replica 지연이 max-lag를 넘으면 primary로 fallback 한다")
+    void laggingReplicaFallsBackToPrimary() {
+        replicateHeartbeat(System.currentTimeMillis() - Duration.ofMinutes(1).toMillis());
+
+        assertThat(replicaLagMonitor.isWithin(Duration.ofSeconds(3))).isFalse();
+        assertThat(vehicleRepository.findBaseLocation(vehicleId)).isEqualTo(Location.AIRPORT);
+
+        // 더 느슨한 허용 지연을 지정한 조회는 replica 사용
+        Location relaxed = ReadConsistency.maxStaleness(Duration.ofMinutes(5),
+                () -> vehicleRepository.findBaseLocation(vehicleId));
+        assertThat(relaxed).isEqualTo(Location.HOTEL);
+    }
+
+    @Test
+    @DisplayName("heartbeat가 복제되지 않은 replica는 사용하지 않는다")
+    void unknownLagFallsBackToPrimary() {
+        replicaLagMonitor.refresh();
+
+        assertThat(replicaLagMonitor.getLagMillis()).isEqualTo(-1L);
+        assertThat(vehicleRepository.findBaseLocation(vehicleId)).isEqualTo(Location.AIRPORT);
+    }
+
+    @Test
+    @DisplayName("readOnly가 아닌 조회는 primary를 사용한다")
+    void nonReadOnlyQueryUsesPrimary() {
+        replicateHeartbeat(System.currentTimeMillis());
+
+        // 선언된 쿼리 메서드는 트랜잭션이 없으므로 primary (replica에는 reservation 테이블이 없다)
+        assertThat(reservationRepository.findVehicleLatest(vehicleId, PageRequest.of(0, 1))).isEmpty();
+    }
+
+    /**
+     * primary heartbeat가 replica에 복제된 상황 시뮬레이션
+     */
+    private void replicateHeartbeat(long beatAt) {
+        replicaLagMonitor.beat();
+        replica.update("merge into replica_heartbeat (id, beat_at) key (id) values (1, ?)", beatAt);
+        replicaLagMonitor.refresh();
+    }
+}
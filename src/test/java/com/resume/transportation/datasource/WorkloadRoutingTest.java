@@ -0,0 +1,129 @@
+package com.resume.transportation.datasource;
+
+import com.resume.transportation.config.datasource.DataSourcePoolsEndpoint;
+import com.resume.transportation.config.datasource.Workload;
+import com.resume.transportation.config.datasource.WorkloadContext;
+import com.resume.transportation.ratelimit.EmbeddedRedisConfig;
+import com.zaxxer.hikari.HikariDataSource;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.boot.actuate.endpoint.InvalidEndpointRequestException;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.jdbc.core.ConnectionCallback;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.sql.Statement;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * Workload별 커넥션 풀 격리 테스트
+ *
+ * 세 풀 모두 같은 H2 DB를 바라보므로, 커넥션을 잡은 상태에서
+ * 각 풀의 active 커넥션 수로 어느 풀이 사용됐는지 확인한다.
+ */
+@SpringBootTest(properties = {
+        "transportation.datasource.bulkhead.enabled=true",
+        "transportation.datasource.bulkhead.validation.hikari.maximum-pool-size=3",
+        "transportation.datasource.bulkhead.reporting.hikari.maximum-pool-size=1",
+        "transportation.datasource.bulkhead.reporting.hikari.connection-timeout=5000"
+})
+@Import(EmbeddedRedisConfig.class)
+class WorkloadRoutingTest {
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    @Qualifier("primaryDataSource")
+    private HikariDataSource primaryPool;
+
+    @Autowired
+    @Qualifier("validationDataSource")
+    private HikariDataSource validationPool;
+
+    @Autowired
+    @Qualifier("reportingDataSource")
+    private HikariDataSource reportingPool;
+
+    @Autowired
+    private DataSourcePoolsEndpoint poolsEndpoint;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    @Test
+    @DisplayName("Workload를 지정하지 않으면 primary(WRITE) 풀을 사용한다")
+    void defaultWorkloadUsesPrimaryPool() {
+        assertThat(activeCountsWhileHolding()).containsExactly(1, 0, 0);
+    }
+
+    @Test
+    @DisplayName("VALIDATION / REPORTING은 각자의 풀을 사용한다")
+    void workloadsUseDedicatedPools() {
+        assertThat(WorkloadContext.call(Workload.VALIDATION, this::activeCountsWhileHolding))
+                .containsExactly(0, 1, 0);
+        assertThat(WorkloadContext.call(Workload.REPORTING, this::activeCountsWhileHolding))
+                .containsExactly(0, 0, 1);
+    }
+
+    @Test
+    @DisplayName("풀별 설정(크기, 타임아웃)이 분리되어 적용된다")
+    void poolsHaveSeparateSettings() {
+        assertThat(validationPool.getMaximumPoolSize()).isEqualTo(3);
+        assertThat(reportingPool.getMaximumPoolSize()).isEqualTo(1);
+        assertThat(reportingPool.getConnectionTimeout()).isEqualTo(5000);
+        assertThat(reportingPool.getPoolName()).isNotEqualTo(primaryPool.getPoolName());
+    }
+
+    @Test
+    @DisplayName("풀별 대기 시간 게이지가 등록된다")
+    void waitGaugesRegisteredPerPool() {
+        WorkloadContext.run(Workload.REPORTING, () -> jdbcTemplate.queryForObject("select 1", Integer.class));
+
+        for (HikariDataSource pool : List.of(primaryPool, validationPool, reportingPool)) {
+            assertThat(meterRegistry.find("datasource.pool.wait.max").tag("pool", pool.getPoolName()).gauge())
+                    .isNotNull();
+        }
+    }
+
+    @Test
+    @DisplayName("actuator 엔드포인트로 풀 크기를 런타임에 변경한다")
+    void resizePoolAtRuntime() {
+        poolsEndpoint.resize("reportingDataSource", 4, 1, 2000L);
+
+        assertThat(reportingPool.getHikariConfigMXBean().getMaximumPoolSize()).isEqualTo(4);
+        assertThat(reportingPool.getHikariConfigMXBean().getMinimumIdle()).isEqualTo(1);
+        assertThat(reportingPool.getHikariConfigMXBean().getConnectionTimeout()).isEqualTo(2000L);
+        assertThat(poolsEndpoint.pool("reportingDataSource")).containsEntry("maximumPoolSize", 4);
+
+        assertThatThrownBy(() -> poolsEndpoint.resize("reportingDataSource", 1, 2, null))
+                .isInstanceOf(InvalidEndpointRequestException.class);
+        assertThatThrownBy(() -> poolsEndpoint.resize("unknownDataSource", 1, null, null))
+                .isInstanceOf(InvalidEndpointRequestException.class);
+
+        poolsEndpoint.resize("reportingDataSource", 1, 0, 5000L);
+    }
+
+    /**
+     * 커넥션을 잡은 상태에서 (primary, validation, reporting) active 커넥션 수
+     */
+    private List<Integer> activeCountsWhileHolding() {
+        return jdbcTemplate.execute((ConnectionCallback<List<Integer>>) connection -> {
+            try (Statement statement = connection.createStatement()) {
+                statement.execute("select 1");
+            }
+            return List.of(
+                    primaryPool.getHikariPoolMXBean().getActiveConnections(),
+                    validationPool.getHikariPoolMXBean().getActiveConnections(),
+                    reportingPool.getHikariPoolMXBean().getActiveConnections()
+            );
+        });
+    }
+}
@@ -0,0 +1,186 @@
+package com.resume.transportation.deadline;
+
+import com.resume.transportation.entity.User;
+import com.resume.transportation.entity.Vehicle;
+import com.resume.transportation.enums.Location;
+import com.resume.transportation.enums.UserRole;
+import com.resume.transportation.enums.VehicleStatus;
+import com.resume.transportation.ratelimit.EmbeddedRedisConfig;
+import com.resume.transportation.repository.ReservationRepository;
+import com.resume.transportation.repository.UserRepository;
+import com.resume.transportation.repository.VehicleRepository;
+import com.resume.transportation.service.deadline.Deadline;
+import com.resume.transportation.service.deadline.DeadlineContext;
+import com.resume.transportation.service.deadline.DeadlineGuard;
+import com.resume.transportation.service.exception.RejectReason;
+import com.resume.transportation.service.exception.ReservationRejectedException;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.webmvc.test.autoconfigure.AutoConfigureMockMvc;
+import org.springframework.context.annotation.Import;
+import org.springframework.dao.QueryTimeoutException;
+import org.springframework.http.MediaType;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.ResultActions;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.SQLTimeoutException;
+import java.sql.SQLTransientConnectionException;
+import java.time.Duration;
+import java.time.LocalDateTime;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * 요청 마감 전파 테스트
+ *
+ * - 마감이 지난 요청은 락 / DB 접근 없이 429 DEADLINE_EXCEEDED
+ * - 버린 요청은 단계별 메트릭(reservation.deadline.shed{stage})에 집계
+ * - DB 작업은 남은 시간으로 statement timeout이 걸리고, 마감 후에는 실행되지 않는다
+ */
+@SpringBootTest
+@AutoConfigureMockMvc
+@Import(EmbeddedRedisConfig.class)
+class DeadlineSheddingTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    @Autowired
+    private DataSource dataSource;
+
+    @Autowired
+    private DeadlineGuard deadlineGuard;
+
+    @Autowired
+    private ReservationRepository reservationRepository;
+
+    @Autowired
+    private VehicleRepository vehicleRepository;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    private Vehicle vehicle;
+    private User operator;
+    private User dispatcher;
+    private LocalDateTime baseTime;
+
+    @BeforeEach
+    void setUp() {
+        reservationRepository.deleteAll();
+        vehicleRepository.deleteAll();
+        userRepository.deleteAll();
+
+        vehicle = vehicleRepository.save(new Vehicle(Location.AIRPORT, VehicleStatus.IDLE));
+        operator = userRepository.save(new User(UserRole.OPERATOR, "Operator1"));
+        dispatcher = userRepository.save(new User(UserRole.VOLUNTEER, "Dispatcher1"));
+
+        baseTime = LocalDateTime.now().plusDays(1).withHour(9).withMinute(0).withSecond(0).withNano(0);
+    }
+
+    @Test
+    @DisplayName("마감이 지난 요청은 429 DEADLINE_EXCEEDED, 예약을 만들지 않는다")
+    void expiredDeadlineIsShed() throws Exception {
+        double before = shedCount("admission");
+
+        create("X-Request-Deadline", String.valueOf(System.currentTimeMillis() - 1_000))
+                .andExpect(status().isTooManyRequests())
+                .andExpect(header().exists("Retry-After"))
+                .andExpect(jsonPath("$.reason").value("DEADLINE_EXCEEDED"));
+
+        create("X-Request-Timeout", "0")
+                .andExpect(status().isTooManyRequests())
+                .andExpect(jsonPath("$.reason").value("DEADLINE_EXCEEDED"));
+
+        assertThat(reservationRepository.count()).isZero();
+        assertThat(shedCount("admission") - before).isEqualTo(2.0);
+    }
+
+    @Test
+    @DisplayName("남은 시간이 충분하면 평소대로 처리한다")
+    void remainingBudgetIsServed() throws Exception {
+        create("X-Request-Timeout", "10000")
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.status").value("success"));
+
+        assertThat(reservationRepository.count()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("DB statement는 남은 시간(초 올림)을 queryTimeout으로 받고, 마감이 없으면 무제한")
+    void statementTimeoutFollowsRemainingBudget() throws Exception {
+        int bounded = DeadlineContext.call(Deadline.after(Duration.ofMillis(1500)), this::queryTimeout);
+        assertThat(bounded).isEqualTo(2);
+
+        assertThat(queryTimeout()).isZero();
+    }
+
+    @Test
+    @DisplayName("마감이 지난 뒤 DB 작업은 실행하지 않고 DEADLINE_EXCEEDED로 바뀐다")
+    void expiredDeadlineStopsPersistence() {
+        double before = shedCount("persistence");
+        Deadline expired = new Deadline(System.nanoTime() - 1);
+
+        DeadlineContext.run(expired, () -> {
+            assertThatThrownBy(this::queryTimeout).hasRootCauseInstanceOf(SQLTransientConnectionException.class);
+
+            RuntimeException timedOut = new QueryTimeoutException("timeout", new SQLTimeoutException());
+            assertThat(deadlineGuard.translate(timedOut))
+                    .isInstanceOf(ReservationRejectedException.class)
+                    .satisfies(e -> assertThat(((ReservationRejectedException) e).getReason())
+                            .isEqualTo(RejectReason.DEADLINE_EXCEEDED));
+        });
+
+        RuntimeException unrelated = new QueryTimeoutException("timeout", new SQLTimeoutException());
+        assertThat(deadlineGuard.translate(unrelated)).isSameAs(unrelated);
+        assertThat(shedCount("persistence") - before).isEqualTo(1.0);
+    }
+
+    private int queryTimeout() {
+        try (Connection connection = dataSource.getConnection();
+             PreparedStatement statement = connection.prepareStatement("select 1")) {
+            return statement.getQueryTimeout();
+        } catch (SQLException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private double shedCount(String stage) {
+        return meterRegistry.counter("reservation.deadline.shed", "stage", stage).count();
+    }
+
+    private ResultActions create(String headerName, String headerValue) throws Exception {
+        String body = """
+                {
+                  "operatorId": %d,
+                  "vehicleId": %d,
+                  "dispatcherId": %d,
+                  "fromLocation": "AIRPORT",
+                  "toLocation": "HOTEL",
+                  "startTime": "%s",
+                  "endTime": "%s"
+                }
+                """.formatted(operator.getId(), vehicle.getId(), dispatcher.getId(), baseTime, baseTime.plusHours(2));
+
+        return mockMvc.perform(post("/api/reservations")
+                .header(headerName, headerValue)
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(body));
+    }
+}
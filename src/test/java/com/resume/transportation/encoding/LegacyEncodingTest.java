@@ -0,0 +1,123 @@
+package com.resume.transportation.encoding;
+
+import com.resume.transportation.entity.Reservation;
+import com.resume.transportation.entity.User;
+import com.resume.transportation.entity.Vehicle;
+import com.resume.transportation.enums.Location;
+import com.resume.transportation.enums.ReservationStatus;
+import com.resume.transportation.enums.UserRole;
+import com.resume.transportation.enums.VehicleStatus;
+import com.resume.transportation.ratelimit.EmbeddedRedisConfig;
+import com.resume.transportation.repository.ReservationRepository;
+import com.resume.transportation.repository.UserRepository;
+import com.resume.transportation.repository.VehicleRepository;
+import com.resume.transportation.service.ReservationService;
+import com.resume.transportation.service.command.CreateReservationCommand;
+import com.resume.transportation.service.exception.RejectReason;
+import com.resume.transportation.service.exception.ReservationRejectedException;
+import com.resume.transportation.service.store.StorageEncoding;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * legacy 인코딩(027 마이그레이션 이전 스키마) 테스트
+ *
+ * legacy-encoding 프로파일이면 JPA 매핑과 JDBC 경로가 모두 VARCHAR 장소 / 상태, DATETIME 시각으로 읽고 쓴다.
+ * 컬럼 타입이 기본 컨텍스트와 다르므로 별도 인메모리 DB를 쓴다.
+ */
+@SpringBootTest(properties = {
+        "spring.datasource.url=jdbc:h2:mem:legacyencoding",
+        "transportation.reservation.store=jdbc"
+})
+@ActiveProfiles("legacy-encoding")
+@Import(EmbeddedRedisConfig.class)
+class LegacyEncodingTest {
+
+    @Autowired
+    private StorageEncoding storageEncoding;
+
+    @Autowired
+    private ReservationService reservationService;
+
+    @Autowired
+    private ReservationRepository reservationRepository;
+
+    @Autowired
+    private VehicleRepository vehicleRepository;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    private Vehicle vehicle;
+    private User operator;
+    private User dispatcher;
+    private LocalDateTime baseTime;
+
+    @BeforeEach
+    void setUp() {
+        reservationRepository.deleteAll();
+        vehicleRepository.deleteAll();
+        userRepository.deleteAll();
+
+        vehicle = vehicleRepository.save(new Vehicle(Location.AIRPORT, VehicleStatus.IDLE));
+        operator = userRepository.save(new User(UserRole.OPERATOR, "Operator1"));
+        dispatcher = userRepository.save(new User(UserRole.VOLUNTEER, "Dispatcher1"));
+        baseTime = LocalDateTime.now().plusDays(1).withHour(10).withMinute(0).withSecond(0).withNano(0);
+    }
+
+    @Test
+    @DisplayName("legacy 프로파일이면 이름 / DATETIME 컬럼으로 저장하고 엔티티로 다시 읽는다")
+    void storesNamesAndDateTimes() {
+        assertThat(storageEncoding).isEqualTo(StorageEncoding.LEGACY);
+
+        Long reservationId = reservationService.createReservation(new CreateReservationCommand(
+                operator.getId(), vehicle.getId(), dispatcher.getId(), Location.AIRPORT, Location.HOTEL,
+                baseTime, baseTime.plusHours(1))).reservationId();
+
+        assertThat(jdbcTemplate.queryForObject(
+                "select to_location from reservation where id = ?", String.class, reservationId))
+                .isEqualTo("HOTEL");
+        assertThat(jdbcTemplate.queryForObject(
+                "select status from reservation where id = ?", String.class, reservationId))
+                .isEqualTo("CREATED");
+        assertThat(jdbcTemplate.queryForObject(
+                "select start_time from reservation where id = ?", Timestamp.class, reservationId))
+                .isEqualTo(Timestamp.valueOf(baseTime));
+
+        Reservation saved = reservationRepository.findById(reservationId).orElseThrow();
+        assertThat(saved.getToLocation()).isEqualTo(Location.HOTEL);
+        assertThat(saved.getStatus()).isEqualTo(ReservationStatus.CREATED);
+        assertThat(saved.getEndTime()).isEqualTo(baseTime.plusHours(1));
+    }
+
+    @Test
+    @DisplayName("legacy 프로파일에서도 JDBC 겹침 검사가 동작한다")
+    void overlapCheckUsesLegacyColumns() {
+        reservationService.createReservation(new CreateReservationCommand(
+                operator.getId(), vehicle.getId(), dispatcher.getId(), Location.AIRPORT, Location.HOTEL,
+                baseTime, baseTime.plusHours(1)));
+
+        User otherDispatcher = userRepository.save(new User(UserRole.VOLUNTEER, "Dispatcher2"));
+        assertThatThrownBy(() -> reservationService.createReservation(new CreateReservationCommand(
+                operator.getId(), vehicle.getId(), otherDispatcher.getId(), Location.AIRPORT, Location.HOTEL,
+                baseTime.plusMinutes(30), baseTime.plusMinutes(90))))
+                .isInstanceOf(ReservationRejectedException.class)
+                .satisfies(e -> assertThat(((ReservationRejectedException) e).getReason())
+                        .isEqualTo(RejectReason.VEHICLE_OVERLAP));
+    }
+}
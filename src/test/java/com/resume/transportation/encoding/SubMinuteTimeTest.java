@@ -0,0 +1,96 @@
+package com.resume.transportation.encoding;
+
+import com.resume.transportation.entity.Reservation;
+import com.resume.transportation.entity.User;
+import com.resume.transportation.entity.Vehicle;
+import com.resume.transportation.enums.Location;
+import com.resume.transportation.enums.UserRole;
+import com.resume.transportation.enums.VehicleStatus;
+import com.resume.transportation.ratelimit.EmbeddedRedisConfig;
+import com.resume.transportation.repository.ReservationRepository;
+import com.resume.transportation.repository.UserRepository;
+import com.resume.transportation.repository.VehicleRepository;
+import com.resume.transportation.service.ReservationService;
+import com.resume.transportation.service.command.CreateReservationCommand;
+import com.resume.transportation.service.exception.RejectReason;
+import com.resume.transportation.service.exception.ReservationRejectedException;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.context.annotation.Import;
+
+import java.time.LocalDateTime;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * 분 미만 시각 정규화 테스트
+ *
+ * epoch-minute 저장에서 초가 조용히 잘리지 않고, 명령 생성 시점에 요청 구간을 덮도록
+ * 바깥쪽으로 맞춰진 값으로 검증 / 겹침 검사 / 저장이 이뤄진다.
+ */
+@SpringBootTest
+@Import(EmbeddedRedisConfig.class)
+class SubMinuteTimeTest {
+
+    @Autowired
+    private ReservationService reservationService;
+
+    @Autowired
+    private ReservationRepository reservationRepository;
+
+    @Autowired
+    private VehicleRepository vehicleRepository;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    private Vehicle vehicle;
+    private User operator;
+    private User dispatcher;
+    private LocalDateTime baseTime;
+
+    @BeforeEach
+    void setUp() {
+        reservationRepository.deleteAll();
+        vehicleRepository.deleteAll();
+        userRepository.deleteAll();
+
+        vehicle = vehicleRepository.save(new Vehicle(Location.AIRPORT, VehicleStatus.IDLE));
+        operator = userRepository.save(new User(UserRole.OPERATOR, "Operator1"));
+        dispatcher = userRepository.save(new User(UserRole.VOLUNTEER, "Dispatcher1"));
+        baseTime = LocalDateTime.now().plusDays(1).withHour(10).withMinute(0).withSecond(0).withNano(0);
+    }
+
+    @Test
+    @DisplayName("시작은 분 단위로 내리고 종료는 올려서 저장한다")
+    void subMinuteTimesAreWidenedToWholeMinutes() {
+        Long reservationId = reservationService.createReservation(new CreateReservationCommand(
+                operator.getId(), vehicle.getId(), dispatcher.getId(), Location.AIRPORT, Location.HOTEL,
+                baseTime.plusSeconds(30), baseTime.plusMinutes(60).plusSeconds(15))).reservationId();
+
+        Reservation saved = reservationRepository.findById(reservationId).orElseThrow();
+        assertThat(saved.getStartTime()).isEqualTo(baseTime);
+        assertThat(saved.getEndTime()).isEqualTo(baseTime.plusMinutes(61));
+    }
+
+    @Test
+    @DisplayName("초 단위로만 겹치는 예약도 저장 값 기준으로 겹침 판정된다")
+    void overlapIsCheckedOnStoredMinutes() {
+        reservationService.createReservation(new CreateReservationCommand(
+                operator.getId(), vehicle.getId(), dispatcher.getId(), Location.AIRPORT, Location.HOTEL,
+                baseTime, baseTime.plusMinutes(60).plusSeconds(20)));
+
+        // 저장된 종료는 11:01 - 11:00:40 시작(→ 11:00)은 겹친다 (절삭이었다면 11:00 종료로 통과했을 것)
+        User otherDispatcher = userRepository.save(new User(UserRole.VOLUNTEER, "Dispatcher2"));
+        assertThatThrownBy(() -> reservationService.createReservation(new CreateReservationCommand(
+                operator.getId(), vehicle.getId(), otherDispatcher.getId(), Location.AIRPORT, Location.HOTEL,
+                baseTime.plusMinutes(60).plusSeconds(40), baseTime.plusHours(2).plusSeconds(40))))
+                .isInstanceOf(ReservationRejectedException.class)
+                .satisfies(e -> assertThat(((ReservationRejectedException) e).getReason())
+                        .isEqualTo(RejectReason.VEHICLE_OVERLAP));
+    }
+}
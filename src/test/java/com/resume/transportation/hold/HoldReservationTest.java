@@ -0,0 +1,127 @@
+package com.resume.transportation.hold;
+
+import com.resume.transportation.entity.User;
+import com.resume.transportation.entity.Vehicle;
+import com.resume.transportation.enums.Location;
+import com.resume.transportation.enums.UserRole;
+import com.resume.transportation.enums.VehicleStatus;
+import com.resume.transportation.ratelimit.EmbeddedRedisConfig;
+import com.resume.transportation.repository.ReservationRepository;
+import com.resume.transportation.repository.UserRepository;
+import com.resume.transportation.repository.VehicleRepository;
+import com.resume.transportation.service.ReservationService;
+import com.resume.transportation.service.command.CreateReservationCommand;
+import com.resume.transportation.service.exception.RejectReason;
+import com.resume.transportation.service.hold.Hold;
+import com.resume.transportation.service.hold.HoldService;
+import com.resume.transportation.service.result.ReservationResult;
+import com.resume.transportation.support.ReservationTestSupport.Fixture;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.context.annotation.Import;
+
+import java.time.LocalDateTime;
+
+import static com.resume.transportation.support.ReservationTestSupport.assertRejected;
+import static com.resume.transportation.support.ReservationTestSupport.resetFixture;
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 홀드 → 확정 테스트 (홀드 TTL 2초)
+ */
+@SpringBootTest(properties = "transportation.hold.ttl=2s")
+@Import(EmbeddedRedisConfig.class)
+class HoldReservationTest {
+
+    @Autowired
+    private HoldService holdService;
+
+    @Autowired
+    private ReservationService reservationService;
+
+    @Autowired
+    private ReservationRepository reservationRepository;
+
+    @Autowired
+    private VehicleRepository vehicleRepository;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    private User operator;
+    private User dispatcher;
+    private Vehicle vehicle;
+    private LocalDateTime baseTime;
+
+    @BeforeEach
+    void setUp() {
+        Fixture fixture = resetFixture(reservationRepository, vehicleRepository, userRepository, 11);
+        operator = fixture.operator();
+        dispatcher = fixture.dispatcher();
+        vehicle = fixture.vehicle();
+        baseTime = fixture.baseTime();
+    }
+
+    @Test
+    @DisplayName("홀드는 DB 행 없이 겹치는 예약 / 홀드를 막고, 확정하면 예약이 생성된다")
+    void holdBlocksThenConfirms() {
+        Hold hold = holdService.hold(command(Location.AIRPORT, Location.HOTEL, baseTime, baseTime.plusHours(1)));
+        assertThat(reservationRepository.count()).isZero();
+
+        assertRejected(() -> reservationService.createReservation(
+                        command(Location.AIRPORT, Location.HOTEL, baseTime.plusMinutes(30), baseTime.plusMinutes(90))),
+                RejectReason.VEHICLE_OVERLAP);
+        assertRejected(() -> holdService.hold(
+                        command(Location.AIRPORT, Location.HOTEL, baseTime.plusMinutes(30), baseTime.plusMinutes(90))),
+                RejectReason.VEHICLE_OVERLAP);
+
+        // 홀드 도착지(HOTEL)에서 이어지는 예약은 허용
+        reservationService.createReservation(
+                command(Location.HOTEL, Location.VENUE_ONE, baseTime.plusHours(2), baseTime.plusMinutes(150)));
+
+        ReservationResult result = holdService.confirm(hold.holdId());
+        assertThat(result.reservationId()).isNotNull();
+        assertThat(reservationRepository.count()).isEqualTo(2);
+
+        // 확정된 홀드는 다시 확정할 수 없음
+        assertRejected(() -> holdService.confirm(hold.holdId()), RejectReason.HOLD_NOT_FOUND);
+    }
+
+    @Test
+    @DisplayName("취소 / 만료된 홀드는 더 이상 막지 않고 확정할 수 없다")
+    void releasedAndExpiredHolds() throws InterruptedException {
+        Hold released = holdService.hold(command(Location.AIRPORT, Location.HOTEL, baseTime, baseTime.plusHours(1)));
+        holdService.release(released.holdId());
+
+        Hold expired = holdService.hold(command(Location.AIRPORT, Location.HOTEL, baseTime, baseTime.plusHours(1)));
+        Thread.sleep(2500);
+
+        assertRejected(() -> holdService.confirm(expired.holdId()), RejectReason.HOLD_NOT_FOUND);
+        reservationService.createReservation(command(Location.AIRPORT, Location.HOTEL, baseTime, baseTime.plusHours(1)));
+        assertThat(reservationRepository.count()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("먼저 기록한 홀드는 겹침 검증에 실패하면 지워져 다른 요청을 막지 않는다")
+    void rejectedHoldIsRemoved() {
+        reservationService.createReservation(command(Location.AIRPORT, Location.HOTEL, baseTime, baseTime.plusHours(1)));
+
+        // 차량이 겹쳐 거절 - 기록했던 홀드의 디스패처 구간도 함께 지워져야 한다
+        User otherDispatcher = userRepository.save(new User(UserRole.VOLUNTEER, "Dispatcher2"));
+        assertRejected(() -> holdService.hold(new CreateReservationCommand(operator.getId(), vehicle.getId(),
+                        otherDispatcher.getId(), Location.AIRPORT, Location.HOTEL, baseTime, baseTime.plusHours(1))),
+                RejectReason.VEHICLE_OVERLAP);
+
+        Vehicle otherVehicle = vehicleRepository.save(new Vehicle(Location.AIRPORT, VehicleStatus.IDLE));
+        reservationService.createReservation(new CreateReservationCommand(operator.getId(), otherVehicle.getId(),
+                otherDispatcher.getId(), Location.AIRPORT, Location.HOTEL, baseTime, baseTime.plusHours(1)));
+        assertThat(reservationRepository.count()).isEqualTo(2);
+    }
+
+    private CreateReservationCommand command(Location from, Location to, LocalDateTime start, LocalDateTime end) {
+        return new CreateReservationCommand(operator.getId(), vehicle.getId(), dispatcher.getId(), from, to, start, end);
+    }
+}
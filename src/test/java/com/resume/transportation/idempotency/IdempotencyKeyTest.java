@@ -0,0 +1,196 @@
+package com.resume.transportation.idempotency;
+
+import com.resume.transportation.entity.User;
+import com.resume.transportation.entity.Vehicle;
+import com.resume.transportation.enums.Location;
+import com.resume.transportation.enums.UserRole;
+import com.resume.transportation.enums.VehicleStatus;
+import com.resume.transportation.ratelimit.EmbeddedRedisConfig;
+import com.resume.transportation.repository.ReservationRepository;
+import com.resume.transportation.repository.UserRepository;
+import com.resume.transportation.repository.VehicleRepository;
+import com.resume.transportation.service.idempotency.IdempotencyService;
+import com.resume.transportation.service.idempotency.IdempotentResult;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.webmvc.test.autoconfigure.AutoConfigureMockMvc;
+import org.springframework.context.annotation.Import;
+import org.springframework.http.MediaType;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.ResultActions;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * Idempotency-Key 예약 생성 테스트
+ *
+ * - 같은 키 재시도: 처음 결과(성공 / 확정 거절) 그대로, 다시 실행하지 않음
+ * - 같은 키 동시 중복: 원본 1회만 실행, 나머지는 원본 결과 대기
+ */
+@SpringBootTest
+@AutoConfigureMockMvc
+@Import(EmbeddedRedisConfig.class)
+class IdempotencyKeyTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private IdempotencyService idempotencyService;
+
+    @Autowired
+    private ReservationRepository reservationRepository;
+
+    @Autowired
+    private VehicleRepository vehicleRepository;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    private Vehicle vehicle;
+    private User operator;
+    private User dispatcher;
+    private LocalDateTime baseTime;
+
+    @BeforeEach
+    void setUp() {
+        reservationRepository.deleteAll();
+        vehicleRepository.deleteAll();
+        userRepository.deleteAll();
+
+        vehicle = vehicleRepository.save(new Vehicle(Location.AIRPORT, VehicleStatus.IDLE));
+        operator = userRepository.save(new User(UserRole.OPERATOR, "Operator1"));
+        dispatcher = userRepository.save(new User(UserRole.VOLUNTEER, "Dispatcher1"));
+
+        baseTime = LocalDateTime.now().plusDays(1).withHour(9).withMinute(0).withSecond(0).withNano(0);
+    }
+
+    @Test
+    @DisplayName("같은 키 재시도는 처음 만든 예약을 그대로 돌려준다")
+    void retryReplaysOriginal() throws Exception {
+        String key = UUID.randomUUID().toString();
+
+        create(key, baseTime, baseTime.plusHours(2))
+                .andExpect(status().isOk())
+                .andExpect(header().string("Idempotent-Replayed", "false"));
+        Long reservationId = reservationRepository.findAll().get(0).getId();
+
+        create(key, baseTime, baseTime.plusHours(2))
+                .andExpect(status().isOk())
+                .andExpect(header().string("Idempotent-Replayed", "true"))
+                .andExpect(jsonPath("$.reservationId").value(reservationId));
+
+        assertThat(reservationRepository.count()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("확정 거절도 저장되어 같은 키 재시도에 같은 409가 온다")
+    void rejectionIsReplayed() throws Exception {
+        create(UUID.randomUUID().toString(), baseTime, baseTime.plusHours(2)).andExpect(status().isOk());
+
+        String key = UUID.randomUUID().toString();
+        create(key, baseTime.plusMinutes(90), baseTime.plusHours(4))
+                .andExpect(status().isConflict())
+                .andExpect(jsonPath("$.reason").value("VEHICLE_OVERLAP"));
+
+        // 첫 예약이 사라져도 재시도는 다시 실행되지 않는다
+        reservationRepository.deleteAll();
+        create(key, baseTime.plusMinutes(90), baseTime.plusHours(4))
+                .andExpect(status().isConflict())
+                .andExpect(jsonPath("$.reason").value("VEHICLE_OVERLAP"));
+
+        assertThat(reservationRepository.count()).isZero();
+    }
+
+    @Test
+    @DisplayName("같은 키로 본문이 다른 요청은 400 IDEMPOTENCY_KEY_REUSED")
+    void reusedKeyIsRejected() throws Exception {
+        String key = UUID.randomUUID().toString();
+        create(key, baseTime, baseTime.plusHours(2)).andExpect(status().isOk());
+
+        create(key, baseTime.plusHours(3), baseTime.plusHours(5))
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.reason").value("IDEMPOTENCY_KEY_REUSED"));
+
+        assertThat(reservationRepository.count()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("같은 키 동시 중복은 원본 1회만 실행하고 나머지는 원본 결과를 받는다")
+    void concurrentDuplicatesWaitForOriginal() throws Exception {
+        String key = UUID.randomUUID().toString();
+        AtomicInteger executions = new AtomicInteger();
+        CountDownLatch start = new CountDownLatch(1);
+        int requests = 10;
+
+        ExecutorService executor = Executors.newFixedThreadPool(requests);
+        try {
+            List<Future<IdempotentResult>> results = new ArrayList<>();
+            for (int i = 0; i < requests; i++) {
+                results.add(executor.submit(() -> {
+                    start.await();
+                    return idempotencyService.execute(key, "same-request", () -> {
+                        executions.incrementAndGet();
+                        sleep(200);
+                        return 42L;
+                    });
+                }));
+            }
+            start.countDown();
+
+            int replayed = 0;
+            for (Future<IdempotentResult> result : results) {
+                assertThat(result.get().reservationId()).isEqualTo(42L);
+                replayed += result.get().replayed() ? 1 : 0;
+            }
+            assertThat(executions.get()).isEqualTo(1);
+            assertThat(replayed).isEqualTo(requests - 1);
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    private ResultActions create(String key, LocalDateTime start, LocalDateTime end) throws Exception {
+        String body = """
+                {
+                  "operatorId": %d,
+                  "vehicleId": %d,
+                  "dispatcherId": %d,
+                  "fromLocation": "AIRPORT",
+                  "toLocation": "HOTEL",
+                  "startTime": "%s",
+                  "endTime": "%s"
+                }
+                """.formatted(operator.getId(), vehicle.getId(), dispatcher.getId(), start, end);
+
+        return mockMvc.perform(post("/api/reservations")
+                .header("Idempotency-Key", key)
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(body));
+    }
+
+    private static void sleep(long millis) {
+        try {
+            Thread.sleep(millis);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
@@ -0,0 +1,161 @@
+package com.resume.transportation.itinerary;
+
+import com.resume.transportation.entity.User;
+import com.resume.transportation.entity.Vehicle;
+import com.resume.transportation.enums.Location;
+import com.resume.transportation.enums.UserRole;
+import com.resume.transportation.enums.VehicleStatus;
+import com.resume.transportation.ratelimit.EmbeddedRedisConfig;
+import com.resume.transportation.repository.ReservationRepository;
+import com.resume.transportation.repository.UserRepository;
+import com.resume.transportation.repository.VehicleRepository;
+import com.resume.transportation.service.ReservationService;
+import com.resume.transportation.service.command.CreateItineraryCommand;
+import com.resume.transportation.service.command.CreateReservationCommand;
+import com.resume.transportation.service.exception.RejectReason;
+import com.resume.transportation.service.result.ReservationResult;
+import com.resume.transportation.service.store.ReservationStore;
+import com.resume.transportation.support.ReservationTestSupport.Fixture;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.context.bean.override.mockito.MockitoSpyBean;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static com.resume.transportation.support.ReservationTestSupport.assertRejected;
+import static com.resume.transportation.support.ReservationTestSupport.resetFixture;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.Mockito.doAnswer;
+
+/**
+ * 다구간 일정 예약 테스트
+ */
+@SpringBootTest
+@Import(EmbeddedRedisConfig.class)
+class ItineraryReservationTest {
+
+    @Autowired
+    private ReservationService reservationService;
+
+    @MockitoSpyBean
+    private ReservationStore reservationStore;
+
+    @Autowired
+    private ReservationRepository reservationRepository;
+
+    @Autowired
+    private VehicleRepository vehicleRepository;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    private User operator;
+    private User dispatcher;
+    private Vehicle vehicle;
+    private LocalDateTime baseTime;
+
+    @BeforeEach
+    void setUp() {
+        Fixture fixture = resetFixture(reservationRepository, vehicleRepository, userRepository, 9);
+        operator = fixture.operator();
+        dispatcher = fixture.dispatcher();
+        vehicle = fixture.vehicle();
+        baseTime = fixture.baseTime();
+    }
+
+    @Test
+    @DisplayName("3구간 일정은 한 번에 저장되고 구간 순서대로 결과 반환")
+    void createsAllLegs() {
+        List<ReservationResult> results = reservationService.createItinerary(itinerary(
+                leg(Location.AIRPORT, Location.HOTEL, baseTime, baseTime.plusMinutes(90)),
+                leg(Location.HOTEL, Location.VENUE_ONE, baseTime.plusHours(2), baseTime.plusMinutes(150)),
+                leg(Location.VENUE_ONE, Location.VENUE_TWO, baseTime.plusHours(3), baseTime.plusMinutes(200))));
+
+        assertThat(results).extracting(ReservationResult::toLocation)
+                .containsExactly(Location.HOTEL, Location.VENUE_ONE, Location.VENUE_TWO);
+        assertThat(reservationRepository.count()).isEqualTo(3);
+
+        // 마지막 구간 도착지에서 단건 예약이 이어짐
+        reservationService.createReservation(new CreateReservationCommand(
+                operator.getId(), vehicle.getId(), dispatcher.getId(),
+                Location.VENUE_TWO, Location.VENUE_THREE, baseTime.plusHours(4), baseTime.plusHours(5)));
+    }
+
+    @Test
+    @DisplayName("구간이 이어지지 않으면 락 / DB 접근 전에 ITINERARY_NOT_CONTINUOUS")
+    void rejectsDiscontinuousLegs() {
+        assertItineraryRejected(itinerary(
+                        leg(Location.AIRPORT, Location.HOTEL, baseTime, baseTime.plusMinutes(90)),
+                        leg(Location.VENUE_ONE, Location.VENUE_TWO, baseTime.plusHours(2), baseTime.plusMinutes(150))),
+                RejectReason.ITINERARY_NOT_CONTINUOUS);
+
+        assertItineraryRejected(itinerary(
+                        leg(Location.AIRPORT, Location.HOTEL, baseTime, baseTime.plusMinutes(90)),
+                        leg(Location.HOTEL, Location.VENUE_ONE, baseTime.plusMinutes(60), baseTime.plusHours(2))),
+                RejectReason.ITINERARY_NOT_CONTINUOUS);
+
+        assertThat(reservationRepository.count()).isZero();
+    }
+
+    @Test
+    @DisplayName("구간 사이 공백에 기존 예약이 있으면 전 구간 실패 (부분 저장 없음)")
+    void rollsBackAllLegsOnOverlap() {
+        // 같은 디스패처가 다른 차량으로 10:40~12:00 예약 → 일정 구간과는 겹치지 않지만 공백에 끼어 있음
+        Vehicle other = vehicleRepository.save(new Vehicle(Location.AIRPORT, VehicleStatus.IDLE));
+        reservationService.createReservation(new CreateReservationCommand(
+                operator.getId(), other.getId(), dispatcher.getId(),
+                Location.AIRPORT, Location.HOTEL, baseTime.plusMinutes(100), baseTime.plusMinutes(180)));
+
+        assertItineraryRejected(itinerary(
+                        leg(Location.AIRPORT, Location.HOTEL, baseTime, baseTime.plusMinutes(90)),
+                        leg(Location.HOTEL, Location.VENUE_ONE, baseTime.plusHours(4), baseTime.plusMinutes(270))),
+                RejectReason.DISPATCHER_OVERLAP);
+
+        assertThat(reservationRepository.count()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("구간 id 사이에 끼어든 단건 예약이 뒤 구간과 겹치면 일정이 실패한다")
+    void rejectsReservationInsertedBetweenLegs() {
+        // 다른 디스패처의 단건 예약이 1구간 INSERT 직후, 2구간 INSERT 직전에 들어온 상황
+        // 단건 예약은 자기보다 앞선 1구간만 보므로(겹치지 않음) 통과 → 일정 쪽 검증이 잡아야 한다
+        User other = userRepository.save(new User(UserRole.VOLUNTEER, "Dispatcher2"));
+        CreateReservationCommand single = new CreateReservationCommand(
+                operator.getId(), vehicle.getId(), other.getId(),
+                Location.HOTEL, Location.VENUE_ONE, baseTime.plusMinutes(130), baseTime.plusMinutes(160));
+        doAnswer(invocation -> {
+            List<CreateReservationCommand> legs = invocation.getArgument(0);
+            Long first = reservationStore.insert(legs.get(0));
+            reservationStore.insert(single);
+            Long second = reservationStore.insert(legs.get(1));
+            return List.of(first, second);
+        }).when(reservationStore).insertAll(anyList());
+
+        assertItineraryRejected(itinerary(
+                        leg(Location.AIRPORT, Location.HOTEL, baseTime, baseTime.plusMinutes(90)),
+                        leg(Location.HOTEL, Location.VENUE_ONE, baseTime.plusHours(2), baseTime.plusMinutes(150))),
+                RejectReason.VEHICLE_OVERLAP);
+
+        // 전 구간 삭제, 끼어든 단건 예약만 남음
+        assertThat(reservationRepository.count()).isEqualTo(1);
+        assertThat(reservationRepository.findAll().get(0).getStartTime()).isEqualTo(single.startTime());
+    }
+
+    private void assertItineraryRejected(CreateItineraryCommand command, RejectReason expected) {
+        assertRejected(() -> reservationService.createItinerary(command), expected);
+    }
+
+    private CreateItineraryCommand itinerary(CreateItineraryCommand.Leg... legs) {
+        return new CreateItineraryCommand(operator.getId(), vehicle.getId(), dispatcher.getId(), List.of(legs));
+    }
+
+    private static CreateItineraryCommand.Leg leg(Location from, Location to, LocalDateTime start, LocalDateTime end) {
+        return new CreateItineraryCommand.Leg(from, to, start, end);
+    }
+}
@@ -0,0 +1,443 @@
+package com.resume.transportation.loadtest;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfSystemProperty;
+import org.testcontainers.containers.MySQLContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+import org.testcontainers.utility.DockerImageName;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.sql.*;
+import java.time.LocalDateTime;
+import java.util.*;
+
+/**
+ * reservation 저장 방식별 인덱스 크기 / overlap 쿼리 지연 비교 벤치마크
+ *
+ * - legacy   : VARCHAR enum + DATETIME (기존 매핑)
+ * - compact  : TINYINT 코드 + epoch-minute INT (Reservation 현재 매핑)
+ * - clustered: compact + 클러스터링 키 (vehicle_id, start_time, id) + 커버링 인덱스
+ *              (transportation.storage.layout=clustered-by-resource)
+ *
+ * 실행 (Docker 필요, 기본 빌드에서는 실행되지 않음):
+ *   ./gradlew test --tests "*StorageLayoutBenchmarkTest*" -Dbenchmark.rows=10000000 -Dtest.maxHeap=4g
+ *
+ * 결과는 콘솔과 build/reports/storage-layout-benchmark.md 에 기록된다.
+ */
+@Testcontainers
+@EnabledIfSystemProperty(named = "benchmark.rows", matches = "\\d+")
+class StorageLayoutBenchmarkTest {
+
+    @Container
+    static MySQLContainer<?> mysql = new MySQLContainer<>(DockerImageName.parse("mysql:8.0"))
+            .withDatabaseName("transportation")
+            .withUsername("test")
+            .withPassword("test")
+            .withCommand("--innodb_buffer_pool_size=1G");
+
+    private static final int ROWS_PER_VEHICLE = 1000;
+    private static final int QUERY_COUNT = 20_000;
+    private static final int BATCH_SIZE = 5_000;
+    private static final LocalDateTime BASE_TIME = LocalDateTime.of(2026, 9, 1, 0, 0);
+    private static final String[] LOCATIONS = {"AIRPORT", "VENUE_ONE", "VENUE_TWO", "VENUE_THREE", "HOTEL", "ETC"};
+
+    @Test
+    @DisplayName("저장 방식별 인덱스 크기 및 overlap / 마지막 위치 쿼리 지연 비교")
+    void compareStorageLayouts() throws Exception {
+        int rows = Integer.parseInt(System.getProperty("benchmark.rows"));
+        int vehicles = Math.max(1, rows / ROWS_PER_VEHICLE);
+
+        List<Variant> variants = List.of(legacyVariant(), compactVariant(), clusteredVariant());
+
+        StringBuilder report = new StringBuilder();
+        report.append("# Storage layout benchmark\n\n");
+        report.append(String.format("- rows: %,d (vehicles: %,d, dispatchers: %,d)%n", rows, vehicles, vehicles * 2));
+        report.append(String.format("- queries per variant and query type: %,d%n%n", QUERY_COUNT));
+
+        try (Connection connection = DriverManager.getConnection(
+                mysql.getJdbcUrl() + "?rewriteBatchedStatements=true&useServerPrepStmts=true&cachePrepStmts=true",
+                mysql.getUsername(), mysql.getPassword())) {
+
+            for (Variant variant : variants) {
+                long loadMillis = load(connection, variant, rows, vehicles);
+                execute(connection, "ANALYZE TABLE " + variant.table());
+
+                Map<String, Long> indexSizes = indexSizes(connection, variant.table());
+
+                report.append("## ").append(variant.name()).append("\n\n");
+                report.append(String.format("- load: %,d ms%n%n", loadMillis));
+                report.append("| query | p50 (µs) | p99 (µs) |\n|---|---:|---:|\n");
+                for (BenchmarkQuery query : variant.queries()) {
+                    LatencyResult latency = measureQuery(connection, query, rows, vehicles);
+                    report.append(String.format("| %s | %.1f | %.1f |%n",
+                            query.name(), latency.p50Micros(), latency.p99Micros()));
+                }
+                report.append("\n| index | size (KiB) |\n|---|---:|\n");
+                indexSizes.forEach((index, bytes) ->
+                        report.append(String.format("| %s | %,d |%n", index, bytes / 1024)));
+                report.append("\n");
+            }
+        }
+
+        System.out.println(report);
+        Path output = Path.of("build", "reports", "storage-layout-benchmark.md");
+        writeReport(output, report.toString());
+    }
+
+    // ============================================
+    // Variants
+    // ============================================
+
+    private Variant legacyVariant() {
+        return new Variant(
+                "legacy (VARCHAR + DATETIME)",
+                "reservation_legacy",
+                """
+                        create table reservation_legacy (
+                            id bigint not null auto_increment primary key,
+                            operator_id bigint not null,
+                            dispatcher_id bigint not null,
+                            vehicle_id bigint not null,
+                            from_location varchar(30) not null,
+                            to_location varchar(30) not null,
+                            status varchar(20) not null,
+                            start_time datetime(6) not null,
+                            end_time datetime(6) not null,
+                            version bigint,
+                            updated_at datetime(6) not null,
+                            index idx_reservation_vehicle_status (vehicle_id, status),
+                            index idx_reservation_from_to (from_location, to_location),
+                            index idx_reservation_vehicle_time (vehicle_id, status, start_time, end_time),
+                            index idx_reservation_dispatcher_time (dispatcher_id, status, start_time, end_time),
+                            index idx_reservation_vehicle_end (vehicle_id, end_time),
+                            index idx_reservation_dispatcher_end (dispatcher_id, end_time)
+                        )
+                        """,
+                (ps, row) -> {
+                    ps.setLong(1, 1L);
+                    ps.setLong(2, row.dispatcherId());
+                    ps.setLong(3, row.vehicleId());
+                    ps.setString(4, LOCATIONS[row.fromCode() - 1]);
+                    ps.setString(5, LOCATIONS[row.toCode() - 1]);
+                    ps.setString(6, row.statusCode() == 3 ? "DONE" : "CREATED");
+                    ps.setTimestamp(7, Timestamp.valueOf(row.start()));
+                    ps.setTimestamp(8, Timestamp.valueOf(row.end()));
+                },
+                legacyQueries("reservation_legacy")
+        );
+    }
+
+    private Variant compactVariant() {
+        return new Variant(
+                "compact (TINYINT + epoch-minute INT)",
+                "reservation_compact",
+                """
+                        create table reservation_compact (
+                            id bigint not null auto_increment primary key,
+                            operator_id bigint not null,
+                            dispatcher_id bigint not null,
+                            vehicle_id bigint not null,
+                            from_location tinyint not null,
+                            to_location tinyint not null,
+                            status tinyint not null,
+                            start_time int not null,
+                            end_time int not null,
+                            version bigint,
+                            updated_at datetime(6) not null,
+                            index idx_reservation_vehicle_status (vehicle_id, status),
+                            index idx_reservation_from_to (from_location, to_location),
+                            index idx_reservation_vehicle_time (vehicle_id, status, start_time, end_time),
+                            index idx_reservation_dispatcher_time (dispatcher_id, status, start_time, end_time),
+                            index idx_reservation_vehicle_end (vehicle_id, end_time),
+                            index idx_reservation_dispatcher_end (dispatcher_id, end_time)
+                        )
+                        """,
+                compactRowBinder(),
+                compactQueries("reservation_compact")
+        );
+    }
+
+    /**
+     * db/layout/reservation_clustered_by_resource.sql 적용 결과와 동일한 구조
+     */
+    private Variant clusteredVariant() {
+        return new Variant(
+                "clustered (vehicle_id, start_time, id) + covering",
+                "reservation_clustered",
+                """
+                        create table reservation_clustered (
+                            id bigint not null auto_increment,
+                            operator_id bigint not null,
+                            dispatcher_id bigint not null,
+                            vehicle_id bigint not null,
+                            from_location tinyint not null,
+                            to_location tinyint not null,
+                            status tinyint not null,
+                            start_time int not null,
+                            end_time int not null,
+                            version bigint,
+                            updated_at datetime(6) not null,
+                            primary key (vehicle_id, start_time, id),
+                            unique key uk_reservation_id (id),
+                            index idx_reservation_vehicle_status (vehicle_id, status),
+                            index idx_reservation_from_to (from_location, to_location),
+                            index idx_reservation_vehicle_time (vehicle_id, status, start_time, end_time),
+                            index idx_reservation_dispatcher_time (dispatcher_id, status, start_time, end_time),
+                            index idx_reservation_vehicle_end (vehicle_id, end_time, to_location),
+                            index idx_reservation_dispatcher_end (dispatcher_id, end_time, to_location)
+                        )
+                        """,
+                compactRowBinder(),
+                compactQueries("reservation_clustered")
+        );
+    }
+
+    private RowBinder compactRowBinder() {
+        return (ps, row) -> {
+            ps.setLong(1, 1L);
+            ps.setLong(2, row.dispatcherId());
+            ps.setLong(3, row.vehicleId());
+            ps.setByte(4, (byte) row.fromCode());
+            ps.setByte(5, (byte) row.toCode());
+            ps.setByte(6, (byte) row.statusCode());
+            ps.setInt(7, epochMinute(row.start()));
+            ps.setInt(8, epochMinute(row.end()));
+        };
+    }
+
+    // ============================================
+    // Queries (ReservationRepository 쿼리와 동일한 조건)
+    // ============================================
+
+    private List<BenchmarkQuery> legacyQueries(String table) {
+        return List.of(
+                new BenchmarkQuery("vehicle overlap", false, """
+                        select exists (
+                            select 1 from %s r
+                            where r.vehicle_id = ? and r.id < ?
+                              and r.status in ('CREATED', 'IN_PROGRESS')
+                              and r.start_time < ? and r.end_time > ?
+                        )
+                        """.formatted(table), this::bindLegacyOverlap),
+                new BenchmarkQuery("dispatcher overlap", true, """
+                        select exists (
+                            select 1 from %s r
+                            where r.dispatcher_id = ? and r.id < ?
+                              and r.status in ('CREATED', 'IN_PROGRESS')
+                              and r.start_time < ? and r.end_time > ?
+                        )
+                        """.formatted(table), this::bindLegacyOverlap),
+                new BenchmarkQuery("vehicle last location", false, """
+                        select r.to_location from %s r
+                        where r.vehicle_id = ? and r.end_time <= ?
+                        order by r.end_time desc limit 1
+                        """.formatted(table), (ps, start, end) -> ps.setTimestamp(2, Timestamp.valueOf(start))),
+                new BenchmarkQuery("dispatcher last location", true, """
+                        select r.to_location from %s r
+                        where r.dispatcher_id = ? and r.end_time <= ?
+                        order by r.end_time desc limit 1
+                        """.formatted(table), (ps, start, end) -> ps.setTimestamp(2, Timestamp.valueOf(start)))
+        );
+    }
+
+    private List<BenchmarkQuery> compactQueries(String table) {
+        return List.of(
+                new BenchmarkQuery("vehicle overlap", false, """
+                        select exists (
+                            select 1 from %s r
+                            where r.vehicle_id = ? and r.id < ?
+                              and r.status in (1, 2)
+                              and r.start_time < ? and r.end_time > ?
+                        )
+                        """.formatted(table), this::bindCompactOverlap),
+                new BenchmarkQuery("dispatcher overlap", true, """
+                        select exists (
+                            select 1 from %s r
+                            where r.dispatcher_id = ? and r.id < ?
+                              and r.status in (1, 2)
+                              and r.start_time < ? and r.end_time > ?
+                        )
+                        """.formatted(table), this::bindCompactOverlap),
+                new BenchmarkQuery("vehicle last location", false, """
+                        select r.to_location from %s r
+                        where r.vehicle_id = ? and r.end_time <= ?
+                        order by r.end_time desc limit 1
+                        """.formatted(table), (ps, start, end) -> ps.setInt(2, epochMinute(start))),
+                new BenchmarkQuery("dispatcher last location", true, """
+                        select r.to_location from %s r
+                        where r.dispatcher_id = ? and r.end_time <= ?
+                        order by r.end_time desc limit 1
+                        """.formatted(table), (ps, start, end) -> ps.setInt(2, epochMinute(start)))
+        );
+    }
+
+    private void bindLegacyOverlap(PreparedStatement ps, LocalDateTime start, LocalDateTime end) throws SQLException {
+        ps.setLong(2, Long.MAX_VALUE);
+        ps.setTimestamp(3, Timestamp.valueOf(end));
+        ps.setTimestamp(4, Timestamp.valueOf(start));
+    }
+
+    private void bindCompactOverlap(PreparedStatement ps, LocalDateTime start, LocalDateTime end) throws SQLException {
+        ps.setLong(2, Long.MAX_VALUE);
+        ps.setInt(3, epochMinute(end));
+        ps.setInt(4, epochMinute(start));
+    }
+
+    // ============================================
+    // Helper Methods
+    // ============================================
+
+    /**
+     * 차량별 90분 간격 예약을 id 순서로 섞어서(차량 순환) 적재 - 실제 INSERT 순서와 동일한 분포
+     */
+    private long load(Connection connection, Variant variant, int rows, int vehicles) throws SQLException {
+        execute(connection, "drop table if exists " + variant.table());
+        execute(connection, variant.ddl());
+
+        String insertSql = "insert into " + variant.table()
+                + " (operator_id, dispatcher_id, vehicle_id, from_location, to_location, status,"
+                + " start_time, end_time, version, updated_at) values (?, ?, ?, ?, ?, ?, ?, ?, 0, now(6))";
+
+        long started = System.currentTimeMillis();
+        connection.setAutoCommit(false);
+        try (PreparedStatement ps = connection.prepareStatement(insertSql)) {
+            for (int i = 0; i < rows; i++) {
+                variant.rowBinder().bind(ps, row(i, vehicles));
+                ps.addBatch();
+                if ((i + 1) % BATCH_SIZE == 0) {
+                    ps.executeBatch();
+                    connection.commit();
+                }
+            }
+            ps.executeBatch();
+            connection.commit();
+        } finally {
+            connection.setAutoCommit(true);
+        }
+        return System.currentTimeMillis() - started;
+    }
+
+    /**
+     * 리소스/시간을 무작위로 골라 쿼리 지연 측정 (동일 seed → 변형 간 동일한 입력)
+     */
+    private LatencyResult measureQuery(Connection connection, BenchmarkQuery query, int rows, int vehicles)
+            throws SQLException {
+        Random random = new Random(42);
+        long[] nanos = new long[QUERY_COUNT];
+        int slotsPerVehicle = Math.max(1, rows / vehicles);
+        int resourceCount = query.dispatcher() ? vehicles * 2 : vehicles;
+
+        try (PreparedStatement ps = connection.prepareStatement(query.sql())) {
+            for (int i = 0; i < QUERY_COUNT; i++) {
+                long resourceId = 1 + random.nextInt(resourceCount);
+                LocalDateTime start = BASE_TIME.plusMinutes(90L * random.nextInt(slotsPerVehicle) + 30);
+
+                ps.setLong(1, resourceId);
+                query.binder().bind(ps, start, start.plusMinutes(60));
+
+                long begin = System.nanoTime();
+                try (ResultSet rs = ps.executeQuery()) {
+                    rs.next();
+                }
+                nanos[i] = System.nanoTime() - begin;
+            }
+        }
+
+        Arrays.sort(nanos);
+        return new LatencyResult(
+                nanos[QUERY_COUNT / 2] / 1_000.0,
+                nanos[(int) (QUERY_COUNT * 0.99)] / 1_000.0
+        );
+    }
+
+    private Map<String, Long> indexSizes(Connection connection, String table) throws SQLException {
+        Map<String, Long> sizes = new LinkedHashMap<>();
+        String sql = """
+                select index_name, stat_value * @@innodb_page_size
+                from mysql.innodb_index_stats
+                where database_name = ? and table_name = ? and stat_name = 'size'
+                order by index_name
+                """;
+        try (PreparedStatement ps = connection.prepareStatement(sql)) {
+            ps.setString(1, connection.getCatalog());
+            ps.setString(2, table);
+            try (ResultSet rs = ps.executeQuery()) {
+                while (rs.next()) {
+                    sizes.put(rs.getString(1), rs.getLong(2));
+                }
+            }
+        }
+        return sizes;
+    }
+
+    private BenchmarkRow row(int index, int vehicles) {
+        int vehicleIndex = index % vehicles;
+        int sequence = index / vehicles;
+        LocalDateTime start = BASE_TIME.plusMinutes(90L * sequence);
+        int from = 1 + (sequence % LOCATIONS.length);
+        int to = 1 + ((sequence + 1) % LOCATIONS.length);
+        int status = sequence % 5 == 0 ? 1 : 3;  // 20% 활성, 80% 완료
+        return new BenchmarkRow(
+                vehicleIndex + 1L,
+                (index % (vehicles * 2)) + 1L,
+                from, to, status,
+                start, start.plusMinutes(60)
+        );
+    }
+
+    private static int epochMinute(LocalDateTime time) {
+        return Math.toIntExact(time.toEpochSecond(java.time.ZoneOffset.UTC) / 60);
+    }
+
+    private void execute(Connection connection, String sql) throws SQLException {
+        try (Statement statement = connection.createStatement()) {
+            statement.execute(sql);
+        }
+    }
+
+    private void writeReport(Path output, String report) throws IOException {
+        Files.createDirectories(output.getParent());
+        Files.writeString(output, report);
+    }
+
+    @FunctionalInterface
+    interface RowBinder {
+        void bind(PreparedStatement ps, BenchmarkRow row) throws SQLException;
+    }
+
+    @FunctionalInterface
+    interface QueryBinder {
+        void bind(PreparedStatement ps, LocalDateTime start, LocalDateTime end) throws SQLException;
+    }
+
+    record Variant(
+            String name,
+            String table,
+            String ddl,
+            RowBinder rowBinder,
+            List<BenchmarkQuery> queries
+    ) {}
+
+    record BenchmarkQuery(
+            String name,
+            boolean dispatcher,
+            String sql,
+            QueryBinder binder
+    ) {}
+
+    record BenchmarkRow(
+            long vehicleId,
+            long dispatcherId,
+            int fromCode,
+            int toCode,
+            int statusCode,
+            LocalDateTime start,
+            LocalDateTime end
+    ) {}
+
+    record LatencyResult(double p50Micros, double p99Micros) {}
+}
@@ -0,0 +1,219 @@
+package com.resume.transportation.planning;
+
+import com.resume.transportation.entity.Reservation;
+import com.resume.transportation.entity.User;
+import com.resume.transportation.entity.Vehicle;
+import com.resume.transportation.enums.Location;
+import com.resume.transportation.enums.UserRole;
+import com.resume.transportation.enums.VehicleStatus;
+import com.resume.transportation.ratelimit.EmbeddedRedisConfig;
+import com.resume.transportation.repository.RecurringScheduleRepository;
+import com.resume.transportation.repository.ReservationRepository;
+import com.resume.transportation.repository.UserRepository;
+import com.resume.transportation.repository.VehicleRepository;
+import com.resume.transportation.service.availability.ScheduleIndex;
+import com.resume.transportation.service.command.CreateRecurringScheduleCommand;
+import com.resume.transportation.service.command.CreateReservationCommand;
+import com.resume.transportation.service.exception.RejectReason;
+import com.resume.transportation.service.hold.Hold;
+import com.resume.transportation.service.hold.HoldService;
+import com.resume.transportation.service.planning.BulkPlanCommand;
+import com.resume.transportation.service.planning.BulkPlanResult;
+import com.resume.transportation.service.planning.BulkPlanner;
+import com.resume.transportation.service.planning.PlannedTrip;
+import com.resume.transportation.service.recurring.RecurringScheduleService;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.context.annotation.Import;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 배치 배정 테스트
+ */
+@SpringBootTest
+@Import(EmbeddedRedisConfig.class)
+class BulkPlannerTest {
+
+    @Autowired
+    private BulkPlanner bulkPlanner;
+
+    @Autowired
+    private ScheduleIndex scheduleIndex;
+
+    @Autowired
+    private RecurringScheduleService recurringScheduleService;
+
+    @Autowired
+    private HoldService holdService;
+
+    @Autowired
+    private RecurringScheduleRepository recurringScheduleRepository;
+
+    @Autowired
+    private ReservationRepository reservationRepository;
+
+    @Autowired
+    private VehicleRepository vehicleRepository;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    private User operator;
+    private LocalDateTime baseTime;
+
+    @BeforeEach
+    void setUp() {
+        reservationRepository.deleteAll();
+        recurringScheduleRepository.deleteAll();
+        vehicleRepository.deleteAll();
+        userRepository.deleteAll();
+
+        operator = userRepository.save(new User(UserRole.OPERATOR, "Operator1"));
+        baseTime = LocalDateTime.now().plusDays(1).withHour(9).withMinute(0).withSecond(0).withNano(0);
+    }
+
+    @Test
+    @DisplayName("리소스 수만큼 배정, 초과분은 NO_AVAILABLE_RESOURCE, 도착지에서 이어지는 운행은 재사용")
+    void plansTrips() {
+        createResources(2);
+
+        BulkPlanResult result = bulkPlanner.plan(new BulkPlanCommand(operator.getId(), sampleTrips(), false));
+
+        Map<String, RejectReason> unassigned = result.unassigned().stream()
+                .collect(Collectors.toMap(BulkPlanResult.Unassigned::ref, BulkPlanResult.Unassigned::reason));
+        assertThat(result.assigned()).extracting(BulkPlanResult.Assignment::ref)
+                .containsExactlyInAnyOrder("a", "b", "chained");
+        assertThat(unassigned).containsEntry("overflow", RejectReason.NO_AVAILABLE_RESOURCE)
+                .containsEntry("too-short", RejectReason.TRAVEL_TIME_TOO_SHORT);
+
+        // 같은 시간대 두 운행은 서로 다른 차량 / 디스패처
+        assertThat(result.assigned().stream()
+                .filter(a -> !a.ref().equals("chained"))
+                .map(BulkPlanResult.Assignment::vehicleId)
+                .distinct()).hasSize(2);
+
+        // dry-run은 저장하지 않음
+        assertThat(result.committed()).isFalse();
+        assertThat(reservationRepository.count()).isZero();
+    }
+
+    @Test
+    @DisplayName("commit=true면 배정 결과를 저장하고 가용성 인덱스에 반영")
+    void commitsPlan() {
+        createResources(2);
+
+        BulkPlanResult result = bulkPlanner.plan(new BulkPlanCommand(operator.getId(), sampleTrips(), true));
+
+        assertThat(result.committed()).isTrue();
+        assertThat(result.assigned()).allSatisfy(a -> assertThat(a.reservationId()).isNotNull());
+
+        List<Reservation> reservations = reservationRepository.findAll();
+        assertThat(reservations).hasSize(result.assigned().size());
+
+        // 9~11시 AIRPORT 출발 가능한 리소스가 더 이상 없음
+        assertThat(scheduleIndex.findAvailable(Location.AIRPORT, baseTime, baseTime.plusHours(2), 10)
+                .vehicleIds()).isEmpty();
+    }
+
+    @Test
+    @DisplayName("아직 행으로 만들어지지 않은 반복 일정 회차와 겹치는 운행은 커밋 후 검증에서 삭제")
+    void dropsTripOverlappingRecurringOccurrence() {
+        createResources(1);
+        Vehicle vehicle = vehicleRepository.findAll().get(0);
+        User dispatcher = userRepository.findAll().stream()
+                .filter(u -> u.getRole() == UserRole.VOLUNTEER)
+                .findFirst().orElseThrow();
+
+        // 내일 10:00 / 11:00 AIRPORT 순환 회차 (기본 horizon 2h 밖 → 예약 행 없음, ScheduleIndex에도 없음)
+        recurringScheduleService.create(new CreateRecurringScheduleCommand(
+                operator.getId(), vehicle.getId(), dispatcher.getId(),
+                Location.AIRPORT, Location.AIRPORT,
+                baseTime.plusHours(1), baseTime.plusHours(2), 60, 30));
+        assertThat(reservationRepository.count()).isZero();
+
+        BulkPlanResult result = bulkPlanner.plan(new BulkPlanCommand(operator.getId(), List.of(
+                new PlannedTrip("over-shuttle", Location.AIRPORT, Location.HOTEL, baseTime, baseTime.plusHours(2))),
+                true));
+
+        assertThat(result.assigned()).isEmpty();
+        assertThat(result.unassigned()).extracting(BulkPlanResult.Unassigned::reason)
+                .containsExactly(RejectReason.VEHICLE_OVERLAP);
+        assertThat(reservationRepository.count()).isZero();
+    }
+
+    @Test
+    @DisplayName("홀드와 겹치는 운행은 커밋 후 검증에서 삭제되고, 홀드는 그대로 확정된다")
+    void doesNotOverrideHold() {
+        createResources(1);
+        Vehicle vehicle = vehicleRepository.findAll().get(0);
+        User dispatcher = userRepository.findAll().stream()
+                .filter(u -> u.getRole() == UserRole.VOLUNTEER)
+                .findFirst().orElseThrow();
+
+        // 홀드는 DB 행이 없으므로 ScheduleIndex 기준으로는 비어 있어 계획에는 배정된다
+        Hold hold = holdService.hold(new CreateReservationCommand(operator.getId(), vehicle.getId(),
+                dispatcher.getId(), Location.AIRPORT, Location.HOTEL, baseTime.plusHours(1), baseTime.plusHours(3)));
+
+        BulkPlanResult result = bulkPlanner.plan(new BulkPlanCommand(operator.getId(), List.of(
+                new PlannedTrip("over-hold", Location.AIRPORT, Location.HOTEL, baseTime, baseTime.plusHours(2))),
+                true));
+
+        assertThat(result.assigned()).isEmpty();
+        assertThat(result.unassigned()).extracting(BulkPlanResult.Unassigned::reason)
+                .containsExactly(RejectReason.VEHICLE_OVERLAP);
+        assertThat(reservationRepository.count()).isZero();
+
+        holdService.confirm(hold.holdId());
+        assertThat(reservationRepository.count()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("대량 운행 계획 (dry-run)")
+    void plansLargeBatch() {
+        createResources(50);
+
+        List<PlannedTrip> trips = new ArrayList<>();
+        for (int i = 0; i < 20_000; i++) {
+            LocalDateTime start = baseTime.plusMinutes(i % 600);
+            trips.add(new PlannedTrip("trip-" + i, Location.AIRPORT, Location.HOTEL, start, start.plusHours(2)));
+        }
+
+        BulkPlanResult result = bulkPlanner.plan(new BulkPlanCommand(operator.getId(), trips, false));
+
+        System.out.printf("대량 계획: 배정 %d, 미배정 %d, %dms%n",
+                result.assigned().size(), result.unassigned().size(), result.planMillis());
+        assertThat(result.assigned()).hasSize(50);
+        assertThat(result.assigned().size() + result.unassigned().size()).isEqualTo(trips.size());
+    }
+
+    private void createResources(int count) {
+        for (int i = 0; i < count; i++) {
+            vehicleRepository.save(new Vehicle(Location.AIRPORT, VehicleStatus.IDLE));
+            userRepository.save(new User(UserRole.VOLUNTEER, "Dispatcher" + i));
+        }
+        scheduleIndex.rebuild();
+    }
+
+    private List<PlannedTrip> sampleTrips() {
+        return List.of(
+                new PlannedTrip("a", Location.AIRPORT, Location.HOTEL, baseTime, baseTime.plusHours(2)),
+                new PlannedTrip("b", Location.AIRPORT, Location.HOTEL, baseTime, baseTime.plusHours(2)),
+                new PlannedTrip("overflow", Location.AIRPORT, Location.HOTEL,
+                        baseTime.plusMinutes(30), baseTime.plusHours(2)),
+                new PlannedTrip("chained", Location.HOTEL, Location.VENUE_ONE,
+                        baseTime.plusHours(3), baseTime.plusHours(4)),
+                new PlannedTrip("too-short", Location.AIRPORT, Location.HOTEL,
+                        baseTime, baseTime.plusMinutes(10))
+        );
+    }
+}
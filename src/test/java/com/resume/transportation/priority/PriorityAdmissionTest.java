@@ -0,0 +1,201 @@
+package com.resume.transportation.priority;
+
+import com.resume.transportation.entity.User;
+import com.resume.transportation.entity.Vehicle;
+import com.resume.transportation.enums.Location;
+import com.resume.transportation.enums.ReservationPriority;
+import com.resume.transportation.enums.UserRole;
+import com.resume.transportation.enums.VehicleStatus;
+import com.resume.transportation.ratelimit.EmbeddedRedisConfig;
+import com.resume.transportation.repository.ReservationRepository;
+import com.resume.transportation.repository.UserRepository;
+import com.resume.transportation.repository.VehicleRepository;
+import com.resume.transportation.service.ReservationService;
+import com.resume.transportation.service.command.CreateItineraryCommand;
+import com.resume.transportation.service.command.CreateReservationCommand;
+import com.resume.transportation.service.exception.RejectReason;
+import com.resume.transportation.service.exception.ReservationRejectedException;
+import com.resume.transportation.service.ratelimit.PriorityAdmission;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.context.annotation.Import;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * 우선순위별 예약 수용 테스트
+ *
+ * - STANDARD 몫이 찬 상태에서도 VIP는 남겨 둔 여유분으로 바로 예약
+ * - STANDARD는 max-wait까지 기다린 뒤 PRIORITY_SHED (등급별 거절 메트릭 집계)
+ * - 빈자리가 나면 기다리던 요청이 들어간다 (높은 등급이 들어간 뒤 남은 자리는 낮은 등급에게 이어진다)
+ * - 다구간 일정 예약도 같은 한도 / 등급을 따른다
+ */
+@SpringBootTest
+@Import(EmbeddedRedisConfig.class)
+class PriorityAdmissionTest {
+
+    /**
+     * 기본 설정의 STANDARD 몫 (max-in-flight 32 × standard-share 0.6, 올림)
+     */
+    private static final int STANDARD_LIMIT = 20;
+
+    /**
+     * 기본 설정의 max-in-flight (VIP 몫)
+     */
+    private static final int MAX_IN_FLIGHT = 32;
+
+    @Autowired
+    private ReservationService reservationService;
+
+    @Autowired
+    private PriorityAdmission priorityAdmission;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    @Autowired
+    private ReservationRepository reservationRepository;
+
+    @Autowired
+    private VehicleRepository vehicleRepository;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    private User operator;
+    private LocalDateTime baseTime;
+
+    @BeforeEach
+    void setUp() {
+        reservationRepository.deleteAll();
+        vehicleRepository.deleteAll();
+        userRepository.deleteAll();
+
+        operator = userRepository.save(new User(UserRole.OPERATOR, "Operator1"));
+        baseTime = LocalDateTime.now().plusDays(1).withHour(9).withMinute(0).withSecond(0).withNano(0);
+    }
+
+    @Test
+    @DisplayName("STANDARD 몫이 차면 VIP는 바로 예약되고 STANDARD는 PRIORITY_SHED")
+    void higherClassUsesReservedHeadroom() {
+        double shedBefore = rejected("standard", "BUSY");
+
+        occupy(ReservationPriority.STANDARD, STANDARD_LIMIT);
+        try {
+            reservationService.createReservation(command(ReservationPriority.VIP));
+            assertThat(reservationRepository.count()).isEqualTo(1);
+
+            assertThatThrownBy(() -> reservationService.createReservation(command(ReservationPriority.STANDARD)))
+                    .isInstanceOf(ReservationRejectedException.class)
+                    .satisfies(e -> assertThat(((ReservationRejectedException) e).getReason())
+                            .isEqualTo(RejectReason.PRIORITY_SHED));
+        } finally {
+            release(STANDARD_LIMIT);
+        }
+
+        assertThat(reservationRepository.count()).isEqualTo(1);
+        assertThat(rejected("standard", "BUSY") - shedBefore).isEqualTo(1.0);
+        assertThat(meterRegistry.get("reservation.priority.latency").tag("priority", "vip").timer().count())
+                .isPositive();
+    }
+
+    @Test
+    @DisplayName("몫이 찬 등급은 빈자리가 나면 이어서 들어간다")
+    void waiterIsAdmittedOnRelease() throws Exception {
+        occupy(ReservationPriority.STANDARD, STANDARD_LIMIT);
+        CompletableFuture<Void> waiter;
+        try {
+            waiter = CompletableFuture.runAsync(() -> priorityAdmission.admit(ReservationPriority.STANDARD));
+            Thread.sleep(200);
+            assertThat(waiter).isNotDone();
+        } finally {
+            release(STANDARD_LIMIT);
+        }
+
+        waiter.get(1, TimeUnit.SECONDS);
+        priorityAdmission.release();
+        assertThat(priorityAdmission.getInFlight()).isZero();
+    }
+
+    @Test
+    @DisplayName("높은 등급 대기자가 들어간 뒤 자리가 남으면 막혀 있던 낮은 등급도 바로 깨어난다")
+    void lowerWaiterIsWokenAfterHigherAdmission() throws Exception {
+        occupy(ReservationPriority.VIP, MAX_IN_FLIGHT);
+        CompletableFuture<Void> standard = CompletableFuture.runAsync(
+                () -> priorityAdmission.admit(ReservationPriority.STANDARD));
+        Thread.sleep(100);
+        CompletableFuture<Void> vip = CompletableFuture.runAsync(
+                () -> priorityAdmission.admit(ReservationPriority.VIP));
+        Thread.sleep(100);
+
+        // 빈자리 14개 → VIP가 들어가도 STANDARD 몫(20)에 자리가 남는다
+        release(MAX_IN_FLIGHT - STANDARD_LIMIT + 2);
+
+        vip.get(1, TimeUnit.SECONDS);
+        standard.get(1, TimeUnit.SECONDS);  // max-wait(2s)보다 먼저 진입
+
+        release(STANDARD_LIMIT);
+        assertThat(priorityAdmission.getInFlight()).isZero();
+    }
+
+    @Test
+    @DisplayName("다구간 일정도 등급 몫을 따른다 - STANDARD는 PRIORITY_SHED, VIP는 바로 예약")
+    void itineraryIsAdmittedByPriority() {
+        occupy(ReservationPriority.STANDARD, STANDARD_LIMIT);
+        try {
+            assertThatThrownBy(() -> reservationService.createItinerary(itinerary(ReservationPriority.STANDARD)))
+                    .isInstanceOf(ReservationRejectedException.class)
+                    .satisfies(e -> assertThat(((ReservationRejectedException) e).getReason())
+                            .isEqualTo(RejectReason.PRIORITY_SHED));
+
+            assertThat(reservationService.createItinerary(itinerary(ReservationPriority.VIP))).hasSize(2);
+        } finally {
+            release(STANDARD_LIMIT);
+        }
+
+        assertThat(reservationRepository.count()).isEqualTo(2);
+        assertThat(priorityAdmission.getInFlight()).isZero();
+    }
+
+    private CreateReservationCommand command(ReservationPriority priority) {
+        Vehicle vehicle = vehicleRepository.save(new Vehicle(Location.AIRPORT, VehicleStatus.IDLE));
+        User dispatcher = userRepository.save(new User(UserRole.VOLUNTEER, "Dispatcher-" + priority));
+        return new CreateReservationCommand(operator.getId(), vehicle.getId(), dispatcher.getId(),
+                Location.AIRPORT, Location.HOTEL, baseTime, baseTime.plusHours(2), priority);
+    }
+
+    private CreateItineraryCommand itinerary(ReservationPriority priority) {
+        CreateReservationCommand first = command(priority);
+        return new CreateItineraryCommand(first.operatorId(), first.vehicleId(), first.dispatcherId(), List.of(
+                new CreateItineraryCommand.Leg(Location.AIRPORT, Location.HOTEL, baseTime, baseTime.plusHours(2)),
+                new CreateItineraryCommand.Leg(Location.HOTEL, Location.VENUE_ONE, baseTime.plusHours(3), baseTime.plusHours(5))),
+                priority);
+    }
+
+    private void occupy(ReservationPriority priority, int count) {
+        for (int i = 0; i < count; i++) {
+            priorityAdmission.admit(priority);
+        }
+    }
+
+    private void release(int count) {
+        for (int i = 0; i < count; i++) {
+            priorityAdmission.release();
+        }
+    }
+
+    private double rejected(String priority, String category) {
+        return meterRegistry.counter("reservation.priority.rejected",
+                "priority", priority, "category", category).count();
+    }
+}
@@ -2,29 +2,44 @@ package com.resume.transportation.ratelimit;
 
 import com.resume.transportation.service.ratelimit.CircuitBreaker;
 import com.resume.transportation.service.ratelimit.DistributedRateLimiter;
+import com.resume.transportation.service.ratelimit.LockTarget;
 import com.resume.transportation.service.ratelimit.RateLimitExceededException;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.redisson.api.RedissonClient;
+import org.redisson.client.codec.StringCodec;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.context.SpringBootTest;
 import org.springframework.context.annotation.Import;
 
 import java.time.LocalDateTime;
+import java.util.List;
 import java.util.concurrent.CountDownLatch;
 import java.util.concurrent.ExecutorService;
 import java.util.concurrent.Executors;
 import java.util.concurrent.atomic.AtomicInteger;
-import java.util.concurrent.atomic.AtomicReference;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
 
-@SpringBootTest
+/**
+ * Redis 슬롯 점유 테스트 (Lua tryAcquireAll)
+ *
+ * lease 1.5초 → 보유 중에는 0.5초마다 연장된다.
+ */
+@SpringBootTest(properties = "transportation.distributed-lock.slot-lease=1500ms")
 @Import(EmbeddedRedisConfig.class)
 class DistributedRateLimiterTest {
 
+    private static final LocalDateTime START = LocalDateTime.of(2024, 1, 15, 10, 0);
+    private static final LocalDateTime END = LocalDateTime.of(2024, 1, 15, 11, 0);
+
+    /**
+     * VEHICLE 1의 2024-01-15 10시 슬롯 (DistributedRateLimiter 키 형식)
+     */
+    private static final String VEHICLE_1_SLOT = "reservation:slots:VEHICLE:1:2024-01-15:SLOT:10";
+
     @Autowired
     private DistributedRateLimiter rateLimiter;
 
@@ -39,110 +54,121 @@ class DistributedRateLimiterTest {
     }
 
     @Test
-    @DisplayName("첫 번째 요청은 분산 락을 획득할 수 있다")
-    void firstRequestShouldAcquireLock() {
-        // given
-        Long vehicleId = 1L;
-        LocalDateTime start = LocalDateTime.of(2024, 1, 15, 10, 0);
-        LocalDateTime end = LocalDateTime.of(2024, 1, 15, 11, 0);
-
-        // when
-        DistributedRateLimiter.LockContext context = rateLimiter.tryAcquireForVehicle(vehicleId, start, end);
-
-        // then
-        assertThat(context).isNotNull();
-        assertThat(context.isSkipped()).isFalse();
-        assertThat(context.locks()).isNotEmpty();
-
-        // cleanup
-        rateLimiter.release(context);
-    }
+    @DisplayName("첫 번째 요청은 슬롯을 점유하고, 같은 슬롯의 두 번째 요청은 실패한다")
+    void secondRequestOnSameSlotShouldFail() {
+        DistributedRateLimiter.LockContext first = acquire(vehicle(1L));
 
-    @Test
-    @DisplayName("동일 리소스+시간대에 두 번째 요청은 실패한다")
-    void secondRequestOnSameSlotShouldFail() throws Exception {
-        // given
-        Long vehicleId = 1L;
-        LocalDateTime start = LocalDateTime.of(2024, 1, 15, 10, 0);
-        LocalDateTime end = LocalDateTime.of(2024, 1, 15, 11, 0);
-
-        // 첫 번째 요청 - 성공
-        DistributedRateLimiter.LockContext firstContext = rateLimiter.tryAcquireForVehicle(vehicleId, start, end);
-
-        // when & then - 다른 스레드에서 두 번째 요청은 실패
-        // (Redisson RLock은 재진입을 지원하므로 같은 스레드에서는 성공함)
-        AtomicReference<Exception> caught = new AtomicReference<>();
-        Thread otherThread = new Thread(() -> {
-            try {
-                rateLimiter.tryAcquireForVehicle(vehicleId, start, end);
-            } catch (RateLimitExceededException e) {
-                caught.set(e);
-            }
-        });
-        otherThread.start();
-        otherThread.join();
-
-        assertThat(caught.get())
+        assertThat(first.isSkipped()).isFalse();
+        assertThat(first.lease()).isNotNull();
+        assertThatThrownBy(() -> acquire(vehicle(1L)))
                 .isInstanceOf(RateLimitExceededException.class)
                 .hasMessageContaining("distributed");
 
-        // cleanup
-        rateLimiter.release(firstContext);
+        rateLimiter.release(first);
     }
 
     @Test
-    @DisplayName("락 해제 후 다시 획득 가능하다")
+    @DisplayName("해제하면 자기 토큰만 빠지고 다시 점유할 수 있다")
     void canAcquireAfterRelease() {
-        // given
-        Long vehicleId = 1L;
-        LocalDateTime start = LocalDateTime.of(2024, 1, 15, 10, 0);
-        LocalDateTime end = LocalDateTime.of(2024, 1, 15, 11, 0);
+        DistributedRateLimiter.LockContext first = acquire(shared(1L, 2));
+        DistributedRateLimiter.LockContext second = acquire(shared(1L, 2));
+
+        rateLimiter.release(first);
 
-        // 첫 번째 요청 후 해제
-        DistributedRateLimiter.LockContext firstContext = rateLimiter.tryAcquireForVehicle(vehicleId, start, end);
-        rateLimiter.release(firstContext);
+        // second는 그대로 남아 있으므로 빈자리는 1개
+        DistributedRateLimiter.LockContext third = acquire(shared(1L, 2));
+        assertThatThrownBy(() -> acquire(shared(1L, 2))).isInstanceOf(RateLimitExceededException.class);
 
-        // when - 다시 획득 시도
-        DistributedRateLimiter.LockContext secondContext = rateLimiter.tryAcquireForVehicle(vehicleId, start, end);
+        rateLimiter.release(second);
+        rateLimiter.release(third);
+        assertThat(redissonClient.getScoredSortedSet(VEHICLE_1_SLOT, StringCodec.INSTANCE).size()).isZero();
+    }
+
+    @Test
+    @DisplayName("여러 리소스는 전부 점유하거나 아무 것도 점유하지 않는다")
+    void allOrNothing() {
+        DistributedRateLimiter.LockContext held = acquire(dispatcher(10L));
 
-        // then - 성공
-        assertThat(secondContext).isNotNull();
-        assertThat(secondContext.locks()).isNotEmpty();
+        // VEHICLE 2는 비어 있지만 DISPATCHER 10이 차 있으므로 전체 실패
+        assertThatThrownBy(() -> acquire(vehicle(2L), dispatcher(10L)))
+                .isInstanceOf(RateLimitExceededException.class)
+                .hasMessageContaining("DISPATCHER 10");
+
+        // 실패한 요청이 VEHICLE 2 슬롯을 남기지 않았다
+        DistributedRateLimiter.LockContext other = acquire(vehicle(2L), dispatcher(11L));
 
-        // cleanup
-        rateLimiter.release(secondContext);
+        rateLimiter.release(held);
+        rateLimiter.release(other);
     }
 
     @Test
-    @DisplayName("다른 차량은 같은 시간대에 락 획득 가능하다")
-    void differentVehicleCanAcquireSameTimeSlot() {
-        // given
-        Long vehicleId1 = 1L;
-        Long vehicleId2 = 2L;
-        LocalDateTime start = LocalDateTime.of(2024, 1, 15, 10, 0);
-        LocalDateTime end = LocalDateTime.of(2024, 1, 15, 11, 0);
-
-        // when
-        DistributedRateLimiter.LockContext context1 = rateLimiter.tryAcquireForVehicle(vehicleId1, start, end);
-        DistributedRateLimiter.LockContext context2 = rateLimiter.tryAcquireForVehicle(vehicleId2, start, end);
-
-        // then - 둘 다 성공
-        assertThat(context1.locks()).isNotEmpty();
-        assertThat(context2.locks()).isNotEmpty();
-
-        // cleanup
-        rateLimiter.release(context1);
-        rateLimiter.release(context2);
+    @DisplayName("정원이 1보다 크면 정원만큼 함께 점유하고 그 다음은 실패한다")
+    void sharedCapacity() {
+        DistributedRateLimiter.LockContext first = acquire(shared(1L, 3));
+        DistributedRateLimiter.LockContext second = acquire(shared(1L, 3));
+        DistributedRateLimiter.LockContext third = acquire(shared(1L, 3));
+
+        assertThatThrownBy(() -> acquire(shared(1L, 3))).isInstanceOf(RateLimitExceededException.class);
+
+        // 전용(정원 1) 요청은 점유가 하나라도 있으면 실패
+        assertThatThrownBy(() -> acquire(vehicle(1L))).isInstanceOf(RateLimitExceededException.class);
+
+        rateLimiter.release(first);
+        rateLimiter.release(second);
+        rateLimiter.release(third);
+        rateLimiter.release(acquire(vehicle(1L)));
+    }
+
+    @Test
+    @DisplayName("연장되지 않는 점유(서버 장애)는 lease가 지나면 자동 반환된다")
+    void expiredLeaseIsReclaimed() throws InterruptedException {
+        // 다른 서버가 잡고 죽은 점유: 이미 만료된 것 1개 + 곧 만료될 것 1개
+        long now = System.currentTimeMillis();
+        redissonClient.getScoredSortedSet(VEHICLE_1_SLOT, StringCodec.INSTANCE).add(now - 1, "crashed-1");
+        redissonClient.getScoredSortedSet(VEHICLE_1_SLOT, StringCodec.INSTANCE).add(now + 500, "crashed-2");
+
+        assertThatThrownBy(() -> acquire(vehicle(1L))).isInstanceOf(RateLimitExceededException.class);
+
+        Thread.sleep(700);
+
+        DistributedRateLimiter.LockContext context = acquire(vehicle(1L));
+        assertThat(redissonClient.getScoredSortedSet(VEHICLE_1_SLOT, StringCodec.INSTANCE).size()).isEqualTo(1);
+        rateLimiter.release(context);
+    }
+
+    @Test
+    @DisplayName("보유 중인 점유는 lease보다 오래 걸려도 연장되어 유지된다")
+    void heldLeaseIsRenewed() throws InterruptedException {
+        DistributedRateLimiter.LockContext held = acquire(vehicle(1L), dispatcher(10L));
+
+        Thread.sleep(3000);
+
+        assertThatThrownBy(() -> acquire(vehicle(1L))).isInstanceOf(RateLimitExceededException.class);
+        assertThatThrownBy(() -> acquire(dispatcher(10L))).isInstanceOf(RateLimitExceededException.class);
+
+        rateLimiter.release(held);
+        rateLimiter.release(acquire(vehicle(1L), dispatcher(10L)));
+    }
+
+    @Test
+    @DisplayName("시간대가 겹치는 요청도 실패하고, 다른 차량은 같은 시간대에 점유할 수 있다")
+    void overlappingTimeSlotShouldFail() {
+        DistributedRateLimiter.LockContext first = acquire(vehicle(1L));
+
+        // 10시 슬롯과 겹침
+        assertThatThrownBy(() -> rateLimiter.tryAcquireAll(List.of(vehicle(1L)),
+                START.plusMinutes(30), END.plusMinutes(30)))
+                .isInstanceOf(RateLimitExceededException.class);
+
+        DistributedRateLimiter.LockContext other = acquire(vehicle(2L));
+
+        rateLimiter.release(first);
+        rateLimiter.release(other);
     }
 
     @Test
     @DisplayName("동시에 100개 요청 시 1개만 성공한다 (분산 환경 시뮬레이션)")
     void onlyOneSucceedsUnderConcurrency() throws InterruptedException {
-        // given
-        Long vehicleId = 1L;
-        LocalDateTime start = LocalDateTime.of(2024, 1, 15, 10, 0);
-        LocalDateTime end = LocalDateTime.of(2024, 1, 15, 11, 0);
-
         int threadCount = 100;
         ExecutorService executor = Executors.newFixedThreadPool(threadCount);
         CountDownLatch readyLatch = new CountDownLatch(threadCount);
@@ -152,15 +178,13 @@ class DistributedRateLimiterTest {
         AtomicInteger successCount = new AtomicInteger(0);
         AtomicInteger failCount = new AtomicInteger(0);
 
-        // when
         for (int i = 0; i < threadCount; i++) {
             executor.submit(() -> {
                 try {
                     readyLatch.countDown();
                     startLatch.await();  // 모든 스레드가 동시에 시작
 
-                    DistributedRateLimiter.LockContext context = 
-                            rateLimiter.tryAcquireForVehicle(vehicleId, start, end);
+                    DistributedRateLimiter.LockContext context = acquire(vehicle(1L));
                     successCount.incrementAndGet();
 
                     // 잠시 유지 후 해제
@@ -182,44 +206,11 @@ class DistributedRateLimiterTest {
         doneLatch.await();
         executor.shutdown();
 
-        // then
-        System.out.printf("Redisson 분산 락 테스트 - 성공: %d, 실패: %d%n", successCount.get(), failCount.get());
+        System.out.printf("Redis 슬롯 점유 테스트 - 성공: %d, 실패: %d%n", successCount.get(), failCount.get());
         assertThat(successCount.get()).isEqualTo(1);
         assertThat(failCount.get()).isEqualTo(threadCount - 1);
     }
 
-    @Test
-    @DisplayName("시간대가 겹치는 요청도 실패한다")
-    void overlappingTimeSlotShouldFail() throws Exception {
-        // given
-        Long vehicleId = 1L;
-        LocalDateTime start1 = LocalDateTime.of(2024, 1, 15, 10, 0);
-        LocalDateTime end1 = LocalDateTime.of(2024, 1, 15, 11, 0);
-
-        LocalDateTime start2 = LocalDateTime.of(2024, 1, 15, 10, 30);  // 10시 슬롯과 겹침
-        LocalDateTime end2 = LocalDateTime.of(2024, 1, 15, 11, 30);
-
-        // 첫 번째 요청 - 성공
-        DistributedRateLimiter.LockContext firstContext = rateLimiter.tryAcquireForVehicle(vehicleId, start1, end1);
-
-        // when & then - 다른 스레드에서 겹치는 두 번째 요청은 실패
-        AtomicReference<Exception> caught = new AtomicReference<>();
-        Thread otherThread = new Thread(() -> {
-            try {
-                rateLimiter.tryAcquireForVehicle(vehicleId, start2, end2);
-            } catch (RateLimitExceededException e) {
-                caught.set(e);
-            }
-        });
-        otherThread.start();
-        otherThread.join();
-
-        assertThat(caught.get()).isInstanceOf(RateLimitExceededException.class);
-
-        // cleanup
-        rateLimiter.release(firstContext);
-    }
-
     @Test
     @DisplayName("Circuit Breaker 초기 상태는 CLOSED이다")
     void circuitBreakerInitialStateIsClosed() {
@@ -238,4 +229,20 @@ class DistributedRateLimiterTest {
         // then - 여전히 CLOSED
         assertThat(rateLimiter.getCircuitState()).isEqualTo(CircuitBreaker.State.CLOSED);
     }
+
+    private DistributedRateLimiter.LockContext acquire(LockTarget... targets) {
+        return rateLimiter.tryAcquireAll(List.of(targets).stream().sorted().toList(), START, END);
+    }
+
+    private static LockTarget vehicle(Long vehicleId) {
+        return LockTarget.exclusive("VEHICLE", vehicleId);
+    }
+
+    private static LockTarget shared(Long vehicleId, int capacity) {
+        return new LockTarget("VEHICLE", vehicleId, capacity);
+    }
+
+    private static LockTarget dispatcher(Long dispatcherId) {
+        return LockTarget.exclusive("DISPATCHER", dispatcherId);
+    }
 }
@@ -1,5 +1,6 @@
 package com.resume.transportation.ratelimit;
 
+import com.resume.transportation.service.ratelimit.LockTarget;
 import com.resume.transportation.service.ratelimit.RateLimitExceededException;
 import com.resume.transportation.service.ratelimit.ResourceRateLimiter;
 import org.junit.jupiter.api.BeforeEach;
@@ -7,6 +8,7 @@ import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 
 import java.time.LocalDateTime;
+import java.util.List;
 import java.util.Set;
 import java.util.concurrent.CountDownLatch;
 import java.util.concurrent.ExecutorService;
@@ -251,4 +253,39 @@ class ResourceRateLimiterTest {
         // cleanup
         rateLimiter.release(firstSlots);
     }
+
+    @Test
+    @DisplayName("공유 슬롯은 정원만큼 동시에 획득하고, 같은 리소스의 전용 요청과는 한 카운터를 쓴다")
+    void sharedSlotAllowsUpToCapacity() {
+        // given
+        LocalDateTime start = LocalDateTime.of(2024, 1, 15, 10, 0);
+        LocalDateTime end = LocalDateTime.of(2024, 1, 15, 11, 0);
+        List<LockTarget> shared = List.of(new LockTarget("VEHICLE", 1L, 3));
+
+        // when - 정원 3까지 성공
+        Set<String> first = rateLimiter.tryAcquireAll(shared, start, end);
+        Set<String> second = rateLimiter.tryAcquireAll(shared, start, end);
+        Set<String> third = rateLimiter.tryAcquireAll(shared, start, end);
+
+        // then - 네 번째도, 점유가 남아 있는 동안의 전용 요청도 실패 (같은 슬롯 키)
+        assertThatThrownBy(() -> rateLimiter.tryAcquireAll(shared, start, end))
+                .isInstanceOf(RateLimitExceededException.class);
+        assertThatThrownBy(() -> rateLimiter.tryAcquireForVehicle(1L, start, end))
+                .isInstanceOf(RateLimitExceededException.class);
+
+        // 하나 반환하면 공유 요청은 다시 획득 가능
+        rateLimiter.release(first);
+        Set<String> again = rateLimiter.tryAcquireAll(shared, start, end);
+
+        // 전부 반환해야 전용 요청이 들어가고, 그동안은 공유 요청도 막힌다
+        rateLimiter.release(second);
+        rateLimiter.release(third);
+        rateLimiter.release(again);
+        Set<String> exclusive = rateLimiter.tryAcquireForVehicle(1L, start, end);
+        assertThatThrownBy(() -> rateLimiter.tryAcquireAll(shared, start, end))
+                .isInstanceOf(RateLimitExceededException.class);
+
+        // cleanup
+        rateLimiter.release(exclusive);
+    }
 }
@@ -0,0 +1,196 @@
+package com.resume.transportation.recurring;
+
+import com.resume.transportation.entity.RecurringSchedule;
+import com.resume.transportation.entity.User;
+import com.resume.transportation.entity.Vehicle;
+import com.resume.transportation.enums.Location;
+import com.resume.transportation.enums.VehicleStatus;
+import com.resume.transportation.ratelimit.EmbeddedRedisConfig;
+import com.resume.transportation.repository.RecurringScheduleRepository;
+import com.resume.transportation.repository.ReservationRepository;
+import com.resume.transportation.repository.UserRepository;
+import com.resume.transportation.repository.VehicleRepository;
+import com.resume.transportation.service.ReservationService;
+import com.resume.transportation.service.command.CreateRecurringScheduleCommand;
+import com.resume.transportation.service.command.CreateReservationCommand;
+import com.resume.transportation.service.exception.RejectReason;
+import com.resume.transportation.service.recurring.Recurrence;
+import com.resume.transportation.service.recurring.RecurringScheduleService;
+import com.resume.transportation.support.ReservationTestSupport.Fixture;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.context.annotation.Import;
+
+import java.time.LocalDateTime;
+
+import static com.resume.transportation.support.ReservationTestSupport.assertRejected;
+import static com.resume.transportation.support.ReservationTestSupport.resetFixture;
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 반복 일정 테스트 (회차 산술, 단건 예약과의 겹침 / 위치, 회차 행 생성)
+ *
+ * 셔틀: VENUE_ONE 순환, 09:00부터 60분 간격 40분 운행, 18:00까지 → 9회
+ */
+@SpringBootTest(properties = {
+        "transportation.recurring.horizon=3d",
+        "transportation.recurring.materialize-interval=3600000"
+})
+@Import(EmbeddedRedisConfig.class)
+class RecurringScheduleTest {
+
+    @Autowired
+    private RecurringScheduleService recurringScheduleService;
+
+    @Autowired
+    private ReservationService reservationService;
+
+    @Autowired
+    private RecurringScheduleRepository recurringScheduleRepository;
+
+    @Autowired
+    private ReservationRepository reservationRepository;
+
+    @Autowired
+    private VehicleRepository vehicleRepository;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    private User operator;
+    private User dispatcher;
+    private Vehicle vehicle;
+    private LocalDateTime baseTime;
+
+    @BeforeEach
+    void setUp() {
+        recurringScheduleRepository.deleteAll();
+        Fixture fixture = resetFixture(reservationRepository, vehicleRepository, userRepository, Location.VENUE_ONE, 1, 9);
+        operator = fixture.operator();
+        dispatcher = fixture.dispatcher();
+        vehicle = fixture.vehicle();
+        baseTime = fixture.baseTime();
+    }
+
+    @Test
+    @DisplayName("회차 산술: 겹치는 첫 회차 / 마지막 도착 / 규칙 간 겹침")
+    void recurrenceArithmetic() {
+        Recurrence shuttle = Recurrence.until(0, 60, 40, 540);
+
+        assertThat(shuttle.count()).isEqualTo(9);
+        assertThat(shuttle.lastEnd()).isEqualTo(520);
+        assertThat(shuttle.firstOverlapping(30, 50)).isZero();
+        assertThat(shuttle.firstOverlapping(40, 60)).isEqualTo(-1);
+        assertThat(shuttle.firstOverlapping(100, 130)).isEqualTo(2);
+        assertThat(shuttle.lastEndAtOrBefore(39)).isEqualTo(-1);
+        assertThat(shuttle.lastEndAtOrBefore(110)).isEqualTo(100);
+        assertThat(shuttle.lastEndAtOrBefore(10_000)).isEqualTo(520);
+        assertThat(shuttle.firstStartingAtOrAfter(61)).isEqualTo(2);
+
+        assertThat(shuttle.overlaps(new Recurrence(40, 60, 20, 9))).isFalse();
+        assertThat(shuttle.overlaps(new Recurrence(30, 60, 20, 9))).isTrue();
+    }
+
+    @Test
+    @DisplayName("규칙 생성은 1행, 회차와 겹치는 단건 예약은 거절되고 회차 사이 예약은 허용")
+    void singleReservationsAgainstSchedule() {
+        RecurringSchedule schedule = recurringScheduleService.create(shuttle(Location.VENUE_ONE));
+
+        assertThat(schedule.getOccurrences()).isEqualTo(9);
+        assertThat(recurringScheduleRepository.count()).isEqualTo(1);
+        assertThat(reservationRepository.count()).isZero();
+
+        // 10:00~10:40 회차와 겹침
+        assertRejected(() -> reservationService.createReservation(reservation(
+                        baseTime.plusMinutes(90), baseTime.plusMinutes(110))),
+                RejectReason.VEHICLE_OVERLAP);
+
+        // 10:40~11:00 회차 사이 공백, 출발 위치는 직전 회차 도착지(VENUE_ONE)
+        reservationService.createReservation(reservation(baseTime.plusMinutes(100), baseTime.plusMinutes(120)));
+        assertThat(reservationRepository.count()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("회차가 겹치는 두 번째 규칙은 거절")
+    void overlappingSchedules() {
+        recurringScheduleService.create(shuttle(Location.VENUE_ONE));
+
+        Vehicle other = vehicleRepository.save(new Vehicle(Location.VENUE_ONE, VehicleStatus.IDLE));
+        assertRejected(() -> recurringScheduleService.create(new CreateRecurringScheduleCommand(
+                        operator.getId(), other.getId(), dispatcher.getId(),
+                        Location.VENUE_ONE, Location.VENUE_ONE,
+                        baseTime.plusMinutes(30), baseTime.plusHours(9), 60, 20)),
+                RejectReason.DISPATCHER_OVERLAP);
+        assertThat(recurringScheduleRepository.count()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("출발지로 돌아갈 경로가 없으면 ROUTE_NOT_AVAILABLE")
+    void returnRouteRequired() {
+        assertRejected(() -> recurringScheduleService.create(shuttle(Location.VENUE_TWO)),
+                RejectReason.ROUTE_NOT_AVAILABLE);
+        assertThat(recurringScheduleRepository.count()).isZero();
+    }
+
+    @Test
+    @DisplayName("horizon 안의 회차만 reservation 행으로 생성, 재실행해도 중복 없음")
+    void materializesOccurrences() {
+        recurringScheduleService.create(shuttle(Location.VENUE_ONE));
+
+        recurringScheduleService.materialize();
+        recurringScheduleService.materialize();
+
+        assertThat(reservationRepository.count()).isEqualTo(9);
+    }
+
+    @Test
+    @DisplayName("다른 규칙이 행으로 만든 회차는 기간 충돌로 세지 않고 회차 산술로만 판정")
+    void materializedRowsOfOtherRulesAreNotPeriodConflicts() {
+        recurringScheduleService.create(shuttle(Location.VENUE_ONE));
+        recurringScheduleService.materialize();
+        assertThat(reservationRepository.count()).isEqualTo(9);
+
+        // 09:40부터 60분 간격 20분 - 회차 사이 공백에만 들어감
+        recurringScheduleService.create(interleaved(baseTime.plusMinutes(40)));
+        assertThat(recurringScheduleRepository.count()).isEqualTo(2);
+
+        // 09:30부터 - 첫 규칙 회차와 겹침
+        assertRejected(() -> recurringScheduleService.create(interleaved(baseTime.plusMinutes(30))),
+                RejectReason.VEHICLE_OVERLAP);
+        assertThat(recurringScheduleRepository.count()).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("회차 행이 아닌 단건 예약이 기간에 걸치면 규칙 생성은 거절")
+    void singleReservationStillBlocksSchedule() {
+        recurringScheduleService.create(shuttle(Location.VENUE_ONE));
+        recurringScheduleService.materialize();
+        reservationService.createReservation(reservation(baseTime.plusMinutes(100), baseTime.plusMinutes(120)));
+
+        assertRejected(() -> recurringScheduleService.create(interleaved(baseTime.plusMinutes(40))),
+                RejectReason.VEHICLE_OVERLAP);
+        assertThat(recurringScheduleRepository.count()).isEqualTo(1);
+    }
+
+    private CreateRecurringScheduleCommand interleaved(LocalDateTime firstStart) {
+        return new CreateRecurringScheduleCommand(
+                operator.getId(), vehicle.getId(), dispatcher.getId(),
+                Location.VENUE_ONE, Location.VENUE_ONE,
+                firstStart, baseTime.plusHours(9), 60, 20);
+    }
+
+    private CreateRecurringScheduleCommand shuttle(Location to) {
+        return new CreateRecurringScheduleCommand(
+                operator.getId(), vehicle.getId(), dispatcher.getId(),
+                Location.VENUE_ONE, to,
+                baseTime, baseTime.plusHours(9), 60, 40);
+    }
+
+    private CreateReservationCommand reservation(LocalDateTime start, LocalDateTime end) {
+        return new CreateReservationCommand(operator.getId(), vehicle.getId(), dispatcher.getId(),
+                Location.VENUE_ONE, Location.VENUE_ONE, start, end);
+    }
+}
@@ -0,0 +1,134 @@
+package com.resume.transportation.reschedule;
+
+import com.resume.transportation.entity.Reservation;
+import com.resume.transportation.entity.User;
+import com.resume.transportation.entity.Vehicle;
+import com.resume.transportation.enums.Location;
+import com.resume.transportation.enums.ReservationStatus;
+import com.resume.transportation.ratelimit.EmbeddedRedisConfig;
+import com.resume.transportation.repository.ReservationRepository;
+import com.resume.transportation.repository.UserRepository;
+import com.resume.transportation.repository.VehicleRepository;
+import com.resume.transportation.service.ReservationService;
+import com.resume.transportation.service.command.CreateReservationCommand;
+import com.resume.transportation.service.command.RescheduleReservationCommand;
+import com.resume.transportation.service.exception.RejectReason;
+import com.resume.transportation.service.result.ReservationResult;
+import com.resume.transportation.support.ReservationTestSupport.Fixture;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.context.annotation.Import;
+
+import java.time.LocalDateTime;
+
+import static com.resume.transportation.support.ReservationTestSupport.assertRejected;
+import static com.resume.transportation.support.ReservationTestSupport.resetFixture;
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 예약 시간 변경(제자리 이동) / 취소 테스트
+ */
+@SpringBootTest
+@Import(EmbeddedRedisConfig.class)
+class RescheduleCancelTest {
+
+    @Autowired
+    private ReservationService reservationService;
+
+    @Autowired
+    private ReservationRepository reservationRepository;
+
+    @Autowired
+    private VehicleRepository vehicleRepository;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    private User operator;
+    private User dispatcher;
+    private Vehicle vehicle;
+    private LocalDateTime baseTime;
+
+    @BeforeEach
+    void setUp() {
+        Fixture fixture = resetFixture(reservationRepository, vehicleRepository, userRepository, 11);
+        operator = fixture.operator();
+        dispatcher = fixture.dispatcher();
+        vehicle = fixture.vehicle();
+        baseTime = fixture.baseTime();
+    }
+
+    @Test
+    @DisplayName("시간 변경은 같은 행을 옮기고 version을 올린다")
+    void movesInPlace() {
+        ReservationResult created = reservationService.createReservation(
+                command(Location.AIRPORT, Location.HOTEL, baseTime, baseTime.plusHours(1)));
+        long versionBefore = reservationRepository.findById(created.reservationId()).orElseThrow().getVersion();
+
+        ReservationResult moved = reservationService.reschedule(created.reservationId(),
+                new RescheduleReservationCommand(baseTime.plusMinutes(30), baseTime.plusMinutes(90)));
+
+        assertThat(moved.reservationId()).isEqualTo(created.reservationId());
+        assertThat(reservationRepository.count()).isEqualTo(1);
+
+        Reservation saved = reservationRepository.findById(created.reservationId()).orElseThrow();
+        assertThat(saved.getStartTime()).isEqualTo(baseTime.plusMinutes(30));
+        assertThat(saved.getEndTime()).isEqualTo(baseTime.plusMinutes(90));
+        assertThat(saved.getVersion()).isEqualTo(versionBefore + 1);
+    }
+
+    @Test
+    @DisplayName("다른 예약을 넘어가는 변경은 거절되고 원래 시간으로 남는다")
+    void rejectedMoveKeepsOriginalTimes() {
+        ReservationResult first = reservationService.createReservation(
+                command(Location.AIRPORT, Location.HOTEL, baseTime, baseTime.plusHours(1)));
+        reservationService.createReservation(
+                command(Location.HOTEL, Location.AIRPORT, baseTime.plusHours(2), baseTime.plusHours(3)));
+
+        assertRejected(() -> reservationService.reschedule(first.reservationId(),
+                        new RescheduleReservationCommand(baseTime.plusMinutes(150), baseTime.plusMinutes(210))),
+                RejectReason.VEHICLE_OVERLAP);
+
+        Reservation saved = reservationRepository.findById(first.reservationId()).orElseThrow();
+        assertThat(saved.getStartTime()).isEqualTo(baseTime);
+        assertThat(saved.getEndTime()).isEqualTo(baseTime.plusHours(1));
+    }
+
+    @Test
+    @DisplayName("취소하면 같은 슬롯을 바로 다시 예약할 수 있다")
+    void cancelFreesSlot() {
+        ReservationResult created = reservationService.createReservation(
+                command(Location.AIRPORT, Location.HOTEL, baseTime, baseTime.plusHours(1)));
+
+        reservationService.cancel(created.reservationId());
+        assertThat(reservationRepository.count()).isZero();
+
+        reservationService.createReservation(command(Location.AIRPORT, Location.HOTEL, baseTime, baseTime.plusHours(1)));
+        assertThat(reservationRepository.count()).isEqualTo(1);
+
+        assertRejected(() -> reservationService.cancel(created.reservationId()), RejectReason.RESERVATION_NOT_FOUND);
+    }
+
+    @Test
+    @DisplayName("출발한 예약은 변경 / 취소할 수 없다")
+    void startedReservationIsNotModifiable() {
+        ReservationResult created = reservationService.createReservation(
+                command(Location.AIRPORT, Location.HOTEL, baseTime, baseTime.plusHours(1)));
+        Reservation reservation = reservationRepository.findById(created.reservationId()).orElseThrow();
+        reservation.changeStatus(ReservationStatus.IN_PROGRESS);
+        reservationRepository.save(reservation);
+
+        assertRejected(() -> reservationService.reschedule(created.reservationId(),
+                        new RescheduleReservationCommand(baseTime.plusMinutes(30), baseTime.plusMinutes(90))),
+                RejectReason.RESERVATION_NOT_MODIFIABLE);
+        assertRejected(() -> reservationService.cancel(created.reservationId()),
+                RejectReason.RESERVATION_NOT_MODIFIABLE);
+    }
+
+    private CreateReservationCommand command(Location from, Location to, LocalDateTime start, LocalDateTime end) {
+        return new CreateReservationCommand(operator.getId(), vehicle.getId(), dispatcher.getId(), from, to, start, end);
+    }
+}
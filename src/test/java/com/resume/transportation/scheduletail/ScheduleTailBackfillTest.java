@@ -0,0 +1,107 @@
+package com.resume.transportation.scheduletail;
+
+import com.resume.transportation.entity.ScheduleTail;
+import com.resume.transportation.entity.User;
+import com.resume.transportation.entity.Vehicle;
+import com.resume.transportation.enums.Location;
+import com.resume.transportation.enums.ResourceType;
+import com.resume.transportation.enums.UserRole;
+import com.resume.transportation.enums.VehicleStatus;
+import com.resume.transportation.ratelimit.EmbeddedRedisConfig;
+import com.resume.transportation.repository.ReservationRepository;
+import com.resume.transportation.repository.ScheduleTailRepository;
+import com.resume.transportation.repository.UserRepository;
+import com.resume.transportation.repository.VehicleRepository;
+import com.resume.transportation.service.ReservationService;
+import com.resume.transportation.service.ScheduleTailService;
+import com.resume.transportation.service.command.CreateReservationCommand;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.context.annotation.Import;
+
+import java.time.LocalDateTime;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * schedule tail 시작 시 backfill 테스트
+ *
+ * tail 테이블이 비어 있는 상태(마이그레이션 직후 / 기존 예약만 있는 DB)에서
+ * 시작 리스너가 트랜잭션 안에서 기존 예약 이력으로 tail을 만든다.
+ */
+@SpringBootTest(properties = "transportation.schedule-tail.backfill-on-startup=true")
+@Import(EmbeddedRedisConfig.class)
+class ScheduleTailBackfillTest {
+
+    @Autowired
+    private ScheduleTailService scheduleTailService;
+
+    @Autowired
+    private ScheduleTailRepository tailRepository;
+
+    @Autowired
+    private ReservationService reservationService;
+
+    @Autowired
+    private ReservationRepository reservationRepository;
+
+    @Autowired
+    private VehicleRepository vehicleRepository;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    private Vehicle vehicle;
+    private User operator;
+    private User dispatcher;
+    private LocalDateTime baseTime;
+
+    @BeforeEach
+    void setUp() {
+        reservationRepository.deleteAll();
+        tailRepository.deleteAll();
+        vehicleRepository.deleteAll();
+        userRepository.deleteAll();
+
+        vehicle = vehicleRepository.save(new Vehicle(Location.AIRPORT, VehicleStatus.IDLE));
+        operator = userRepository.save(new User(UserRole.OPERATOR, "Operator1"));
+        dispatcher = userRepository.save(new User(UserRole.VOLUNTEER, "Dispatcher1"));
+        baseTime = LocalDateTime.now().plusDays(1).withHour(9).withMinute(0).withSecond(0).withNano(0);
+    }
+
+    @Test
+    @DisplayName("기존 예약만 있고 tail이 없으면 시작 리스너가 최신 예약으로 tail을 만든다")
+    void startupBackfillCreatesTails() {
+        reservationService.createReservation(new CreateReservationCommand(operator.getId(), vehicle.getId(),
+                dispatcher.getId(), Location.AIRPORT, Location.HOTEL, baseTime, baseTime.plusHours(2)));
+        reservationService.createReservation(new CreateReservationCommand(operator.getId(), vehicle.getId(),
+                dispatcher.getId(), Location.HOTEL, Location.VENUE_ONE, baseTime.plusHours(3), baseTime.plusHours(5)));
+
+        // 기존 예약 행만 남은 DB (tail 테이블을 새로 만든 직후와 같은 상태)
+        tailRepository.deleteAll();
+        assertThat(tailRepository.count()).isZero();
+
+        // ApplicationReadyEvent 리스너 경로 그대로 호출 (빈 외부 → 내부 backfill)
+        scheduleTailService.backfillOnStartup();
+
+        ScheduleTail vehicleTail = tailRepository.findById(
+                new ScheduleTail.Key(ResourceType.VEHICLE, vehicle.getId())).orElseThrow();
+        assertThat(vehicleTail.getLastLocation()).isEqualTo(Location.VENUE_ONE);
+        assertThat(vehicleTail.getLastEndTime()).isEqualTo(baseTime.plusHours(5));
+
+        ScheduleTail dispatcherTail = tailRepository.findById(
+                new ScheduleTail.Key(ResourceType.DISPATCHER, dispatcher.getId())).orElseThrow();
+        assertThat(dispatcherTail.getLastLocation()).isEqualTo(Location.VENUE_ONE);
+
+        // 예약 없는 운영자도 "이력 없음" tail로 추적 시작
+        ScheduleTail operatorTail = tailRepository.findById(
+                new ScheduleTail.Key(ResourceType.DISPATCHER, operator.getId())).orElseThrow();
+        assertThat(operatorTail.getLastEndTime()).isNull();
+
+        // 이미 tail이 있으면 다시 만들지 않는다
+        assertThat(scheduleTailService.backfill()).isZero();
+    }
+}
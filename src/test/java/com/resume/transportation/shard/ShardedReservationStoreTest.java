@@ -0,0 +1,336 @@
+package com.resume.transportation.shard;
+
+import com.resume.transportation.entity.User;
+import com.resume.transportation.entity.Vehicle;
+import com.resume.transportation.enums.Location;
+import com.resume.transportation.enums.ResourceType;
+import com.resume.transportation.enums.UserRole;
+import com.resume.transportation.enums.VehicleStatus;
+import com.resume.transportation.ratelimit.EmbeddedRedisConfig;
+import com.resume.transportation.repository.ReservationRepository;
+import com.resume.transportation.repository.UserRepository;
+import com.resume.transportation.repository.VehicleRepository;
+import com.resume.transportation.service.ReservationService;
+import com.resume.transportation.service.command.CreateReservationCommand;
+import com.resume.transportation.service.store.ReservationStore;
+import com.resume.transportation.service.store.ShardedReservationStore;
+import com.resume.transportation.service.store.shard.ReservationIdAllocator;
+import com.resume.transportation.service.store.shard.Shard;
+import com.resume.transportation.service.store.shard.ShardCluster;
+import com.resume.transportation.service.store.shard.ShardDirectory;
+import com.resume.transportation.service.store.shard.ShardRebalancer;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * vehicleId 샤딩 테스트
+ *
+ * H2 인메모리 DB 2개(shard0, shard1)를 샤드로 사용한다.
+ * bucket 4개, 초기 배치는 bucket i → shard i % 2 이므로 id가 연속인 차량 2대는 서로 다른 샤드에 놓인다.
+ */
+@SpringBootTest(properties = {
+        "transportation.reservation.store=sharded",
+        "transportation.sharding.buckets=4",
+        "transportation.sharding.move-grace-period=0s",
+        "transportation.sharding.directory-refresh-interval=3600000",
+        "transportation.sharding.shards[0].url=jdbc:h2:mem:shard0;DB_CLOSE_DELAY=-1",
+        "transportation.sharding.shards[1].url=jdbc:h2:mem:shard1;DB_CLOSE_DELAY=-1"
+})
+@Import(EmbeddedRedisConfig.class)
+class ShardedReservationStoreTest {
+
+    @Autowired
+    private ReservationService reservationService;
+
+    @Autowired
+    private ReservationStore reservationStore;
+
+    @Autowired
+    private ShardCluster shardCluster;
+
+    @Autowired
+    private ShardDirectory shardDirectory;
+
+    @Autowired
+    private ShardRebalancer shardRebalancer;
+
+    @Autowired
+    private ReservationRepository reservationRepository;
+
+    @Autowired
+    private VehicleRepository vehicleRepository;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    private Vehicle vehicleA;
+    private Vehicle vehicleB;
+    private User operator;
+    private User dispatcher;
+    private LocalDateTime baseTime;
+
+    @BeforeEach
+    void setUp() {
+        // 디렉터리를 초기 배치로 복구 후 샤드 비우기
+        for (int bucket = 0; bucket < shardDirectory.getBucketCount(); bucket++) {
+            if (shardDirectory.ownerOfBucket(bucket) != bucket % shardDirectory.getShardCount()) {
+                shardRebalancer.moveBucket(bucket, bucket % shardDirectory.getShardCount());
+            }
+        }
+        for (Shard shard : shardCluster.all()) {
+            shard.jdbcTemplate().update("delete from reservation");
+            shard.jdbcTemplate().update("delete from dispatcher_assignment");
+        }
+
+        reservationRepository.deleteAll();
+        vehicleRepository.deleteAll();
+        userRepository.deleteAll();
+
+        vehicleA = vehicleRepository.save(new Vehicle(Location.AIRPORT, VehicleStatus.IDLE));
+        vehicleB = vehicleRepository.save(new Vehicle(Location.AIRPORT, VehicleStatus.IDLE));
+        operator = userRepository.save(new User(UserRole.OPERATOR, "Operator1"));
+        dispatcher = userRepository.save(new User(UserRole.VOLUNTEER, "Dispatcher1"));
+
+        baseTime = LocalDateTime.now().plusDays(1).withHour(10).withMinute(0).withSecond(0).withNano(0);
+    }
+
+    @Test
+    @DisplayName("sharded 설정이면 ShardedReservationStore가 선택된다")
+    void shardedStoreSelected() {
+        assertThat(reservationStore).isInstanceOf(ShardedReservationStore.class);
+        assertThat(shardDirectory.shardOf(vehicleA.getId()).index())
+                .isNotEqualTo(shardDirectory.shardOf(vehicleB.getId()).index());
+    }
+
+    @Test
+    @DisplayName("예약은 차량 소유 샤드에, 디스패처 인덱스는 디스패처 소유 샤드에 저장된다")
+    void rowsAreStoredOnOwningShards() {
+        Long reservationId = reservationService.createReservation(command(vehicleA, baseTime)).reservationId();
+
+        Shard vehicleShard = shardDirectory.shardOf(vehicleA.getId());
+        Shard dispatcherShard = shardDirectory.shardOf(dispatcher.getId());
+
+        assertThat(countReservation(vehicleShard, reservationId)).isEqualTo(1);
+        assertThat(countAssignment(dispatcherShard, reservationId)).isEqualTo(1);
+        assertThat(totalReservations()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("서로 다른 샤드의 차량이라도 같은 디스패처의 겹치는 예약은 거절된다")
+    void dispatcherOverlapAcrossShards() {
+        reservationService.createReservation(command(vehicleA, baseTime));
+
+        assertThatThrownBy(() -> reservationService.createReservation(command(vehicleB, baseTime.plusMinutes(30))))
+                .isInstanceOf(IllegalStateException.class)
+                .hasMessageContaining("디스패처가 해당 시간에 이미 배정되어 있습니다.");
+
+        // 보상 삭제로 두 번째 예약/인덱스는 남지 않음
+        assertThat(totalReservations()).isEqualTo(1);
+        assertThat(totalAssignments()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("디스패처의 마지막 위치는 다른 샤드 차량의 예약까지 반영한다")
+    void dispatcherLocationAcrossShards() {
+        reservationService.createReservation(command(vehicleA, baseTime));
+
+        assertThat(reservationStore.findLastLocation(ResourceType.DISPATCHER, dispatcher.getId(), baseTime.plusHours(3)))
+                .contains(Location.HOTEL);
+
+        // 디스패처는 HOTEL에 있으므로 AIRPORT 출발 예약은 위치 검증에서 거절
+        assertThatThrownBy(() -> reservationService.createReservation(command(vehicleB, baseTime.plusHours(3))))
+                .isInstanceOf(IllegalStateException.class)
+                .hasMessageContaining("디스패처 위치가 출발지와 다릅니다.");
+    }
+
+    @Test
+    @DisplayName("bucket 이동 후에도 예약 조회와 overlap 검증이 새 샤드에서 동작한다")
+    void moveBucketKeepsReservations() {
+        Long reservationId = reservationService.createReservation(command(vehicleA, baseTime)).reservationId();
+
+        int vehicleBucket = shardDirectory.bucketOf(vehicleA.getId());
+        int from = shardDirectory.ownerOfBucket(vehicleBucket);
+        int to = (from + 1) % shardDirectory.getShardCount();
+
+        shardRebalancer.moveBucket(vehicleBucket, to);
+
+        assertThat(countReservation(shardCluster.get(from), reservationId)).isZero();
+        assertThat(countReservation(shardCluster.get(to), reservationId)).isEqualTo(1);
+        assertThat(reservationStore.findLastLocation(ResourceType.VEHICLE, vehicleA.getId(), baseTime.plusHours(3)))
+                .contains(Location.HOTEL);
+
+        User otherDispatcher = userRepository.save(new User(UserRole.VOLUNTEER, "Dispatcher2"));
+        assertThatThrownBy(() -> reservationService.createReservation(
+                command(vehicleA, otherDispatcher, baseTime.plusMinutes(30))))
+                .isInstanceOf(IllegalStateException.class)
+                .hasMessageContaining("차량이 해당 시간에 이미 예약되어 있습니다.");
+    }
+
+    @Test
+    @DisplayName("리밸런싱은 샤드별 bucket 수를 균등하게 맞춘다")
+    void rebalanceEvensOutBuckets() {
+        reservationService.createReservation(command(vehicleA, baseTime));
+        reservationService.createReservation(command(vehicleB, dispatcherFor("Dispatcher3"), baseTime));
+
+        // shard0의 bucket을 모두 shard1로 이동 → 4:0 불균형
+        for (int bucket = 0; bucket < shardDirectory.getBucketCount(); bucket++) {
+            if (shardDirectory.ownerOfBucket(bucket) == 0) {
+                shardRebalancer.moveBucket(bucket, 1);
+            }
+        }
+        assertThat(shardDirectory.bucketCountsByShard()).containsEntry(0, 0).containsEntry(1, 4);
+        assertThat(shardRebalancer.plan()).hasSize(2);
+
+        shardRebalancer.rebalance();
+
+        assertThat(shardDirectory.bucketCountsByShard()).containsEntry(0, 2).containsEntry(1, 2);
+        assertThat(shardRebalancer.plan()).isEmpty();
+        assertThat(totalReservations()).isEqualTo(2);
+        assertThat(totalAssignments()).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("여러 인스턴스의 id 할당이 번갈아 일어나도 id는 할당 순서대로 커진다")
+    void idsFollowAllocationOrderAcrossInstances() {
+        ReservationIdAllocator instance1 = new ReservationIdAllocator(jdbcTemplate, transactionManager);
+        ReservationIdAllocator instance2 = new ReservationIdAllocator(jdbcTemplate, transactionManager);
+
+        long first = instance1.next();
+        long second = instance2.next();
+        long third = instance1.next();
+        long fourth = instance2.next();
+
+        assertThat(second).isGreaterThan(first);
+        assertThat(third).isGreaterThan(second);
+        assertThat(fourth).isGreaterThan(third);
+    }
+
+    @Test
+    @DisplayName("동시 할당: 공유 행 잠금 없이 id가 유일하고 각 스레드 안에서 할당 순서대로 커진다")
+    void concurrentAllocationIsUniqueAndOrdered() throws Exception {
+        int threads = 8;
+        int perThread = 300;
+        ExecutorService executor = Executors.newFixedThreadPool(threads);
+        CountDownLatch startLatch = new CountDownLatch(1);
+
+        List<Future<List<Long>>> futures = new ArrayList<>();
+        for (int t = 0; t < threads; t++) {
+            ReservationIdAllocator instance = new ReservationIdAllocator(jdbcTemplate, transactionManager);
+            futures.add(executor.submit(() -> {
+                startLatch.await();
+                List<Long> ids = new ArrayList<>(perThread);
+                for (int i = 0; i < perThread; i++) {
+                    ids.add(instance.next());
+                }
+                return ids;
+            }));
+        }
+
+        long began = System.nanoTime();
+        startLatch.countDown();
+        Set<Long> all = new HashSet<>();
+        for (Future<List<Long>> future : futures) {
+            List<Long> ids = future.get();
+            assertThat(ids).isSorted();
+            all.addAll(ids);
+        }
+        long elapsedMillis = Math.max(1, (System.nanoTime() - began) / 1_000_000);
+        executor.shutdown();
+
+        System.out.printf("id 동시 할당 - %d건, %dms (%d건/s)%n",
+                threads * perThread, elapsedMillis, threads * perThread * 1000L / elapsedMillis);
+        assertThat(all).hasSize(threads * perThread);
+    }
+
+    @Test
+    @DisplayName("다른 인스턴스가 나중에 넣은 겹치는 예약은 먼저 커밋된 예약을 보고 거절된다")
+    void laterInsertOnOtherInstanceSeesEarlierReservation() {
+        // 다른 인스턴스가 먼저 떠서 id를 받아 둔 상태 (hi/lo였다면 이 인스턴스의 블록이 더 작은 id 구간)
+        ReservationIdAllocator otherAllocator = new ReservationIdAllocator(jdbcTemplate, transactionManager);
+        otherAllocator.next();
+        ShardedReservationStore otherInstance = new ShardedReservationStore(shardCluster, shardDirectory, otherAllocator);
+
+        Long earlierId = reservationService.createReservation(command(vehicleA, baseTime)).reservationId();
+
+        CreateReservationCommand overlapping = command(vehicleA, baseTime.plusMinutes(30));
+        Long laterId = otherInstance.insert(overlapping);
+
+        assertThat(laterId).isGreaterThan(earlierId);
+        assertThat(otherInstance.existsOverlapExcluding(ResourceType.VEHICLE,
+                vehicleA.getId(), laterId, overlapping.startTime(), overlapping.endTime())).isTrue();
+        assertThat(otherInstance.existsOverlapExcluding(ResourceType.DISPATCHER,
+                dispatcher.getId(), laterId, overlapping.startTime(), overlapping.endTime())).isTrue();
+
+        // 먼저 커밋된 예약 쪽에서는 나중 예약이 보이지 않는다 (한쪽만 이긴다)
+        assertThat(reservationStore.existsOverlapExcluding(ResourceType.VEHICLE,
+                vehicleA.getId(), earlierId, baseTime, baseTime.plusHours(2))).isFalse();
+    }
+
+    private CreateReservationCommand command(Vehicle vehicle, LocalDateTime startTime) {
+        return command(vehicle, dispatcher, startTime);
+    }
+
+    private CreateReservationCommand command(Vehicle vehicle, User dispatcher, LocalDateTime startTime) {
+        return new CreateReservationCommand(
+                operator.getId(),
+                vehicle.getId(),
+                dispatcher.getId(),
+                Location.AIRPORT,
+                Location.HOTEL,
+                startTime,
+                startTime.plusHours(2)
+        );
+    }
+
+    private User dispatcherFor(String name) {
+        return userRepository.save(new User(UserRole.VOLUNTEER, name));
+    }
+
+    private int countReservation(Shard shard, Long reservationId) {
+        return shard.jdbcTemplate().queryForObject(
+                "select count(*) from reservation where id = ?", Integer.class, reservationId);
+    }
+
+    private int countAssignment(Shard shard, Long reservationId) {
+        return shard.jdbcTemplate().queryForObject(
+                "select count(*) from dispatcher_assignment where reservation_id = ?", Integer.class, reservationId);
+    }
+
+    private int totalReservations() {
+        return shardCluster.all().stream()
+                .mapToInt(shard -> shard.jdbcTemplate().queryForObject("select count(*) from reservation", Integer.class))
+                .sum();
+    }
+
+    private int totalAssignments() {
+        return shardCluster.all().stream()
+                .mapToInt(shard -> shard.jdbcTemplate().queryForObject(
+                        "select count(*) from dispatcher_assignment", Integer.class))
+                .sum();
+    }
+}
@@ -0,0 +1,205 @@
+package com.resume.transportation.store;
+
+import com.resume.transportation.entity.ScheduleTail;
+import com.resume.transportation.entity.User;
+import com.resume.transportation.entity.Vehicle;
+import com.resume.transportation.enums.Location;
+import com.resume.transportation.enums.ResourceType;
+import com.resume.transportation.enums.UserRole;
+import com.resume.transportation.enums.VehicleStatus;
+import com.resume.transportation.ratelimit.EmbeddedRedisConfig;
+import com.resume.transportation.repository.ReservationRepository;
+import com.resume.transportation.repository.ScheduleTailRepository;
+import com.resume.transportation.repository.UserRepository;
+import com.resume.transportation.repository.VehicleRepository;
+import com.resume.transportation.service.ReservationService;
+import com.resume.transportation.service.ScheduleTailService;
+import com.resume.transportation.service.command.CreateReservationCommand;
+import com.resume.transportation.service.exception.RejectReason;
+import com.resume.transportation.service.exception.ReservationRejectedException;
+import com.resume.transportation.service.store.JdbcReservationStore;
+import com.resume.transportation.service.store.ReservationStore;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.context.ApplicationContext;
+import org.springframework.context.annotation.Import;
+
+import java.time.LocalDateTime;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * JdbcTemplate 저장소 테스트 (transportation.reservation.store=jdbc)
+ *
+ * JPA 저장소와 같은 동작을 확인한다.
+ * - INSERT + schedule tail 전진 (같은 트랜잭션)
+ * - overlap 검증은 먼저 INSERT된 예약만 본다 (id < self), 제자리 이동 검증은 자신만 제외
+ * - 보상 DELETE 시 tail이 남은 이력으로 재계산된다
+ */
+@SpringBootTest(properties = "transportation.reservation.store=jdbc")
+@Import(EmbeddedRedisConfig.class)
+class JdbcReservationStoreTest {
+
+    @Autowired
+    private ApplicationContext applicationContext;
+
+    @Autowired
+    private ReservationStore reservationStore;
+
+    @Autowired
+    private ReservationService reservationService;
+
+    @Autowired
+    private ScheduleTailService scheduleTailService;
+
+    @Autowired
+    private ScheduleTailRepository tailRepository;
+
+    @Autowired
+    private ReservationRepository reservationRepository;
+
+    @Autowired
+    private VehicleRepository vehicleRepository;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    private Vehicle vehicle;
+    private User operator;
+    private User dispatcher;
+    private LocalDateTime baseTime;
+
+    @BeforeEach
+    void setUp() {
+        reservationRepository.deleteAll();
+        tailRepository.deleteAll();
+        vehicleRepository.deleteAll();
+        userRepository.deleteAll();
+
+        vehicle = vehicleRepository.save(new Vehicle(Location.AIRPORT, VehicleStatus.IDLE));
+        operator = userRepository.save(new User(UserRole.OPERATOR, "Operator1"));
+        dispatcher = userRepository.save(new User(UserRole.VOLUNTEER, "Dispatcher1"));
+        baseTime = LocalDateTime.now().plusDays(1).withHour(9).withMinute(0).withSecond(0).withNano(0);
+
+        // 새로 만든 리소스의 tail 추적 시작 (이력 없음)
+        scheduleTailService.backfill();
+    }
+
+    @Test
+    @DisplayName("jdbc 설정이면 JdbcReservationStore 하나만 등록된다")
+    void jdbcStoreSelected() {
+        assertThat(reservationStore).isInstanceOf(JdbcReservationStore.class);
+        assertThat(applicationContext.getBeansOfType(ReservationStore.class)).hasSize(1);
+    }
+
+    @Test
+    @DisplayName("INSERT는 예약 행을 남기고 차량 / 디스패처 tail을 전진시킨다")
+    void insertAdvancesTails() {
+        Long reservationId = reservationStore.insert(command(dispatcher, Location.AIRPORT, Location.HOTEL,
+                baseTime, baseTime.plusHours(1)));
+
+        assertThat(reservationRepository.findById(reservationId)).isPresent();
+        assertThat(reservationStore.find(reservationId)).hasValueSatisfying(snapshot -> {
+            assertThat(snapshot.toLocation()).isEqualTo(Location.HOTEL);
+            assertThat(snapshot.endTime()).isEqualTo(baseTime.plusHours(1));
+        });
+
+        ScheduleTail vehicleTail = tail(ResourceType.VEHICLE, vehicle.getId());
+        assertThat(vehicleTail.getReservationId()).isEqualTo(reservationId);
+        assertThat(vehicleTail.getLastLocation()).isEqualTo(Location.HOTEL);
+        assertThat(vehicleTail.getLastEndTime()).isEqualTo(baseTime.plusHours(1));
+        assertThat(tail(ResourceType.DISPATCHER, dispatcher.getId()).getReservationId()).isEqualTo(reservationId);
+
+        assertThat(reservationStore.findLastLocation(ResourceType.VEHICLE, vehicle.getId(), baseTime.plusHours(2)))
+                .contains(Location.HOTEL);
+    }
+
+    @Test
+    @DisplayName("더 일찍 끝나는 예약을 중간에 INSERT해도 tail은 뒤로 가지 않고, 이력 조회로 위치를 찾는다")
+    void earlierInsertKeepsTail() {
+        Long later = reservationStore.insert(command(dispatcher, Location.HOTEL, Location.VENUE_ONE,
+                baseTime.plusHours(3), baseTime.plusHours(4)));
+        reservationStore.insert(command(dispatcher, Location.AIRPORT, Location.HOTEL,
+                baseTime, baseTime.plusHours(1)));
+
+        assertThat(tail(ResourceType.VEHICLE, vehicle.getId()).getReservationId()).isEqualTo(later);
+        assertThat(reservationStore.findLastLocation(ResourceType.VEHICLE, vehicle.getId(), baseTime.plusHours(2)))
+                .contains(Location.HOTEL);
+        assertThat(reservationStore.findLastLocation(ResourceType.VEHICLE, vehicle.getId(), baseTime.plusHours(5)))
+                .contains(Location.VENUE_ONE);
+    }
+
+    @Test
+    @DisplayName("overlap 검증은 먼저 INSERT된 예약만 보고, 제자리 이동 검증은 자신만 제외한다")
+    void overlapSeesOnlyEarlierReservations() {
+        LocalDateTime start = baseTime;
+        LocalDateTime end = baseTime.plusHours(1);
+        Long first = reservationStore.insert(command(dispatcher, Location.AIRPORT, Location.HOTEL, start, end));
+        Long second = reservationStore.insert(command(dispatcher, Location.AIRPORT, Location.HOTEL,
+                start.plusMinutes(30), end.plusMinutes(30)));
+
+        assertThat(reservationStore.existsOverlapExcluding(ResourceType.VEHICLE, vehicle.getId(), second, start, end))
+                .isTrue();
+        assertThat(reservationStore.existsOverlapExcluding(ResourceType.VEHICLE, vehicle.getId(), first, start, end))
+                .isFalse();
+        assertThat(reservationStore.existsOverlapExcluding(ResourceType.DISPATCHER, dispatcher.getId(), second, start, end))
+                .isTrue();
+
+        assertThat(reservationStore.existsOverlapOther(ResourceType.VEHICLE, vehicle.getId(), first, start, end))
+                .isTrue();
+        assertThat(reservationStore.existsOverlapOther(ResourceType.VEHICLE, vehicle.getId(), first,
+                end.plusHours(2), end.plusHours(3)))
+                .isFalse();
+    }
+
+    @Test
+    @DisplayName("tail이던 예약을 보상 삭제하면 tail이 남은 이력으로 재계산된다")
+    void compensationDeleteRecomputesTail() {
+        Long first = reservationStore.insert(command(dispatcher, Location.AIRPORT, Location.HOTEL,
+                baseTime, baseTime.plusHours(1)));
+        Long second = reservationStore.insert(command(dispatcher, Location.HOTEL, Location.VENUE_ONE,
+                baseTime.plusHours(2), baseTime.plusHours(3)));
+        assertThat(tail(ResourceType.VEHICLE, vehicle.getId()).getReservationId()).isEqualTo(second);
+
+        reservationStore.delete(second);
+
+        assertThat(reservationRepository.findById(second)).isEmpty();
+        ScheduleTail vehicleTail = tail(ResourceType.VEHICLE, vehicle.getId());
+        assertThat(vehicleTail.getReservationId()).isEqualTo(first);
+        assertThat(vehicleTail.getLastLocation()).isEqualTo(Location.HOTEL);
+        assertThat(tail(ResourceType.DISPATCHER, dispatcher.getId()).getReservationId()).isEqualTo(first);
+    }
+
+    @Test
+    @DisplayName("서비스 경로: 겹치는 예약은 거절되고 보상 삭제로 행과 tail이 원래대로 남는다")
+    void rejectedReservationIsCompensated() {
+        Long first = reservationService.createReservation(command(dispatcher, Location.AIRPORT, Location.HOTEL,
+                baseTime, baseTime.plusHours(1))).reservationId();
+
+        User otherDispatcher = userRepository.save(new User(UserRole.VOLUNTEER, "Dispatcher2"));
+        scheduleTailService.backfill();
+        assertThatThrownBy(() -> reservationService.createReservation(command(otherDispatcher,
+                Location.AIRPORT, Location.HOTEL, baseTime.plusMinutes(30), baseTime.plusMinutes(90))))
+                .isInstanceOf(ReservationRejectedException.class)
+                .satisfies(e -> assertThat(((ReservationRejectedException) e).getReason())
+                        .isEqualTo(RejectReason.VEHICLE_OVERLAP));
+
+        assertThat(reservationRepository.count()).isEqualTo(1);
+        assertThat(tail(ResourceType.VEHICLE, vehicle.getId()).getReservationId()).isEqualTo(first);
+        assertThat(tail(ResourceType.DISPATCHER, otherDispatcher.getId()).getReservationId()).isNull();
+    }
+
+    private CreateReservationCommand command(User dispatcher, Location from, Location to,
+                                             LocalDateTime startTime, LocalDateTime endTime) {
+        return new CreateReservationCommand(operator.getId(), vehicle.getId(), dispatcher.getId(),
+                from, to, startTime, endTime);
+    }
+
+    private ScheduleTail tail(ResourceType resourceType, Long resourceId) {
+        return tailRepository.findById(new ScheduleTail.Key(resourceType, resourceId)).orElseThrow();
+    }
+}
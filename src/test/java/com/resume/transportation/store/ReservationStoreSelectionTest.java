@@ -0,0 +1,36 @@
+package com.resume.transportation.store;
+
+import com.resume.transportation.ratelimit.EmbeddedRedisConfig;
+import com.resume.transportation.service.store.JpaReservationStore;
+import com.resume.transportation.service.store.ReservationStore;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.context.ApplicationContext;
+import org.springframework.context.annotation.Import;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 저장소 선택 기본값 테스트 (transportation.reservation.store 미설정 → jpa)
+ *
+ * jdbc / sharded 선택은 JdbcReservationStoreTest / ShardedReservationStoreTest에서 확인한다.
+ */
+@SpringBootTest
+@Import(EmbeddedRedisConfig.class)
+class ReservationStoreSelectionTest {
+
+    @Autowired
+    private ApplicationContext applicationContext;
+
+    @Autowired
+    private ReservationStore reservationStore;
+
+    @Test
+    @DisplayName("설정이 없으면 JpaReservationStore 하나만 등록된다")
+    void jpaStoreIsDefault() {
+        assertThat(reservationStore).isInstanceOf(JpaReservationStore.class);
+        assertThat(applicationContext.getBeansOfType(ReservationStore.class)).hasSize(1);
+    }
+}
@@ -0,0 +1,188 @@
+package com.resume.transportation.submission;
+
+import com.resume.transportation.entity.User;
+import com.resume.transportation.entity.Vehicle;
+import com.resume.transportation.enums.Location;
+import com.resume.transportation.enums.UserRole;
+import com.resume.transportation.enums.VehicleStatus;
+import com.resume.transportation.ratelimit.EmbeddedRedisConfig;
+import com.resume.transportation.repository.ReservationRepository;
+import com.resume.transportation.repository.UserRepository;
+import com.resume.transportation.repository.VehicleRepository;
+import com.resume.transportation.service.command.CreateReservationCommand;
+import com.resume.transportation.service.submission.Submission;
+import com.resume.transportation.service.submission.SubmissionService;
+import com.resume.transportation.service.submission.SubmissionState;
+import com.resume.transportation.service.submission.SubmissionStore;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.redisson.api.RedissonClient;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.webmvc.test.autoconfigure.AutoConfigureMockMvc;
+import org.springframework.context.annotation.Import;
+import org.springframework.http.MediaType;
+import org.springframework.test.web.servlet.MockMvc;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * 비동기 예약 접수 테스트
+ *
+ * - 접수는 202 + ticketId로 바로 반환, 결과는 폴링 / 구독으로 확인
+ * - 같은 차량 동시 접수는 한 워커가 직렬 처리 → 1건만 성공, 나머지는 REJECTED (경합 429 없음)
+ * - 접수 상태는 Redis에 공유되어 다른 인스턴스(별도 SubmissionStore)에서도 조회된다
+ */
+@SpringBootTest
+@AutoConfigureMockMvc
+@Import(EmbeddedRedisConfig.class)
+class AsyncSubmissionTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private SubmissionService submissionService;
+
+    @Autowired
+    private RedissonClient redissonClient;
+
+    @Autowired
+    private ReservationRepository reservationRepository;
+
+    @Autowired
+    private VehicleRepository vehicleRepository;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    private Vehicle vehicle;
+    private User operator;
+    private User dispatcher;
+    private LocalDateTime baseTime;
+
+    @BeforeEach
+    void setUp() {
+        reservationRepository.deleteAll();
+        vehicleRepository.deleteAll();
+        userRepository.deleteAll();
+
+        vehicle = vehicleRepository.save(new Vehicle(Location.AIRPORT, VehicleStatus.IDLE));
+        operator = userRepository.save(new User(UserRole.OPERATOR, "Operator1"));
+        dispatcher = userRepository.save(new User(UserRole.VOLUNTEER, "Dispatcher1"));
+
+        baseTime = LocalDateTime.now().plusDays(1).withHour(9).withMinute(0).withSecond(0).withNano(0);
+    }
+
+    @Test
+    @DisplayName("접수는 202 + ticketId, 폴링하면 처리 결과가 나온다")
+    void acceptedThenPolled() throws Exception {
+        String body = """
+                {
+                  "operatorId": %d,
+                  "vehicleId": %d,
+                  "dispatcherId": %d,
+                  "fromLocation": "AIRPORT",
+                  "toLocation": "HOTEL",
+                  "startTime": "%s",
+                  "endTime": "%s"
+                }
+                """.formatted(operator.getId(), vehicle.getId(), dispatcher.getId(), baseTime, baseTime.plusHours(2));
+
+        String location = mockMvc.perform(post("/api/reservations/async")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(body))
+                .andExpect(status().isAccepted())
+                .andExpect(jsonPath("$.ticketId").exists())
+                .andReturn().getResponse().getHeader("Location");
+        assertThat(location).isNotNull();
+
+        awaitDone(location.substring(location.lastIndexOf('/') + 1));
+        Long reservationId = reservationRepository.findAll().get(0).getId();
+
+        mockMvc.perform(get(location))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.status").value("success"))
+                .andExpect(jsonPath("$.state").value("SUCCEEDED"))
+                .andExpect(jsonPath("$.reservationId").value(reservationId));
+
+        mockMvc.perform(get("/api/reservations/submissions/unknown"))
+                .andExpect(status().isNotFound());
+    }
+
+    @Test
+    @DisplayName("같은 차량 동시 접수는 직렬 처리되어 1건 성공, 나머지는 확정 거절")
+    void sameVehicleIsSerialized() throws Exception {
+        int requests = 5;
+        List<CompletableFuture<Submission>> results = new ArrayList<>();
+        for (int i = 0; i < requests; i++) {
+            Submission queued = submissionService.submit(command(baseTime.plusMinutes(i * 10L)));
+            assertThat(queued.state()).isEqualTo(SubmissionState.QUEUED);
+
+            CompletableFuture<Submission> result = new CompletableFuture<>();
+            submissionService.subscribe(queued.ticketId(), result::complete);
+            results.add(result);
+        }
+
+        int succeeded = 0;
+        for (CompletableFuture<Submission> result : results) {
+            Submission done = result.get(10, TimeUnit.SECONDS);
+            if (done.state() == SubmissionState.SUCCEEDED) {
+                succeeded++;
+            } else {
+                assertThat(done.state()).isEqualTo(SubmissionState.REJECTED);
+                assertThat(done.reason()).isEqualTo("VEHICLE_OVERLAP");
+            }
+        }
+
+        assertThat(succeeded).isEqualTo(1);
+        assertThat(reservationRepository.count()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("다른 인스턴스에서도 접수 상태와 처리 결과를 조회할 수 있다")
+    void visibleFromOtherInstance() throws Exception {
+        // 로컬 사본이 비어 있는 다른 서버의 저장소
+        SubmissionStore otherInstance = new SubmissionStore(redissonClient);
+
+        Submission queued = submissionService.submit(command(baseTime));
+        assertThat(otherInstance.find(queued.ticketId())).isPresent();
+
+        awaitDone(queued.ticketId());
+        Long reservationId = reservationRepository.findAll().get(0).getId();
+
+        Submission remote = otherInstance.find(queued.ticketId()).orElseThrow();
+        assertThat(remote.state()).isEqualTo(SubmissionState.SUCCEEDED);
+        assertThat(remote.reservationId()).isEqualTo(reservationId);
+        assertThat(remote.acceptedAt()).isNotNull();
+        assertThat(remote.completedAt()).isNotNull();
+
+        assertThat(otherInstance.find("unknown")).isEmpty();
+    }
+
+    private CreateReservationCommand command(LocalDateTime start) {
+        return new CreateReservationCommand(operator.getId(), vehicle.getId(), dispatcher.getId(),
+                Location.AIRPORT, Location.HOTEL, start, start.plusHours(2));
+    }
+
+    private void awaitDone(String ticketId) throws InterruptedException {
+        for (int i = 0; i < 200; i++) {
+            if (submissionService.find(ticketId).map(Submission::isDone).orElse(false)) {
+                return;
+            }
+            Thread.sleep(50);
+        }
+        throw new AssertionError("접수 처리가 끝나지 않음: " + ticketId);
+    }
+}
@@ -0,0 +1,79 @@
+package com.resume.transportation.support;
+
+import com.resume.transportation.entity.User;
+import com.resume.transportation.entity.Vehicle;
+import com.resume.transportation.enums.Location;
+import com.resume.transportation.enums.UserRole;
+import com.resume.transportation.enums.VehicleStatus;
+import com.resume.transportation.repository.ReservationRepository;
+import com.resume.transportation.repository.UserRepository;
+import com.resume.transportation.repository.VehicleRepository;
+import com.resume.transportation.service.exception.RejectReason;
+import com.resume.transportation.service.exception.ReservationRejectedException;
+import org.assertj.core.api.ThrowableAssert.ThrowingCallable;
+
+import java.time.LocalDateTime;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * 예약 통합 테스트 공통 준비 / 검증
+ *
+ * - Fixture: 운영자(Operator1), 디스패처(Dispatcher1), 차량 1대, 내일 기준 시각
+ * - assertRejected: 거절 사유 코드 검증
+ *
+ * 예약 / 차량 / 사용자 외에 먼저 지워야 하는 테이블(점유, 반복 일정 ...)은 호출 전에 각 테스트가 지운다.
+ */
+public final class ReservationTestSupport {
+
+    private ReservationTestSupport() {
+    }
+
+    public record Fixture(User operator, User dispatcher, Vehicle vehicle, LocalDateTime baseTime) {
+    }
+
+    /**
+     * 기존 데이터를 지우고 AIRPORT 전용 차량(정원 1)으로 준비
+     *
+     * @param hour 내일 기준 시각(시)
+     */
+    public static Fixture resetFixture(ReservationRepository reservationRepository,
+                                       VehicleRepository vehicleRepository,
+                                       UserRepository userRepository,
+                                       int hour) {
+        return resetFixture(reservationRepository, vehicleRepository, userRepository, Location.AIRPORT, 1, hour);
+    }
+
+    /**
+     * 기존 데이터를 지우고 base 위치의 디스패처 / 차량으로 준비
+     *
+     * @param capacity 차량 정원 (2 이상 = 합승 셔틀)
+     * @param hour     내일 기준 시각(시)
+     */
+    public static Fixture resetFixture(ReservationRepository reservationRepository,
+                                       VehicleRepository vehicleRepository,
+                                       UserRepository userRepository,
+                                       Location base, int capacity, int hour) {
+        reservationRepository.deleteAll();
+        vehicleRepository.deleteAll();
+        userRepository.deleteAll();
+
+        User operator = userRepository.save(new User(UserRole.OPERATOR, "Operator1"));
+        User dispatcher = new User(UserRole.VOLUNTEER, "Dispatcher1");
+        dispatcher.setBaseLocation(base);
+        dispatcher = userRepository.save(dispatcher);
+        Vehicle vehicle = vehicleRepository.save(new Vehicle(base, VehicleStatus.IDLE, capacity));
+        LocalDateTime baseTime = LocalDateTime.now().plusDays(1).withHour(hour).withMinute(0).withSecond(0).withNano(0);
+        return new Fixture(operator, dispatcher, vehicle, baseTime);
+    }
+
+    /**
+     * action이 expected 사유의 ReservationRejectedException으로 거절되는지 검증
+     */
+    public static void assertRejected(ThrowingCallable action, RejectReason expected) {
+        assertThatThrownBy(action)
+                .isInstanceOf(ReservationRejectedException.class)
+                .satisfies(e -> assertThat(((ReservationRejectedException) e).getReason()).isEqualTo(expected));
+    }
+}
@@ -0,0 +1,143 @@
+package com.resume.transportation.travel;
+
+import com.resume.transportation.enums.Location;
+import com.resume.transportation.service.TravelTimeService;
+import com.resume.transportation.service.travel.TimeBand;
+import com.resume.transportation.service.travel.TravelRoute;
+import com.resume.transportation.service.travel.TravelTimeMatrix;
+import com.resume.transportation.service.travel.TravelTimeProfile;
+import com.resume.transportation.service.travel.TravelTimeSource;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * 이동 시간 행렬 테스트 (경유 최소 시간, 도달 불가, 시간대, 교체)
+ */
+class TravelTimeMatrixTest {
+
+    private static final List<TravelRoute> ROUTES = List.of(
+            TravelRoute.of(Location.AIRPORT, Location.HOTEL, 60),
+            TravelRoute.of(Location.HOTEL, Location.VENUE_ONE, 30),
+            TravelRoute.of(Location.VENUE_ONE, Location.VENUE_TWO, 20)
+    );
+
+    @Test
+    @DisplayName("직접 구간은 그대로, 경유 구간은 최소 합계")
+    void multiHop() {
+        TravelTimeMatrix matrix = TravelTimeMatrix.of(ROUTES);
+
+        assertThat(matrix.minutes(Location.AIRPORT, Location.HOTEL)).isEqualTo(60);
+        assertThat(matrix.minutes(Location.AIRPORT, Location.VENUE_ONE)).isEqualTo(90);
+        assertThat(matrix.minutes(Location.AIRPORT, Location.VENUE_TWO)).isEqualTo(110);
+        assertThat(matrix.minutes(Location.HOTEL, Location.HOTEL)).isZero();
+    }
+
+    @Test
+    @DisplayName("더 짧은 우회 경로가 있으면 직접 구간보다 우선")
+    void shorterDetourWins() {
+        TravelTimeMatrix matrix = TravelTimeMatrix.of(List.of(
+                TravelRoute.of(Location.AIRPORT, Location.VENUE_TWO, 200),
+                TravelRoute.of(Location.AIRPORT, Location.HOTEL, 60),
+                TravelRoute.of(Location.HOTEL, Location.VENUE_TWO, 50)
+        ));
+
+        assertThat(matrix.minutes(Location.AIRPORT, Location.VENUE_TWO)).isEqualTo(110);
+    }
+
+    @Test
+    @DisplayName("단방향 구간의 역방향과 연결 없는 장소는 이동 불가")
+    void unreachable() {
+        TravelTimeMatrix matrix = TravelTimeMatrix.of(ROUTES);
+
+        assertThat(matrix.minutes(Location.HOTEL, Location.AIRPORT)).isEqualTo(TravelTimeMatrix.UNREACHABLE);
+        assertThat(matrix.minutes(Location.AIRPORT, Location.ETC)).isEqualTo(TravelTimeMatrix.UNREACHABLE);
+    }
+
+    @Test
+    @DisplayName("양방향 구간은 역방향도 같은 시간")
+    void bidirectional() {
+        TravelTimeMatrix matrix = TravelTimeMatrix.of(List.of(
+                new TravelRoute(Location.AIRPORT, Location.HOTEL, 60, true, Map.of()),
+                new TravelRoute(Location.HOTEL, Location.VENUE_ONE, 30, true, Map.of())
+        ));
+
+        assertThat(matrix.minutes(Location.VENUE_ONE, Location.AIRPORT)).isEqualTo(90);
+    }
+
+    @Test
+    @DisplayName("출발 시각의 시간대 값으로 경유 경로까지 다시 계산")
+    void timeBands() {
+        TravelTimeMatrix matrix = TravelTimeMatrix.of(new TravelTimeProfile(
+                List.of(
+                        new TimeBand("morning-peak", LocalTime.of(7, 0), LocalTime.of(10, 0)),
+                        new TimeBand("night", LocalTime.of(22, 0), LocalTime.of(2, 0))
+                ),
+                List.of(
+                        new TravelRoute(Location.AIRPORT, Location.HOTEL, 60, false, Map.of("morning-peak", 90)),
+                        new TravelRoute(Location.HOTEL, Location.VENUE_ONE, 30, false, Map.of("night", 20))
+                )
+        ), 1);
+
+        LocalDate day = LocalDate.of(2024, 1, 1);
+        assertThat(matrix.minutes(Location.AIRPORT, Location.VENUE_ONE, day.atTime(6, 59))).isEqualTo(90);
+        assertThat(matrix.minutes(Location.AIRPORT, Location.VENUE_ONE, day.atTime(7, 0))).isEqualTo(120);
+        assertThat(matrix.minutes(Location.AIRPORT, Location.VENUE_ONE, day.atTime(10, 0))).isEqualTo(90);
+
+        // 자정을 넘는 시간대
+        assertThat(matrix.bandAt(day.atTime(23, 30))).isEqualTo("night");
+        assertThat(matrix.minutes(Location.HOTEL, Location.VENUE_ONE, day.atTime(1, 59))).isEqualTo(20);
+        assertThat(matrix.minutes(Location.HOTEL, Location.VENUE_ONE, day.atTime(2, 0))).isEqualTo(30);
+    }
+
+    @Test
+    @DisplayName("정의되지 않은 시간대를 참조하면 로드 실패")
+    void unknownBand() {
+        assertThatThrownBy(() -> TravelTimeProfile.of(List.of(
+                new TravelRoute(Location.AIRPORT, Location.HOTEL, 60, false, Map.of("rush", 90)))))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    @DisplayName("reload는 내용이 바뀐 경우에만 교체하고, 실패하면 기존 행렬 유지")
+    void reloadSwapsAtomically() {
+        AtomicReference<List<TravelRoute>> routes = new AtomicReference<>(ROUTES);
+        TravelTimeService service = new TravelTimeService(new TravelTimeSource() {
+            @Override
+            public TravelTimeProfile load() {
+                List<TravelRoute> current = routes.get();
+                if (current == null) {
+                    throw new IllegalStateException("source 장애");
+                }
+                return TravelTimeProfile.of(current);
+            }
+
+            @Override
+            public String describe() {
+                return "test";
+            }
+        });
+
+        TravelTimeMatrix before = service.snapshot();
+        assertThat(service.reload()).isFalse();
+
+        routes.set(List.of(TravelRoute.of(Location.AIRPORT, Location.HOTEL, 45)));
+        assertThat(service.reload()).isTrue();
+        assertThat(service.snapshot().getVersion()).isEqualTo(before.getVersion() + 1);
+        assertThat(before.minutes(Location.AIRPORT, Location.HOTEL)).isEqualTo(60);
+        assertThat(service.getRequiredMinutes(Location.AIRPORT, Location.HOTEL)).isEqualTo(45);
+        assertThat(service.getRequiredMinutes(Location.AIRPORT, Location.VENUE_ONE)).isEqualTo(Integer.MAX_VALUE);
+
+        routes.set(null);
+        service.refresh();
+        assertThat(service.getRequiredMinutes(Location.AIRPORT, Location.HOTEL)).isEqualTo(45);
+    }
+}